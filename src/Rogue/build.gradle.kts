@@ -19,9 +19,15 @@ repositories {
     mavenCentral()
 }
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + configurations.runtimeClasspath.get()
+    runtimeClasspath += output + compileClasspath
+}
+
 dependencies {
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
     implementation("com.fasterxml.jackson.core:jackson-databind:2.18.1")
 
@@ -32,6 +38,9 @@ dependencies {
     annotationProcessor("org.mapstruct:mapstruct-processor:1.6.2")
 
     implementation(files(cursesPath))
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.jar {
@@ -62,3 +71,34 @@ tasks.jacocoTestReport {
         html.outputLocation.set(layout.buildDirectory.dir("jacocoHtml"))
     }
 }
+
+tasks.register<JavaExec>("generationHarness") {
+    group = "verification"
+    description = "Generates levels headlessly on every core and reports throughput and broken levels."
+
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("rogue.game.application.harness.LevelGenerationHarness")
+    args = (findProperty("harnessArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+tasks.register<JavaExec>("convertSave") {
+    group = "application"
+    description = "Converts a save file between the JSON and binary formats; pass -PconvertArgs=\"<source> <target>\"."
+
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("rogue.game.application.tools.SaveConverter")
+    args = (findProperty("convertArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+tasks.check {
+    dependsOn(jmh.classesTaskName)
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks; pass -PjmhArgs=\"<regexp> <options>\" to select and tune them."
+
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args = (findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
@@ -0,0 +1,156 @@
+package rogue.game.domain.entities.gameMap;
+
+import org.openjdk.jmh.annotations.*;
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.level.impl.RogueLevelService;
+import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.map.impl.RogueMapService;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cell reads of the {@link GameMap} with the list-of-lists layout it replaced, on a generated level.
+ *
+ * <p> The scans read every cell row by row, as the view and the map generation do; the random reads look up
+ * scattered cells, as the field of view and the enemy strategies do. The levels have the classic 3x3 rooms on a
+ * 90x30 map, or 30x30 rooms on a 900x300 map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameMapBenchmark {
+    private static final int READS = 4096;
+
+    @Param({"3", "30"})
+    public int roomsPerSide;
+
+    /**
+     * The layout used before: a list of rows of boxed cells.
+     */
+    private static final class ListOfListsMap {
+        private static final class MapElement {
+            private MapSymbol symbol = MapSymbol.EMPTINESS;
+            private boolean visible = true;
+        }
+
+        private final List<List<MapElement>> map;
+
+        ListOfListsMap(int width, int height) {
+            map = new ArrayList<>(height);
+
+            for (int i = 0; i < height; i++) {
+                map.add(new ArrayList<>(width));
+
+                for (int j = 0; j < width; j++)
+                    map.get(i).add(new MapElement());
+            }
+        }
+
+        MapSymbol getMapSymbol(int x, int y) { return map.get(y).get(x).symbol; }
+        void setMapSymbol(int x, int y, MapSymbol symbol) { map.get(y).get(x).symbol = symbol; }
+        boolean isVisible(int x, int y) { return map.get(y).get(x).visible; }
+    }
+
+    private int width;
+    private int height;
+    private GameMap packed;
+    private ListOfListsMap listOfLists;
+    private int[] xs;
+    private int[] ys;
+
+    @Setup
+    public void setUp() {
+        InMemoryRepository memory = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(memory);
+        LevelDimensions dimensions = new LevelDimensions(roomsPerSide, roomsPerSide,
+                LevelDimensions.DEFAULT.sectorWidth(), LevelDimensions.DEFAULT.sectorHeight());
+        RogueLevelService levelService = new RogueLevelService(memory, randomService, dimensions, false);
+
+        randomService.setSeed(42);
+        levelService.setLevelNumber(10);
+        levelService.reset();
+
+        Player player = new Player();
+        levelService.generate(player, new GameStatsService(memory));
+
+        RogueMapService mapService = new RogueMapService(new RoguePubSubService(), levelService.getDimensions());
+        mapService.generate(levelService, player.getPosition());
+
+        width = mapService.getMapInfo().getWidth();
+        height = mapService.getMapInfo().getHeight();
+        packed = new GameMap(width, height);
+        listOfLists = new ListOfListsMap(width, height);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                packed.setMapSymbol(x, y, mapService.getMapSymbol(x, y));
+                listOfLists.setMapSymbol(x, y, mapService.getMapSymbol(x, y));
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(7);
+        xs = new int[READS];
+        ys = new int[READS];
+
+        for (int i = 0; i < READS; i++) {
+            xs[i] = random.nextInt(width);
+            ys[i] = random.nextInt(height);
+        }
+    }
+
+    @Benchmark
+    public int scanPacked() {
+        int sum = 0;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++)
+                sum += packed.getMapSymbol(x, y).ordinal() + (packed.isVisible(x, y) ? 1 : 0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public int scanListOfLists() {
+        int sum = 0;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++)
+                sum += listOfLists.getMapSymbol(x, y).ordinal() + (listOfLists.isVisible(x, y) ? 1 : 0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public int randomReadsPacked() {
+        int sum = 0;
+
+        for (int i = 0; i < READS; i++)
+            sum += packed.getMapSymbol(xs[i], ys[i]).ordinal() + (packed.isVisible(xs[i], ys[i]) ? 1 : 0);
+
+        return sum;
+    }
+
+    @Benchmark
+    public int randomReadsListOfLists() {
+        int sum = 0;
+
+        for (int i = 0; i < READS; i++)
+            sum += listOfLists.getMapSymbol(xs[i], ys[i]).ordinal() + (listOfLists.isVisible(xs[i], ys[i]) ? 1 : 0);
+
+        return sum;
+    }
+}
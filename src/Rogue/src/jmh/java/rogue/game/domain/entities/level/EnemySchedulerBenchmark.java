@@ -0,0 +1,118 @@
+package rogue.game.domain.entities.level;
+
+import org.openjdk.jmh.annotations.*;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.enemies.*;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.level.impl.RogueLevelService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stress test of the {@link EnemyScheduler} on a generated level of 30x30 rooms crowded with thousands of enemies of
+ * every speed, each on its own cell.
+ *
+ * <p> A turn hands out every due action; with {@code sleeping} set, only the rooms around the player are awake, as
+ * during play. Killing an enemy and spawning another one measures the cost of updating the level and the scheduler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemySchedulerBenchmark {
+    private static final int PLAYER_SPEED = 5;
+
+    @Param({"1000", "5000", "20000"})
+    public int enemies;
+
+    @Param({"false", "true"})
+    public boolean sleeping;
+
+    private RogueLevelService levelService;
+    private SplittableRandom random;
+    private Set<Position> taken;
+
+    @Setup
+    public void setUp() {
+        InMemoryRepository memory = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(memory);
+        LevelDimensions dimensions = new LevelDimensions(30, 30,
+                LevelDimensions.DEFAULT.sectorWidth(), LevelDimensions.DEFAULT.sectorHeight());
+
+        levelService = new RogueLevelService(memory, randomService, dimensions, false);
+        randomService.setSeed(42);
+        levelService.setLevelNumber(10);
+        levelService.reset();
+        levelService.generate(new Player(), new GameStatsService(memory));
+
+        random = new SplittableRandom(5);
+        taken = new HashSet<>();
+
+        while (levelService.getEnemiesList().size() < enemies)
+            levelService.addEnemy(createEnemy());
+
+        if (sleeping)
+            levelService.activateRoomsAround(0, (enemy, missedActions) -> {});
+    }
+
+    /**
+     * Plays one turn of the player, handing out every action due in it.
+     */
+    @Benchmark
+    public int turn() {
+        int actions = 0;
+
+        levelService.startEnemiesTurn(PLAYER_SPEED);
+
+        while (levelService.nextEnemyToAct() != null)
+            actions++;
+
+        return actions;
+    }
+
+    /**
+     * Kills a random enemy and spawns a new one, keeping the number of enemies.
+     */
+    @Benchmark
+    public int killAndSpawn() {
+        Enemy killed = levelService.getEnemiesList().get(random.nextInt(enemies));
+
+        levelService.removeEnemy(killed);
+        taken.remove(killed.getPosition());
+        levelService.addEnemy(createEnemy());
+
+        return levelService.getEnemiesList().size();
+    }
+
+    /**
+     * Creates an enemy on a free cell of a random room.
+     */
+    private Enemy createEnemy() {
+        Position pos;
+
+        do {
+            Room room = levelService.getRoom(random.nextInt(levelService.getDimensions().roomsNumber()));
+            Position topLeft = room.getTopLeft();
+            Position bottomRight = room.getBottomRight();
+
+            pos = Position.of(random.nextInt(topLeft.x() + 1, bottomRight.x()),
+                    random.nextInt(topLeft.y() + 1, bottomRight.y()));
+        } while (!taken.add(pos));
+
+        return switch (random.nextInt(4)) {
+            case 0 -> new Zombie(pos, 1);
+            case 1 -> new Ogre(pos, 1);
+            case 2 -> new Ghost(pos, 1);
+            default -> new SnakeMagician(pos, 1);
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package rogue.game.domain.entities.level;
+
+import org.openjdk.jmh.annotations.*;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.enemies.Enemy;
+import rogue.game.domain.entities.enemies.Zombie;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares finding the {@link Enemy} standing on a cell through the {@link OccupancyIndex} of a {@link Level} with
+ * the linear scan of the enemy list it replaced, from a few enemies to far more than a level ever spawns.
+ *
+ * <p> Half of the looked-up cells hold an enemy. Moving an enemy keeps the index up to date, which is measured too.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OccupancyIndexBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    /**
+     * A 10x10 grid of 64x64 sectors: a 640x640 map.
+     */
+    private static final LevelDimensions DIMENSIONS = new LevelDimensions(10, 10, 64, 64);
+
+    @Param({"10", "100", "1000", "10000"})
+    public int enemies;
+
+    private Level level;
+    private List<Enemy> enemyList;
+    private Position[] lookups;
+    private Position[] moves;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(11);
+        Set<Position> taken = new HashSet<>();
+
+        level = new Level(DIMENSIONS);
+        enemyList = new ArrayList<>(enemies);
+
+        while (enemyList.size() < enemies) {
+            Position pos = randomPosition(random);
+
+            if (taken.add(pos)) {
+                Enemy enemy = new Zombie(pos, 1);
+                level.addEnemy(enemy);
+                enemyList.add(enemy);
+            }
+        }
+
+        lookups = new Position[LOOKUPS];
+
+        for (int i = 0; i < LOOKUPS; i++)
+            lookups[i] = i % 2 == 0 ? enemyList.get(random.nextInt(enemies)).getPosition() : randomPosition(random);
+
+        moves = new Position[LOOKUPS];
+
+        for (int i = 0; i < LOOKUPS; i++)
+            moves[i] = randomPosition(random);
+    }
+
+    @Benchmark
+    public int lookUpIndexed() {
+        int found = 0;
+
+        for (Position pos : lookups) {
+            if (level.getEnemyByPosition(pos) != null)
+                found++;
+        }
+
+        return found;
+    }
+
+    @Benchmark
+    public int lookUpLinearScan() {
+        int found = 0;
+
+        for (Position pos : lookups) {
+            Enemy enemy = enemyList.stream()
+                    .filter(e -> e.getPosition().x() == pos.x() && e.getPosition().y() == pos.y())
+                    .findFirst()
+                    .orElse(null);
+
+            if (enemy != null)
+                found++;
+        }
+
+        return found;
+    }
+
+    /**
+     * Moves one enemy to another cell, updating the index.
+     */
+    @Benchmark
+    public Enemy moveIndexed() {
+        Enemy enemy = enemyList.get(next % enemies);
+
+        enemy.setPosition(moves[next++ % LOOKUPS]);
+
+        return enemy;
+    }
+
+    private static Position randomPosition(SplittableRandom random) {
+        return Position.of(random.nextInt(DIMENSIONS.mapWidth()), random.nextInt(DIMENSIONS.mapHeight()));
+    }
+}
@@ -0,0 +1,118 @@
+package rogue.game.domain.services.enemyAI.impl;
+
+import org.openjdk.jmh.annotations.*;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.enemies.*;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.entities.level.Room;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.enemyAI.EnemyIntent;
+import rogue.game.domain.services.enemyAI.EnemyIntentPlanner;
+import rogue.game.domain.services.level.impl.RogueLevelService;
+import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.map.impl.RogueMapService;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how planning a round of enemy moves scales with the number of threads, on a generated level of 30x30
+ * rooms crowded with enemies, half of them chasing the player.
+ *
+ * <p> The parallel planner runs in a {@link ForkJoinPool} of {@code parallelism} threads, which its parallel stream
+ * then uses instead of the common pool. The sequential baseline plans every intent on the calling thread against the
+ * live map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyIntentPlannerBenchmark {
+    @Param({"1000", "10000"})
+    public int enemies;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private RogueMapService mapService;
+    private Position playerPosition;
+    private List<EnemyIntent> intents;
+    private EnemyIntentPlanner sequentialPlanner;
+    private EnemyIntentPlanner parallelPlanner;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        InMemoryRepository memory = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(memory);
+        LevelDimensions dimensions = new LevelDimensions(30, 30,
+                LevelDimensions.DEFAULT.sectorWidth(), LevelDimensions.DEFAULT.sectorHeight());
+        RogueLevelService levelService = new RogueLevelService(memory, randomService, dimensions, false);
+
+        randomService.setSeed(42);
+        levelService.setLevelNumber(10);
+        levelService.reset();
+
+        Player player = new Player();
+        levelService.generate(player, new GameStatsService(memory));
+        playerPosition = player.getPosition();
+
+        mapService = new RogueMapService(new RoguePubSubService(), dimensions);
+        mapService.generate(levelService, playerPosition);
+
+        SplittableRandom random = new SplittableRandom(9);
+        int playerRoom = levelService.getRoomIndexAt(playerPosition);
+        intents = new ArrayList<>(enemies);
+
+        for (int i = 0; i < enemies; i++) {
+            // Half of the enemies stand in the room of the player, in reach of it
+            int index = i % 2 == 0 && playerRoom >= 0 ? playerRoom : random.nextInt(dimensions.roomsNumber());
+            Room room = levelService.getRoom(index);
+            Position pos = Position.of(random.nextInt(room.getTopLeft().x() + 1, room.getBottomRight().x()),
+                    random.nextInt(room.getTopLeft().y() + 1, room.getBottomRight().y()));
+
+            Enemy enemy = switch (i % 4) {
+                case 0 -> new Zombie(pos, 1);
+                case 1 -> new Ogre(pos, 1);
+                case 2 -> new Ghost(pos, 1);
+                default -> new SnakeMagician(pos, 1);
+            };
+
+            intents.add(new EnemyIntent(enemy, index, room.getTopLeft(), room.getBottomRight(), random.split()));
+        }
+
+        RogueEnemyMovementService movementService = new RogueEnemyMovementService();
+
+        sequentialPlanner = new ParallelEnemyIntentPlanner(movementService, Integer.MAX_VALUE);
+        parallelPlanner = new ParallelEnemyIntentPlanner(movementService);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<EnemyIntent> planParallel() {
+        pool.submit(() -> parallelPlanner.plan(intents, mapService, playerPosition)).join();
+
+        return intents;
+    }
+
+    @Benchmark
+    public List<EnemyIntent> planSequential() {
+        sequentialPlanner.plan(intents, mapService, playerPosition);
+
+        return intents;
+    }
+}
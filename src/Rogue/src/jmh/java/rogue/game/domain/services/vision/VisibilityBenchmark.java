@@ -0,0 +1,85 @@
+package rogue.game.domain.services.vision;
+
+import org.openjdk.jmh.annotations.*;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.level.Door;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.enums.Angles;
+import rogue.game.domain.enums.VisibilityEngine;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.factories.services.VisibilityServiceFactory;
+import rogue.game.domain.services.level.impl.RogueLevelService;
+import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.map.impl.RogueMapService;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the field-of-view engines on a generated level, computing the view from every doorway in the four
+ * directions, as the player does when stepping onto a door.
+ *
+ * <p> The engines are called directly, without the cache of field-of-view results kept by the map service.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisibilityBenchmark {
+    private static final List<Angles> DIRECTIONS = List.of(Angles.RIGHT, Angles.UP, Angles.LEFT, Angles.DOWN);
+
+    @Param({"RAY_CASTING", "SHADOWCASTING"})
+    public VisibilityEngine engine;
+
+    private VisibilityService visibilityService;
+    private RogueMapService mapService;
+    private List<Position> doorways;
+
+    @Setup
+    public void setUp() {
+        InMemoryRepository memory = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(memory);
+        RogueLevelService levelService = new RogueLevelService(memory, randomService, LevelDimensions.DEFAULT, false);
+
+        randomService.setSeed(42);
+        levelService.setLevelNumber(10);
+        levelService.reset();
+
+        Player player = new Player();
+        levelService.generate(player, new GameStatsService(memory));
+
+        mapService = new RogueMapService(new RoguePubSubService(), levelService.getDimensions());
+        mapService.generate(levelService, player.getPosition());
+
+        doorways = new ArrayList<>();
+
+        for (int i = 0; i < levelService.getDimensions().roomsNumber(); i++) {
+            for (Door door : levelService.getRoom(i).getDoors()) {
+                if (door != null)
+                    doorways.add(door.getPosition());
+            }
+        }
+
+        visibilityService = VisibilityServiceFactory.createVisibilityService(engine);
+    }
+
+    /**
+     * Computes the view from every doorway of the level in the four directions.
+     */
+    @Benchmark
+    public RogueMapService viewsFromDoorways() {
+        for (Position doorway : doorways) {
+            for (Angles direction : DIRECTIONS)
+                visibilityService.update(mapService, doorway, direction.angle);
+        }
+
+        return mapService;
+    }
+}
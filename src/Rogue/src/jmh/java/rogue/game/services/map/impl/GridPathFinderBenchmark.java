@@ -0,0 +1,158 @@
+package rogue.game.services.map.impl;
+
+import org.openjdk.jmh.annotations.*;
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.gameMap.GameMap;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.enums.Constants;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.level.impl.RogueLevelService;
+import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link GridPathFinder} with the breadth-first search on hash sets and maps of {@link Position} it
+ * replaced, on random pairs of walkable cells of a generated level.
+ *
+ * <p> Run with {@code -prof gc} to see the bytes allocated per search: the packed search allocates nothing, the
+ * list returned by {@link GridPathFinder#findPath} only holds the path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridPathFinderBenchmark {
+    private static final int PAIRS = 64;
+
+    private static final Set<MapSymbol> BLOCKING_SYMBOLS = Set.of(
+            MapSymbol.EMPTINESS, MapSymbol.WALL, MapSymbol.PORTAL,
+            MapSymbol.ZOMBIE, MapSymbol.VAMPIRE, MapSymbol.GHOST,
+            MapSymbol.OGRE, MapSymbol.SNAKE_MAGICIAN, MapSymbol.MIMIC
+    );
+
+    private GameMap map;
+    private GridPathFinder pathFinder;
+    private Position[] from;
+    private Position[] to;
+    private int pair;
+
+    @Setup
+    public void setUp() {
+        InMemoryRepository memory = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(memory);
+        RogueLevelService levelService = new RogueLevelService(memory, randomService, LevelDimensions.DEFAULT, false);
+
+        randomService.setSeed(42);
+        levelService.setLevelNumber(10);
+        levelService.reset();
+
+        Player player = new Player();
+        levelService.generate(player, new GameStatsService(memory));
+
+        RogueMapService mapService = new RogueMapService(new RoguePubSubService(), levelService.getDimensions());
+        mapService.generate(levelService, player.getPosition());
+
+        int width = mapService.getMapInfo().getWidth();
+        int height = mapService.getMapInfo().getHeight();
+        List<Position> walkable = new ArrayList<>();
+
+        map = new GameMap(width, height);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                MapSymbol symbol = mapService.getMapSymbol(x, y);
+
+                map.setMapSymbol(x, y, symbol);
+
+                if (!BLOCKING_SYMBOLS.contains(symbol))
+                    walkable.add(Position.of(x, y));
+            }
+        }
+
+        pathFinder = new GridPathFinder(map);
+
+        SplittableRandom random = new SplittableRandom(3);
+        from = new Position[PAIRS];
+        to = new Position[PAIRS];
+
+        for (int i = 0; i < PAIRS; i++) {
+            from[i] = walkable.get(random.nextInt(walkable.size()));
+            to[i] = walkable.get(random.nextInt(walkable.size()));
+        }
+    }
+
+    @Benchmark
+    public int searchPacked() {
+        int i = pair++ % PAIRS;
+
+        return pathFinder.search(map.indexOf(from[i].x(), from[i].y()), map.indexOf(to[i].x(), to[i].y()),
+                BLOCKING_SYMBOLS);
+    }
+
+    @Benchmark
+    public List<Position> findPathAsList() {
+        int i = pair++ % PAIRS;
+
+        return pathFinder.findPath(from[i], to[i], BLOCKING_SYMBOLS);
+    }
+
+    @Benchmark
+    public List<Position> findPathOnHashMaps() {
+        int i = pair++ % PAIRS;
+
+        return findPathByBFS(from[i], to[i], BLOCKING_SYMBOLS);
+    }
+
+    /**
+     * The search used before, on a queue, a set and a map of {@link Position}.
+     */
+    private List<Position> findPathByBFS(Position from, Position to, Set<MapSymbol> blockingSymbols) {
+        Queue<Position> queue = new ArrayDeque<>();
+        Set<Position> visited = new HashSet<>();
+        Map<Position, Position> parentMap = new HashMap<>();
+
+        queue.add(from);
+        visited.add(from);
+
+        while (!queue.isEmpty()) {
+            Position current = queue.poll();
+
+            if (current.equals(to)) {
+                List<Position> path = new ArrayList<>();
+
+                for (Position step = to; step != null; step = parentMap.get(step))
+                    path.addFirst(step);
+
+                return path;
+            }
+
+            for (int i = 0; i < 4; i++) {
+                int x = current.x() + Constants.DX.directionsValues.get(i);
+                int y = current.y() + Constants.DY.directionsValues.get(i);
+
+                if (x < 0 || y < 0 || y >= map.getHeight() || x >= map.getWidth())
+                    continue;
+
+                Position next = Position.of(x, y);
+                MapSymbol sym = map.getMapSymbol(x, y);
+
+                if (!blockingSymbols.contains(sym) && !visited.contains(next)) {
+                    parentMap.put(next, current);
+                    queue.add(next);
+                    visited.add(next);
+                }
+            }
+        }
+
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,190 @@
+package rogue.game.application.harness;
+
+import rogue.game.common.metrics.Histogram;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.enums.LevelAttribute;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.repository.GameRepository;
+import rogue.game.domain.services.generation.GenerationCounters;
+import rogue.game.domain.services.generation.GenerationProfiler;
+import rogue.game.domain.services.level.impl.RogueLevelService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.stats.StatsService;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates levels headlessly on every core and reports the throughput, the generation times and the broken levels.
+ *
+ * <p> Every worker thread has its own {@link InMemoryRepository}, {@link RandomService} and level service, so the
+ * workers share nothing but the level counter. Level {@code i} is generated from seed {@code seed + i} at level number
+ * {@code 1 + i % 21}, so a run gives the same levels whatever the number of threads, and a broken level can be
+ * replayed in the game from its seed.
+ *
+ * <p> Run with {@code -Drogue.generation.profile=true} to also report the time and attempts of every stage.
+ *
+ * <p> Usage: {@code LevelGenerationHarness [--levels N] [--threads T] [--seed S] [--warmup W] [--rows R]
+ * [--columns C]}.
+ */
+public class LevelGenerationHarness {
+    private static final int BATCH = 256;
+    private static final int LEVELS = LevelAttribute.FINAL_LEVEL.value - 1;
+
+    private final long levels;
+    private final int threads;
+    private final long seed;
+    private final long warmup;
+    private final LevelDimensions dimensions;
+
+    private final AtomicLong next = new AtomicLong();
+    private final Histogram generationTimes = new Histogram();
+    private final Map<LevelValidator.Failure, LongAdder> failures = new EnumMap<>(LevelValidator.Failure.class);
+    private final LongAdder brokenLevels = new LongAdder();
+    private final GenerationCounters generationCounters = new GenerationCounters();
+    private final GenerationProfiler generationProfiler = new GenerationProfiler();
+    private final AtomicLong firstBrokenLevel = new AtomicLong(Long.MIN_VALUE);
+
+    public LevelGenerationHarness(long levels, int threads, long seed, long warmup, LevelDimensions dimensions) {
+        this.levels = levels;
+        this.threads = threads;
+        this.seed = seed;
+        this.warmup = warmup;
+        this.dimensions = dimensions;
+
+        for (LevelValidator.Failure failure : LevelValidator.Failure.values())
+            failures.put(failure, new LongAdder());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long levels = 1_000_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 0;
+        long warmup = 20_000;
+        int rows = LevelDimensions.DEFAULT.rows();
+        int columns = LevelDimensions.DEFAULT.columns();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--levels" -> levels = Long.parseLong(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--warmup" -> warmup = Long.parseLong(args[i + 1]);
+                case "--rows" -> rows = Integer.parseInt(args[i + 1]);
+                case "--columns" -> columns = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        LevelDimensions dimensions = new LevelDimensions(rows, columns,
+                LevelDimensions.DEFAULT.sectorWidth(), LevelDimensions.DEFAULT.sectorHeight());
+
+        new LevelGenerationHarness(levels, Math.max(threads, 1), seed, warmup, dimensions).run();
+    }
+
+    public void run() throws InterruptedException {
+        if (warmup > 0)
+            new LevelGenerationHarness(warmup, threads, seed - warmup, 0, dimensions).generateAll();
+
+        long start = System.nanoTime();
+        generateAll();
+        long elapsed = System.nanoTime() - start;
+
+        report(elapsed);
+    }
+
+    private void generateAll() throws InterruptedException {
+        List<Thread> workers = new ArrayList<>(threads);
+
+        for (int i = 0; i < threads; i++)
+            workers.add(Thread.ofPlatform().name("level-generation-" + i).start(this::work));
+
+        for (Thread worker : workers)
+            worker.join();
+    }
+
+    private void work() {
+        GameRepository repository = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(repository);
+        RogueLevelService levelService = new RogueLevelService(repository, randomService, dimensions, false);
+        StatsService statsService = new GameStatsService(repository);
+        LevelValidator validator = new LevelValidator();
+        Histogram times = new Histogram();
+        Player player = new Player();
+
+        long from;
+
+        while ((from = next.getAndAdd(BATCH)) < levels) {
+            long to = Math.min(from + BATCH, levels);
+
+            for (long i = from; i < to; i++) {
+                randomService.setSeed(seed + i);
+                levelService.setLevelNumber(1 + (int) (i % LEVELS));
+                levelService.reset();
+
+                Set<LevelValidator.Failure> found;
+                long begin = System.nanoTime();
+
+                try {
+                    int startRoomIndex = levelService.generate(player, statsService);
+                    times.record(System.nanoTime() - begin);
+                    found = validator.validate(levelService, startRoomIndex);
+                } catch (RuntimeException e) {
+                    found = Set.of(LevelValidator.Failure.GENERATION_ERROR);
+                }
+
+                if (!found.isEmpty()) {
+                    brokenLevels.increment();
+                    firstBrokenLevel.compareAndSet(Long.MIN_VALUE, i);
+                    found.forEach(failure -> failures.get(failure).increment());
+                }
+            }
+        }
+
+        generationTimes.add(times);
+        generationCounters.add(levelService.getGenerationCounters());
+        generationProfiler.add(levelService.getGenerationProfiler());
+    }
+
+    private void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+
+        System.out.printf("Generated %d levels of %dx%d rooms on %d threads in %.2f s: %.0f levels/s%n",
+                levels, dimensions.rows(), dimensions.columns(), threads, seconds, levels / seconds);
+        System.out.printf("Generation time: mean %s, p50 %s, p99 %s, p99.9 %s, max %s%n",
+                format(generationTimes.getMean()),
+                format(generationTimes.getPercentile(50)),
+                format(generationTimes.getPercentile(99)),
+                format(generationTimes.getPercentile(99.9)),
+                format(generationTimes.getMax()));
+        System.out.printf("Attempts per level: geometry %.3f, keys %.3f%n",
+                generationCounters.perLevel(generationCounters.getGeometryAttempts()),
+                generationCounters.perLevel(generationCounters.getKeysAttempts()));
+        if (GenerationProfiler.ENABLED)
+            generationProfiler.getSummary().forEach(line -> System.out.println("  " + line));
+
+        System.out.printf("Broken levels: %d%n", brokenLevels.sum());
+
+        failures.forEach((failure, count) -> System.out.printf("  %s: %d%n", failure, count.sum()));
+
+        if (brokenLevels.sum() > 0) {
+            long broken = firstBrokenLevel.get();
+            System.out.printf("Replay a broken level with seed %d at level %d%n", seed + broken, 1 + broken % LEVELS);
+        }
+    }
+
+    private static String format(double nanos) {
+        if (nanos >= 1e6)
+            return String.format("%.2f ms", nanos / 1e6);
+
+        return String.format("%.1f us", nanos / 1e3);
+    }
+}
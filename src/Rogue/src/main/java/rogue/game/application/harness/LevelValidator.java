@@ -0,0 +1,109 @@
+package rogue.game.application.harness;
+
+import rogue.game.common.enums.MapColor;
+import rogue.game.domain.entities.GameEntity;
+import rogue.game.domain.entities.Portal;
+import rogue.game.domain.entities.items.Key;
+import rogue.game.domain.entities.level.Door;
+import rogue.game.domain.entities.level.Room;
+import rogue.game.domain.enums.Direction;
+import rogue.game.domain.services.level.LevelService;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Checks that a generated level can be completed from the starting room.
+ *
+ * <p> The rooms are explored from the starting room, walking through open doors and through the locked doors whose
+ * key was already picked up, until no new key is found. A level is valid when every room, every key and the portal
+ * are reached this way.
+ */
+public class LevelValidator {
+
+    /**
+     * The ways a generated level can be broken.
+     */
+    public enum Failure {
+        /** A room cannot be entered. */
+        UNREACHABLE_ROOM,
+        /** The portal is in a room that cannot be entered. */
+        UNREACHABLE_PORTAL,
+        /** A key cannot be picked up, e.g. it lies behind its own door. */
+        UNREACHABLE_KEY,
+        /** The generation itself failed. */
+        GENERATION_ERROR
+    }
+
+    /**
+     * Validates a level.
+     *
+     * @param level The {@link LevelService} holding the generated level.
+     * @param startRoomIndex The index of the player's starting room.
+     * @return The failures found, empty if the level is valid.
+     */
+    public Set<Failure> validate(LevelService level, int startRoomIndex) {
+        Set<MapColor> keys = EnumSet.noneOf(MapColor.class);
+        Set<Room> reached = reachableRooms(level.getRoom(startRoomIndex), keys);
+
+        Set<Failure> failures = EnumSet.noneOf(Failure.class);
+
+        for (int i = 0; i < level.getDimensions().roomsNumber(); i++) {
+            Room room = level.getRoom(i);
+            boolean isReached = reached.contains(room);
+
+            if (!isReached)
+                failures.add(Failure.UNREACHABLE_ROOM);
+
+            for (GameEntity entity : room.getEntities()) {
+                if (!isReached && entity instanceof Portal)
+                    failures.add(Failure.UNREACHABLE_PORTAL);
+                else if (!isReached && entity instanceof Key)
+                    failures.add(Failure.UNREACHABLE_KEY);
+            }
+        }
+
+        return failures;
+    }
+
+    private static Set<Room> reachableRooms(Room start, Set<MapColor> keys) {
+        while (true) {
+            Set<Room> reached = Collections.newSetFromMap(new IdentityHashMap<>());
+            Deque<Room> queue = new ArrayDeque<>();
+            int knownKeys = keys.size();
+
+            reached.add(start);
+            queue.add(start);
+
+            while (!queue.isEmpty()) {
+                Room room = queue.poll();
+
+                for (GameEntity entity : room.getEntities()) {
+                    if (entity instanceof Key key)
+                        keys.add(key.getColor());
+                }
+
+                for (Direction direction : Direction.values()) {
+                    Optional<Room> next = room.getConnectionRoom(direction);
+                    Optional<Door> door = room.getDoorByDirection(direction);
+
+                    if (next.isEmpty() || door.isEmpty())
+                        continue;
+
+                    boolean passable = door.get().isOpen() || keys.contains(door.get().getColor());
+
+                    if (passable && reached.add(next.get()))
+                        queue.add(next.get());
+                }
+            }
+
+            if (keys.size() == knownKeys)
+                return reached;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package rogue.game.application.tools;
+
+import rogue.game.infrastructure.dataAccess.impl.FileBinaryRepository;
+import rogue.game.infrastructure.dataAccess.impl.FileJsonRepository;
+import rogue.game.infrastructure.dataAccess.impl.JournaledFileRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Converts a save file between the JSON and the binary formats, in either direction.
+ *
+ * <p> The format of a file is told by its extension: {@code .bin} for binary, anything else for JSON. The source is
+ * read together with its journal, and the target is written as a single snapshot with an empty journal.
+ *
+ * <p> Usage: {@code SaveConverter <source> <target> [--compress]}, where {@code --compress} compresses a binary target.
+ */
+public class SaveConverter {
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: SaveConverter <source> <target> [--compress]");
+            System.exit(2);
+        }
+
+        Path source = Path.of(args[0]).toAbsolutePath();
+        Path target = Path.of(args[1]).toAbsolutePath();
+        boolean compress = args.length > 2 && args[2].equals("--compress");
+
+        if (Files.notExists(source))
+            throw new IllegalArgumentException("No save file at " + source);
+
+        JournaledFileRepository from = open(source, false);
+        JournaledFileRepository to = open(target, compress);
+
+        to.copyFrom(from);
+
+        System.out.println(source.getFileName() + " (" + Files.size(source) + " bytes) -> "
+                + target.getFileName() + " (" + Files.size(target) + " bytes)");
+    }
+
+    private static JournaledFileRepository open(Path path, boolean compress) {
+        String directory = path.getParent().toString();
+        String fileName = path.getFileName().toString();
+
+        return fileName.endsWith(".bin")
+                ? new FileBinaryRepository(directory, fileName, compress)
+                : new FileJsonRepository(directory, fileName);
+    }
+}
@@ -0,0 +1,13 @@
+package rogue.game.common;
+
+/**
+ * Action run on the cells of the game map visited by a {@link MapInfo}.
+ */
+@FunctionalInterface
+public interface CellVisitor {
+    /**
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     */
+    void visit(int x, int y);
+}
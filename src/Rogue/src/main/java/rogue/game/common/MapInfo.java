@@ -14,4 +14,28 @@ public interface MapInfo {
     MapColor getSymbolColor(int y, int x);
     int getHeight();
     int getWidth();
+
+    /**
+     * @return True if the whole map must be repainted, for example after a new level was generated.
+     */
+    boolean isRedrawRequired();
+
+    /**
+     * Visits every cell whose symbol or visibility changed since the last frame.
+     *
+     * @param visitor The action to run on each changed cell.
+     */
+    void forEachChangedCell(CellVisitor visitor);
+
+    /**
+     * Visits every cell that may hold something other than emptiness, skipping the empty areas of the map.
+     *
+     * @param visitor The action to run on each cell.
+     */
+    void forEachCell(CellVisitor visitor);
+
+    /**
+     * Forgets all recorded changes once the current frame has been painted.
+     */
+    void clearChanges();
 }
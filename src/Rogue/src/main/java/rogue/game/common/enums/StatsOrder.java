@@ -0,0 +1,18 @@
+package rogue.game.common.enums;
+
+/**
+ * Enumeration representing the orderings of the walkthrough statistics, each from the best walkthrough down.
+ *
+ * <p> Walkthroughs ranked equal keep the order in which they were played.
+ */
+public enum StatsOrder {
+    LEVEL("level"),
+    TREASURE("treasure"),
+    DEFEATED_ENEMIES("enemies defeated");
+
+    public final String label;
+
+    StatsOrder(String label) {
+        this.label = label;
+    }
+}
@@ -8,6 +8,7 @@ import rogue.game.services.stats.StatsService;
 import rogue.game.services.map.MapService;
 import rogue.game.domain.services.level.LevelService;
 import rogue.game.domain.services.pubsub.PubSubService;
+import rogue.game.domain.services.registry.ServiceRegistry;
 
 public record GameContext(
         PubSubService pubSubService,
@@ -16,7 +17,8 @@ public record GameContext(
         GameService gameService,
         LevelService levelService,
         PlayerService playerService,
-        MessageService messageService
+        MessageService messageService,
+        ServiceRegistry serviceRegistry
 ) {
     public void subscribe(Observer observer) {
         pubSubService.subscribe(observer);
@@ -4,6 +4,8 @@ import rogue.game.services.gameLogic.GameService;
 import rogue.game.services.gameLogic.impl.RogueGameService;
 import rogue.game.services.messaging.MessageService;
 import rogue.game.services.messaging.impl.GameMessageService;
+import rogue.game.services.persistence.PersistenceService;
+import rogue.game.services.persistence.impl.AsyncPersistenceService;
 import rogue.game.services.player.PlayerService;
 import rogue.game.services.player.impl.RoguePlayerService;
 import rogue.game.services.stats.StatsService;
@@ -11,12 +13,18 @@ import rogue.game.services.stats.impl.GameStatsService;
 import rogue.game.controller.Controller;
 import rogue.game.controller.impl.RogueController;
 import rogue.game.domain.repository.GameRepository;
-import rogue.game.services.map.MapService;
 import rogue.game.services.map.impl.RogueMapService;
+import rogue.game.domain.services.generation.GenerationProfiler;
+import rogue.game.domain.entities.level.LevelDimensions;
 import rogue.game.domain.services.level.LevelService;
 import rogue.game.domain.services.level.impl.RogueLevelService;
 import rogue.game.domain.services.pubsub.PubSubService;
 import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.registry.ServiceRegistry;
+import rogue.game.domain.services.registry.impl.RogueServiceRegistry;
+import rogue.game.infrastructure.dataAccess.impl.FileBinaryRepository;
 import rogue.game.infrastructure.dataAccess.impl.FileJsonRepository;
 import rogue.game.view.View;
 import rogue.game.view.impl.RogueView;
@@ -24,14 +32,28 @@ import rogue.game.view.impl.RogueView;
 public class GameFactory {
     public static GameContext createGameContext() {
        String dataFilePath = "src/main/resources/";
-       String dataFileName = "game_stats_and_progress.json";
+       String dataFileName = "game_stats_and_progress";
 
-        GameRepository gameRepository = new FileJsonRepository(dataFilePath, dataFileName);
+        GameRepository gameRepository = createGameRepository(dataFilePath, dataFileName);
+        RandomService randomService = RandomServiceFactory.createRandomService(gameRepository);
         PubSubService pubSubService = new RoguePubSubService();
         StatsService statsService = new GameStatsService(gameRepository);
-        MapService mapService = new RogueMapService(pubSubService);
+        LevelService levelService = new RogueLevelService(gameRepository, randomService,
+                LevelDimensions.fromSystemProperties(), true);
+        RogueMapService mapService = new RogueMapService(pubSubService, levelService.getDimensions());
         MessageService messageService = new GameMessageService(pubSubService);
-        LevelService levelService = new RogueLevelService(gameRepository);
+        ServiceRegistry serviceRegistry = new RogueServiceRegistry(mapService, messageService, randomService);
+        PersistenceService persistenceService = new AsyncPersistenceService(gameRepository);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(persistenceService::close));
+
+        if (GenerationProfiler.ENABLED) {
+            Thread dump = new Thread(() -> {
+                System.err.println(levelService.getGenerationProfiler());
+                System.err.println(mapService.getVisibilityCache());
+            });
+            Runtime.getRuntime().addShutdownHook(dump);
+        }
 
         PlayerService playerService = new RoguePlayerService(
                 gameRepository,
@@ -39,17 +61,19 @@ public class GameFactory {
                 mapService,
                 levelService,
                 statsService,
-                pubSubService
+                pubSubService,
+                randomService
         );
 
         GameService gameService = new RogueGameService(
-                gameRepository,
+                persistenceService,
                 pubSubService,
                 statsService,
                 mapService,
                 levelService,
                 messageService,
-                playerService
+                playerService,
+                serviceRegistry
         );
 
         return new GameContext(
@@ -59,10 +83,26 @@ public class GameFactory {
                 gameService,
                 levelService,
                 playerService,
-                messageService
+                messageService,
+                serviceRegistry
         );
     }
 
+    /**
+     * Creates the repository of the save file, in the format set by the {@code rogue.save.format} system property:
+     * {@code json}, the default, or {@code binary}, compressed if {@code rogue.save.compress} is true.
+     */
+    private static GameRepository createGameRepository(String dataFilePath, String dataFileName) {
+        String format = System.getProperty("rogue.save.format", "json");
+
+        return switch (format) {
+            case "json" -> new FileJsonRepository(dataFilePath, dataFileName + ".json");
+            case "binary" -> new FileBinaryRepository(dataFilePath, dataFileName + ".bin",
+                    Boolean.getBoolean("rogue.save.compress"));
+            default -> throw new IllegalArgumentException("Unknown save format: " + format);
+        };
+    }
+
     public static Controller createController(GameContext gameContext) {
         return new RogueController(
                 gameContext.gameService(),
@@ -1,6 +1,7 @@
 package rogue.game.controller;
 
 import rogue.game.common.MapInfo;
+import rogue.game.common.enums.StatsOrder;
 import rogue.game.common.enums.UserAction;
 
 import java.util.List;
@@ -43,7 +44,15 @@ public interface Controller {
     int getMaxHealth();
 
     /**
-     * @return the list of stats
+     * @return the number of walkthroughs
      */
-    List<String> getListOfStats();
+    int getStatsCount();
+
+    /**
+     * @param order the ordering of the walkthroughs
+     * @param offset the index of the first walkthrough
+     * @param limit the maximum number of walkthroughs
+     * @return the stats of a page of walkthroughs
+     */
+    List<String> getStats(StatsOrder order, int offset, int limit);
 }
@@ -3,6 +3,7 @@ package rogue.game.controller.impl;
 import rogue.game.services.gameLogic.GameService;
 import rogue.game.services.stats.StatsService;
 import rogue.game.common.MapInfo;
+import rogue.game.common.enums.StatsOrder;
 import rogue.game.common.enums.UserAction;
 import rogue.game.controller.Controller;
 import rogue.game.services.map.MapService;
@@ -83,5 +84,10 @@ public class RogueController implements Controller {
     public int getMaxHealth() { return playerService.getMaxHealth(); }
 
     @Override
-    public List<String> getListOfStats(){ return statsService.getListOfStats(); }
+    public int getStatsCount(){ return statsService.getStatsCount(); }
+
+    @Override
+    public List<String> getStats(StatsOrder order, int offset, int limit){
+        return statsService.getStats(order, offset, limit);
+    }
 }
@@ -5,6 +5,8 @@ import rogue.game.domain.entities.GameEntity;
 import rogue.game.domain.entities.enemies.*;
 import rogue.game.domain.enums.EnemyType;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Builder class for creating {@link Enemy} based on their {@link EnemyType} and complexity level.
  *
@@ -14,6 +16,7 @@ import rogue.game.domain.enums.EnemyType;
 public class ComplexityBasedEnemyBuilder extends BaseEntityBuilder {
     private EnemyType type;
     private int complexity;
+    private RandomGenerator random;
 
     public final ComplexityBasedEnemyBuilder withType(EnemyType type) {
         this.type = type;
@@ -25,14 +28,25 @@ public class ComplexityBasedEnemyBuilder extends BaseEntityBuilder {
         return this;
     }
 
+    /**
+     * Sets the source of the random initial state of a {@link Vampire} or a {@link Mimic}.
+     *
+     * @param random The source of the random initial state.
+     * @return This builder.
+     */
+    public final ComplexityBasedEnemyBuilder withRandom(RandomGenerator random) {
+        this.random = random;
+        return this;
+    }
+
     @Override
     public GameEntity build() {
         return switch (type) {
             case SNAKE_MAGICIAN -> new SnakeMagician(position, complexity - 1);
-            case VAMPIRE -> new Vampire(position, complexity - 1);
+            case VAMPIRE -> new Vampire(position, complexity - 1, random);
             case ZOMBIE -> new Zombie(position, complexity - 1);
             case GHOST -> new Ghost(position, complexity - 1);
-            case MIMIC -> new Mimic(position, complexity - 1);
+            case MIMIC -> new Mimic(position, complexity - 1, random);
             case OGRE -> new Ogre(position, complexity - 1);
         };
     }
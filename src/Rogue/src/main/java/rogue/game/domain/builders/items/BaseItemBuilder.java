@@ -5,6 +5,8 @@ import rogue.game.domain.entities.GameEntity;
 import rogue.game.domain.entities.items.*;
 import rogue.game.domain.enums.ItemType;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Base class for building different types of game items.
  *
@@ -13,18 +15,30 @@ import rogue.game.domain.enums.ItemType;
  */
 public class BaseItemBuilder extends BaseEntityBuilder {
     private ItemType type = ItemType.TREASURE;
+    private RandomGenerator random;
 
     public BaseItemBuilder withType(ItemType type) {
         this.type = type;
         return this;
     }
 
+    /**
+     * Sets the source of the random properties of {@link Scroll} and {@link Potion}.
+     *
+     * @param random The source of the random properties.
+     * @return This builder.
+     */
+    public BaseItemBuilder withRandom(RandomGenerator random) {
+        this.random = random;
+        return this;
+    }
+
     @Override
     public GameEntity build(){
         return switch (type) {
             case ItemType.FOOD -> new Food(super.position);
-            case ItemType.SCROLL -> new Scroll(super.position);
-            case ItemType.POTION -> new Potion(super.position);
+            case ItemType.SCROLL -> new Scroll(super.position, random);
+            case ItemType.POTION -> new Potion(super.position, random);
             default -> new Treasure(super.position);
         };
     }
@@ -5,7 +5,7 @@ import rogue.game.domain.entities.GameEntity;
 import rogue.game.domain.entities.items.Weapon;
 
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Builder class for creating {@link Weapon} with varying complexity levels.
@@ -17,15 +17,21 @@ public class ComplexityBasedWeaponBuilder extends BaseEntityBuilder {
     private static final List<String> WEAPONS = List.of("Sword", "Dagger", "Mace", "Axe", "Hammer", "Spear");
 
     private int complexity = 0;
+    private RandomGenerator random;
 
     public ComplexityBasedWeaponBuilder withComplexity(int complexity) {
         this.complexity = complexity;
         return this;
     }
 
+    public ComplexityBasedWeaponBuilder withRandom(RandomGenerator random) {
+        this.random = random;
+        return this;
+    }
+
     @Override
     public GameEntity build() {
-        String name = WEAPONS.get(ThreadLocalRandom.current().nextInt(WEAPONS.size()));
-        return new Weapon(name, super.position, complexity);
+        String name = WEAPONS.get(random.nextInt(WEAPONS.size()));
+        return new Weapon(name, super.position, complexity, random);
     }
 }
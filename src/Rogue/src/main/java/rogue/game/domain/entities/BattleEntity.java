@@ -2,6 +2,8 @@ package rogue.game.domain.entities;
 
 import rogue.game.domain.enums.EntityCharacteristic;
 
+import java.util.random.RandomGenerator;
+
 /**
  * This interface defines the core attributes and behaviors of a battle entity in the game.
  */
@@ -24,9 +26,10 @@ public interface BattleEntity{
 
     /**
      * Casts a sleep on the entity.
+     * @param random The source of the chance of the sleep.
      * @return True if the sleep was cast, false otherwise.
      */
-    boolean castSleep();
+    boolean castSleep(RandomGenerator random);
 
     /**
      * Sets whether the entity is sleeping or not.
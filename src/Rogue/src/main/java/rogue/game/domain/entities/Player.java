@@ -8,6 +8,7 @@ import rogue.game.domain.entities.items.Weapon;
 import rogue.game.domain.enums.PlayerAttribute;
 
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 /**
  * This class represents the player character in the game.
@@ -149,7 +150,7 @@ public class Player extends GameEntity implements BattleEntity {
     public boolean isAttackGuaranteed() { return false; }
 
     @Override
-    public boolean castSleep() {
+    public boolean castSleep(RandomGenerator random) {
         return false;
     }
 
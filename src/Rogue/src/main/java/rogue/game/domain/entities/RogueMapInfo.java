@@ -1,10 +1,10 @@
 package rogue.game.domain.entities;
 
+import rogue.game.common.CellVisitor;
 import rogue.game.common.enums.MapColor;
 import rogue.game.common.MapInfo;
 import rogue.game.common.enums.MapSymbol;
 import rogue.game.domain.entities.gameMap.GameMap;
-import rogue.game.domain.enums.MapAttribute;
 
 /**
  * It provides information about the game map based.
@@ -30,11 +30,31 @@ public class RogueMapInfo implements MapInfo {
 
     @Override
     public int getHeight() {
-        return MapAttribute.HEIGHT.value;
+        return map.getHeight();
     }
 
     @Override
     public int getWidth() {
-        return MapAttribute.WIDTH.value;
+        return map.getWidth();
+    }
+
+    @Override
+    public boolean isRedrawRequired() {
+        return map.isRedrawRequired();
+    }
+
+    @Override
+    public void forEachChangedCell(CellVisitor visitor) {
+        map.forEachChangedCell(visitor);
+    }
+
+    @Override
+    public void forEachCell(CellVisitor visitor) {
+        map.forEachAllocatedCell(visitor);
+    }
+
+    @Override
+    public void clearChanges() {
+        map.clearChanges();
     }
 }
@@ -1,11 +1,17 @@
 package rogue.game.domain.entities.enemies;
 
 import lombok.Getter;
+import lombok.Setter;
 import rogue.game.domain.entities.GameEntity;
+import rogue.game.domain.entities.level.Level;
+import rogue.game.domain.entities.level.OccupancyIndex;
+import rogue.game.domain.enums.EnemyType;
 import rogue.game.domain.enums.EntityCharacteristic;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.BattleEntity;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Abstract class representing an enemy entity in the game world.
  *
@@ -23,6 +29,26 @@ public abstract class Enemy extends GameEntity implements BattleEntity {
     private int hostility;
     private final String name;
 
+    /**
+     * The occupancy index of the {@link Level} the enemy belongs to, kept up to date on every move (can be null).
+     */
+    @Setter
+    private OccupancyIndex occupancy;
+
+    /**
+     * The slot of the enemy in the enemies of its {@link Level}, or -1.
+     */
+    @Getter
+    @Setter
+    private int levelSlot = -1;
+
+    /**
+     * The slot of the enemy in the list of the enemies of its room kept by the {@link OccupancyIndex}, or -1.
+     */
+    @Getter
+    @Setter
+    private int roomSlot = -1;
+
     public Enemy(Position position, EntityCharacteristic damageType, int health, int agility, int strength, int hostility, String name) {
         super(position);
         this.damageType = damageType;
@@ -34,6 +60,25 @@ public abstract class Enemy extends GameEntity implements BattleEntity {
         this.name = name;
     }
 
+    @Override
+    public void setPosition(Position position) {
+        Position oldPosition = getPosition();
+
+        super.setPosition(position);
+
+        if (occupancy != null) {
+            occupancy.removeEnemy(this, oldPosition);
+            occupancy.addEnemy(this);
+        }
+    }
+
+    /**
+     * Gets the type of the enemy, e.g. to look up its behaviour in a table indexed by the type's ordinal.
+     *
+     * @return The {@link EnemyType} of the enemy.
+     */
+    public abstract EnemyType getType();
+
     protected void setHostility(int hostility) {
         this.hostility = hostility;
     }
@@ -81,7 +126,7 @@ public abstract class Enemy extends GameEntity implements BattleEntity {
     public boolean isAttackGuaranteed() { return false; }
 
     @Override
-    public boolean castSleep() {
+    public boolean castSleep(RandomGenerator random) {
         return false;
     }
 
@@ -92,7 +137,7 @@ public abstract class Enemy extends GameEntity implements BattleEntity {
         return (baseTreasure / 2) + hostility + strength + agility;
     }
 
-    public boolean becomeInvisible(){
+    public boolean becomeInvisible(RandomGenerator random){
         return false;
     }
 }
@@ -4,8 +4,9 @@ import lombok.Setter;
 import rogue.game.domain.enums.EnemyAttribute;
 import rogue.game.domain.enums.EntityCharacteristic;
 import rogue.game.domain.entities.Position;
+import rogue.game.domain.enums.EnemyType;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a ghost enemy in the game world.
@@ -49,11 +50,16 @@ public class Ghost extends Enemy {
     }
 
     @Override
-    public boolean becomeInvisible(){
+    public boolean becomeInvisible(RandomGenerator random){
         if(playerPursuit)
             return false;
 
-        final double rand = ThreadLocalRandom.current().nextDouble();
+        final double rand = random.nextDouble();
         return rand < PROBABILITY_OF_BECOMING_INVISIBLE;
     }
+
+    @Override
+    public EnemyType getType() {
+        return EnemyType.GHOST;
+    }
 }
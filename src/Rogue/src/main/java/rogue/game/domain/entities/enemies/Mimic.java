@@ -7,8 +7,9 @@ import rogue.game.domain.enums.EnemyAttribute;
 import rogue.game.domain.enums.EntityCharacteristic;
 import rogue.game.domain.enums.MimicAttribute;
 import rogue.game.domain.entities.Position;
+import rogue.game.domain.enums.EnemyType;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a Mimic enemy in the game world.
@@ -22,7 +23,7 @@ public class Mimic extends Enemy {
     private int countTimesPlayerNotVisible = 0;
     private MapSymbol appearance;
 
-    public Mimic(Position position, int complexity) {
+    public Mimic(Position position, int complexity, RandomGenerator random) {
         super(
             position,
             EntityCharacteristic.HEALTH,
@@ -33,7 +34,7 @@ public class Mimic extends Enemy {
             EnemyAttribute.MIMIC_NAME.name
         );
 
-        this.appearance = MimicAttribute.APPEARANCES_OF_MIMIC.list.get(ThreadLocalRandom.current().nextInt(0, MimicAttribute.APPEARANCES_OF_MIMIC.list.size()));
+        this.appearance = MimicAttribute.APPEARANCES_OF_MIMIC.list.get(random.nextInt(0, MimicAttribute.APPEARANCES_OF_MIMIC.list.size()));
         this.countTimesPlayerNotVisible = 0;
     }
 
@@ -55,4 +56,9 @@ public class Mimic extends Enemy {
     public void setHostility(int hostility) {
         super.setHostility(hostility);
     }
+
+    @Override
+    public EnemyType getType() {
+        return EnemyType.MIMIC;
+    }
 }
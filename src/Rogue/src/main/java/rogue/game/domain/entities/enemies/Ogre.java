@@ -5,6 +5,7 @@ import lombok.Setter;
 import rogue.game.domain.enums.EnemyAttribute;
 import rogue.game.domain.enums.EntityCharacteristic;
 import rogue.game.domain.entities.Position;
+import rogue.game.domain.enums.EnemyType;
 
 /**
  * Represents an Ogre enemy in the game world.
@@ -56,4 +57,9 @@ public class Ogre extends Enemy {
     public boolean isAttackGuaranteed() {
         return !isResting;
     }
+
+    @Override
+    public EnemyType getType() {
+        return EnemyType.OGRE;
+    }
 }
@@ -3,8 +3,9 @@ package rogue.game.domain.entities.enemies;
 import rogue.game.domain.enums.EnemyAttribute;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.enums.EntityCharacteristic;
+import rogue.game.domain.enums.EnemyType;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a Snake Magician enemy in the game world.
@@ -39,7 +40,12 @@ public class SnakeMagician extends Enemy {
 
 
     @Override
-    public boolean castSleep() {
-        return ThreadLocalRandom.current().nextDouble() > SLEEP_PROBABILITY;
+    public boolean castSleep(RandomGenerator random) {
+        return random.nextDouble() > SLEEP_PROBABILITY;
+    }
+
+    @Override
+    public EnemyType getType() {
+        return EnemyType.SNAKE_MAGICIAN;
     }
 }
@@ -6,8 +6,9 @@ import rogue.game.domain.enums.EnemyAttribute;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.enums.Constants;
 import rogue.game.domain.enums.EntityCharacteristic;
+import rogue.game.domain.enums.EnemyType;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a Vampire enemy in the game world.
@@ -20,7 +21,7 @@ public class Vampire extends Enemy {
     private boolean firstDodge;
     private int direction;
 
-    public Vampire(Position position, int complexity) {
+    public Vampire(Position position, int complexity, RandomGenerator random) {
         super(
             position,
             EntityCharacteristic.MAX_HEALTH,
@@ -32,7 +33,7 @@ public class Vampire extends Enemy {
         );
 
         firstDodge = false;
-        direction = ThreadLocalRandom.current().nextInt(Constants.DX.directionsValues.size());
+        direction = random.nextInt(Constants.DX.directionsValues.size());
     }
 
     public Vampire(
@@ -45,8 +46,9 @@ public class Vampire extends Enemy {
     ) {
         super(position, damageType, health, agility, strength, hostility, EnemyAttribute.VAMPIRE_NAME.name);
 
+        // The heading isn't saved, a restored vampire starts with the first direction
         this.firstDodge = false;
-        this.direction = ThreadLocalRandom.current().nextInt(Constants.DX.directionsValues.size());
+        this.direction = 0;
     }
 
     @Override
@@ -57,4 +59,9 @@ public class Vampire extends Enemy {
         }else
             return false;
     }
+
+    @Override
+    public EnemyType getType() {
+        return EnemyType.VAMPIRE;
+    }
 }
@@ -3,6 +3,7 @@ package rogue.game.domain.entities.enemies;
 import rogue.game.domain.enums.EnemyAttribute;
 import rogue.game.domain.enums.EntityCharacteristic;
 import rogue.game.domain.entities.Position;
+import rogue.game.domain.enums.EnemyType;
 
 /**
  * Represents a Zombie enemy in the game world.
@@ -32,4 +33,9 @@ public class Zombie extends Enemy {
     ) {
         super(position, damageType, health, agility, strength, hostility, EnemyAttribute.ZOMBIE_NAME.name);
     }
+
+    @Override
+    public EnemyType getType() {
+        return EnemyType.ZOMBIE;
+    }
 }
@@ -0,0 +1,68 @@
+package rogue.game.domain.entities.gameMap;
+
+import java.util.Arrays;
+
+/**
+ * Per-cell table of references of a map, stored in the same 32x32 chunks as the {@link GameMap}.
+ *
+ * <p> A chunk is allocated the first time a value is stored in one of its cells; the cells of the other chunks
+ * read as null. The memory used grows with the area actually written rather than with the size of the map.
+ *
+ * @param <T> The type of the values.
+ */
+public class ChunkedGrid<T> {
+    private final int chunksWide;
+    private final Object[][] chunks;
+    private int ownChunks;
+
+    /**
+     * @param width The width of the map, in cells.
+     * @param height The height of the map, in cells.
+     */
+    public ChunkedGrid(int width, int height) {
+        chunksWide = (width + MapChunk.MASK) >> MapChunk.SHIFT;
+        chunks = new Object[chunksWide * ((height + MapChunk.MASK) >> MapChunk.SHIFT)][];
+    }
+
+    /**
+     * Gets the number of chunks allocated, each holding {@code 32 * 32} references.
+     *
+     * @return The number of allocated chunks.
+     */
+    public int getAllocatedChunks() { return ownChunks; }
+
+    @SuppressWarnings("unchecked")
+    public T get(int x, int y) {
+        Object[] chunk = chunks[chunkOf(x, y)];
+
+        return chunk == null ? null : (T) chunk[cellOf(x, y)];
+    }
+
+    public void set(int x, int y, T value) {
+        int index = chunkOf(x, y);
+        Object[] chunk = chunks[index];
+
+        if (chunk == null) {
+            if (value == null)
+                return;
+
+            chunk = new Object[MapChunk.CELLS];
+            chunks[index] = chunk;
+            ownChunks++;
+        }
+
+        chunk[cellOf(x, y)] = value;
+    }
+
+    /**
+     * Empties every cell, releasing the allocated chunks.
+     */
+    public void clear() {
+        Arrays.fill(chunks, null);
+        ownChunks = 0;
+    }
+
+    private int chunkOf(int x, int y) { return (y >> MapChunk.SHIFT) * chunksWide + (x >> MapChunk.SHIFT); }
+
+    private static int cellOf(int x, int y) { return ((y & MapChunk.MASK) << MapChunk.SHIFT) | (x & MapChunk.MASK); }
+}
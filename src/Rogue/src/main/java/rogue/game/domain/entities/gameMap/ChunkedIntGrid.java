@@ -0,0 +1,87 @@
+package rogue.game.domain.entities.gameMap;
+
+import java.util.Arrays;
+
+/**
+ * Per-cell {@code int} table of a map, stored in the same 32x32 chunks as the {@link GameMap}.
+ *
+ * <p> A chunk is allocated the first time one of its cells is set; the cells of the other chunks read as the
+ * default value. The memory used grows with the area actually written rather than with the size of the map.
+ */
+public class ChunkedIntGrid {
+    private final int width;
+    private final int height;
+    private final int chunksWide;
+    private final int[][] chunks;
+    private final int defaultValue;
+    private int ownChunks;
+
+    /**
+     * @param width The width of the map, in cells.
+     * @param height The height of the map, in cells.
+     * @param defaultValue The value of the cells never set.
+     */
+    public ChunkedIntGrid(int width, int height, int defaultValue) {
+        this.width = width;
+        this.height = height;
+        this.defaultValue = defaultValue;
+
+        chunksWide = (width + MapChunk.MASK) >> MapChunk.SHIFT;
+        chunks = new int[chunksWide * ((height + MapChunk.MASK) >> MapChunk.SHIFT)][];
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    /**
+     * Gets the number of chunks allocated, each holding {@code 32 * 32} values.
+     *
+     * @return The number of allocated chunks.
+     */
+    public int getAllocatedChunks() { return ownChunks; }
+
+    public int get(int x, int y) {
+        int[] chunk = chunks[chunkOf(x, y)];
+
+        return chunk == null ? defaultValue : chunk[cellOf(x, y)];
+    }
+
+    public void set(int x, int y, int value) {
+        int index = chunkOf(x, y);
+        int[] chunk = chunks[index];
+
+        if (chunk == null) {
+            if (value == defaultValue)
+                return;
+
+            chunk = new int[MapChunk.CELLS];
+            Arrays.fill(chunk, defaultValue);
+            chunks[index] = chunk;
+            ownChunks++;
+        }
+
+        chunk[cellOf(x, y)] = value;
+    }
+
+    /**
+     * Resets every cell to the default value, keeping the allocated chunks for reuse.
+     */
+    public void reset() {
+        for (int[] chunk : chunks) {
+            if (chunk != null)
+                Arrays.fill(chunk, defaultValue);
+        }
+    }
+
+    /**
+     * Resets every cell to the default value, releasing the allocated chunks.
+     */
+    public void clear() {
+        Arrays.fill(chunks, null);
+        ownChunks = 0;
+    }
+
+    private int chunkOf(int x, int y) { return (y >> MapChunk.SHIFT) * chunksWide + (x >> MapChunk.SHIFT); }
+
+    private static int cellOf(int x, int y) { return ((y & MapChunk.MASK) << MapChunk.SHIFT) | (x & MapChunk.MASK); }
+}
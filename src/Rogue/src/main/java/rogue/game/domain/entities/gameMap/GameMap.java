@@ -1,41 +1,413 @@
 package rogue.game.domain.entities.gameMap;
 
+import rogue.game.common.CellVisitor;
 import rogue.game.common.enums.MapSymbol;
-import rogue.game.domain.enums.MapAttribute;
 import rogue.game.domain.entities.Position;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.BitSet;
 
 /**
- * Represents the game map, a 2D grid of map elements.
+ * Represents the game map, a 2D grid of map cells.
  *
- * <p> Provides methods for accessing and modifying map elements, checking visibility, and setting visibility.
+ * <p> Provides methods for accessing and modifying map cells, checking visibility, and setting visibility.
+ *
+ * <p> Cells are stored in square {@link MapChunk} of 32x32 cells. A chunk holding only {@link MapSymbol#EMPTINESS}
+ * is a shared immutable instance, replaced by a copy of its own the first time one of its cells changes, so the
+ * memory used grows with the carved area of the level rather than with the size of the map. Cells are still
+ * addressed by the flat index {@code y * width + x}.
+ *
+ * <p> The map also records which cells changed their symbol or visibility since the last frame, and in which
+ * chunks, so the view can repaint only those cells. Each chunk also counts its changes, so a copy of the map made
+ * with {@link #copyFrom(GameMap)} only copies the chunks changed since the previous copy.
  */
-
 public class GameMap {
-    private final List<List<MapElement>> map;
+    private static final MapSymbol[] SYMBOLS = MapSymbol.values();
+
+    private final int width;
+    private final int height;
+    private final int chunksWide;
+    private final MapChunk[] chunks;
+    private final BitSet changedChunks;
+    private final int[] revisions;
+    private int ownChunks;
+
+    /**
+     * The map this map was last copied from, and the revisions of its chunks at that time (can be null).
+     */
+    private GameMap copySource;
+    private int[] copiedRevisions;
+
+    /**
+     * The cells made visible while recording, by chunk (can be null).
+     */
+    private long[][] recording;
+    private boolean redrawRequired;
+
+    /**
+     * Creates an empty map of a given size.
+     *
+     * @param width The width of the map, in cells.
+     * @param height The height of the map, in cells.
+     */
+    public GameMap(int width, int height) {
+        this.width = width;
+        this.height = height;
+
+        chunksWide = (width + MapChunk.MASK) >> MapChunk.SHIFT;
+        chunks = new MapChunk[chunksWide * ((height + MapChunk.MASK) >> MapChunk.SHIFT)];
+        changedChunks = new BitSet(chunks.length);
+        revisions = new int[chunks.length];
+
+        Arrays.fill(chunks, MapChunk.EMPTY_VISIBLE);
+        redrawRequired = true;
+    }
+
+    /**
+     * Overwrites this map with the symbols, visibility and opacity of another map of the same size, with no pending
+     * changes.
+     *
+     * <p> When the same map is copied again, only its chunks changed since the previous copy are copied, into the
+     * chunks this map already owns. The copy is meant to be only read between two calls.
+     *
+     * @param source The map to copy.
+     * @throws IllegalArgumentException If the maps have different sizes.
+     */
+    public void copyFrom(GameMap source) {
+        if (source.width != width || source.height != height)
+            throw new IllegalArgumentException("The maps have different sizes");
+
+        if (copySource != source) {
+            copySource = source;
+            copiedRevisions = new int[chunks.length];
+            Arrays.fill(copiedRevisions, -1);
+        }
+
+        for (int i = 0; i < chunks.length; i++) {
+            if (copiedRevisions[i] == source.revisions[i])
+                continue;
+
+            MapChunk chunk = source.chunks[i];
+
+            if (chunk.isShared()) {
+                if (!chunks[i].isShared())
+                    ownChunks--;
+
+                chunks[i] = chunk;
+            } else {
+                chunk.copyTo(ownChunk(i));
+            }
+
+            copiedRevisions[i] = source.revisions[i];
+        }
+
+        changedChunks.clear();
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    /**
+     * Gets the number of chunks holding something else than emptiness, each using its own memory.
+     *
+     * @return The number of allocated chunks.
+     */
+    public int getAllocatedChunks() { return ownChunks; }
+
+    /**
+     * Gets the number of chunks covering the map.
+     *
+     * @return The number of chunks.
+     */
+    public int getChunkCount() { return chunks.length; }
+
+    /**
+     * Converts map coordinates to the index of the cell.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return The cell index.
+     */
+    public int indexOf(int x, int y) { return y * width + x; }
+
+    public MapSymbol getMapSymbol(int index) { return getMapSymbol(index % width, index / width); }
+    public MapSymbol getMapSymbol(int x, int y) { return SYMBOLS[chunkAt(x, y).symbols[cellOf(x, y)]]; }
+    public MapSymbol getMapSymbol(Position pos) { return getMapSymbol(pos.x(), pos.y()); }
+
+    public void setMapSymbol(int x, int y, MapSymbol symbol) {
+        byte value = (byte) symbol.ordinal();
+        int chunk = chunkOf(x, y);
+        int cell = cellOf(x, y);
+
+        if (chunks[chunk].symbols[cell] != value) {
+            ownChunk(chunk).symbols[cell] = value;
+            markChanged(chunk, cell);
+        }
+    }
+
+    public void setMapSymbol(int index, MapSymbol symbol) { setMapSymbol(index % width, index / width, symbol); }
+    public void setMapSymbol(Position pos, MapSymbol symbol) { setMapSymbol(pos.x(), pos.y(), symbol); }
+
+    public boolean isVisible(int x, int y) {
+        int cell = cellOf(x, y);
+
+        return (chunkAt(x, y).visible[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public boolean isVisible(int index) { return isVisible(index % width, index / width); }
+    public boolean isVisible(Position pos) { return isVisible(pos.x(), pos.y()); }
+
+    public void setVisible(int x, int y, boolean value) {
+        int chunk = chunkOf(x, y);
+        int cell = cellOf(x, y);
+
+        if (value && recording != null) {
+            if (recording[chunk] == null)
+                recording[chunk] = new long[MapChunk.WORDS];
+
+            recording[chunk][cell >>> 6] |= 1L << cell;
+        }
+
+        if (isVisible(x, y) == value)
+            return;
+
+        long[] visible = ownChunk(chunk).visible;
+
+        if (value)
+            visible[cell >>> 6] |= 1L << cell;
+        else
+            visible[cell >>> 6] &= ~(1L << cell);
+
+        markChanged(chunk, cell);
+    }
+
+    public void setVisible(int index, boolean value) { setVisible(index % width, index / width, value); }
+
+    /**
+     * Checks if a cell blocks the sight, as marked by {@link #setOpaque(int, int, boolean)} whatever its symbol.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return True if nothing can be seen through the cell.
+     */
+    public boolean isOpaque(int x, int y) {
+        int cell = cellOf(x, y);
+
+        return (chunkAt(x, y).opaque[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Marks whether a cell blocks the sight. The mark is not a change to repaint.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param value True if nothing can be seen through the cell.
+     */
+    public void setOpaque(int x, int y, boolean value) {
+        if (isOpaque(x, y) == value)
+            return;
+
+        int chunk = chunkOf(x, y);
+        int cell = cellOf(x, y);
+        long[] opaque = ownChunk(chunk).opaque;
 
-    public GameMap() {
-        map = new ArrayList<>(MapAttribute.HEIGHT.value);
+        if (value)
+            opaque[cell >>> 6] |= 1L << cell;
+        else
+            opaque[cell >>> 6] &= ~(1L << cell);
 
-        for (int i = 0; i < MapAttribute.HEIGHT.value; i++) {
-            map.add(new ArrayList<>(MapAttribute.WIDTH.value));
+        revisions[chunk]++;
+    }
+
+    /**
+     * Fills the whole map with a single {@link MapSymbol} and visibility state, with no cell blocking the sight.
+     *
+     * <p> Filling with {@link MapSymbol#EMPTINESS} releases every chunk.
+     *
+     * @param symbol The symbol to set for every cell.
+     * @param value The visibility to set for every cell.
+     */
+    public void fill(MapSymbol symbol, boolean value) {
+        Arrays.fill(chunks, MapChunk.empty(value));
+        ownChunks = 0;
+
+        for (int i = 0; i < revisions.length; i++)
+            revisions[i]++;
+
+        if (symbol != MapSymbol.EMPTINESS) {
+            for (int i = 0; i < chunks.length; i++)
+                Arrays.fill(ownChunk(i).symbols, (byte) symbol.ordinal());
+        }
+
+        requestRedraw();
+    }
 
-            for (int j = 0; j < MapAttribute.WIDTH.value; j++) {
-                map.get(i).add(new MapElement(MapSymbol.EMPTINESS));
+    /**
+     * Makes visible every cell recorded by {@link #stopVisibilityRecording()}.
+     *
+     * @param cells The recorded cells.
+     */
+    public void revealAll(long[] cells) {
+        for (int i = 0; i < cells.length; i += MapChunk.WORDS + 1) {
+            int chunk = (int) cells[i];
+            long[] visible = chunks[chunk].visible;
+            boolean revealed = false;
+
+            for (int w = 0; w < MapChunk.WORDS && !revealed; w++)
+                revealed = (cells[i + 1 + w] & ~visible[w]) != 0;
+
+            if (!revealed)
+                continue;
+
+            MapChunk own = ownChunk(chunk);
+
+            for (int w = 0; w < MapChunk.WORDS; w++) {
+                long bits = cells[i + 1 + w];
+
+                own.changed[w] |= bits & ~own.visible[w];
+                own.visible[w] |= bits;
             }
+
+            changedChunks.set(chunk);
+            revisions[chunk]++;
         }
     }
 
-    public MapSymbol getMapSymbol(int x, int y) { return map.get(y).get(x).getSymbol(); }
-    public MapSymbol getMapSymbol(Position pos) { return map.get(pos.y()).get(pos.x()).getSymbol(); }
+    /**
+     * Starts recording every cell made visible, whether it was already visible or not.
+     */
+    public void startVisibilityRecording() {
+        recording = new long[chunks.length][];
+    }
+
+    /**
+     * Stops recording and returns the cells made visible since {@link #startVisibilityRecording()}.
+     *
+     * <p> The cells are packed chunk by chunk: the index of each chunk holding recorded cells, followed by the
+     * {@link MapChunk#WORDS} words of the bitset of its recorded cells.
+     *
+     * @return The recorded cells, to pass to {@link #revealAll(long[])}.
+     */
+    public long[] stopVisibilityRecording() {
+        int recorded = 0;
+
+        for (long[] bits : recording) {
+            if (bits != null)
+                recorded++;
+        }
+
+        long[] cells = new long[recorded * (MapChunk.WORDS + 1)];
+        int offset = 0;
+
+        for (int chunk = 0; chunk < recording.length; chunk++) {
+            if (recording[chunk] == null)
+                continue;
+
+            cells[offset] = chunk;
+            System.arraycopy(recording[chunk], 0, cells, offset + 1, MapChunk.WORDS);
+            offset += MapChunk.WORDS + 1;
+        }
+
+        recording = null;
+
+        return cells;
+    }
+
+    /**
+     * Marks the whole map as changed, so the next frame is painted from scratch.
+     */
+    public void requestRedraw() {
+        forgetChanges();
+        redrawRequired = true;
+    }
+
+    public boolean isRedrawRequired() { return redrawRequired; }
+
+    /**
+     * Visits every cell that changed since the last frame, chunk by chunk.
+     *
+     * @param visitor The action to run on each changed cell.
+     */
+    public void forEachChangedCell(CellVisitor visitor) {
+        for (int chunk = changedChunks.nextSetBit(0); chunk >= 0; chunk = changedChunks.nextSetBit(chunk + 1)) {
+            long[] changed = chunks[chunk].changed;
+            int originX = (chunk % chunksWide) << MapChunk.SHIFT;
+            int originY = (chunk / chunksWide) << MapChunk.SHIFT;
+
+            for (int w = 0; w < MapChunk.WORDS; w++) {
+                for (long bits = changed[w]; bits != 0; bits &= bits - 1) {
+                    int cell = w * Long.SIZE + Long.numberOfTrailingZeros(bits);
+
+                    visitor.visit(originX + (cell & MapChunk.MASK), originY + (cell >> MapChunk.SHIFT));
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits every cell of the allocated chunks, skipping the chunks that only hold emptiness.
+     *
+     * @param visitor The action to run on each cell.
+     */
+    public void forEachAllocatedCell(CellVisitor visitor) {
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            if (chunks[chunk].isShared())
+                continue;
+
+            int originX = (chunk % chunksWide) << MapChunk.SHIFT;
+            int originY = (chunk / chunksWide) << MapChunk.SHIFT;
+            int toX = Math.min(originX + MapChunk.SIZE, width);
+            int toY = Math.min(originY + MapChunk.SIZE, height);
+
+            for (int y = originY; y < toY; y++) {
+                for (int x = originX; x < toX; x++)
+                    visitor.visit(x, y);
+            }
+        }
+    }
+
+    /**
+     * Forgets all recorded changes once a frame has been painted.
+     */
+    public void clearChanges() {
+        forgetChanges();
+        redrawRequired = false;
+    }
+
+    private void forgetChanges() {
+        for (int chunk = changedChunks.nextSetBit(0); chunk >= 0; chunk = changedChunks.nextSetBit(chunk + 1))
+            Arrays.fill(chunks[chunk].changed, 0L);
+
+        changedChunks.clear();
+    }
+
+    private void markChanged(int chunk, int cell) {
+        chunks[chunk].changed[cell >>> 6] |= 1L << cell;
+        changedChunks.set(chunk);
+        revisions[chunk]++;
+    }
+
+    /**
+     * Gets a chunk that can be modified, replacing a shared chunk with a copy of its own.
+     *
+     * @param chunk The index of the chunk.
+     * @return The modifiable chunk.
+     */
+    private MapChunk ownChunk(int chunk) {
+        MapChunk current = chunks[chunk];
+
+        if (!current.isShared())
+            return current;
+
+        chunks[chunk] = current.copy();
+        ownChunks++;
+
+        return chunks[chunk];
+    }
 
-    public void setMapSymbol(int x, int y, MapSymbol symbol) { map.get(y).get(x).setSymbol(symbol); }
-    public void setMapSymbol(Position pos, MapSymbol symbol) { map.get(pos.y()).get(pos.x()).setSymbol(symbol); }
+    private MapChunk chunkAt(int x, int y) { return chunks[chunkOf(x, y)]; }
 
-    public boolean isVisible(Position pos) { return map.get(pos.y()).get(pos.x()).isVisible(); }
-    public boolean isVisible(int x, int y) { return map.get(y).get(x).isVisible(); }
+    private int chunkOf(int x, int y) { return (y >> MapChunk.SHIFT) * chunksWide + (x >> MapChunk.SHIFT); }
 
-    public void setVisible(int x, int y, boolean visible) { map.get(y).get(x).setVisible(visible); }
+    private static int cellOf(int x, int y) { return ((y & MapChunk.MASK) << MapChunk.SHIFT) | (x & MapChunk.MASK); }
 }
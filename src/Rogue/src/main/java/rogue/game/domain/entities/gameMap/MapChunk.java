@@ -0,0 +1,86 @@
+package rogue.game.domain.entities.gameMap;
+
+import rogue.game.common.enums.MapSymbol;
+
+import java.util.Arrays;
+
+/**
+ * A square block of {@link GameMap} cells, {@link #SIZE} cells on a side.
+ *
+ * <p> A chunk holds a {@code byte} per cell with the {@link MapSymbol} ordinal, and bitsets of the visible cells, of
+ * the cells blocking the sight and of the cells changed since the last frame. Cells are numbered row by row within
+ * the chunk.
+ *
+ * <p> The chunks made only of {@link MapSymbol#EMPTINESS} are the two shared instances {@link #EMPTY_HIDDEN} and
+ * {@link #EMPTY_VISIBLE}, which are never modified: the map replaces them with a copy before changing a cell.
+ */
+final class MapChunk {
+    static final int SHIFT = 5;
+    static final int SIZE = 1 << SHIFT;
+    static final int MASK = SIZE - 1;
+    static final int CELLS = SIZE * SIZE;
+    static final int WORDS = CELLS / Long.SIZE;
+
+    static final MapChunk EMPTY_HIDDEN = new MapChunk(false);
+    static final MapChunk EMPTY_VISIBLE = new MapChunk(true);
+
+    final byte[] symbols;
+    final long[] visible;
+    final long[] opaque;
+    final long[] changed;
+
+    private MapChunk(boolean visible) {
+        this.symbols = new byte[CELLS];
+        this.visible = new long[WORDS];
+        this.opaque = new long[WORDS];
+        this.changed = new long[WORDS];
+
+        Arrays.fill(this.symbols, (byte) MapSymbol.EMPTINESS.ordinal());
+        Arrays.fill(this.visible, visible ? -1L : 0L);
+    }
+
+    private MapChunk(MapChunk source) {
+        this.symbols = source.symbols.clone();
+        this.visible = source.visible.clone();
+        this.opaque = source.opaque.clone();
+        this.changed = source.changed.clone();
+    }
+
+    /**
+     * @return True if this is one of the shared chunks of emptiness.
+     */
+    boolean isShared() {
+        return this == EMPTY_HIDDEN || this == EMPTY_VISIBLE;
+    }
+
+    /**
+     * Creates a modifiable copy of the chunk.
+     *
+     * @return The copy.
+     */
+    MapChunk copy() {
+        return new MapChunk(this);
+    }
+
+    /**
+     * Copies the symbols, visibility and opacity of the chunk into a modifiable chunk, with no pending changes.
+     *
+     * @param target The chunk to overwrite.
+     */
+    void copyTo(MapChunk target) {
+        System.arraycopy(symbols, 0, target.symbols, 0, CELLS);
+        System.arraycopy(visible, 0, target.visible, 0, WORDS);
+        System.arraycopy(opaque, 0, target.opaque, 0, WORDS);
+        Arrays.fill(target.changed, 0L);
+    }
+
+    /**
+     * Gets the shared chunk of emptiness with the given visibility.
+     *
+     * @param visible The visibility of the cells.
+     * @return The shared chunk.
+     */
+    static MapChunk empty(boolean visible) {
+        return visible ? EMPTY_VISIBLE : EMPTY_HIDDEN;
+    }
+}
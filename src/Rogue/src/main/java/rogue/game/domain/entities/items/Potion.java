@@ -6,7 +6,7 @@ import rogue.game.domain.enums.ItemType;
 import rogue.game.domain.entities.Position;
 
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a potion {@link Item} in the game world.
@@ -30,30 +30,24 @@ public class Potion extends Item {
     private final EntityCharacteristic attribute;
     private int time;
 
-    public Potion(Position position) {
+    public Potion(Position position, RandomGenerator random) {
         super(ItemType.POTION, position);
-        attribute = usedAttributes.get(ThreadLocalRandom.current().nextInt(usedAttributes.size()));
-        improvement = ThreadLocalRandom.current().nextInt(1, attribute == EntityCharacteristic.AGILITY ? 3 : MAX_IMP) + 1;
-        time = ThreadLocalRandom.current().nextInt(MIN_TIME, MAX_TIME + 1) + 2;
+        attribute = usedAttributes.get(random.nextInt(usedAttributes.size()));
+        improvement = random.nextInt(1, attribute == EntityCharacteristic.AGILITY ? 3 : MAX_IMP) + 1;
+        time = random.nextInt(MIN_TIME, MAX_TIME + 1) + 2;
     }
 
     public Potion(EntityCharacteristic attribute, int improvement, int time, Position position) {
         super(ItemType.POTION, position);
 
+        // Damaged saves are repaired deterministically, so loading the same save always gives the same potion
         if(attribute == null)
-            this.attribute = usedAttributes.get(ThreadLocalRandom.current().nextInt(usedAttributes.size()));
+            this.attribute = usedAttributes.getFirst();
         else
             this.attribute = attribute;
 
-        if (improvement < 1 || improvement > MAX_IMP)
-            this.improvement = ThreadLocalRandom.current().nextInt(1, attribute == EntityCharacteristic.AGILITY ? 3 : MAX_IMP) + 1;
-        else
-            this.improvement = improvement;
-
-        if (time < MIN_TIME || time > MAX_TIME)
-            this.time = ThreadLocalRandom.current().nextInt(MIN_TIME, MAX_TIME + 1) + 2;
-        else
-            this.time = time;
+        this.improvement = Math.clamp(improvement, 1, MAX_IMP);
+        this.time = Math.clamp(time, MIN_TIME, MAX_TIME);
     }
 
     @Override
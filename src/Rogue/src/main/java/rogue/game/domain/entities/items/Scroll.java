@@ -5,7 +5,7 @@ import rogue.game.domain.enums.EntityCharacteristic;
 import rogue.game.domain.enums.ItemType;
 import rogue.game.domain.entities.Position;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a scroll item in the game world.
@@ -18,30 +18,26 @@ public class Scroll extends Item {
 
     private final EntityCharacteristic attribute;
 
-    public Scroll(Position position) {
+    public Scroll(Position position, RandomGenerator random) {
         super(ItemType.SCROLL, position);
-        attribute = getRandomAttribute();
+        attribute = EntityCharacteristic.values()[random.nextInt(EntityCharacteristic.values().length - 1)];
     }
 
     public Scroll(EntityCharacteristic attribute, Position position) {
         super(ItemType.SCROLL, position);
 
         if (attribute == null)
-            this.attribute = getRandomAttribute();
+            this.attribute = EntityCharacteristic.values()[0];
         else
             this.attribute = attribute;
     }
 
-    private EntityCharacteristic getRandomAttribute() {
-        return EntityCharacteristic.values()[ThreadLocalRandom.current().nextInt(EntityCharacteristic.values().length - 1)];
-    }
-
     @Override
     public String getName() {
         return attribute.name;
     }
 
-    public int getImprovement() {
-        return ThreadLocalRandom.current().nextInt(1, attribute == EntityCharacteristic.AGILITY ? 3 : MAX_IMPROVEMENT) + 1;
+    public int getImprovement(RandomGenerator random) {
+        return random.nextInt(1, attribute == EntityCharacteristic.AGILITY ? 3 : MAX_IMPROVEMENT) + 1;
     }
 }
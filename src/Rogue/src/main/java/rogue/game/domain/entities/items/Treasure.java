@@ -3,7 +3,7 @@ package rogue.game.domain.entities.items;
 import rogue.game.domain.enums.ItemType;
 import rogue.game.domain.entities.Position;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a treasure item in the game world.
@@ -18,7 +18,7 @@ public class Treasure extends Item {
         super(ItemType.TREASURE, position);
     }
 
-    public int getTreasure() {
-       return ThreadLocalRandom.current().nextInt(MIN_TREASURE, MAX_TREASURE + 1);
+    public int getTreasure(RandomGenerator random) {
+       return random.nextInt(MIN_TREASURE, MAX_TREASURE + 1);
     }
 }
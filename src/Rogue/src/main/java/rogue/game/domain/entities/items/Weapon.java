@@ -4,7 +4,7 @@ import lombok.Getter;
 import rogue.game.domain.enums.ItemType;
 import rogue.game.domain.entities.Position;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a weapon item in the game world.
@@ -19,9 +19,9 @@ public class Weapon extends Item {
     private final int damage;
     private final String name;
 
-    public Weapon(String name, Position position, int complexity) {
+    public Weapon(String name, Position position, int complexity, RandomGenerator random) {
         super(ItemType.WEAPON, position);
-        this.damage = ThreadLocalRandom.current().nextInt(MIN_DAMAGE, MAX_DAMAGE) + complexity;
+        this.damage = random.nextInt(MIN_DAMAGE, MAX_DAMAGE) + complexity;
         this.name = name;
     }
 
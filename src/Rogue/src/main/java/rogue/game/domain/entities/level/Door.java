@@ -1,5 +1,6 @@
 package rogue.game.domain.entities.level;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import rogue.game.common.enums.MapColor;
@@ -17,6 +18,13 @@ public class Door {
     private MapColor color;
     private boolean open;
 
+    /**
+     * Called when the door gets opened (can be null).
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Runnable openListener;
+
     public Door(Position position) {
         this.position = position;
         this.color = MapColor.YELLOW;
@@ -28,7 +36,20 @@ public class Door {
     }
 
     public void open() {
+        boolean wasClosed = !open;
         this.open = true;
+
+        if (wasClosed && openListener != null)
+            openListener.run();
+    }
+
+    /**
+     * Sets the action to run when the door gets opened, replacing the previous one.
+     *
+     * @param listener The action to run, or null to remove it.
+     */
+    public void onOpen(Runnable listener) {
+        this.openListener = listener;
     }
 
     public void resetColor() {
@@ -0,0 +1,199 @@
+package rogue.game.domain.entities.level;
+
+import rogue.game.domain.entities.enemies.Enemy;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Energy-based turn scheduler of the {@link Enemy} of a {@link Level}.
+ *
+ * <p> Time is counted in ticks. An entity with speed {@code s} needs {@link #ACTION_TICKS}{@code / s} ticks to
+ * act once, so a turn of the player lasts as long as one action at the player's speed, and during it each enemy
+ * acts as many times as its own speed allows: an enemy as fast as the player acts once per turn, a slower one
+ * skips turns and a faster one sometimes acts twice.
+ *
+ * <p> Enemies are kept in a binary min-heap ordered by the tick of their next action, so a turn only visits the
+ * enemies that are due, and adding or removing an enemy costs O(log n).
+ */
+public class EnemyScheduler {
+    /**
+     * The number of ticks of one action at speed 1, divisible by every speed up to 16.
+     */
+    public static final long ACTION_TICKS = 720_720L;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * A scheduled enemy with the tick of its next action and its slot in the heap.
+     */
+    private static final class Entry {
+        private final Enemy enemy;
+        private long nextTick;
+        private int slot;
+
+        private Entry(Enemy enemy, long nextTick) {
+            this.enemy = enemy;
+            this.nextTick = nextTick;
+        }
+    }
+
+    private final Map<Enemy, Entry> entries;
+    private Entry[] heap;
+    private int size;
+
+    private long now;
+    private long turnEnd;
+
+    public EnemyScheduler() {
+        entries = new IdentityHashMap<>();
+        heap = new Entry[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Gets the number of ticks one action takes at the given speed.
+     *
+     * @param speed The speed of the entity.
+     * @return The number of ticks.
+     */
+    public static long interval(int speed) {
+        return ACTION_TICKS / Math.max(speed, 1);
+    }
+
+    /**
+     * Gets the current tick, i.e. the time of the last action or turn end.
+     *
+     * @return The current tick.
+     */
+    public long getTick() {
+        return now;
+    }
+
+    /**
+     * Schedules an enemy to act one action after the current tick.
+     *
+     * @param enemy The enemy to schedule.
+     */
+    public void add(Enemy enemy) {
+        if (entries.containsKey(enemy))
+            return;
+
+        Entry entry = new Entry(enemy, now + interval(enemy.getSpeed()));
+
+        if (size == heap.length)
+            heap = Arrays.copyOf(heap, size * 2);
+
+        entries.put(enemy, entry);
+        entry.slot = size;
+        heap[size++] = entry;
+
+        siftUp(entry.slot);
+    }
+
+    public void remove(Enemy enemy) {
+        Entry entry = entries.remove(enemy);
+
+        if (entry == null)
+            return;
+
+        int slot = entry.slot;
+        Entry last = heap[--size];
+        heap[size] = null;
+
+        if (slot == size)
+            return;
+
+        place(last, slot);
+        siftDown(slot);
+        siftUp(last.slot);
+    }
+
+    public boolean contains(Enemy enemy) {
+        return entries.containsKey(enemy);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        entries.clear();
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+        now = 0;
+        turnEnd = 0;
+    }
+
+    /**
+     * Starts a new turn of the player.
+     *
+     * @param playerSpeed The speed of the player, which sets how long the turn lasts.
+     */
+    public void startTurn(int playerSpeed) {
+        now = turnEnd;
+        turnEnd = now + interval(playerSpeed);
+    }
+
+    /**
+     * Gets the next enemy due to act in the current turn and schedules its following action.
+     *
+     * @return The enemy to act, or null if no enemy is due before the end of the turn.
+     */
+    public Enemy next() {
+        if (size == 0 || heap[0].nextTick > turnEnd) {
+            now = turnEnd;
+            return null;
+        }
+
+        Entry entry = heap[0];
+
+        now = entry.nextTick;
+        entry.nextTick += interval(entry.enemy.getSpeed());
+        siftDown(0);
+
+        return entry.enemy;
+    }
+
+    private void place(Entry entry, int slot) {
+        heap[slot] = entry;
+        entry.slot = slot;
+    }
+
+    private void siftUp(int slot) {
+        Entry entry = heap[slot];
+
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+
+            if (heap[parent].nextTick <= entry.nextTick)
+                break;
+
+            place(heap[parent], slot);
+            slot = parent;
+        }
+
+        place(entry, slot);
+    }
+
+    private void siftDown(int slot) {
+        Entry entry = heap[slot];
+        int half = size >>> 1;
+
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            int right = child + 1;
+
+            if (right < size && heap[right].nextTick < heap[child].nextTick)
+                child = right;
+
+            if (entry.nextTick <= heap[child].nextTick)
+                break;
+
+            place(heap[child], slot);
+            slot = child;
+        }
+
+        place(entry, slot);
+    }
+}
@@ -0,0 +1,110 @@
+package rogue.game.domain.entities.level;
+
+import rogue.game.domain.entities.GameEntity;
+import rogue.game.domain.entities.Position;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Set of the interior cells of a {@link Room} a {@link GameEntity} can be placed on.
+ *
+ * <p> The cells are packed as {@code (y - minY) * width + (x - minX)} and kept in a compact {@code int[]}. A cell is
+ * removed by moving the last cell into its slot and added back at the end, and every cell remembers its slot, so
+ * removing, adding and drawing a cell are all O(1).
+ */
+public class FreeCells {
+    private final int minX;
+    private final int minY;
+    private final int width;
+    private final int height;
+
+    private final int[] cells;
+    private final int[] slots;
+    private int size;
+
+    /**
+     * Creates the set of all the interior cells of a room.
+     *
+     * @param topLeft The top-left corner of the room walls.
+     * @param bottomRight The bottom-right corner of the room walls.
+     */
+    public FreeCells(Position topLeft, Position bottomRight) {
+        minX = topLeft.x() + 1;
+        minY = topLeft.y() + 1;
+        width = Math.max(bottomRight.x() - minX, 0);
+        height = Math.max(bottomRight.y() - minY, 0);
+
+        cells = new int[width * height];
+        slots = new int[width * height];
+
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i;
+            slots[i] = i;
+        }
+
+        size = cells.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes a cell from the set; cells outside the interior or already removed are ignored.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     */
+    public void remove(int x, int y) {
+        int cell = cellOf(x, y);
+
+        if (cell < 0 || slots[cell] < 0)
+            return;
+
+        int slot = slots[cell];
+        int last = cells[--size];
+
+        cells[slot] = last;
+        slots[last] = slot;
+        slots[cell] = -1;
+    }
+
+    /**
+     * Adds a cell back to the set; cells outside the interior or already in the set are ignored.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     */
+    public void add(int x, int y) {
+        int cell = cellOf(x, y);
+
+        if (cell < 0 || slots[cell] >= 0)
+            return;
+
+        cells[size] = cell;
+        slots[cell] = size++;
+    }
+
+    /**
+     * Draws a cell uniformly among the cells of the set, without removing it.
+     *
+     * @param random The source of the random choice.
+     * @return The {@link Position} of the cell.
+     * @throws IllegalStateException If the set is empty.
+     */
+    public Position random(RandomGenerator random) {
+        if (size == 0)
+            throw new IllegalStateException("The room has no free cell");
+
+        int cell = cells[random.nextInt(size)];
+
+        return Position.of(minX + cell % width, minY + cell / width);
+    }
+
+    private int cellOf(int x, int y) {
+        int dx = x - minX;
+        int dy = y - minY;
+
+        return (dx < 0 || dy < 0 || dx >= width || dy >= height) ? -1 : dy * width + dx;
+    }
+}
@@ -4,20 +4,36 @@ import lombok.Getter;
 import lombok.Setter;
 
 import rogue.game.domain.entities.GameEntity;
+import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.enemies.Enemy;
+import rogue.game.domain.enums.Direction;
 
 import java.util.*;
-
-import static rogue.game.domain.enums.LevelAttribute.*;
+import java.util.function.ObjLongConsumer;
 
 public class Level {
     @Getter
     @Setter
     private int levelNumber;
+    @Getter
+    private final LevelDimensions dimensions;
     private final List<Room> sequence;
     private final List<Corridor> corridors;
     @Getter
     private final List<Enemy> enemies;
+    private final OccupancyIndex occupancy;
+    private final LevelLayout layout;
+    private final EnemyScheduler scheduler;
+
+    /**
+     * The enemies put to sleep, with the tick they fell asleep at.
+     */
+    private final Map<Enemy, Long> dormantSince;
+
+    /**
+     * The indices of the rooms whose enemies are active, or null if all of them are.
+     */
+    private BitSet activeRooms;
 
     /**
      * Represents a single level in the game.
@@ -27,17 +43,71 @@ public class Level {
      * <p> It also maintains a list of {@link Enemy} present in the level.
      */
     public Level() {
+        this(LevelDimensions.DEFAULT);
+    }
+
+    /**
+     * Creates a level with a given grid of rooms.
+     *
+     * @param dimensions The {@link LevelDimensions} of the level.
+     */
+    public Level(LevelDimensions dimensions) {
         levelNumber = 0;
-        sequence = new ArrayList<>(ROOMS_NUMBER.value);
-        corridors = new ArrayList<>(MAX_CORRIDORS_NUMBER.value);
+        this.dimensions = dimensions;
+        sequence = new ArrayList<>(dimensions.roomsNumber());
+        corridors = new ArrayList<>(2 * dimensions.roomsNumber());
         enemies = new ArrayList<>();
+        layout = new LevelLayout(dimensions.mapWidth(), dimensions.mapHeight());
+        occupancy = new OccupancyIndex(enemies, layout, dimensions.roomsNumber(), dimensions.mapWidth(),
+                dimensions.mapHeight());
+        scheduler = new EnemyScheduler();
+        dormantSince = new IdentityHashMap<>();
+        activeRooms = null;
     }
 
     public void reset(){
         levelNumber = 0;
+        sequence.forEach(room -> room.setOccupancy(null));
         sequence.clear();
         corridors.clear();
+        enemies.forEach(enemy -> {
+            enemy.setOccupancy(null);
+            enemy.setLevelSlot(-1);
+        });
         enemies.clear();
+        occupancy.clear();
+        layout.clear();
+        scheduler.clear();
+        dormantSince.clear();
+        activeRooms = null;
+    }
+
+    /**
+     * Rebuilds the per-cell room and door tables, once all rooms and their doors are in place.
+     */
+    public void buildLayout(){
+        layout.build(sequence);
+        occupancy.rebuildRooms();
+    }
+
+    /**
+     * Gets the index of the {@link Room} containing a given {@link Position}.
+     *
+     * @param pos The {@link Position} to check.
+     * @return The index of the {@link Room}, or {@link rogue.game.domain.enums.Constants#NONE} if the position is not within a room.
+     */
+    public int getRoomIndexAt(Position pos){
+        return layout.getRoomIndex(pos);
+    }
+
+    /**
+     * Gets the {@link Door} at a given {@link Position}.
+     *
+     * @param pos The {@link Position} to check.
+     * @return The {@link Door}, or null if there is no door at the position.
+     */
+    public Door getDoorAt(Position pos){
+        return layout.getDoor(pos);
     }
 
     public List<Room> getSequence() { return Collections.unmodifiableList(sequence); }
@@ -48,6 +118,7 @@ public class Level {
 
     public void addRoom(Room room){
         sequence.add(room);
+        room.setOccupancy(occupancy);
     }
 
     public Corridor getLastCorridor(){
@@ -59,7 +130,134 @@ public class Level {
     }
 
     public void addEnemy(GameEntity e){
-        if(e instanceof Enemy enemy) enemies.add(enemy);
+        if(e instanceof Enemy enemy) {
+            enemy.setLevelSlot(enemies.size());
+            enemies.add(enemy);
+            enemy.setOccupancy(occupancy);
+            occupancy.addEnemy(enemy);
+            scheduler.add(enemy);
+        }
+    }
+
+    /**
+     * Removes an {@link Enemy} from the level in constant time, moving the last enemy of the level into its slot.
+     *
+     * @param enemy The {@link Enemy} to remove.
+     */
+    public void removeEnemy(Enemy enemy){
+        int slot = enemy.getLevelSlot();
+
+        if (slot < 0 || slot >= enemies.size() || enemies.get(slot) != enemy)
+            return;
+
+        Enemy last = enemies.removeLast();
+
+        if (last != enemy) {
+            enemies.set(slot, last);
+            last.setLevelSlot(slot);
+        }
+
+        enemy.setLevelSlot(-1);
+        occupancy.removeEnemy(enemy, enemy.getPosition());
+        enemy.setOccupancy(null);
+        scheduler.remove(enemy);
+        dormantSince.remove(enemy);
+    }
+
+    /**
+     * Gets the {@link Enemy} standing at a given {@link Position}.
+     *
+     * @param pos The {@link Position} to check.
+     * @return The {@link Enemy}, or null if there is no enemy at the position.
+     */
+    public Enemy getEnemyByPosition(Position pos){
+        return occupancy.getEnemy(pos);
+    }
+
+    /**
+     * Starts a new turn of the enemies.
+     *
+     * @param playerSpeed The speed of the player, which sets how long the turn lasts.
+     */
+    public void startEnemiesTurn(int playerSpeed){
+        scheduler.startTurn(playerSpeed);
+    }
+
+    /**
+     * Gets the next {@link Enemy} due to act in the current turn, according to its speed.
+     *
+     * @return The {@link Enemy}, or null once every enemy due in the turn has acted.
+     */
+    public Enemy nextEnemyToAct(){
+        return scheduler.next();
+    }
+
+    /**
+     * Wakes up the enemies of a {@link Room} and of the rooms connected to it, and puts to sleep the enemies of
+     * every other room.
+     *
+     * <p> Sleeping enemies are left out of the {@link EnemyScheduler}, so they cost nothing per turn. Nothing is done
+     * unless the set of active rooms changes, and then only the enemies of the rooms that leave or enter it are
+     * visited, from the per-room lists of the {@link OccupancyIndex}. Enemies in corridors are never put to sleep,
+     * and an enemy walking into a sleeping room stays awake until that room is woken up and left again. The index of
+     * a room is its sector, as both follow the order of the grid.
+     *
+     * @param roomIndex The index of the {@link Room} the player is in.
+     * @param onWakeUp Called for every enemy woken up, with the number of actions it missed while asleep.
+     */
+    public void activateRoomsAround(int roomIndex, ObjLongConsumer<Enemy> onWakeUp){
+        BitSet rooms = new BitSet(sequence.size());
+        Room room = sequence.get(roomIndex);
+
+        rooms.set(roomIndex);
+
+        for (Direction direction : Direction.values()) {
+            Optional<Room> connection = room.getConnectionRoom(direction);
+
+            if (connection.isPresent())
+                rooms.set(connection.get().getSector());
+        }
+
+        if (rooms.equals(activeRooms))
+            return;
+
+        BitSet deactivated = new BitSet(sequence.size());
+        BitSet activated = (BitSet) rooms.clone();
+
+        if (activeRooms != null) {
+            deactivated.or(activeRooms);
+            activated.andNot(activeRooms);
+        } else {
+            deactivated.set(0, sequence.size());
+            activated.clear();
+        }
+
+        deactivated.andNot(rooms);
+        activeRooms = rooms;
+
+        long tick = scheduler.getTick();
+
+        for (int i = deactivated.nextSetBit(0); i >= 0; i = deactivated.nextSetBit(i + 1)) {
+            for (Enemy enemy : occupancy.getRoomEnemies(i)) {
+                if (scheduler.contains(enemy)) {
+                    scheduler.remove(enemy);
+                    dormantSince.put(enemy, tick);
+                }
+            }
+        }
+
+        for (int i = activated.nextSetBit(0); i >= 0; i = activated.nextSetBit(i + 1)) {
+            // Woken up enemies may move while catching up, which reorders the list of the room
+            for (Enemy enemy : List.copyOf(occupancy.getRoomEnemies(i))) {
+                Long since = dormantSince.remove(enemy);
+
+                if (since == null)
+                    continue;
+
+                scheduler.add(enemy);
+                onWakeUp.accept(enemy, (tick - since) / EnemyScheduler.interval(enemy.getSpeed()));
+            }
+        }
     }
 
     public List<Corridor> getCorridors() { return Collections.unmodifiableList(corridors); }
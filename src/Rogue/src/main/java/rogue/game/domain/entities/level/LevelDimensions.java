@@ -0,0 +1,77 @@
+package rogue.game.domain.entities.level;
+
+import rogue.game.domain.enums.LevelAttribute;
+
+/**
+ * The size of the grid of {@link Room} of a {@link Level} and of the sectors holding them.
+ *
+ * <p> Every room lies in its own sector of {@code sectorWidth} by {@code sectorHeight} cells, so the map is
+ * {@code columns * sectorWidth} cells wide and {@code rows * sectorHeight} cells high. Rooms are indexed row by row.
+ *
+ * @param rows The number of rows of rooms.
+ * @param columns The number of columns of rooms.
+ * @param sectorWidth The width of a sector, in cells.
+ * @param sectorHeight The height of a sector, in cells.
+ */
+public record LevelDimensions(int rows, int columns, int sectorWidth, int sectorHeight) {
+    /**
+     * The smallest sector a room with a door on every side fits in.
+     */
+    private static final int MIN_SECTOR_SIZE = 8;
+
+    /**
+     * The classic 3x3 grid on a 90x30 map.
+     */
+    public static final LevelDimensions DEFAULT = new LevelDimensions(
+            LevelAttribute.ROOMS_PER_SIDE.value, LevelAttribute.ROOMS_PER_SIDE.value,
+            LevelAttribute.SECTOR_WIDTH.value, LevelAttribute.SECTOR_HEIGHT.value);
+
+    public LevelDimensions {
+        if (rows < 1 || columns < 1 || rows * columns < 2 || (long) rows * columns > Short.MAX_VALUE)
+            throw new IllegalArgumentException("Invalid room grid " + rows + "x" + columns);
+
+        if (sectorWidth < MIN_SECTOR_SIZE || sectorHeight < MIN_SECTOR_SIZE)
+            throw new IllegalArgumentException("Invalid sector size " + sectorWidth + "x" + sectorHeight);
+    }
+
+    /**
+     * Gets the dimensions set with the {@code rogue.rooms.rows}, {@code rogue.rooms.columns},
+     * {@code rogue.sector.width} and {@code rogue.sector.height} system properties, using the defaults for the
+     * properties not set.
+     *
+     * @return The {@link LevelDimensions}.
+     */
+    public static LevelDimensions fromSystemProperties() {
+        return new LevelDimensions(
+                Integer.getInteger("rogue.rooms.rows", DEFAULT.rows),
+                Integer.getInteger("rogue.rooms.columns", DEFAULT.columns),
+                Integer.getInteger("rogue.sector.width", DEFAULT.sectorWidth),
+                Integer.getInteger("rogue.sector.height", DEFAULT.sectorHeight));
+    }
+
+    public int roomsNumber() {
+        return rows * columns;
+    }
+
+    public int mapWidth() {
+        return columns * sectorWidth;
+    }
+
+    public int mapHeight() {
+        return rows * sectorHeight;
+    }
+
+    /**
+     * Gets the range of the random horizontal inset of a room from the sides of its sector.
+     */
+    public int cornerHorizontalRange() {
+        return (sectorWidth - 6) / 2;
+    }
+
+    /**
+     * Gets the range of the random vertical inset of a room from the sides of its sector.
+     */
+    public int cornerVerticalRange() {
+        return (sectorHeight - 6) / 2;
+    }
+}
@@ -0,0 +1,107 @@
+package rogue.game.domain.entities.level;
+
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.gameMap.ChunkedGrid;
+import rogue.game.domain.entities.gameMap.ChunkedIntGrid;
+import rogue.game.domain.enums.Constants;
+
+import java.util.List;
+
+/**
+ * Per-cell lookup tables of the {@link Level} geometry.
+ *
+ * <p> Maps every map cell to the index of the {@link Room} it belongs to and to the {@link Door} lying on it,
+ * so both lookups by {@link Position} are a couple of array accesses. The tables are stored in the chunks of the
+ * {@link rogue.game.domain.entities.gameMap.GameMap}, allocated only where a room or a door lies.
+ *
+ * <p> The tables are rebuilt once the rooms and their doors are known: after a level is generated or loaded.
+ */
+public class LevelLayout {
+    private final int width;
+    private final int height;
+    private final ChunkedIntGrid roomIndices;
+    private final ChunkedGrid<Door> doors;
+
+    /**
+     * @param width The width of the map, in cells.
+     * @param height The height of the map, in cells.
+     */
+    public LevelLayout(int width, int height) {
+        this.width = width;
+        this.height = height;
+
+        roomIndices = new ChunkedIntGrid(width, height, Constants.NONE.value);
+        doors = new ChunkedGrid<>(width, height);
+    }
+
+    /**
+     * Fills the tables from the given rooms.
+     *
+     * <p> Rooms are expected not to overlap; if they do, the first one in the sequence wins, as for a linear search.
+     *
+     * @param rooms The {@link Room} sequence of the {@link Level}.
+     */
+    public void build(List<Room> rooms) {
+        clear();
+
+        for (int i = rooms.size() - 1; i >= 0; i--) {
+            Room room = rooms.get(i);
+
+            int fromX = Math.max(room.getTopLeft().x(), 0);
+            int fromY = Math.max(room.getTopLeft().y(), 0);
+            int toX = Math.min(room.getBottomRight().x(), width - 1);
+            int toY = Math.min(room.getBottomRight().y(), height - 1);
+
+            for (int y = fromY; y <= toY; y++) {
+                for (int x = fromX; x <= toX; x++)
+                    roomIndices.set(x, y, i);
+            }
+
+            for (Door door : room.getDoors()) {
+                if (door != null && contains(door.getPosition()))
+                    doors.set(door.getPosition().x(), door.getPosition().y(), door);
+            }
+        }
+    }
+
+    public void clear() {
+        roomIndices.clear();
+        doors.clear();
+    }
+
+    /**
+     * Gets the number of chunks allocated by the tables, each holding the cells of a 32x32 block.
+     *
+     * @return The number of allocated chunks.
+     */
+    public int getAllocatedChunks() {
+        return roomIndices.getAllocatedChunks() + doors.getAllocatedChunks();
+    }
+
+    private boolean contains(Position pos) {
+        int x = pos.x();
+        int y = pos.y();
+
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Gets the index of the {@link Room} containing the given cell.
+     *
+     * @param pos The {@link Position} of the cell.
+     * @return The room index, or {@link Constants#NONE} if the cell is not within a room.
+     */
+    public int getRoomIndex(Position pos) {
+        return contains(pos) ? roomIndices.get(pos.x(), pos.y()) : Constants.NONE.value;
+    }
+
+    /**
+     * Gets the {@link Door} lying on the given cell.
+     *
+     * @param pos The {@link Position} of the cell.
+     * @return The door, or null if there is no door on the cell.
+     */
+    public Door getDoor(Position pos) {
+        return contains(pos) ? doors.get(pos.x(), pos.y()) : null;
+    }
+}
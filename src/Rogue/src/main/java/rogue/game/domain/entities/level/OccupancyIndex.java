@@ -0,0 +1,284 @@
+package rogue.game.domain.entities.level;
+
+import rogue.game.domain.entities.GameEntity;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.enemies.Enemy;
+import rogue.game.domain.entities.gameMap.ChunkedGrid;
+import rogue.game.domain.entities.gameMap.ChunkedIntGrid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-cell index of the {@link GameEntity} lying in rooms and the {@link Enemy} walking through the {@link Level}.
+ *
+ * <p> Each map cell maps to at most one indexed entity and one indexed enemy, so lookups by {@link Position}
+ * are a couple of array accesses. The tables are stored in the chunks of the
+ * {@link rogue.game.domain.entities.gameMap.GameMap}, allocated only where something stands.
+ *
+ * <p> Several entities may still end up on the same cell (for example, an enemy that is not drawn on the map
+ * does not block others), so the index also keeps a per-cell counter. When the indexed occupant leaves a cell
+ * that is still occupied, the replacement is looked up in the owner's list.
+ *
+ * <p> The enemies standing in a room are also kept in a list per room, following them as they move. Each enemy
+ * knows its slot in the list of its room, so it is removed from it by moving the last enemy of the list into its
+ * slot, in constant time.
+ */
+public class OccupancyIndex {
+    private final int width;
+    private final int height;
+
+    private final ChunkedGrid<GameEntity> entities;
+    private final ChunkedIntGrid entitiesCount;
+
+    private final ChunkedGrid<Enemy> enemies;
+    private final ChunkedIntGrid enemiesCount;
+
+    /**
+     * The enemies of the {@link Level}, used to refill a shared cell.
+     */
+    private final List<Enemy> levelEnemies;
+
+    /**
+     * The room of each cell, and the enemies standing in each room.
+     */
+    private final LevelLayout layout;
+    private final List<List<Enemy>> enemiesByRoom;
+
+    /**
+     * @param levelEnemies The enemies of the {@link Level}.
+     * @param layout The room of each cell of the {@link Level}.
+     * @param rooms The number of rooms of the {@link Level}.
+     * @param width The width of the map, in cells.
+     * @param height The height of the map, in cells.
+     */
+    public OccupancyIndex(List<Enemy> levelEnemies, LevelLayout layout, int rooms, int width, int height) {
+        this.levelEnemies = levelEnemies;
+        this.layout = layout;
+        this.width = width;
+        this.height = height;
+
+        enemiesByRoom = new ArrayList<>(rooms);
+
+        for (int i = 0; i < rooms; i++)
+            enemiesByRoom.add(new ArrayList<>());
+
+        entities = new ChunkedGrid<>(width, height);
+        entitiesCount = new ChunkedIntGrid(width, height, 0);
+
+        enemies = new ChunkedGrid<>(width, height);
+        enemiesCount = new ChunkedIntGrid(width, height, 0);
+    }
+
+    /**
+     * Checks if a {@link Position} lies on the map.
+     *
+     * @param pos The {@link Position} to check.
+     * @return True if the position is within the map.
+     */
+    private boolean contains(Position pos) {
+        int x = pos.x();
+        int y = pos.y();
+
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Gets the number of chunks allocated by the tables, each holding the cells of a 32x32 block.
+     *
+     * @return The number of allocated chunks.
+     */
+    public int getAllocatedChunks() {
+        return entities.getAllocatedChunks() + entitiesCount.getAllocatedChunks()
+                + enemies.getAllocatedChunks() + enemiesCount.getAllocatedChunks();
+    }
+
+    /**
+     * Gets the {@link GameEntity} lying on the given cell.
+     *
+     * @param pos The {@link Position} of the cell.
+     * @return The entity, or {@link GameEntity#EMPTY_ENTITY} if the cell is free.
+     */
+    public GameEntity getEntity(Position pos) {
+        GameEntity entity = contains(pos) ? entities.get(pos.x(), pos.y()) : null;
+
+        return entity == null ? GameEntity.EMPTY_ENTITY : entity;
+    }
+
+    public void addEntity(GameEntity entity) {
+        Position pos = entity.getPosition();
+
+        if (!contains(pos))
+            return;
+
+        int count = entitiesCount.get(pos.x(), pos.y());
+        entitiesCount.set(pos.x(), pos.y(), count + 1);
+
+        if (count == 0)
+            entities.set(pos.x(), pos.y(), entity);
+    }
+
+    /**
+     * Removes a {@link GameEntity} from the index.
+     *
+     * @param entity The entity to remove.
+     * @param owners The entities still lying in the owning {@link Room}, used to refill a shared cell.
+     */
+    public void removeEntity(GameEntity entity, List<GameEntity> owners) {
+        Position pos = entity.getPosition();
+
+        if (!contains(pos))
+            return;
+
+        int count = entitiesCount.get(pos.x(), pos.y());
+
+        if (count == 0)
+            return;
+
+        entitiesCount.set(pos.x(), pos.y(), count - 1);
+
+        if (count == 1)
+            entities.set(pos.x(), pos.y(), null);
+        else if (entities.get(pos.x(), pos.y()) == entity)
+            entities.set(pos.x(), pos.y(), findAt(owners, pos));
+    }
+
+    /**
+     * Gets the {@link Enemy} standing on the given cell.
+     *
+     * @param pos The {@link Position} of the cell.
+     * @return The enemy, or null if there is no enemy on the cell.
+     */
+    public Enemy getEnemy(Position pos) {
+        return contains(pos) ? enemies.get(pos.x(), pos.y()) : null;
+    }
+
+    public void addEnemy(Enemy enemy) {
+        Position pos = enemy.getPosition();
+
+        if (!contains(pos))
+            return;
+
+        int count = enemiesCount.get(pos.x(), pos.y());
+        enemiesCount.set(pos.x(), pos.y(), count + 1);
+
+        if (count == 0)
+            enemies.set(pos.x(), pos.y(), enemy);
+
+        addToRoom(enemy, pos);
+    }
+
+    /**
+     * Removes an {@link Enemy} from the cell it stood on.
+     *
+     * @param enemy The enemy to remove.
+     * @param from The {@link Position} the enemy stood on.
+     */
+    public void removeEnemy(Enemy enemy, Position from) {
+        if (!contains(from))
+            return;
+
+        int count = enemiesCount.get(from.x(), from.y());
+
+        if (count == 0)
+            return;
+
+        removeFromRoom(enemy, from);
+        enemiesCount.set(from.x(), from.y(), count - 1);
+
+        if (count == 1)
+            enemies.set(from.x(), from.y(), null);
+        else if (enemies.get(from.x(), from.y()) == enemy)
+            enemies.set(from.x(), from.y(), findAt(levelEnemies, enemy, from));
+    }
+
+    /**
+     * Gets the enemies standing in a room.
+     *
+     * @param room The index of the {@link Room}.
+     * @return The enemies, in no particular order.
+     */
+    public List<Enemy> getRoomEnemies(int room) {
+        return Collections.unmodifiableList(enemiesByRoom.get(room));
+    }
+
+    /**
+     * Sorts the indexed enemies into the lists of their rooms again, once the rooms of the cells are known.
+     */
+    public void rebuildRooms() {
+        for (List<Enemy> room : enemiesByRoom) {
+            room.forEach(enemy -> enemy.setRoomSlot(-1));
+            room.clear();
+        }
+
+        for (Enemy enemy : levelEnemies) {
+            if (enemy.getRoomSlot() < 0 && contains(enemy.getPosition()))
+                addToRoom(enemy, enemy.getPosition());
+        }
+    }
+
+    public void clear() {
+        entities.clear();
+        entitiesCount.clear();
+        enemies.clear();
+        enemiesCount.clear();
+
+        for (List<Enemy> room : enemiesByRoom) {
+            room.forEach(enemy -> enemy.setRoomSlot(-1));
+            room.clear();
+        }
+    }
+
+    private void addToRoom(Enemy enemy, Position pos) {
+        int room = layout.getRoomIndex(pos);
+
+        if (room < 0 || room >= enemiesByRoom.size())
+            return;
+
+        List<Enemy> enemiesInRoom = enemiesByRoom.get(room);
+
+        enemy.setRoomSlot(enemiesInRoom.size());
+        enemiesInRoom.add(enemy);
+    }
+
+    private void removeFromRoom(Enemy enemy, Position pos) {
+        int room = layout.getRoomIndex(pos);
+        int slot = enemy.getRoomSlot();
+
+        if (room < 0 || room >= enemiesByRoom.size())
+            return;
+
+        List<Enemy> enemiesInRoom = enemiesByRoom.get(room);
+
+        if (slot < 0 || slot >= enemiesInRoom.size() || enemiesInRoom.get(slot) != enemy)
+            return;
+
+        Enemy last = enemiesInRoom.removeLast();
+
+        if (last != enemy) {
+            enemiesInRoom.set(slot, last);
+            last.setRoomSlot(slot);
+        }
+
+        enemy.setRoomSlot(-1);
+    }
+
+    private static GameEntity findAt(List<GameEntity> owners, Position pos) {
+        for (GameEntity e : owners) {
+            if (e.getPosition().equals(pos))
+                return e;
+        }
+
+        return null;
+    }
+
+    private static Enemy findAt(List<Enemy> owners, Enemy excluded, Position pos) {
+        for (Enemy e : owners) {
+            if (e != excluded && e.getPosition().equals(pos))
+                return e;
+        }
+
+        return null;
+    }
+}
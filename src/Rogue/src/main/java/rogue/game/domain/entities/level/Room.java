@@ -11,6 +11,7 @@ import rogue.game.domain.entities.GameEntity;
 import rogue.game.domain.entities.items.Key;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a room in the {@link Level}.
@@ -28,16 +29,24 @@ public class Room{
     @Setter
     @Getter
     private int grid_j;
-    @Setter
     @Getter
     private Position topLeft;
-    @Setter
     @Getter
     private Position bottomRight;
     private final List<Door> doors;
     private final List<Room> connections;
     private final List<GameEntity> entities;
 
+    /**
+     * The occupancy index of the {@link Level} the room belongs to (can be null).
+     */
+    private OccupancyIndex occupancy;
+
+    /**
+     * The cells a new entity can be placed on, built on first use (can be null).
+     */
+    private FreeCells freeCells;
+
     public Room(){
         sector = Constants.NONE.value;
         grid_i = Constants.NONE.value;
@@ -53,6 +62,16 @@ public class Room{
         entities = new ArrayList<>(LevelAttribute.MAX_ENTITIES_PER_ROOM.value);
     }
 
+    public void setTopLeft(Position topLeft) {
+        this.topLeft = topLeft;
+        freeCells = null;
+    }
+
+    public void setBottomRight(Position bottomRight) {
+        this.bottomRight = bottomRight;
+        freeCells = null;
+    }
+
     /**
      * Sets the connection to another {@link Room} in a specific direction (index).
      *
@@ -89,7 +108,10 @@ public class Room{
      * @param direction The {@link Direction} of the door.
      * @param pos        The {@link Position} of the door on the map.
      */
-    public void setDoorByDirection(Direction direction, Position pos){ doors.set(direction.value, new Door(pos)); }
+    public void setDoorByDirection(Direction direction, Position pos){
+        doors.set(direction.value, new Door(pos));
+        freeCells = null;
+    }
 
     /**
      * Gets an optional containing the door in a specified {@link Direction}.
@@ -109,8 +131,66 @@ public class Room{
         return getEntityByPosition(pos) != GameEntity.EMPTY_ENTITY;
     }
 
+    /**
+     * Draws a random cell to place a new {@link GameEntity} on.
+     *
+     * <p> The cell is drawn uniformly among the interior cells that are neither occupied by a {@link GameEntity} of
+     * the room nor next to a {@link Door}, in O(1). The set of these cells is built on first use and then kept up to
+     * date as entities are added and removed.
+     *
+     * @param random The source of the random choice.
+     * @return The {@link Position} of the cell.
+     * @throws IllegalStateException If no cell is free.
+     */
+    public Position getRandomFreeCell(RandomGenerator random){
+        if(freeCells == null)
+            freeCells = buildFreeCells();
+
+        return freeCells.random(random);
+    }
+
+    private FreeCells buildFreeCells(){
+        FreeCells cells = new FreeCells(topLeft, bottomRight);
+
+        // Von Neumann neighborhood of the doors
+        for (Door door : doors) {
+            if (door == null)
+                continue;
+
+            Position p = door.getPosition();
+
+            cells.remove(p.x() - 1, p.y());
+            cells.remove(p.x() + 1, p.y());
+            cells.remove(p.x(), p.y() - 1);
+            cells.remove(p.x(), p.y() + 1);
+        }
+
+        for (GameEntity entity : entities)
+            cells.remove(entity.getPosition().x(), entity.getPosition().y());
+
+        return cells;
+    }
+
     public void addEntity(GameEntity entity){
         entities.add(entity);
+
+        if(freeCells != null)
+            freeCells.remove(entity.getPosition().x(), entity.getPosition().y());
+
+        if(occupancy != null)
+            occupancy.addEntity(entity);
+    }
+
+    /**
+     * Attaches the room to the occupancy index of its {@link Level} and indexes the entities already in the room.
+     *
+     * @param occupancy The {@link OccupancyIndex} of the {@link Level}, or null to detach the room.
+     */
+    public void setOccupancy(OccupancyIndex occupancy){
+        this.occupancy = occupancy;
+
+        if(occupancy != null)
+            entities.forEach(occupancy::addEntity);
     }
 
     public List<Door> getDoors(){ return Collections.unmodifiableList(doors); }
@@ -137,6 +217,9 @@ public class Room{
     }
 
     public GameEntity getEntityByPosition(Position pos){
+        if(occupancy != null)
+            return isPointInside(pos) ? occupancy.getEntity(pos) : GameEntity.EMPTY_ENTITY;
+
         return entities.stream()
                 .filter(entity -> entity.getPosition().x() == pos.x() && entity.getPosition().y() == pos.y())
                 .findFirst()
@@ -163,12 +246,34 @@ public class Room{
      *
      * @param entity The {@link GameEntity} to remove.
      */
-    public void removeEntity(GameEntity entity){ entities.remove(entity); }
+    public void removeEntity(GameEntity entity){
+        if(!entities.remove(entity))
+            return;
+
+        if(occupancy != null)
+            occupancy.removeEntity(entity, entities);
+
+        Position pos = entity.getPosition();
+
+        // The cell may still be taken by another entity standing on it
+        if(freeCells != null && !isNextToDoor(pos) && !checkIfCellIsOccupied(pos))
+            freeCells.add(pos.x(), pos.y());
+    }
+
+    private boolean isNextToDoor(Position pos){
+        for (Door door : doors) {
+            if (door != null && Math.abs(door.getPosition().x() - pos.x()) + Math.abs(door.getPosition().y() - pos.y()) == 1)
+                return true;
+        }
+
+        return false;
+    }
 
     /**
      * Removes all keys ({@link GameEntity} of {@link Key}) from the room.
      */
     public void removeKeys(){
-        entities.removeIf(entity -> entity instanceof Key);
+        List<GameEntity> keys = entities.stream().filter(entity -> entity instanceof Key).toList();
+        keys.forEach(this::removeEntity);
     }
 }
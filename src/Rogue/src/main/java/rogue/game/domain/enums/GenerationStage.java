@@ -0,0 +1,31 @@
+package rogue.game.domain.enums;
+
+/**
+ * The stages of the generation of a level, timed by the generation profiler.
+ */
+public enum GenerationStage {
+    /**
+     * The whole generation of a level on the game thread, including taking a level built in the background.
+     */
+    LEVEL,
+    /**
+     * The update of the difficulty and of the number of enemies.
+     */
+    BALANCER,
+    /**
+     * The rooms, doors and corridors.
+     */
+    GEOMETRY,
+    /**
+     * The player, portal, items and enemies.
+     */
+    ENTITIES,
+    /**
+     * The locked doors and keys.
+     */
+    KEYS,
+    /**
+     * The drawing of the level onto the game map.
+     */
+    MAP
+}
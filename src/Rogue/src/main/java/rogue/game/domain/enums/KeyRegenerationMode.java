@@ -1,18 +0,0 @@
-package rogue.game.domain.enums;
-
-import rogue.game.domain.entities.level.Level;
-
-/**
- * Defines the key regeneration mode for the {@link Level}.
- */
-public enum KeyRegenerationMode {
-    /**
-     * Does not regenerate
-     */
-    NONE,
-
-    /**
-     * Regenerates
-     */
-    REGENERATION
-}
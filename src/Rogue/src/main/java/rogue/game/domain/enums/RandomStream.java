@@ -0,0 +1,34 @@
+package rogue.game.domain.enums;
+
+/**
+ * The independent streams of random numbers of a game.
+ *
+ * <p> Each subsystem draws from its own stream, so a change in how much randomness one subsystem consumes doesn't
+ * shift the numbers seen by the others.
+ */
+public enum RandomStream {
+    /**
+     * The rooms, doors and corridors of a level.
+     */
+    LEVEL_GEOMETRY,
+    /**
+     * The player, portal, items and enemies placed on a level.
+     */
+    LEVEL_ENTITIES,
+    /**
+     * The locked doors and keys of a level.
+     */
+    LEVEL_KEYS,
+    /**
+     * The moves and invisibility of the enemies.
+     */
+    ENEMIES,
+    /**
+     * The hits and spells of the fights.
+     */
+    COMBAT,
+    /**
+     * The effects of the items used by the player.
+     */
+    ITEMS
+}
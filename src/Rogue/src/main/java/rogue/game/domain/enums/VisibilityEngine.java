@@ -0,0 +1,17 @@
+package rogue.game.domain.enums;
+
+import rogue.game.domain.services.vision.VisibilityService;
+
+/**
+ * Selects the field-of-view algorithm behind the {@link VisibilityService}.
+ */
+public enum VisibilityEngine {
+    /**
+     * Casts a fan of rays across the view cone and traces each hit back to the origin.
+     */
+    RAY_CASTING,
+    /**
+     * Recursive symmetric shadowcasting limited to the view cone.
+     */
+    SHADOWCASTING
+}
@@ -2,6 +2,7 @@ package rogue.game.domain.factories.services;
 
 import rogue.game.domain.services.battle.BattleService;
 import rogue.game.domain.services.battle.impl.RogueBattleService;
+import rogue.game.domain.services.random.RandomService;
 import rogue.game.services.messaging.MessageService;
 
 /**
@@ -11,7 +12,7 @@ import rogue.game.services.messaging.MessageService;
  * the {@link BattleService} interface.
  */
 public class BattleServiceFactory {
-    public static BattleService createBattleService(MessageService messageService) {
-        return new RogueBattleService(messageService);
+    public static BattleService createBattleService(MessageService messageService, RandomService randomService) {
+        return new RogueBattleService(messageService, randomService);
     }
 }
@@ -0,0 +1,18 @@
+package rogue.game.domain.factories.services;
+
+import rogue.game.domain.services.enemyAI.EnemyCatchUpService;
+import rogue.game.domain.services.enemyAI.impl.RandomWalkCatchUpService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.services.map.MapService;
+
+/**
+ * A factory class for creating an {@link EnemyCatchUpService} instance.
+ *
+ * <p> This class provides a static method to create a specific implementation of
+ * the {@link EnemyCatchUpService} interface.
+ */
+public class EnemyCatchUpServiceFactory {
+    public static EnemyCatchUpService createEnemyCatchUpService(MapService mapService, RandomService randomService) {
+        return new RandomWalkCatchUpService(mapService, randomService);
+    }
+}
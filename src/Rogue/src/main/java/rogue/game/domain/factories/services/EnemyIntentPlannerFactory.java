@@ -0,0 +1,14 @@
+package rogue.game.domain.factories.services;
+
+import rogue.game.domain.services.enemyAI.EnemyIntentPlanner;
+import rogue.game.domain.services.enemyAI.EnemyMovementService;
+import rogue.game.domain.services.enemyAI.impl.ParallelEnemyIntentPlanner;
+
+/**
+ * A factory class for creating an {@link EnemyIntentPlanner} instance.
+ */
+public class EnemyIntentPlannerFactory {
+    public static EnemyIntentPlanner createEnemyIntentPlanner(EnemyMovementService movementService) {
+        return new ParallelEnemyIntentPlanner(movementService);
+    }
+}
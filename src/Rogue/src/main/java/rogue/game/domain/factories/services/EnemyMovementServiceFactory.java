@@ -2,7 +2,6 @@ package rogue.game.domain.factories.services;
 
 import rogue.game.domain.services.enemyAI.EnemyMovementService;
 import rogue.game.domain.services.enemyAI.impl.RogueEnemyMovementService;
-import rogue.game.services.map.MapService;
 
 /**
  * A factory class for creating an {@link EnemyMovementService} instance.
@@ -11,7 +10,7 @@ import rogue.game.services.map.MapService;
  * the {@link EnemyMovementService} interface.
  */
 public class EnemyMovementServiceFactory {
-    public static EnemyMovementService createEnemyMovementService(MapService mapService) {
-        return new RogueEnemyMovementService(mapService);
+    public static EnemyMovementService createEnemyMovementService() {
+        return new RogueEnemyMovementService();
     }
 }
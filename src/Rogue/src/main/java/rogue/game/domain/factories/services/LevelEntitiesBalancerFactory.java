@@ -1,5 +1,6 @@
 package rogue.game.domain.factories.services;
 
+import rogue.game.domain.entities.Balancer;
 import rogue.game.domain.repository.GameRepository;
 import rogue.game.domain.services.balance.LevelEntitiesBalancer;
 import rogue.game.domain.services.balance.impl.RogueLevelEntitiesBalancer;
@@ -14,4 +15,8 @@ public class LevelEntitiesBalancerFactory {
     public static LevelEntitiesBalancer createLevelEntitiesBalancer(GameRepository gameRepository){
         return new RogueLevelEntitiesBalancer(gameRepository);
     }
+
+    public static LevelEntitiesBalancer createLevelEntitiesBalancer(Balancer settings){
+        return new RogueLevelEntitiesBalancer(settings);
+    }
 }
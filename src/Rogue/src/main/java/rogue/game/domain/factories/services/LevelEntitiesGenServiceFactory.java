@@ -3,11 +3,13 @@ package rogue.game.domain.factories.services;
 import rogue.game.domain.services.generation.level.entitiesGeneration.LevelEntitiesGenService;
 import rogue.game.domain.services.generation.level.entitiesGeneration.impl.RogueLevelEntitiesGenService;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Factory class for creating LevelEntitiesGenService instances.
  */
 public class LevelEntitiesGenServiceFactory {
-    public static LevelEntitiesGenService createLevelEntitiesGenService() {
-        return new RogueLevelEntitiesGenService();
+    public static LevelEntitiesGenService createLevelEntitiesGenService(RandomGenerator random) {
+        return new RogueLevelEntitiesGenService(random);
     }
 }
@@ -1,8 +1,11 @@
 package rogue.game.domain.factories.services;
 
+import rogue.game.domain.services.generation.GenerationCounters;
 import rogue.game.domain.services.generation.level.levelGeneration.LevelGeometryGenService;
 import rogue.game.domain.services.generation.level.levelGeneration.impl.RogueLevelGeometryGenService;
 
+import java.util.random.RandomGenerator;
+
 /**
  * A factory class for creating a {@link LevelGeometryGenService} instance.
  *
@@ -10,7 +13,7 @@ import rogue.game.domain.services.generation.level.levelGeneration.impl.RogueLev
  * the {@link LevelGeometryGenService} interface.
  */
 public class LevelGeometryGenServiceFactory {
-    public static LevelGeometryGenService createLevelGeometryGenService(){
-        return new RogueLevelGeometryGenService();
+    public static LevelGeometryGenService createLevelGeometryGenService(RandomGenerator random, GenerationCounters counters){
+        return new RogueLevelGeometryGenService(random, counters);
     }
 }
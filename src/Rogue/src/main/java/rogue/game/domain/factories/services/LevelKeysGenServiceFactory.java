@@ -1,13 +1,16 @@
 package rogue.game.domain.factories.services;
 
+import rogue.game.domain.services.generation.GenerationCounters;
 import rogue.game.domain.services.generation.level.keysGeneration.LevelKeysGenService;
 import rogue.game.domain.services.generation.level.keysGeneration.impl.RogueLevelKeysGenService;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Factory class for creating {@link LevelKeysGenService} instances.
  */
 public class LevelKeysGenServiceFactory {
-    public static LevelKeysGenService createLevelKeysGenService() {
-        return new RogueLevelKeysGenService();
+    public static LevelKeysGenService createLevelKeysGenService(RandomGenerator random, GenerationCounters counters) {
+        return new RogueLevelKeysGenService(random, counters);
     }
 }
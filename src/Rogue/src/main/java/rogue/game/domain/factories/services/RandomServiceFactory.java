@@ -0,0 +1,14 @@
+package rogue.game.domain.factories.services;
+
+import rogue.game.domain.repository.GameRepository;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.domain.services.random.impl.SplittableRandomService;
+
+/**
+ * A factory class for creating a {@link RandomService} instance.
+ */
+public class RandomServiceFactory {
+    public static RandomService createRandomService(GameRepository gameRepository) {
+        return new SplittableRandomService(gameRepository);
+    }
+}
@@ -1,7 +1,9 @@
 package rogue.game.domain.factories.services;
 
+import rogue.game.domain.enums.VisibilityEngine;
 import rogue.game.domain.services.vision.VisibilityService;
 import rogue.game.domain.services.vision.impl.RogueVisibilityService;
+import rogue.game.domain.services.vision.impl.ShadowcastingVisibilityService;
 
 /**
  * A factory class for creating a {@link VisibilityService} instance.
@@ -11,6 +13,13 @@ import rogue.game.domain.services.vision.impl.RogueVisibilityService;
  */
 public class VisibilityServiceFactory {
     public static VisibilityService createVisibilityService(){
-        return new RogueVisibilityService();
+        return createVisibilityService(VisibilityEngine.SHADOWCASTING);
+    }
+
+    public static VisibilityService createVisibilityService(VisibilityEngine engine){
+        return switch (engine) {
+            case RAY_CASTING -> new RogueVisibilityService();
+            case SHADOWCASTING -> new ShadowcastingVisibilityService();
+        };
     }
 }
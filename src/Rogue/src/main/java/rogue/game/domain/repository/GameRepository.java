@@ -1,5 +1,6 @@
 package rogue.game.domain.repository;
 
+import rogue.game.common.enums.StatsOrder;
 import rogue.game.domain.entities.Balancer;
 import rogue.game.domain.entities.GameStats;
 import rogue.game.domain.entities.Inventory;
@@ -20,6 +21,7 @@ public interface GameRepository {
     void update(Level level);
     void update(Balancer balancer);
     void update(GameStats totalGameStats, GameStats currentGameStats);
+    void updateSeed(long seed);
     void save();
 
     Optional<Player> getPlayer();
@@ -28,9 +30,25 @@ public interface GameRepository {
     Optional<Balancer> getBalancer();
     Optional<GameStats> getTotalGameStats();
     Optional<GameStats> getCurrentGameStats();
+    Optional<Long> getSeed();
 
     /**
-     * @return A list of all game statistics from the repository.
+     * @return A list of all game statistics from the repository, in the order of {@link StatsOrder#LEVEL}.
      */
     List<GameStats> getListOfStats();
+
+    /**
+     * @return The number of game statistics in the repository.
+     */
+    int getStatsCount();
+
+    /**
+     * Gets a page of the game statistics.
+     *
+     * @param order The ordering of the statistics.
+     * @param offset The index of the first statistics of the page.
+     * @param limit The maximum number of statistics in the page.
+     * @return The statistics of the page, fewer than {@code limit} at the end of the list.
+     */
+    List<GameStats> getStats(StatsOrder order, int offset, int limit);
 }
@@ -7,6 +7,8 @@ import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.items.Item;
 import rogue.game.domain.entities.enemies.Enemy;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Interface defining a contract for the entity balancer in a level.
  *
@@ -28,35 +30,39 @@ public interface LevelEntitiesBalancer {
      * Calculates the number of items to spawn based on the complexity factor.
      *
      * @param complexityFactor A factor determining the complexity of the level.
+     * @param random The source of the random choices.
      * @return The number of {@link Item} to spawn.
      */
-    int getCountOfItems(final int complexityFactor);
+    int getCountOfItems(final int complexityFactor, RandomGenerator random);
 
     /**
      * Spawns an {@link Item} at the specified {@link Position} with the given complexity.
      *
      * @param complexityFactor A factor determining the complexity of the item.
      * @param position The {@link Position} to spawn the item.
+     * @param random The source of the random choices.
      * @return The spawned {@link Item} {@link GameEntity}.
      */
-    GameEntity spawnItem(final int complexityFactor, Position position);
+    GameEntity spawnItem(final int complexityFactor, Position position, RandomGenerator random);
 
     /**
      * Calculates the number of {@link Enemy} to spawn based on the coefficient.
      *
      * @param coefficient A factor determining the number of {@link Enemy}.
+     * @param random The source of the random choices.
      * @return The number of {@link Enemy} to spawn.
      */
-    int getCountOfEnemies(final int coefficient);
+    int getCountOfEnemies(final int coefficient, RandomGenerator random);
 
     /**
      * Spawns an {@link Enemy} at the given {@link Position} with the given difficulty.
      *
      * @param complexityFactor The difficulty factor of the enemy.
      * @param position The {@link Position} at which the {@link Enemy} will be spawned.
+     * @param random The source of the random choices.
      * @return The spawned {@link Enemy} {@link GameEntity} object.
      */
-    GameEntity spawnEnemy(final int complexityFactor, Position position);
+    GameEntity spawnEnemy(final int complexityFactor, Position position, RandomGenerator random);
 
     /**
      * Resets the {@link Balancer} to its initial state.
@@ -14,9 +14,10 @@ import rogue.game.domain.factories.ItemBuilderFactory;
 import rogue.game.domain.repository.GameRepository;
 import rogue.game.domain.entities.Position;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class RogueLevelEntitiesBalancer implements LevelEntitiesBalancer {
     private static final int NUMBER_OF_LEVELS_TO_CHANGE_DIFFICULTY = 2;
@@ -26,13 +27,14 @@ public class RogueLevelEntitiesBalancer implements LevelEntitiesBalancer {
     /**
      * A map defining the probability of spawning each {@link Item} type.
      * <p> Keys represent the item type, and values represent the associated probability (between 0.0 and 1.0).
+     * <p> The map iterates in the order of the types, so the same random number always picks the same type.
      */
-    private static final Map<ItemType, Double> itemTypesProbabilities = Map.of(
+    private static final Map<ItemType, Double> itemTypesProbabilities = new EnumMap<>(Map.of(
             ItemType.FOOD, 0.4,
             ItemType.SCROLL, 0.4,
             ItemType.WEAPON, 0.3,
             ItemType.POTION, 0.3
-    );
+    ));
 
     private final Balancer balancer;
 
@@ -52,6 +54,18 @@ public class RogueLevelEntitiesBalancer implements LevelEntitiesBalancer {
         setNormalDifficulty();
     }
 
+    /**
+     * Creates a balancer working on a copy of the given settings, so it can be used without touching them.
+     *
+     * @param settings The settings to copy.
+     */
+    public RogueLevelEntitiesBalancer(Balancer settings) {
+        balancer = new Balancer();
+        balancer.setGameDifficulty(settings.getGameDifficulty());
+        balancer.setMinNumberOfEnemies(settings.getMinNumberOfEnemies());
+        balancer.setMaxNumberOfEnemies(settings.getMaxNumberOfEnemies());
+    }
+
     @Override
     public void reset(){
         balancer.setGameDifficulty(GameDifficulty.NORMAL);
@@ -122,29 +136,29 @@ public class RogueLevelEntitiesBalancer implements LevelEntitiesBalancer {
     }
 
     @Override
-    public int getCountOfItems(int complexityFactor) {
+    public int getCountOfItems(int complexityFactor, RandomGenerator random) {
         int numberOfItems;
 
         if(balancer.getGameDifficulty().equals(GameDifficulty.HARD))
-            numberOfItems = ThreadLocalRandom.current().nextInt(0, LevelAttribute.MAX_ITEMS_PER_ROOM.value);
+            numberOfItems = random.nextInt(0, LevelAttribute.MAX_ITEMS_PER_ROOM.value);
         else
-            numberOfItems = ThreadLocalRandom.current().nextInt(0, LevelAttribute.MAX_ITEMS_PER_ROOM.value + 1);
+            numberOfItems = random.nextInt(0, LevelAttribute.MAX_ITEMS_PER_ROOM.value + 1);
 
         return numberOfItems;
     }
 
     @Override
-    public GameEntity spawnItem(int complexityFactor, Position position) {
+    public GameEntity spawnItem(int complexityFactor, Position position, RandomGenerator random) {
         double treasureProbability = (double) complexityFactor / (LevelAttribute.FINAL_LEVEL.value - 1) + 0.1;
 
         ItemType type = null;
 
-        if(ThreadLocalRandom.current().nextDouble() < treasureProbability) {
+        if(random.nextDouble() < treasureProbability) {
             type = ItemType.TREASURE;
         }else if(balancer.getGameDifficulty().equals(GameDifficulty.EASY)){
             double totalProbability = itemTypesProbabilities.values().stream().reduce(0.0, Double::sum);
 
-            double rand = ThreadLocalRandom.current().nextDouble() * totalProbability;
+            double rand = random.nextDouble() * totalProbability;
             double probability = 0;
 
             for (Map.Entry<ItemType, Double> e : itemTypesProbabilities.entrySet()) {
@@ -156,30 +170,32 @@ public class RogueLevelEntitiesBalancer implements LevelEntitiesBalancer {
             }
 
         }else {
-            type = itemTypes.get(ThreadLocalRandom.current().nextInt(itemTypes.size() - 1));
+            type = itemTypes.get(random.nextInt(itemTypes.size() - 1));
         }
 
         return (type == ItemType.WEAPON)
                 ? ItemBuilderFactory.createComplexityBasedWeaponBuilder()
                     .withComplexity(complexityFactor)
+                    .withRandom(random)
                     .withPosition(position)
                     .build()
                 : ItemBuilderFactory.createBaseItemBuilder()
                     .withType(type)
+                    .withRandom(random)
                     .withPosition(position)
                     .build();
         }
 
     @Override
-    public int getCountOfEnemies(int coefficient) {
-        if(balancer.getGameDifficulty().equals(GameDifficulty.HARD) && ThreadLocalRandom.current().nextBoolean())
+    public int getCountOfEnemies(int coefficient, RandomGenerator random) {
+        if(balancer.getGameDifficulty().equals(GameDifficulty.HARD) && random.nextBoolean())
             return 1;
 
-        return ThreadLocalRandom.current().nextInt(balancer.getMinNumberOfEnemies(), balancer.getMaxNumberOfEnemies() + 1);
+        return random.nextInt(balancer.getMinNumberOfEnemies(), balancer.getMaxNumberOfEnemies() + 1);
     }
 
     @Override
-    public GameEntity spawnEnemy(int complexityFactor, Position position) {
+    public GameEntity spawnEnemy(int complexityFactor, Position position, RandomGenerator random) {
         int complexity = complexityFactor;
 
         GameDifficulty gameDifficulty = balancer.getGameDifficulty();
@@ -189,11 +205,12 @@ public class RogueLevelEntitiesBalancer implements LevelEntitiesBalancer {
         else if (gameDifficulty.equals(GameDifficulty.EASY))
             complexity = (complexityFactor - 3 <= 0) ? complexityFactor : complexityFactor - 3;
 
-        EnemyType type = enemyTypes.get(ThreadLocalRandom.current().nextInt(enemyTypes.size()));
+        EnemyType type = enemyTypes.get(random.nextInt(enemyTypes.size()));
 
         return EnemyBuilderFactory.createComplexityBasedEnemyBuilder()
                 .withType(type)
                 .withComplexity(complexity)
+                .withRandom(random)
                 .withPosition(position)
                 .build();
     }
@@ -1,12 +1,12 @@
 
 package rogue.game.domain.services.battle.impl;
 
+import rogue.game.domain.enums.RandomStream;
 import rogue.game.domain.services.battle.BattleService;
+import rogue.game.domain.services.random.RandomService;
 import rogue.game.services.messaging.MessageService;
 import rogue.game.domain.entities.BattleEntity;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 public class RogueBattleService implements BattleService {
     private static final int HIT_THRESHOLD = 10;
     private static final String HIT = " hit ";
@@ -14,9 +14,11 @@ public class RogueBattleService implements BattleService {
     private static final String MISS = " missed ";
 
     private final MessageService messageService;
+    private final RandomService randomService;
 
-    public RogueBattleService(MessageService messageService) {
+    public RogueBattleService(MessageService messageService, RandomService randomService) {
         this.messageService = messageService;
+        this.randomService = randomService;
     }
 
     /**
@@ -43,7 +45,7 @@ public class RogueBattleService implements BattleService {
 
             messageService.addStatusMessage(attacker.getName() + HIT + defender.getName());
 
-            final boolean castSleep = attacker.castSleep();
+            final boolean castSleep = attacker.castSleep(randomService.getStream(RandomStream.COMBAT));
 
             defender.setCastSleep(castSleep);
 
@@ -75,7 +77,7 @@ public class RogueBattleService implements BattleService {
 
         int modifier = dexterityDifference + speedDifference;
 
-        int roll = ThreadLocalRandom.current().nextInt(0, HIT_THRESHOLD * 2);
+        int roll = randomService.getStream(RandomStream.COMBAT).nextInt(0, HIT_THRESHOLD * 2);
 
         return modifier + roll >= HIT_THRESHOLD;
     }
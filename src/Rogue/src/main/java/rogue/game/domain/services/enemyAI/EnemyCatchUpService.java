@@ -0,0 +1,23 @@
+package rogue.game.domain.services.enemyAI;
+
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.enemies.Enemy;
+import rogue.game.domain.entities.level.Room;
+
+/**
+ * Describes the service fast-forwarding an {@link Enemy} that was asleep while the player was far away.
+ *
+ * <p> Instead of replaying every missed action, the service draws the position the {@link Enemy} would likely
+ * have reached by wandering around its {@link Room}.
+ */
+public interface EnemyCatchUpService {
+    /**
+     * Calculates where a woken up {@link Enemy} should stand.
+     *
+     * @param enemy The {@link Enemy} to fast-forward.
+     * @param room The {@link Room} the {@link Enemy} slept in.
+     * @param missedActions The number of actions the {@link Enemy} missed.
+     * @return The new {@link Position} of the {@link Enemy}, which may be the current one.
+     */
+    Position catchUp(Enemy enemy, Room room, long missedActions);
+}
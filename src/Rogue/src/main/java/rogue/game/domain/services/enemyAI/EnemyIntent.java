@@ -0,0 +1,47 @@
+package rogue.game.domain.services.enemyAI;
+
+import lombok.Getter;
+import lombok.Setter;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.enemies.Enemy;
+import rogue.game.domain.entities.level.Room;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The move an {@link Enemy} intends to make, planned before any enemy of the same round moves.
+ *
+ * <p> Everything the planning needs is gathered up front, so an intent can be planned on any thread. The target
+ * is filled in by the {@link EnemyIntentPlanner}.
+ */
+@Getter
+public class EnemyIntent {
+    private final Enemy enemy;
+    private final int roomIndex;
+    private final Position topLeft;
+    private final Position bottomRight;
+
+    /**
+     * The random source of this {@link Enemy} only, so the result doesn't depend on the planning order.
+     */
+    private final RandomGenerator random;
+
+    @Setter
+    private Position target;
+
+    /**
+     * @param enemy The {@link Enemy} to plan the move of.
+     * @param roomIndex The index of the {@link Room} the {@link Enemy} stands in, or none.
+     * @param topLeft The top-left corner of the {@link Room}, or {@link Position#NONE}.
+     * @param bottomRight The bottom-right corner of the {@link Room}, or {@link Position#NONE}.
+     * @param random The random source of the {@link Enemy}.
+     */
+    public EnemyIntent(Enemy enemy, int roomIndex, Position topLeft, Position bottomRight, RandomGenerator random) {
+        this.enemy = enemy;
+        this.roomIndex = roomIndex;
+        this.topLeft = topLeft;
+        this.bottomRight = bottomRight;
+        this.random = random;
+        this.target = enemy.getPosition();
+    }
+}
@@ -0,0 +1,24 @@
+package rogue.game.domain.services.enemyAI;
+
+import rogue.game.domain.entities.Position;
+import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
+
+import java.util.List;
+
+/**
+ * Describes the service planning the moves of a round of enemies.
+ *
+ * <p> All the moves of a round are planned against the same map, which doesn't change while planning, so the plan of
+ * an enemy doesn't depend on the others and the intents can be computed in any order, or at the same time.
+ */
+public interface EnemyIntentPlanner {
+    /**
+     * Fills in the target of every intent.
+     *
+     * @param intents The intents of the round, each of a different enemy.
+     * @param map The live map, only read while planning, or through its {@link ReadOnlyMapService} snapshot.
+     * @param playerPosition The position of the player.
+     */
+    void plan(List<EnemyIntent> intents, MapService map, Position playerPosition);
+}
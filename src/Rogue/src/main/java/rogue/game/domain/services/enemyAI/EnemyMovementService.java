@@ -4,6 +4,9 @@ import rogue.game.domain.entities.enemies.Enemy;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.level.Room;
 import rogue.game.domain.services.enemyAI.impl.enemyMovementStrategy.EnemyMovementStrategy;
+import rogue.game.services.map.ReadOnlyMapService;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Describes the service responsible for calculating enemy movement.
@@ -16,11 +19,13 @@ public interface EnemyMovementService {
      *
      * <p> This method delegates the movement calculation to the appropriate {@link EnemyMovementStrategy}
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param enemy The {@link Enemy} object to calculate movement for.
      * @param topLeft The top-left corner of the {@link Room}.
      * @param bottomRight The bottom-right corner of the {@link Room}.
      * @param player The player's position.
+     * @param random The source of every random choice made by the movement.
      * @return The new {@link Position} for the {@link Enemy}.
      */
-    Position move(Enemy enemy, Position topLeft, Position bottomRight, Position player);
+    Position move(ReadOnlyMapService map, Enemy enemy, Position topLeft, Position bottomRight, Position player, RandomGenerator random);
 }
@@ -0,0 +1,67 @@
+package rogue.game.domain.services.enemyAI.impl;
+
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.services.enemyAI.EnemyIntent;
+import rogue.game.domain.services.enemyAI.EnemyIntentPlanner;
+import rogue.game.domain.services.enemyAI.EnemyMovementService;
+import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Plans the intents of a round on the common {@link java.util.concurrent.ForkJoinPool}.
+ *
+ * <p> Small rounds are planned on the calling thread against the live map, where splitting the work, and copying
+ * the map for the other threads, costs more than it saves. Larger rounds are planned against the snapshot of the
+ * map, see {@link MapService#refreshSnapshot(Position)}. Since each intent has its own random source and only reads
+ * the map and its own enemy, both ways give the same targets.
+ */
+public class ParallelEnemyIntentPlanner implements EnemyIntentPlanner {
+    /**
+     * The number of intents from which the round is planned in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 64;
+
+    private final EnemyMovementService movementService;
+    private final int threshold;
+
+    public ParallelEnemyIntentPlanner(EnemyMovementService movementService) {
+        this(movementService, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param movementService The service calculating the move of each enemy.
+     * @param threshold The number of intents from which the round is planned in parallel.
+     */
+    public ParallelEnemyIntentPlanner(EnemyMovementService movementService, int threshold) {
+        this.movementService = movementService;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void plan(List<EnemyIntent> intents, MapService map, Position playerPosition) {
+        IntStream indices = IntStream.range(0, intents.size());
+
+        if (intents.size() < threshold)
+            plan(intents, indices, map, playerPosition);
+        else
+            plan(intents, indices.parallel(), map.refreshSnapshot(playerPosition), playerPosition);
+    }
+
+    private void plan(List<EnemyIntent> intents, IntStream indices, ReadOnlyMapService map, Position playerPosition) {
+        indices.forEach(i -> {
+            EnemyIntent intent = intents.get(i);
+
+            intent.setTarget(movementService.move(
+                    map,
+                    intent.getEnemy(),
+                    intent.getTopLeft(),
+                    intent.getBottomRight(),
+                    playerPosition,
+                    intent.getRandom()
+            ));
+        });
+    }
+}
@@ -0,0 +1,193 @@
+package rogue.game.domain.services.enemyAI.impl;
+
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.enemies.Enemy;
+import rogue.game.domain.entities.enemies.Ghost;
+import rogue.game.domain.entities.enemies.Mimic;
+import rogue.game.domain.entities.enemies.Ogre;
+import rogue.game.domain.entities.enemies.SnakeMagician;
+import rogue.game.domain.entities.enemies.Vampire;
+import rogue.game.domain.entities.level.Room;
+import rogue.game.domain.enums.Constants;
+import rogue.game.domain.enums.EnemyAttribute;
+import rogue.game.domain.enums.MimicAttribute;
+import rogue.game.domain.enums.RandomStream;
+import rogue.game.domain.enums.util.MapSymbolUtil;
+import rogue.game.domain.services.enemyAI.EnemyCatchUpService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.services.map.MapService;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Fast-forwards a sleeping {@link Enemy} with a statistical model of its random walk.
+ *
+ * <p> After {@code n} random steps, the displacement along each axis is close to a normal distribution with a
+ * variance of {@code n} times the per-step variance of the {@link Enemy}'s strategy. The drawn displacement is
+ * reflected on the walls of the {@link Room}. Once the variance covers the whole room the walk is considered mixed
+ * and the position is drawn uniformly, which is also how a {@link Ghost} moves on every action.
+ *
+ * <p> A {@link Mimic} does not walk: away from the player it only steps around while next to a door or a corridor,
+ * and otherwise stands still, taking its disguise back after a few actions in its true form. Its catch-up replays
+ * those few steps and the disguise counter instead.
+ */
+public class RandomWalkCatchUpService implements EnemyCatchUpService {
+    private static final int MAX_ATTEMPTS = 4;
+    private static final int MAX_MIMIC_STEPS = 64;
+
+    private final MapService mapService;
+    private final RandomService randomService;
+
+    public RandomWalkCatchUpService(MapService mapService, RandomService randomService) {
+        this.mapService = mapService;
+        this.randomService = randomService;
+    }
+
+    @Override
+    public Position catchUp(Enemy enemy, Room room, long missedActions) {
+        Position from = enemy.getPosition();
+
+        if (missedActions <= 0)
+            return from;
+
+        if (enemy instanceof Mimic mimic)
+            return catchUpMimic(mimic, missedActions);
+
+        final int minX = room.getTopLeft().x() + 1;
+        final int minY = room.getTopLeft().y() + 1;
+        final int maxX = room.getBottomRight().x() - 1;
+        final int maxY = room.getBottomRight().y() - 1;
+
+        if (maxX < minX || maxY < minY)
+            return from;
+
+        final int width = maxX - minX + 1;
+        final int height = maxY - minY + 1;
+
+        final double variance = missedActions * stepVariance(enemy);
+        final boolean mixed = enemy instanceof Ghost || variance >= width * width + height * height;
+        final double sigma = Math.sqrt(variance);
+
+        RandomGenerator random = randomService.getStream(RandomStream.ENEMIES);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int x;
+            int y;
+
+            if (mixed) {
+                x = minX + random.nextInt(width);
+                y = minY + random.nextInt(height);
+            } else {
+                x = reflect(from.x() + (int) Math.round(random.nextGaussian() * sigma), minX, maxX);
+                y = reflect(from.y() + (int) Math.round(random.nextGaussian() * sigma), minY, maxY);
+            }
+
+            if (mapService.getMapSymbol(x, y) == MapSymbol.FLOOR)
+                return Position.of(x, y);
+        }
+
+        return from;
+    }
+
+    /**
+     * Replays the missed actions of a {@link Mimic}, as its strategy plays them while the player is out of reach.
+     *
+     * <p> Next to a door or a corridor the {@link Mimic} steps in a random direction, until it stands inside the
+     * {@link Room}. There it stays, and in its true form counts the actions until it disguises itself again.
+     *
+     * @param mimic The {@link Mimic}, whose disguise is updated.
+     * @param missedActions The number of actions the {@link Mimic} missed.
+     * @return The new {@link Position} of the {@link Mimic}.
+     */
+    private Position catchUpMimic(Mimic mimic, long missedActions) {
+        RandomGenerator random = randomService.getStream(RandomStream.ENEMIES);
+        Position pos = mimic.getPosition();
+        long actions = missedActions;
+
+        for (int step = 0; actions > 0 && step < MAX_MIMIC_STEPS && isNextToPassage(pos); step++, actions--) {
+            mimic.setCountTimesPlayerNotVisible(0);
+            pos = stepInRandomDirection(pos, random);
+        }
+
+        if (actions <= 0 || isNextToPassage(pos) || mimic.getAppearance() != MapSymbol.MIMIC)
+            return pos;
+
+        int waited = MimicAttribute.MAX_DETECTION_OF_PLAYER.value - mimic.getCountTimesPlayerNotVisible();
+
+        if (actions < waited) {
+            mimic.setCountTimesPlayerNotVisible(mimic.getCountTimesPlayerNotVisible() + (int) actions);
+        } else {
+            mimic.setAppearance(MimicAttribute.APPEARANCES_OF_MIMIC.list.get(
+                    random.nextInt(MimicAttribute.APPEARANCES_OF_MIMIC.list.size())));
+            mimic.setCountTimesPlayerNotVisible(0);
+            mimic.setHostility(EnemyAttribute.LOW_HOSTILITY.value - 1);
+        }
+
+        return pos;
+    }
+
+    private boolean isNextToPassage(Position pos) {
+        // Moore neighborhood
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                MapSymbol sym = mapService.getMapSymbol(pos.x() + j, pos.y() + i);
+
+                if (MapSymbolUtil.isDoor(sym) || sym == MapSymbol.CORRIDOR)
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    private Position stepInRandomDirection(Position from, RandomGenerator random) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int direction = random.nextInt(4);
+            int x = from.x() + Constants.DX.directionsValues.get(direction);
+            int y = from.y() + Constants.DY.directionsValues.get(direction);
+
+            if (mapService.getMapSymbol(x, y) == MapSymbol.FLOOR)
+                return Position.of(x, y);
+        }
+
+        return from;
+    }
+
+    /**
+     * Gets the variance of a single step along one axis.
+     *
+     * <p> A unit step along a random axis gives 1/2, a diagonal step of the {@link SnakeMagician} gives 1 and the
+     * double step of the {@link Ogre} gives 2. A {@link Vampire} keeps its heading with a probability of 5/8, so two
+     * successive steps have a correlation of 1/2, which makes its walk spread like one of 1/2 * (1 + 1/2) / (1 - 1/2).
+     *
+     * @param enemy The {@link Enemy}.
+     * @return The per-step variance.
+     */
+    private static double stepVariance(Enemy enemy) {
+        if (enemy instanceof Ogre)
+            return 2.0;
+
+        if (enemy instanceof SnakeMagician)
+            return 1.0;
+
+        if (enemy instanceof Vampire)
+            return 1.5;
+
+        return 0.5;
+    }
+
+    /**
+     * Folds a coordinate back into the range, as if it bounced off the walls.
+     */
+    private static int reflect(int value, int min, int max) {
+        int span = max - min;
+
+        if (span == 0)
+            return min;
+
+        int offset = Math.floorMod(value - min, 2 * span);
+
+        return min + (offset <= span ? offset : 2 * span - offset);
+    }
+}
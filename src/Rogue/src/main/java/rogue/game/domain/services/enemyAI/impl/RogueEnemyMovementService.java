@@ -1,54 +1,54 @@
 package rogue.game.domain.services.enemyAI.impl;
 
 import rogue.game.domain.entities.enemies.*;
+import rogue.game.domain.enums.EnemyType;
 import rogue.game.domain.services.enemyAI.EnemyMovementService;
 import rogue.game.domain.services.enemyAI.impl.enemyMovementStrategy.EnemyMovementStrategy;
 import rogue.game.domain.services.enemyAI.impl.enemyMovementStrategy.impl.*;
-import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.entities.Position;
 
-import java.util.Map;
+import java.util.random.RandomGenerator;
 
 /**
  * This class is responsible for managing the movement of the various {@link Enemy} types in the game.
  *
  * <p> It provides a flexible system that allows you to define unique movement
  * strategies for each {@link Enemy} type.
+ *
+ * <p> The strategies are created once and looked up by the ordinal of the {@link EnemyType}, so a move allocates
+ * nothing to find its strategy.
  */
 public class RogueEnemyMovementService implements EnemyMovementService {
-
-    private final MapService mapService;
-
     /**
-     * Maps enemy classes to their corresponding movement strategies.
+     * Maps the ordinals of the enemy types to their corresponding movement strategies.
      */
-    private final Map<Class<? extends Enemy>, EnemyMovementStrategy> movementStrategies;
-
-    public RogueEnemyMovementService(MapService mapService) {
-        this.mapService = mapService;
-
-        movementStrategies = Map.of(
-                Zombie.class, new BaseEnemyMovementStrategy(mapService),
-                Vampire.class, new VampireMovementStrategy(mapService),
-                SnakeMagician.class, new SnakeMagicianMovementStrategy(mapService),
-                Ogre.class, new OgreMovementStrategy(mapService),
-                Ghost.class, new GhostMovementStrategy(mapService),
-                Mimic.class, new MimicMovementStrategy(mapService)
-        );
+    private final EnemyMovementStrategy[] movementStrategies;
+
+    public RogueEnemyMovementService() {
+        EnemyMovementStrategy baseStrategy = new BaseEnemyMovementStrategy();
+
+        movementStrategies = new EnemyMovementStrategy[EnemyType.values().length];
+
+        movementStrategies[EnemyType.ZOMBIE.ordinal()] = baseStrategy;
+        movementStrategies[EnemyType.VAMPIRE.ordinal()] = new VampireMovementStrategy();
+        movementStrategies[EnemyType.SNAKE_MAGICIAN.ordinal()] = new SnakeMagicianMovementStrategy();
+        movementStrategies[EnemyType.OGRE.ordinal()] = new OgreMovementStrategy();
+        movementStrategies[EnemyType.GHOST.ordinal()] = new GhostMovementStrategy();
+        movementStrategies[EnemyType.MIMIC.ordinal()] = new MimicMovementStrategy();
     }
 
     @Override
-    public Position move(Enemy enemy, Position topLeft, Position bottomRight, Position player) {
-        EnemyMovementStrategy strategy = movementStrategies.getOrDefault(
-                enemy.getClass(),
-                new BaseEnemyMovementStrategy(mapService)
-        );
+    public Position move(ReadOnlyMapService map, Enemy enemy, Position topLeft, Position bottomRight, Position player, RandomGenerator random) {
+        EnemyMovementStrategy strategy = movementStrategies[enemy.getType().ordinal()];
 
         return strategy.move(
+                map,
                 enemy,
                 topLeft,
                 bottomRight,
-                player
+                player,
+                random
         );
     }
 }
@@ -2,6 +2,9 @@ package rogue.game.domain.services.enemyAI.impl.enemyMovementStrategy;
 
 import rogue.game.domain.entities.enemies.Enemy;
 import rogue.game.domain.entities.Position;
+import rogue.game.services.map.ReadOnlyMapService;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Describes the strategy for enemy movement in the game environment.
@@ -13,11 +16,15 @@ public interface EnemyMovementStrategy {
     /**
      * Calculates the new {@link Position} of the {@link Enemy}.
      *
+     * <p> A strategy keeps no state of its own, so a single instance serves every {@link Enemy} of its type.
+     *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param enemy The {@link Enemy} to calculate the new {@link Position} for.
      * @param topLeft The bottom left corner of the play field or movement area.
      * @param bottomRight The top right corner of the play field or area.
      * @param player The player's {@link Position}, which can affect enemy behavior.
+     * @param random The source of every random choice made by the movement.
      * @return The new {@link Position} of the {@link Enemy}.
      */
-    Position move(Enemy enemy, Position topLeft, Position bottomRight, Position player);
+    Position move(ReadOnlyMapService map, Enemy enemy, Position topLeft, Position bottomRight, Position player, RandomGenerator random);
 }
@@ -1,22 +1,20 @@
 package rogue.game.domain.services.enemyAI.impl.enemyMovementStrategy.impl;
 
-import lombok.AllArgsConstructor;
 import rogue.game.common.enums.MapSymbol;
 import rogue.game.domain.entities.enemies.Enemy;
 import rogue.game.domain.enums.Constants;
 import rogue.game.domain.services.enemyAI.impl.enemyMovementStrategy.EnemyMovementStrategy;
-import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.entities.Position;
 
 import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Basic enemy movement strategy.
  *
  * <p> This class provides common functionality for various enemy movement strategies
  */
-@AllArgsConstructor
 public class BaseEnemyMovementStrategy implements EnemyMovementStrategy {
     /**
      * A set of map symbols that represent obstacles or other entities that block the enemy's movement.
@@ -27,9 +25,7 @@ public class BaseEnemyMovementStrategy implements EnemyMovementStrategy {
         MapSymbol.OGRE, MapSymbol.SNAKE_MAGICIAN, MapSymbol.MIMIC
     );
 
-    protected final MapService mapService;
-
-    public Position move(Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition){
+    public Position move(ReadOnlyMapService map, Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition, RandomGenerator random){
         boolean playerInHostilityRange = isPositionInHostilityRange(
             enemy.getPosition(),
             playerPosition,
@@ -37,9 +33,9 @@ public class BaseEnemyMovementStrategy implements EnemyMovementStrategy {
         );
 
         if(playerInHostilityRange)
-            return moveToPosition(enemy.getPosition(), playerPosition);
+            return moveToPosition(map, enemy.getPosition(), playerPosition);
 
-        return moveInRandomDirection(enemy.getPosition());
+        return moveInRandomDirection(map, enemy.getPosition(), random);
     }
 
     /**
@@ -60,11 +56,12 @@ public class BaseEnemyMovementStrategy implements EnemyMovementStrategy {
     /**
      * Moves the enemy towards the specified destination {@link Position}, avoiding obstacles.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param from The current {@link Position} of the enemy.
      * @param destination The destination {@link Position}.
      * @return The new {@link Position} of the {@link Enemy}.
      */
-    protected Position moveToPosition(Position from, Position destination) {
+    protected Position moveToPosition(ReadOnlyMapService map, Position from, Position destination) {
         int dx = destination.x() - from.x();
         int dy = destination.y() - from.y();
 
@@ -74,7 +71,7 @@ public class BaseEnemyMovementStrategy implements EnemyMovementStrategy {
         int x = from.x() + moveX;
         int y = from.y() + moveY;
 
-        MapSymbol sym = mapService.getMapSymbol(x, y);
+        MapSymbol sym = map.getMapSymbol(x, y);
 
         if(BLOCKING_SYMBOLS.contains(sym)) {
             if (moveX != 0) {
@@ -88,7 +85,7 @@ public class BaseEnemyMovementStrategy implements EnemyMovementStrategy {
             x = from.x() + moveX;
             y = from.y() + moveY;
 
-            sym = mapService.getMapSymbol(x, y);
+            sym = map.getMapSymbol(x, y);
 
             if (BLOCKING_SYMBOLS.contains(sym))
                 return from;
@@ -100,10 +97,11 @@ public class BaseEnemyMovementStrategy implements EnemyMovementStrategy {
     /**
      * Moves the {@link Enemy} in a random direction, avoiding obstacles.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param from The current {@link Position} of the {@link Enemy}.
      * @return The new {@link Position} of the {@link Enemy}.
      */
-    protected Position moveInRandomDirection(Position from) {
+    protected Position moveInRandomDirection(ReadOnlyMapService map, Position from, RandomGenerator random) {
         final int curX = from.x();
         final int curY = from.y();
 
@@ -118,12 +116,12 @@ public class BaseEnemyMovementStrategy implements EnemyMovementStrategy {
             if(attempts++ > 4)
                 return from;
 
-            int direction = ThreadLocalRandom.current().nextInt(4);
+            int direction = random.nextInt(4);
 
             newX = curX + Constants.DX.directionsValues.get(direction);
             newY = curY + Constants.DY.directionsValues.get(direction);
 
-            sym = mapService.getMapSymbol(newX, newY);
+            sym = map.getMapSymbol(newX, newY);
         }while (BLOCKING_SYMBOLS.contains(sym));
 
         return Position.of(newX, newY);
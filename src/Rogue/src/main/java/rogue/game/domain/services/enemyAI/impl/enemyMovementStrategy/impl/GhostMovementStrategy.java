@@ -3,22 +3,18 @@ package rogue.game.domain.services.enemyAI.impl.enemyMovementStrategy.impl;
 import rogue.game.common.enums.MapSymbol;
 import rogue.game.domain.entities.enemies.Enemy;
 import rogue.game.domain.entities.enemies.Ghost;
-import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.entities.Position;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class implements a specific movement strategy for {@link Ghost}.
  */
 public class GhostMovementStrategy extends BaseEnemyMovementStrategy {
 
-    public GhostMovementStrategy(MapService mapService) {
-        super(mapService);
-    }
-
     @Override
-    public Position move(Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition) {
+    public Position move(ReadOnlyMapService map, Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition, RandomGenerator random) {
         Ghost ghost = (Ghost) enemy;
         boolean playerInHostilityRange = isPositionInHostilityRange(
             ghost.getPosition(),
@@ -28,22 +24,23 @@ public class GhostMovementStrategy extends BaseEnemyMovementStrategy {
 
         if(playerInHostilityRange){
            ghost.setPlayerPursuit(true);
-            return moveToPosition(ghost.getPosition(), playerPosition);
+            return moveToPosition(map, ghost.getPosition(), playerPosition);
         }
 
-        return (topLeft == Position.NONE && bottomRight == Position.NONE) ? super.moveInRandomDirection(ghost.getPosition())
-                : randomMoveAroundRoom(ghost.getPosition(), topLeft, bottomRight);
+        return (topLeft == Position.NONE && bottomRight == Position.NONE) ? super.moveInRandomDirection(map, ghost.getPosition(), random)
+                : randomMoveAroundRoom(map, ghost.getPosition(), topLeft, bottomRight, random);
     }
 
     /**
      * Moves the {@link Ghost} to a random position within the specified room boundaries.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param from The current {@link Position} of the {@link Ghost}.
      * @param topLeft The top-left corner of the room.
      * @param bottomRight The bottom-right corner of the room.
      * @return The new random {@link Position} of the {@link Ghost}.
      */
-    private Position randomMoveAroundRoom(final Position from, final Position topLeft, final Position bottomRight) {
+    private Position randomMoveAroundRoom(ReadOnlyMapService map, final Position from, final Position topLeft, final Position bottomRight, RandomGenerator random) {
         int tLeftX = topLeft.x();
         int tLeftY = topLeft.y();
         int bRightX = bottomRight.x();
@@ -58,10 +55,10 @@ public class GhostMovementStrategy extends BaseEnemyMovementStrategy {
         MapSymbol sym;
 
         do {
-            newX = ThreadLocalRandom.current().nextInt(bRightX - tLeftX - 1) + 1 + tLeftX;
-            newY = ThreadLocalRandom.current().nextInt(bRightY - tLeftY - 1) + 1 + tLeftY;
+            newX = random.nextInt(bRightX - tLeftX - 1) + 1 + tLeftX;
+            newY = random.nextInt(bRightY - tLeftY - 1) + 1 + tLeftY;
 
-            sym = mapService.getMapSymbol(newX, newY);
+            sym = map.getMapSymbol(newX, newY);
         }while (BLOCKING_SYMBOLS.contains(sym) || sym.equals(MapSymbol.PLAYER) || (newX == cx && newY == cy));
 
         return Position.of(newX, newY);
@@ -5,22 +5,18 @@ import rogue.game.domain.entities.enemies.Enemy;
 import rogue.game.domain.entities.enemies.Mimic;
 import rogue.game.domain.enums.EnemyAttribute;
 import rogue.game.domain.enums.MimicAttribute;
-import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.level.Room;
 import rogue.game.domain.enums.util.MapSymbolUtil;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class implements a specific movement strategy for {@link Mimic}.
  */
 public class MimicMovementStrategy extends BaseEnemyMovementStrategy {
 
-    public MimicMovementStrategy(MapService mapService) {
-        super(mapService);
-    }
-
     /**
      * Determines the next move for the {@link Mimic}.
      *
@@ -37,6 +33,7 @@ public class MimicMovementStrategy extends BaseEnemyMovementStrategy {
      *     its true form and the player is not nearby, it will move randomly. </li>
      * </ul>
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param enemy The {@link Mimic}.
      * @param topLeft The top-left corner of the {@link Room}.
      * @param bottomRight The bottom-right corner of the {@link Room}.
@@ -44,7 +41,7 @@ public class MimicMovementStrategy extends BaseEnemyMovementStrategy {
      * @return The new {@link Position} of the {@link Mimic}.
      */
     @Override
-    public Position move(Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition) {
+    public Position move(ReadOnlyMapService map, Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition, RandomGenerator random) {
         Mimic mimic = (Mimic) enemy;
         boolean playerInHostilityRange = isPositionInHostilityRange(
             mimic.getPosition(),
@@ -62,10 +59,10 @@ public class MimicMovementStrategy extends BaseEnemyMovementStrategy {
                 return mimic.getPosition();
             }
 
-            return super.moveToPosition(mimic.getPosition(), playerPosition);
+            return super.moveToPosition(map, mimic.getPosition(), playerPosition);
         }
 
-        final boolean checkArea = checkArea(mimic, topLeft, bottomRight);
+        final boolean checkArea = checkArea(map, mimic, topLeft, bottomRight);
 
         if (mimic.getAppearance().equals(MapSymbol.MIMIC) && !checkArea) {
             // If the mimic was in mimic form, increase the skip counter
@@ -75,14 +72,14 @@ public class MimicMovementStrategy extends BaseEnemyMovementStrategy {
                     && topLeft != Position.NONE && bottomRight != Position.NONE) {
 
                 // If the player is not visible for a long time, then the mimic changes its appearance
-                mimic.setAppearance(MimicAttribute.APPEARANCES_OF_MIMIC.list.get(ThreadLocalRandom.current()
+                mimic.setAppearance(MimicAttribute.APPEARANCES_OF_MIMIC.list.get(random
                                                                                     .nextInt(0, MimicAttribute.APPEARANCES_OF_MIMIC.list.size())));
                 mimic.setCountTimesPlayerNotVisible(0);
                 mimic.setHostility(EnemyAttribute.LOW_HOSTILITY.value - 1);
             }
         }
 
-        return checkArea ? super.moveInRandomDirection(mimic.getPosition()) : mimic.getPosition();
+        return checkArea ? super.moveInRandomDirection(map, mimic.getPosition(), random) : mimic.getPosition();
     }
 
     /**
@@ -90,12 +87,13 @@ public class MimicMovementStrategy extends BaseEnemyMovementStrategy {
      *
      * <p> This method checks if the {@link Mimic} is near a door or corridor.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param mimic The {@link Mimic}.
      * @param topLeft The top-left corner of the {@link Room}.
      * @param bottomRight The bottom-right corner of the {@link Room}.
      * @return `true` if the Mimic should remain in its current form, `false` otherwise.
      */
-    private boolean checkArea(Mimic mimic, Position topLeft, Position bottomRight) {
+    private boolean checkArea(ReadOnlyMapService map, Mimic mimic, Position topLeft, Position bottomRight) {
         if(topLeft == Position.NONE && bottomRight == Position.NONE)
             return true;
 
@@ -105,7 +103,7 @@ public class MimicMovementStrategy extends BaseEnemyMovementStrategy {
         // Moore neighborhood
         for (int i = -1; i <= 1; i += 1) {
             for (int j = -1; j <= 1; j += 1) {
-                MapSymbol sym = mapService.getMapSymbol(ex + j, ey + i);
+                MapSymbol sym = map.getMapSymbol(ex + j, ey + i);
 
                 if(MapSymbolUtil.isDoor(sym) || sym.equals(MapSymbol.CORRIDOR)) {
                     mimic.setCountTimesPlayerNotVisible(0);
@@ -4,24 +4,18 @@ import rogue.game.common.enums.MapSymbol;
 import rogue.game.domain.entities.enemies.Enemy;
 import rogue.game.domain.entities.enemies.Ogre;
 import rogue.game.domain.enums.Constants;
-import rogue.game.domain.enums.MapAttribute;
-import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.level.Room;
 import rogue.game.domain.enums.util.MapSymbolUtil;
 
-import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class implements a specific movement strategy for {@link Ogre}.
  */
 public class OgreMovementStrategy extends BaseEnemyMovementStrategy {
 
-    public OgreMovementStrategy(MapService mapService) {
-        super(mapService);
-    }
-
     /**
      * Determines the next move for the {@link Ogre} enemy.
      *
@@ -32,6 +26,7 @@ public class OgreMovementStrategy extends BaseEnemyMovementStrategy {
      *
      * <p> Otherwise, it will move randomly in a direction that is not blocked.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param enemy The {@link Ogre} enemy.
      * @param topLeft The top-left corner of the {@link Room}.
      * @param bottomRight The bottom-right corner of the {@link Room}.
@@ -39,7 +34,7 @@ public class OgreMovementStrategy extends BaseEnemyMovementStrategy {
      * @return The new {@link Position} of the {@link Ogre}.
      */
     @Override
-    public Position move(Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition) {
+    public Position move(ReadOnlyMapService map, Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition, RandomGenerator random) {
         Ogre ogre = (Ogre) enemy;
 
         if(ogre.isResting()) {
@@ -54,52 +49,40 @@ public class OgreMovementStrategy extends BaseEnemyMovementStrategy {
         );
 
         if(playerInHostilityRange)
-            return this.moveToPosition(ogre.getPosition(), playerPosition);
+            return this.moveToPosition(map, ogre.getPosition(), playerPosition);
 
-        return this.moveInRandomDirection(ogre.getPosition());
+        return this.moveInRandomDirection(map, ogre.getPosition(), random);
     }
 
     /**
-     * Moves the {@link Ogre} towards the specified destination {@link Position}, using a pathfinding algorithm.
+     * Moves the {@link Ogre} towards the player, following the distance field shared by all chasing enemies.
      *
-     * <p> The {@link Ogre} will attempt to move towards the destination, taking into account obstacles
+     * <p> The {@link Ogre} will attempt to move two steps towards the player, taking into account obstacles
      * and potential doors.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param from The current {@link Position} of the {@link Ogre}.
-     * @param destination The destination {@link Position}.
+     * @param destination The {@link Position} of the player.
      * @return The new {@link Position} of the {@link Ogre}.
      */
     @Override
-    protected Position moveToPosition(Position from, Position destination) {
-        List<Position> path = mapService.findPathByBFS(from, destination, BLOCKING_SYMBOLS);
-
-        Position pos = from;
+    protected Position moveToPosition(ReadOnlyMapService map, Position from, Position destination) {
+        Position pos = map.nextStepTowardsPlayer(from, destination, BLOCKING_SYMBOLS);
 
-        if (!path.isEmpty()) {
-            final int size = path.size();
-            pos = path.get(size > 1 ? 1 : 0);
+        if (pos.equals(from) || pos.equals(destination))
+            return pos;
 
-            MapSymbol sym = mapService.getMapSymbol(pos.x(), pos.y());
+        MapSymbol sym = map.getMapSymbol(pos.x(), pos.y());
 
-            if(MapSymbolUtil.isDoor(sym))
-                return pos;
+        if(MapSymbolUtil.isDoor(sym))
+            return pos;
 
-            if (size > 2){
-                Position p1 = path.get(1);
+        Position next = map.nextStepTowardsPlayer(pos, destination, BLOCKING_SYMBOLS);
 
-                sym = mapService.getMapSymbol(p1.x(), p1.y());
-
-                if(MapSymbolUtil.isDoor(sym))
-                    return p1;
+        sym = map.getMapSymbol(next.x(), next.y());
 
-                Position p2 = path.get(2);
-
-                sym = mapService.getMapSymbol(p2.x(), p2.y());
-
-                if(!BLOCKING_SYMBOLS.contains(sym) && sym != MapSymbol.PLAYER)
-                    pos = p2;
-            }
-        }
+        if(!next.equals(pos) && !BLOCKING_SYMBOLS.contains(sym) && sym != MapSymbol.PLAYER)
+            pos = next;
 
         return pos;
     }
@@ -108,11 +91,12 @@ public class OgreMovementStrategy extends BaseEnemyMovementStrategy {
      * Moves the {@link Ogre} in a random direction, avoiding obstacles and potentially taking
      * multiple steps in a single move.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param from The current {@link Position} of the {@link Ogre}.
      * @return The new {@link Position} of the {@link Ogre}.
      */
     @Override
-    protected Position moveInRandomDirection(Position from) {
+    protected Position moveInRandomDirection(ReadOnlyMapService map, Position from, RandomGenerator random) {
         final int curX = from.x();
         final int curY = from.y();
 
@@ -127,7 +111,7 @@ public class OgreMovementStrategy extends BaseEnemyMovementStrategy {
             if (attempts++ > 4)
                 return from;
 
-            int direction = ThreadLocalRandom.current().nextInt(4);
+            int direction = random.nextInt(4);
 
             newX = curX;
             newY = curY;
@@ -138,12 +122,12 @@ public class OgreMovementStrategy extends BaseEnemyMovementStrategy {
                 newX += Constants.DX.directionsValues.get(direction);
                 newY += Constants.DY.directionsValues.get(direction);
 
-                if(newX < 0 || newY < 0 || newY >= MapAttribute.HEIGHT.value || newX >= MapAttribute.WIDTH.value) {
+                if(newX < 0 || newY < 0 || newY >= map.getMapInfo().getHeight() || newX >= map.getMapInfo().getWidth()) {
                     doubleMove = false;
                     break;
                 }
 
-                sym = mapService.getMapSymbol(newX, newY);
+                sym = map.getMapSymbol(newX, newY);
 
                 if(MapSymbolUtil.isDoor(sym))
                     return Position.of(newX, newY);
@@ -158,7 +142,7 @@ public class OgreMovementStrategy extends BaseEnemyMovementStrategy {
             newX = curX + Constants.DX.directionsValues.get(direction);
             newY = curY + Constants.DY.directionsValues.get(direction);
 
-            sym = mapService.getMapSymbol(newX, newY);
+            sym = map.getMapSymbol(newX, newY);
         } while (BLOCKING_SYMBOLS.contains(sym) || sym.equals(MapSymbol.PLAYER));
 
         return Position.of(newX, newY);
@@ -4,24 +4,19 @@ import rogue.game.common.enums.MapSymbol;
 import rogue.game.domain.entities.enemies.Enemy;
 import rogue.game.domain.entities.enemies.SnakeMagician;
 import rogue.game.domain.enums.Constants;
-import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.entities.Position;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class implements a specific movement strategy for {@link SnakeMagician} enemies.
  */
 public class SnakeMagicianMovementStrategy extends BaseEnemyMovementStrategy{
 
-    public SnakeMagicianMovementStrategy(MapService mapService) {
-        super(mapService);
-    }
-
     @Override
-    public Position move(Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition) {
+    public Position move(ReadOnlyMapService map, Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition, RandomGenerator random) {
         SnakeMagician snakeMagician = (SnakeMagician) enemy;
 
         final boolean inRoom = (topLeft != Position.NONE && bottomRight != Position.NONE);
@@ -33,12 +28,12 @@ public class SnakeMagicianMovementStrategy extends BaseEnemyMovementStrategy{
         );
 
         if(playerInHostilityRange)
-            return this.moveToPosition(inRoom, snakeMagician.getPosition(), playerPosition);
+            return this.moveToPosition(map, inRoom, snakeMagician.getPosition(), playerPosition, random);
 
         if(inRoom)
-            return this.moveInRandomDirection(snakeMagician.getPosition());
+            return this.moveInRandomDirection(map, snakeMagician.getPosition(), random);
         else
-            return super.moveInRandomDirection(snakeMagician.getPosition());
+            return super.moveInRandomDirection(map, snakeMagician.getPosition(), random);
     }
 
     /**
@@ -47,20 +42,18 @@ public class SnakeMagicianMovementStrategy extends BaseEnemyMovementStrategy{
      *
      * <p> The {@link SnakeMagician} will try to move diagonally towards the destination if possible.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param inRoom Indicates whether the {@link SnakeMagician} is currently in a room.
      * @param from The current {@link Position} of the {@link SnakeMagician}.
      * @param destination The destination {@link Position}.
      * @return The new {@link Position} of the {@link SnakeMagician}.
      */
-    private Position moveToPosition(final boolean inRoom, Position from, Position destination) {
-        List<Position> path = mapService.findPathByBFS(from, destination, BLOCKING_SYMBOLS);
-
-        Position pos = from;
+    private Position moveToPosition(ReadOnlyMapService map, final boolean inRoom, Position from, Position destination, RandomGenerator random) {
+        Position pos = map.nextStepTowardsPlayer(from, destination, BLOCKING_SYMBOLS);
 
-        if (path.size() > 1) {
-            pos = path.get(1);
+        if (!pos.equals(from)) {
 
-            MapSymbol sym = mapService.getMapSymbol(pos.x(), pos.y());
+            MapSymbol sym = map.getMapSymbol(pos.x(), pos.y());
 
             if(inRoom && sym != MapSymbol.CORRIDOR && sym != MapSymbol.PLAYER) {
                 int dx = pos.x() - from.x();
@@ -79,12 +72,12 @@ public class SnakeMagicianMovementStrategy extends BaseEnemyMovementStrategy{
                     int y ;
 
                     if(distanceToNewY == distanceToNewY2){
-                        y = ThreadLocalRandom.current().nextBoolean() ? newY : newY2;
+                        y = random.nextBoolean() ? newY : newY2;
                     }else {
                         y = distanceToNewY < distanceToNewY2 ? newY : newY2;
                     }
 
-                    sym = mapService.getMapSymbol(newX, y);
+                    sym = map.getMapSymbol(newX, y);
 
                     if (!BLOCKING_SYMBOLS.contains(sym)) {
                         pos = Position.of(newX, y);
@@ -101,11 +94,11 @@ public class SnakeMagicianMovementStrategy extends BaseEnemyMovementStrategy{
                     int x;
 
                     if(distanceToNewX == distanceToNewX2)
-                        x = ThreadLocalRandom.current().nextBoolean() ? newX : newX2;
+                        x = random.nextBoolean() ? newX : newX2;
                     else
                         x = distanceToNewX < distanceToNewX2 ? newX : newX2;
 
-                    sym = mapService.getMapSymbol(x, newY);
+                    sym = map.getMapSymbol(x, newY);
 
                     if (!BLOCKING_SYMBOLS.contains(sym))
                         pos = Position.of(x, newY);
@@ -126,11 +119,11 @@ public class SnakeMagicianMovementStrategy extends BaseEnemyMovementStrategy{
      * @return An optional {@link Position } of the random adjacent corridor, or `Optional.empty()`
      *         if no suitable corridor is found.
      */
-    private Optional<Position> findRandomAdjacentCorridor(MapService map, final Position from) {
+    private Optional<Position> findRandomAdjacentCorridor(ReadOnlyMapService map, final Position from, RandomGenerator random) {
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
                 if (map.getMapSymbol(from.x() + i, from.y() + j).equals(MapSymbol.CORRIDOR)) {
-                    if(ThreadLocalRandom.current().nextBoolean())
+                    if(random.nextBoolean())
                         return Optional.of(Position.of(from.x() + i, from.y() + j));
                 }
             }
@@ -144,12 +137,13 @@ public class SnakeMagicianMovementStrategy extends BaseEnemyMovementStrategy{
      *
      * <p> If no diagonal move is possible, a standard cardinal direction will be chosen.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param from The current {@link Position} of the {@link SnakeMagician}.
      * @return The new {@link Position} of the {@link SnakeMagician}.
      */
     @Override
-    protected Position moveInRandomDirection(Position from) {
-        Optional<Position> randomCorridor = findRandomAdjacentCorridor(mapService, from);
+    protected Position moveInRandomDirection(ReadOnlyMapService map, Position from, RandomGenerator random) {
+        Optional<Position> randomCorridor = findRandomAdjacentCorridor(map, from, random);
         if(randomCorridor.isPresent())
             return randomCorridor.get();
 
@@ -168,12 +162,12 @@ public class SnakeMagicianMovementStrategy extends BaseEnemyMovementStrategy{
             if(attempts++ > maxAttempts)
                 return from;
 
-            int direction = ThreadLocalRandom.current().nextInt(4);
+            int direction = random.nextInt(4);
 
             newX = curX + Constants.DIAGONAL_X.directionsValues.get(direction);
             newY = curY + Constants.DIAGONAL_Y.directionsValues.get(direction);
 
-            sym = mapService.getMapSymbol(newX, newY);
+            sym = map.getMapSymbol(newX, newY);
 
         }while (BLOCKING_SYMBOLS.contains(sym));
 
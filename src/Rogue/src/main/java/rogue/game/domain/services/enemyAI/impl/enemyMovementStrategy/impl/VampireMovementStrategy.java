@@ -4,21 +4,17 @@ import rogue.game.common.enums.MapSymbol;
 import rogue.game.domain.entities.enemies.Enemy;
 import rogue.game.domain.entities.enemies.Vampire;
 import rogue.game.domain.enums.Constants;
-import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.level.Room;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class implements a specific movement strategy for {@link Vampire}.
  */
 public class VampireMovementStrategy extends BaseEnemyMovementStrategy {
 
-    public VampireMovementStrategy(MapService mapService) {
-        super(mapService);
-    }
-
     /**
      * Determines the next move for the {@link Vampire} enemy.
      *
@@ -28,6 +24,7 @@ public class VampireMovementStrategy extends BaseEnemyMovementStrategy {
      * current direction for a few moves, simulating a more deliberate and focused
      * movement pattern.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param enemy The {@link Vampire} enemy.
      * @param topLeft The top-left corner of the {@link Room}.
      * @param bottomRight The bottom-right corner of the {@link Room}.
@@ -35,7 +32,7 @@ public class VampireMovementStrategy extends BaseEnemyMovementStrategy {
      * @return The new {@link Position} of the {@link Vampire}.
      */
     @Override
-    public Position move(Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition) {
+    public Position move(ReadOnlyMapService map, Enemy enemy, Position topLeft, Position bottomRight, Position playerPosition, RandomGenerator random) {
         Vampire vampire = (Vampire) enemy;
 
         boolean playerInHostilityRange = isPositionInHostilityRange(
@@ -45,21 +42,22 @@ public class VampireMovementStrategy extends BaseEnemyMovementStrategy {
         );
 
         if(playerInHostilityRange)
-            return moveToPosition(vampire.getPosition(), playerPosition);
+            return moveToPosition(map, vampire.getPosition(), playerPosition);
 
         vampire.setFirstDodge(true);
 
-        return this.moveInRandomDirection(vampire);
+        return this.moveInRandomDirection(map, vampire, random);
     }
 
     /**
      * Moves the {@link Vampire} in a random direction, but with a tendency to maintain its
      * current direction for a few moves.
      *
+     * @param map The {@link ReadOnlyMapService} the move is planned on.
      * @param vampire The {@link Vampire} enemy.
      * @return The new {@link Position} of the {@link Vampire}.
      */
-    private Position moveInRandomDirection(Vampire vampire) {
+    private Position moveInRandomDirection(ReadOnlyMapService map, Vampire vampire, RandomGenerator random) {
         Position from = vampire.getPosition();
         final int curX = from.x();
         final int curY = from.y();
@@ -75,13 +73,13 @@ public class VampireMovementStrategy extends BaseEnemyMovementStrategy {
             if(attempts++ > 4)
                 return from;
 
-            if( ThreadLocalRandom.current().nextDouble() < 0.5)
-                vampire.setDirection(ThreadLocalRandom.current().nextInt(Constants.DX.directionsValues.size()));
+            if( random.nextDouble() < 0.5)
+                vampire.setDirection(random.nextInt(Constants.DX.directionsValues.size()));
 
             newX = curX + Constants.DX.directionsValues.get(vampire.getDirection());
             newY = curY + Constants.DY.directionsValues.get(vampire.getDirection());
 
-            sym = super.mapService.getMapSymbol(newX, newY);
+            sym = map.getMapSymbol(newX, newY);
         }while (BLOCKING_SYMBOLS.contains(sym));
 
         return Position.of(newX, newY);
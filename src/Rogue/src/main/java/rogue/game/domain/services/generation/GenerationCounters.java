@@ -0,0 +1,70 @@
+package rogue.game.domain.services.generation;
+
+import rogue.game.domain.entities.level.Level;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the generated {@link Level} and the attempts each generation stage took.
+ *
+ * <p> The counters can be updated from several threads at once, e.g. by a level built in the background.
+ */
+public class GenerationCounters {
+    private final LongAdder levels = new LongAdder();
+    private final LongAdder geometryAttempts = new LongAdder();
+    private final LongAdder keysAttempts = new LongAdder();
+
+    public void addLevel() {
+        levels.increment();
+    }
+
+    public void addGeometryAttempt() {
+        geometryAttempts.increment();
+    }
+
+    public void addKeysAttempt() {
+        keysAttempts.increment();
+    }
+
+    /**
+     * Adds the counts of other counters to these ones.
+     *
+     * @param other The counters to add.
+     */
+    public void add(GenerationCounters other) {
+        levels.add(other.getLevels());
+        geometryAttempts.add(other.getGeometryAttempts());
+        keysAttempts.add(other.getKeysAttempts());
+    }
+
+    public long getLevels() {
+        return levels.sum();
+    }
+
+    public long getGeometryAttempts() {
+        return geometryAttempts.sum();
+    }
+
+    public long getKeysAttempts() {
+        return keysAttempts.sum();
+    }
+
+    /**
+     * Gets the average number of attempts a stage took per level.
+     *
+     * @param attempts The number of attempts of the stage.
+     * @return The attempts per level, or 0 if no level was generated.
+     */
+    public double perLevel(long attempts) {
+        long count = getLevels();
+
+        return count == 0 ? 0 : (double) attempts / count;
+    }
+
+    @Override
+    public String toString() {
+        return "levels=" + getLevels()
+                + " geometryAttemptsPerLevel=" + perLevel(getGeometryAttempts())
+                + " keysAttemptsPerLevel=" + perLevel(getKeysAttempts());
+    }
+}
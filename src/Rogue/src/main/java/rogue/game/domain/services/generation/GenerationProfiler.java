@@ -0,0 +1,148 @@
+package rogue.game.domain.services.generation;
+
+import rogue.game.common.metrics.Histogram;
+import rogue.game.domain.enums.GenerationStage;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records how long each {@link GenerationStage} of a level takes and how many attempts it needs.
+ *
+ * <p> The durations and attempts go into lock-free histograms, so the stages can be recorded from the game thread
+ * and from the levels built in the background at once. Each stage is also emitted as a {@link GenerationStageEvent}
+ * while a JFR recording enables it.
+ *
+ * <p> The histograms are only filled when the game runs with {@code -Drogue.generation.profile=true}. Otherwise, and
+ * without a JFR recording, {@link #start()} and {@link #stop} do nothing but a couple of checks.
+ */
+public class GenerationProfiler {
+    public static final boolean ENABLED = Boolean.getBoolean("rogue.generation.profile");
+
+    /**
+     * Returned by {@link #start()} when nothing is recorded.
+     */
+    private static final long NOT_RECORDING = Long.MIN_VALUE;
+
+    private final Map<GenerationStage, Histogram> durations = new EnumMap<>(GenerationStage.class);
+    private final Map<GenerationStage, Histogram> attempts = new EnumMap<>(GenerationStage.class);
+
+    public GenerationProfiler() {
+        for (GenerationStage stage : GenerationStage.values()) {
+            durations.put(stage, new Histogram());
+            attempts.put(stage, new Histogram());
+        }
+    }
+
+    /**
+     * Starts timing a stage.
+     *
+     * @return The start time to pass to {@link #stop}.
+     */
+    public long start() {
+        return ENABLED || GenerationStageEvent.EVENT_TYPE.isEnabled() ? System.nanoTime() : NOT_RECORDING;
+    }
+
+    /**
+     * Ends timing a stage, which took a single attempt.
+     *
+     * @param stage The {@link GenerationStage}.
+     * @param levelNumber The number of the generated level.
+     * @param start The value returned by {@link #start()}.
+     */
+    public void stop(GenerationStage stage, int levelNumber, long start) {
+        stop(stage, levelNumber, start, 1);
+    }
+
+    /**
+     * Ends timing a stage.
+     *
+     * @param stage The {@link GenerationStage}.
+     * @param levelNumber The number of the generated level.
+     * @param start The value returned by {@link #start()}.
+     * @param attemptCount The number of attempts the stage took.
+     */
+    public void stop(GenerationStage stage, int levelNumber, long start, long attemptCount) {
+        if (start == NOT_RECORDING)
+            return;
+
+        long duration = System.nanoTime() - start;
+
+        if (ENABLED) {
+            durations.get(stage).record(duration);
+            attempts.get(stage).record(attemptCount);
+        }
+
+        GenerationStageEvent event = new GenerationStageEvent();
+
+        if (event.shouldCommit()) {
+            event.stage = stage.name();
+            event.levelNumber = levelNumber;
+            event.attempts = (int) attemptCount;
+            event.stageDuration = duration;
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the durations of a stage.
+     *
+     * @param stage The {@link GenerationStage}.
+     * @return The {@link Histogram} of the durations, in nanoseconds.
+     */
+    public Histogram getDurations(GenerationStage stage) {
+        return durations.get(stage);
+    }
+
+    /**
+     * Gets the attempts of a stage.
+     *
+     * @param stage The {@link GenerationStage}.
+     * @return The {@link Histogram} of the attempts per generated level.
+     */
+    public Histogram getAttempts(GenerationStage stage) {
+        return attempts.get(stage);
+    }
+
+    /**
+     * Adds the recordings of another profiler to this one.
+     *
+     * @param other The profiler to add.
+     */
+    public void add(GenerationProfiler other) {
+        for (GenerationStage stage : GenerationStage.values()) {
+            durations.get(stage).add(other.durations.get(stage));
+            attempts.get(stage).add(other.attempts.get(stage));
+        }
+    }
+
+    /**
+     * Gets one line per recorded stage, e.g. to show them on screen or to print them.
+     *
+     * @return The lines, empty if nothing was recorded.
+     */
+    public List<String> getSummary() {
+        List<String> lines = new ArrayList<>();
+
+        for (GenerationStage stage : GenerationStage.values()) {
+            Histogram times = durations.get(stage);
+
+            if (times.getCount() == 0)
+                continue;
+
+            lines.add(String.format("%-8s n=%d p50=%.1fus p99=%.1fus max=%.1fus attempts/level=%.2f (max %d)",
+                    stage, times.getCount(),
+                    times.getPercentile(50) / 1e3, times.getPercentile(99) / 1e3, times.getMax() / 1e3,
+                    attempts.get(stage).getMean(), attempts.get(stage).getMax()));
+        }
+
+        return lines;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(System.lineSeparator(), getSummary());
+    }
+}
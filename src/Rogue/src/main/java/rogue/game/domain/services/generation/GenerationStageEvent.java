@@ -0,0 +1,38 @@
+package rogue.game.domain.services.generation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import rogue.game.domain.enums.GenerationStage;
+
+/**
+ * JFR event emitted when a {@link GenerationStage} of a level ends.
+ *
+ * <p> The event is only committed while a recording enables it, e.g. with
+ * {@code -XX:StartFlightRecording:settings=profile}.
+ */
+@Name("rogue.GenerationStage")
+@Label("Level Generation Stage")
+@Category({"Rogue", "Generation"})
+@Description("A stage of the generation of a level")
+@StackTrace(false)
+class GenerationStageEvent extends jdk.jfr.Event {
+    static final EventType EVENT_TYPE = EventType.getEventType(GenerationStageEvent.class);
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Level Number")
+    int levelNumber;
+
+    @Label("Attempts")
+    int attempts;
+
+    @Label("Stage Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long stageDuration;
+}
@@ -4,15 +4,23 @@ import rogue.game.domain.entities.GameEntity;
 import rogue.game.domain.entities.Portal;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.level.Room;
-import rogue.game.domain.enums.LevelAttribute;
 import rogue.game.domain.services.balance.LevelEntitiesBalancer;
 import rogue.game.domain.services.generation.level.entitiesGeneration.LevelEntitiesGenService;
 import rogue.game.domain.services.generation.utill.GenerationUtil;
 import rogue.game.domain.services.level.LevelService;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class RogueLevelEntitiesGenService implements LevelEntitiesGenService {
+    private final RandomGenerator random;
+
+    /**
+     * @param random The source of the random choices of the generation.
+     */
+    public RogueLevelEntitiesGenService(RandomGenerator random) {
+        this.random = random;
+    }
+
     @Override
     public int generateEntities(LevelService levelService, GameEntity player, int coefficient, LevelEntitiesBalancer balanceService) {
         int playerRoomIndex = generatePlayer(levelService, player);
@@ -30,11 +38,11 @@ public class RogueLevelEntitiesGenService implements LevelEntitiesGenService {
      * @return The index of the {@link Room} where the player is placed.
      */
     private int generatePlayer(LevelService levelService, GameEntity player){
-        int currentRoomIndex = ThreadLocalRandom.current().nextInt(LevelAttribute.ROOMS_NUMBER.value);
+        int currentRoomIndex = random.nextInt(levelService.getDimensions().roomsNumber());
 
         Room spawnRoom = levelService.getRoom(currentRoomIndex);
 
-        player.setPosition(GenerationUtil.generateEntityRandomCoordinates(spawnRoom));
+        player.setPosition(GenerationUtil.generateEntityRandomCoordinates(spawnRoom, random));
 
         spawnRoom.addEntity(player);
 
@@ -44,18 +52,20 @@ public class RogueLevelEntitiesGenService implements LevelEntitiesGenService {
     /**
      * Generates a {@link Portal} to the next level in a random room, ensuring it's not the same as the player's starting room.
      *
+     * <p> The room is drawn among the other rooms directly, so a single draw is always enough.
+     *
      * @param levelService The {@link LevelService}.
      * @param currentRoomIndex The index of the player's starting room.
      */
     private void generatePortal(LevelService levelService, final int currentRoomIndex){
-        int index;
-        do{
-            index = ThreadLocalRandom.current().nextInt(LevelAttribute.ROOMS_NUMBER.value);
-        }while(index == currentRoomIndex);
+        int index = random.nextInt(levelService.getDimensions().roomsNumber() - 1);
+
+        if (index >= currentRoomIndex)
+            index++;
 
         Room r = levelService.getRoom(index);
 
-        GameEntity portal = new Portal(GenerationUtil.generateEntityRandomCoordinates(r));
+        GameEntity portal = new Portal(GenerationUtil.generateEntityRandomCoordinates(r, random));
 
         r.addEntity(portal);
     }
@@ -68,13 +78,13 @@ public class RogueLevelEntitiesGenService implements LevelEntitiesGenService {
      * @param balanceService The {@link LevelEntitiesBalancer}.
      */
     private void generateItems(LevelService levelService, final int complexityFactor, LevelEntitiesBalancer balanceService) {
-        for (int i = 0; i < LevelAttribute.ROOMS_NUMBER.value; i++) {
+        for (int i = 0; i < levelService.getDimensions().roomsNumber(); i++) {
             Room r = levelService.getRoom(i);
 
-            int numberOfItems = balanceService.getCountOfItems(complexityFactor);
+            int numberOfItems = balanceService.getCountOfItems(complexityFactor, random);
 
             for (int j = 0; j < numberOfItems; j++)
-                r.addEntity(balanceService.spawnItem(complexityFactor, GenerationUtil.generateEntityRandomCoordinates(r)));
+                r.addEntity(balanceService.spawnItem(complexityFactor, GenerationUtil.generateEntityRandomCoordinates(r, random), random));
         }
     }
 
@@ -87,16 +97,16 @@ public class RogueLevelEntitiesGenService implements LevelEntitiesGenService {
      * @param balanceService The {@link LevelEntitiesBalancer}.
      */
     private void generateEnemies(LevelService levelService, int exceptionRoomIndex, int complexityFactor, LevelEntitiesBalancer balanceService) {
-        for (int i = 0; i < LevelAttribute.ROOMS_NUMBER.value; i++) {
+        for (int i = 0; i < levelService.getDimensions().roomsNumber(); i++) {
             if(i == exceptionRoomIndex)
                 continue;
 
             Room r = levelService.getRoom(i);
 
-            final int numberOfEnemies = balanceService.getCountOfEnemies(complexityFactor);
+            final int numberOfEnemies = balanceService.getCountOfEnemies(complexityFactor, random);
 
             for (int j = 0; j < numberOfEnemies; j++)
-                levelService.addEnemy(balanceService.spawnEnemy(complexityFactor, GenerationUtil.generateEntityRandomCoordinates(r)));
+                levelService.addEnemy(balanceService.spawnEnemy(complexityFactor, GenerationUtil.generateEntityRandomCoordinates(r, random), random));
         }
     }
 }
@@ -1,39 +1,57 @@
 package rogue.game.domain.services.generation.level.keysGeneration.impl;
 
 import rogue.game.common.enums.MapColor;
-import rogue.game.domain.entities.GameEntity;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.items.Key;
 import rogue.game.domain.entities.level.Door;
 import rogue.game.domain.entities.level.Level;
 import rogue.game.domain.entities.level.Room;
 import rogue.game.domain.enums.Direction;
-import rogue.game.domain.enums.KeyRegenerationMode;
-import rogue.game.domain.enums.LevelAttribute;
 import rogue.game.domain.enums.util.DirectionUtil;
 import rogue.game.domain.factories.ItemBuilderFactory;
+import rogue.game.domain.services.generation.GenerationCounters;
 import rogue.game.domain.services.generation.level.keysGeneration.LevelKeysGenService;
 import rogue.game.domain.services.generation.utill.GenerationUtil;
 import rogue.game.domain.services.level.LevelService;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Stream;
+import java.util.random.RandomGenerator;
 
 import static rogue.game.domain.enums.LevelAttribute.NUMBER_OF_KEYS_PER_LEVEL;
 
+/**
+ * Generates colored doors and their {@link Key} in a single pass.
+ *
+ * <p> Doors are locked at random, except the doors of the starting {@link Room}, so the player can always reach
+ * another room. The keys are then placed one color after another, each in a room reachable from the start with the
+ * keys placed before it, which makes every level solvable by construction.
+ */
 public class RogueLevelKeysGenService implements LevelKeysGenService {
+    private static final List<MapColor> COLORS = List.of(
+            MapColor.WHITE, MapColor.BLUE,
+            MapColor.MAGENTA, MapColor.CYAN,
+            MapColor.GREEN, MapColor.RED
+    );
+
+    private final RandomGenerator random;
+    private final GenerationCounters counters;
+
+    /**
+     * @param random The source of the random choices of the generation.
+     * @param counters The counters of the generation attempts.
+     */
+    public RogueLevelKeysGenService(RandomGenerator random, GenerationCounters counters) {
+        this.random = random;
+        this.counters = counters;
+    }
+
     @Override
     public void generateKeys(LevelService levelService, int startRoomIndex) {
-        KeyRegenerationMode generationResult;
+        List<MapColor> addedColors = generateColoredDoors(levelService, startRoomIndex);
 
-        do {
-            generationResult = generationColoredDoorsWithKeys(levelService, startRoomIndex);
+        generateKeys(levelService, addedColors, startRoomIndex);
 
-            if(generationResult == KeyRegenerationMode.REGENERATION)
-                removeDoorsWithKeys(levelService);
-
-        }while (generationResult == KeyRegenerationMode.REGENERATION || !checkLevelConnectivity(levelService, startRoomIndex));
+        counters.addKeysAttempt();
     }
 
     /**
@@ -43,7 +61,7 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
      * @param color The {@link MapColor} of the {@link Key}.
      */
     private void generateKeyInRoom(final Room room, final MapColor color) {
-        Position p = GenerationUtil.generateEntityRandomCoordinates(room);
+        Position p = GenerationUtil.generateEntityRandomCoordinates(room, random);
 
         room.addEntity(
                 ItemBuilderFactory.createKeyBuilder()
@@ -54,45 +72,27 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
     }
 
     /**
-     * Generates colored doors and corresponding keys, ensuring level connectivity.
-     *
-     * <p> This method creates a connected network of rooms with colored doors and their keys.
+     * Picks the colors of the level and locks doors with them.
      *
      * @param levelService The {@link LevelService} for interacting with the {@link Level} data.
      * @param startRoomIndex The index of the starting room for the player.
-     * @return The {@link KeyRegenerationMode} indicating if keys need to be regenerated
-     *         due to potential connectivity issues.
+     * @return The colors used for the doors, in the order they were first used.
      */
-    private KeyRegenerationMode generationColoredDoorsWithKeys(LevelService levelService, final int startRoomIndex) {
+    private List<MapColor> generateColoredDoors(LevelService levelService, final int startRoomIndex) {
         Room r = levelService.getRoom(startRoomIndex);
 
-        List<MapColor> colors = Stream.of(
-                MapColor.WHITE, MapColor.BLUE,
-                MapColor.MAGENTA, MapColor.CYAN,
-                MapColor.GREEN, MapColor.RED
-        ).toList();
+        List<MapColor> colors = new ArrayList<>(COLORS);
+        Collections.shuffle(colors, random);
 
-        List<Room> visited = new ArrayList<>();
-        visited.add(r);
+        List<MapColor> currentColors = colors.subList(0, NUMBER_OF_KEYS_PER_LEVEL.value);
+
+        boolean[] visited = new boolean[levelService.getDimensions().roomsNumber()];
+        visited[r.getSector()] = true;
 
         Deque<Room> queue = new ArrayDeque<>();
         queue.add(r);
 
         List<MapColor> addedColors = new ArrayList<>();
-        List<MapColor> currentColors = new ArrayList<>();
-
-        for (int i = 0; i < NUMBER_OF_KEYS_PER_LEVEL.value; i++) {
-            int randomIndex = ThreadLocalRandom.current().nextInt(colors.size());
-
-            MapColor color = colors.get(randomIndex);
-
-            if(currentColors.contains(color)) {
-                i--;
-                continue;
-            }
-
-            currentColors.add(color);
-        }
 
         while (!queue.isEmpty()) {
             Room currentRoom = queue.poll();
@@ -100,18 +100,20 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
             generateColoredDoor(currentRoom, currentColors, addedColors, startRoomIndex);
 
             for (Room neighbor : GenerationUtil.getRoommatesByConnections(currentRoom)) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
+                if (!visited[neighbor.getSector()]) {
+                    visited[neighbor.getSector()] = true;
                     queue.add(neighbor);
                 }
             }
         }
 
-        return generateKeys(levelService, addedColors, startRoomIndex);
+        return addedColors;
     }
 
     /**
-     * Generates doors for the given {@link Room}, considering the available colors and connectivity.
+     * Generates doors for the given {@link Room}, considering the available colors.
+     *
+     * <p> The doors leading to the starting {@link Room} are never locked.
      *
      * @param room The current {@link Room}.
      * @param currentColors A list of available colors for doors in the current {@link Level}.
@@ -122,19 +124,24 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
         final double doorProbability = 0.6;
 
         for (Direction d : Direction.values()) {
-            if(ThreadLocalRandom.current().nextDouble() < doorProbability)
+            if(random.nextDouble() < doorProbability)
                 continue;
 
             if(room.getSector() == startRoomIndex)
                 continue;
 
-            Optional<Door> optionalDoor = room.getDoorByDirection(d);;
+            Optional<Room> connectingRoom = room.getConnectionRoom(d);
+
+            if(connectingRoom.isPresent() && connectingRoom.get().getSector() == startRoomIndex)
+                continue;
+
+            Optional<Door> optionalDoor = room.getDoorByDirection(d);
 
             if (optionalDoor.isPresent() && optionalDoor.get().isOpen()) {
                 Door door = optionalDoor.get();
                 MapColor doorColor;
 
-                doorColor = currentColors.get(ThreadLocalRandom.current().nextInt(currentColors.size()));
+                doorColor = currentColors.get(random.nextInt(currentColors.size()));
 
                 if(!addedColors.contains(doorColor))
                     addedColors.add(doorColor);
@@ -142,7 +149,6 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
                 door.setColor(doorColor);
                 door.close();
 
-                Optional<Room> connectingRoom = room.getConnectionRoom(d);
                 connectingRoom.flatMap(cRoom -> cRoom.getDoorByDirection(DirectionUtil.getOpposite(d))).ifPresent((a) -> {
                     a.setColor(doorColor);
                     a.close();
@@ -154,37 +160,34 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
     /**
      * Generates keys for the {@link Level} based on the used door colors.
      *
-     * <p> This method performs a Breadth-First Search (BFS) to ensure that all rooms
-     * with colored doors can be reached from the starting {@link Room}.
-     *
-     * <p> It checks for potential disconnections and regenerates the {@link Level} if necessary.
+     * <p> The key of each color is placed in a room reachable from the starting {@link Room} through the open doors
+     * and the doors of the colors placed before it, found with a Breadth-First Search (BFS). Following the colors in
+     * that order opens every door.
      *
      * @param levelService The {@link LevelService}.
      * @param addedColors A list of colors used for the doors.
      * @param startRoomIndex The index of the starting room.
-     * @return A {@link KeyRegenerationMode} indicating whether key generation needs to be repeated.
      */
-    private KeyRegenerationMode generateKeys(LevelService levelService, final List<MapColor> addedColors, final int startRoomIndex) {
+    private void generateKeys(LevelService levelService, final List<MapColor> addedColors, final int startRoomIndex) {
         Room startRoom = levelService.getRoom(startRoomIndex);
 
         List<Room> visited = new ArrayList<>();
+        boolean[] reached = new boolean[levelService.getDimensions().roomsNumber()];
         Deque<Room> queue = new ArrayDeque<>();
 
-        List<Direction> doorDirections = List.of(Direction.values());
-
-        Set<MapColor> foundKeys = new HashSet<>();
+        Set<MapColor> foundKeys = EnumSet.noneOf(MapColor.class);
 
         for (MapColor color : addedColors) {
             visited.clear();
+            Arrays.fill(reached, false);
             visited.add(startRoom);
+            reached[startRoom.getSector()] = true;
             queue.add(startRoom);
 
             while (!queue.isEmpty()) {
                 Room currentRoom = queue.poll();
 
-                List<Room> roommates = new ArrayList<>();
-
-                for (Direction d : doorDirections) {
+                for (Direction d : Direction.values()) {
                     Optional<Room> connectingRoom = currentRoom.getConnectionRoom(d);
                     Optional<Door> optionalDoor = currentRoom.getDoorByDirection(d);
 
@@ -192,26 +195,20 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
                         continue;
 
                     Door door = optionalDoor.get();
+                    Room neighbor = connectingRoom.get();
 
-                    if(door.isOpen() || foundKeys.contains(door.getColor()))
-                        roommates.add(connectingRoom.get());
-                }
-
-                for (Room neighbor : roommates) {
-                    if (!visited.contains(neighbor)) {
+                    if((door.isOpen() || foundKeys.contains(door.getColor())) && !reached[neighbor.getSector()]) {
                         visited.add(neighbor);
+                        reached[neighbor.getSector()] = true;
                         queue.add(neighbor);
                     }
                 }
             }
 
-            if(selectingKeyGenerationRoom(visited, color, startRoomIndex) == KeyRegenerationMode.REGENERATION)
-                return KeyRegenerationMode.REGENERATION;
+            generateKeyInRoom(selectingKeyGenerationRoom(visited, color, startRoomIndex), color);
 
             foundKeys.add(color);
         }
-
-        return KeyRegenerationMode.NONE;
     }
 
     /**
@@ -224,17 +221,23 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
      * <li> Whether the room already has a door of the given color </li>
      * </ul>
      *
-     * @param visited A list of visited rooms.
+     * <p> The starting room is never selected. Since its doors are never locked, at least one other room is always
+     * reachable.
+     *
+     * @param visited A list of the reachable rooms, starting with the starting room.
      * @param keyColor The color of the key to be generated.
      * @param startRoomIndex The index of the starting room.
-     * @return The key regeneration mode indicating whether regeneration is needed.
+     * @return The selected room.
      */
-    private KeyRegenerationMode selectingKeyGenerationRoom(List<Room> visited, final MapColor keyColor, final int startRoomIndex){
-        int weight = 0;
-        Room keyRoom = visited.getFirst();
+    private Room selectingKeyGenerationRoom(List<Room> visited, final MapColor keyColor, final int startRoomIndex){
+        int weight = Integer.MIN_VALUE;
+        Room keyRoom = null;
 
         for (Room room : visited){
-            int roomWeight = calculateRoomWeight(room, keyColor, startRoomIndex);
+            if(room.getSector() == startRoomIndex)
+                continue;
+
+            int roomWeight = calculateRoomWeight(room, keyColor);
 
             if(roomWeight >= weight) {
                 keyRoom = room;
@@ -242,12 +245,7 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
             }
         }
 
-        if(keyRoom.getSector() == startRoomIndex)
-            return KeyRegenerationMode.REGENERATION;
-
-        generateKeyInRoom(keyRoom, keyColor);
-
-        return KeyRegenerationMode.NONE;
+        return keyRoom;
     }
 
     /**
@@ -259,132 +257,24 @@ public class RogueLevelKeysGenService implements LevelKeysGenService {
      *
      * @param room The {@link Room} to be evaluated.
      * @param keyColor The {@link MapColor} of the {@link Key}.
-     * @param startRoomIndex The index of the starting room.
      * @return The calculated weight for the {@link Room}.
      */
-    private int calculateRoomWeight(final Room room, final MapColor keyColor, final int startRoomIndex){
+    private int calculateRoomWeight(final Room room, final MapColor keyColor){
         int weight = 5;
 
-        final int sector = room.getSector();
-
-        if(sector == startRoomIndex)
-            weight -= 15;
-
         if(room.containAnyKey())
             weight -= 15;
 
         if(room.containDoorThisColor(keyColor))
             weight -= 20;
 
-        if(sector != startRoomIndex) {
-            final int countOfConnections = room.getCountOfConnections();
+        final int countOfConnections = room.getCountOfConnections();
 
-            if (countOfConnections == 1)
-                weight += 15;
-            else if (countOfConnections == 2)
-                weight += 5;
-        }
+        if (countOfConnections == 1)
+            weight += 15;
+        else if (countOfConnections == 2)
+            weight += 5;
 
         return weight;
     }
-
-    /**
-     * Checks if the generated {@link Level} is connected.
-     *
-     * <p> This method performs a Breadth-First Search (BFS) to ensure that all rooms can be reached from the starting room,
-     * given the generated doors and keys.
-     *
-     * @param levelService The {@link LevelService}.
-     * @param startRoomIndex The index of the starting room.
-     * @return `true` if the level is connected, `false` otherwise.
-     */
-    private boolean checkLevelConnectivity(LevelService levelService, final int startRoomIndex){
-        Room startRoom = levelService.getRoom(startRoomIndex);
-
-        List<Room> visited = new ArrayList<>();
-        Deque<Room> queue = new ArrayDeque<>();
-
-        List<Direction> doorDirections = List.of(Direction.values());
-
-        Set<MapColor> foundKeys = new HashSet<>();
-
-        visited.add(startRoom);
-        queue.add(startRoom);
-
-        while (!queue.isEmpty()) {
-            Room currentRoom = queue.poll();
-
-            boolean foundKey = false;
-
-            for(GameEntity e : currentRoom.getEntities()) {
-                if (e instanceof Key key && !foundKeys.contains(key.getColor())) {
-                    foundKeys.add(key.getColor());
-                    foundKey = true;
-                }
-            }
-
-            if(foundKey) {
-                visited.clear();
-                queue.clear();
-                visited.add(startRoom);
-                queue.add(startRoom);
-                continue;
-            }
-
-            List<Room> roommates = new ArrayList<>();
-
-            for (Direction d : doorDirections) {
-                Optional<Room> connectingRoom = currentRoom.getConnectionRoom(d);
-                Optional<Door> optionalDoor = currentRoom.getDoorByDirection(d);
-
-                if(connectingRoom.isEmpty() || optionalDoor.isEmpty())
-                    continue;
-
-                Door door = optionalDoor.get();
-
-                if(door.isOpen() || foundKeys.contains(door.getColor()))
-                    roommates.add(connectingRoom.get());
-            }
-
-            for (Room neighbor : roommates) {
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    queue.add(neighbor);
-                }
-            }
-        }
-
-        if(visited.size() != LevelAttribute.ROOMS_NUMBER.value){
-            removeDoorsWithKeys(levelService);
-            return false;
-        }
-
-        return true;
-    }
-
-    /**
-     * Removes all doors and keys from the {@link Level}.
-     *
-     * <p> This method is called if the generated level is not connected and needs to be regenerated.
-     *
-     * @param levelService The {@link LevelService} for interacting with {@link Level} data.
-     */
-    private void removeDoorsWithKeys(LevelService levelService){
-        List<Direction> doorDirections = List.of(Direction.values());
-
-        for(int i = 0; i < LevelAttribute.ROOMS_NUMBER.value; i++) {
-            Room room = levelService.getRoom(i);
-            room.removeKeys();
-
-            for (Direction d : doorDirections) {
-                Optional<Door> optionalDoor = room.getDoorByDirection(d);
-
-                if(optionalDoor.isPresent()) {
-                    Door door = optionalDoor.get();
-                    door.open();
-                    door.resetColor();
-                }
-            }
-        }
-    }
 }
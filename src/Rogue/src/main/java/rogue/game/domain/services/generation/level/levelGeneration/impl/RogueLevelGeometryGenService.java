@@ -1,9 +1,10 @@
 package rogue.game.domain.services.generation.level.levelGeneration.impl;
 
+import rogue.game.domain.services.generation.GenerationCounters;
 import rogue.game.domain.services.generation.level.levelGeneration.LevelGeometryGenService;
-import rogue.game.domain.services.generation.utill.GenerationUtil;
 import rogue.game.domain.services.level.LevelService;
 import rogue.game.domain.entities.level.Level;
+import rogue.game.domain.entities.level.LevelDimensions;
 import rogue.game.domain.entities.level.Corridor;
 import rogue.game.domain.entities.level.Door;
 import rogue.game.domain.entities.level.Room;
@@ -12,27 +13,40 @@ import rogue.game.domain.enums.Direction;
 import rogue.game.domain.entities.Position;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 import java.util.function.BiPredicate;
 
 /**
  * A service for generating geometry for roguelike levels.
  *
  * <p> Implements procedural level generation, creating random and non-linear maps.
+ *
+ * <p> The rooms form a grid of the {@link LevelDimensions} of the level, surrounded by a border of unused rooms so
+ * neighbors can be looked up without bounds checks. Every step works from the grid coordinates of the rooms, so the
+ * generation time grows linearly with the number of rooms.
  */
 public class RogueLevelGeometryGenService implements LevelGeometryGenService {
     private final List<List<Room>> rooms;
+    private final RandomGenerator random;
+    private LevelDimensions dimensions;
+    private final GenerationCounters counters;
 
-    public RogueLevelGeometryGenService() {
-        rooms = new ArrayList<>(LevelAttribute.ROOMS_PER_SIDE.value + 2);
+    /**
+     * @param random The source of the random choices of the generation.
+     * @param counters The counters of the generation attempts.
+     */
+    public RogueLevelGeometryGenService(RandomGenerator random, GenerationCounters counters) {
+        rooms = new ArrayList<>();
+        this.random = random;
+        this.counters = counters;
     }
 
     private void reset() {
         rooms.clear();
 
-        for (int i = 0; i < LevelAttribute.ROOMS_PER_SIDE.value + 2; i++) {
-            rooms.add(new ArrayList<>(LevelAttribute.ROOMS_PER_SIDE.value + 2));
-            for (int j = 0; j < LevelAttribute.ROOMS_PER_SIDE.value + 2; j++) {
+        for (int i = 0; i < dimensions.rows() + 2; i++) {
+            rooms.add(new ArrayList<>(dimensions.columns() + 2));
+            for (int j = 0; j < dimensions.columns() + 2; j++) {
                 rooms.get(i).add(new Room());
             }
         }
@@ -40,9 +54,11 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
 
     @Override
     public void generateGeometry(LevelService levelService) {
+        dimensions = levelService.getDimensions();
         reset();
         generateSectors(levelService);
-        generateConnections(levelService);
+        generateConnectionsThroughDFS();
+        counters.addGeometryAttempt();
         generateRoomsGeometry();
         generateCorridorsGeometry(levelService);
     }
@@ -56,8 +72,8 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
      */
     private void generateSectors(LevelService levelService) {
         int sector = 0;
-        for (int i = 1; i < LevelAttribute.ROOMS_PER_SIDE.value + 1; i++) {
-            for (int j = 1; j < LevelAttribute.ROOMS_PER_SIDE.value + 1; j++) {
+        for (int i = 1; i < dimensions.rows() + 1; i++) {
+            for (int j = 1; j < dimensions.columns() + 1; j++) {
                 final Room r = rooms.get(i).get(j);
                 r.setSector(sector++);
                 r.setGrid_i(i);
@@ -67,52 +83,43 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
         }
     }
 
-    /**
-     * Generates connections between rooms in the level using a Depth-First Search (DFS) algorithm.
-     *
-     * @param levelService The service responsible for managing {@link Level} data.
-     */
-    private void generateConnections(LevelService levelService) {
-        do {
-            generateConnectionsThroughDFS();
-        }while (!checkRoomsConnectivity(levelService));
-    }
-
     /**
      * Generates connections between rooms in the level using a Depth-First Search (DFS) algorithm.
      *
      * <p> This method implements a probabilistic DFS approach to connect rooms in the level.
      * <p> It starts from a random room and explores its neighbors, adding them to the stack for further exploration.
-     * <p> A random probability is used to determine whether to connect to a neighbor, allowing for a certain degree of randomness in the level generation.
+     * <p> Every room is connected to the room it is first reached from, which builds a random spanning tree, so all
+     * rooms are connected after a single pass. Rooms already reached are also connected with a random probability,
+     * adding loops to the level.
      */
      private void generateConnectionsThroughDFS() {
-        Set<Room> visited = new TreeSet<>(Comparator.comparingInt(Room::getSector));
+        boolean[] visited = new boolean[dimensions.roomsNumber()];
         Deque<Room> stack = new ArrayDeque<>();
 
-        int randomIndex = ThreadLocalRandom.current().nextInt(9);
+        int randomIndex = random.nextInt(dimensions.roomsNumber());
 
-        Room startRoom = rooms.get(randomIndex / 3 + 1).get(randomIndex % 3 + 1);
+        Room startRoom = rooms.get(randomIndex / dimensions.columns() + 1).get(randomIndex % dimensions.columns() + 1);
 
         stack.add(startRoom);
-        visited.add(startRoom);
+        visited[startRoom.getSector()] = true;
 
         while (!stack.isEmpty()) {
             Room currentRoom = stack.pop();
 
             List<Room> neighbors = getRoommates(currentRoom);
-            Collections.shuffle(neighbors);
+            Collections.shuffle(neighbors, random);
 
             for(var neighbor: neighbors) {
-                if (!visited.contains(neighbor) || ThreadLocalRandom.current().nextDouble(0.0, 1.0) < 0.3) {
+                if (!visited[neighbor.getSector()] || random.nextDouble(0.0, 1.0) < 0.3) {
                     Optional<Direction> d = calcDirection(neighbor, currentRoom);
 
                     if (d.isPresent()) {
                         neighbor.setConnection(d.get(), currentRoom);
                         currentRoom.setConnection((d.get().value + 2) % 4, neighbor);
 
-                        if (!visited.contains(neighbor)) {
+                        if (!visited[neighbor.getSector()]) {
                             stack.addFirst(neighbor);
-                            visited.add(neighbor);
+                            visited[neighbor.getSector()] = true;
                         }
                     }
                 }
@@ -121,67 +128,26 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
     }
 
     /**
-     * Calculates the direction from one room to another based on their sector numbers.
+     * Calculates the direction from one room to another based on their grid coordinates.
      *
      * @param first The first room.
      * @param second The second room.
-     * @return An `Optional` containing the direction from `room1` to `room2`, or empty if not applicable.
+     * @return An `Optional` containing the direction from `room1` to `room2`, or empty if they are not neighbors.
      */
     private Optional<Direction> calcDirection(final Room first, final Room second) {
-        final int sector1 = first.getSector();
-        final int sector2 = second.getSector();
-
-        return Optional.ofNullable(switch (sector2 - sector1) {
-            case 1 -> Direction.RIGHT;
-            case -1 -> Direction.LEFT;
-            case 3 -> Direction.BOTTOM;
-            case -3 -> Direction.TOP;
-            default -> null;
-        });
-    }
-
-    /**
-     * Checks if all rooms in the level are connected using a Breadth-First Search (BFS) algorithm.
-     *
-     * <p> This method performs a BFS traversal starting from any room in the level.
-     * It keeps track of visited rooms and explores their neighbors using a queue.
-     * If all rooms are eventually visited during the traversal, it means the level is connected.
-     * @param levelService The service responsible for managing {@link Level} data.
-     */
-     private boolean checkRoomsConnectivity(LevelService levelService) {
-        Set<Room> visited = new TreeSet<>(Comparator.comparingInt(Room::getSector));
-        Deque<Room> queue = new ArrayDeque<>();
-
-        for (int i = 0; i < LevelAttribute.ROOMS_NUMBER.value ; i++) {
-            Room room = levelService.getRoom(i);
-
-            queue.add(room);
-            visited.add(room);
-
-            while (!queue.isEmpty()) {
-                Room currentRoom = queue.poll();
-                for (Room neighbor : GenerationUtil.getRoommatesByConnections(currentRoom)) {
-                    if (!visited.contains(neighbor)) {
-                        queue.add(neighbor);
-                        visited.add(neighbor);
-                    }
-                }
-            }
-
-            if (visited.size() != LevelAttribute.ROOMS_NUMBER.value) {
-                for(int j = 0; j < i; j++) {
-                    Room currentRoom = levelService.getRoom(j);
-                    for(Direction d : Direction.values())
-                        currentRoom.setConnection(d, null);
-                }
-
-                return false;
-            }
-
-            visited.clear();
-        }
-
-        return true;
+        final int rowDiff = second.getGrid_i() - first.getGrid_i();
+        final int colDiff = second.getGrid_j() - first.getGrid_j();
+
+        if (rowDiff == 0 && colDiff == 1)
+            return Optional.of(Direction.RIGHT);
+        if (rowDiff == 0 && colDiff == -1)
+            return Optional.of(Direction.LEFT);
+        if (rowDiff == 1 && colDiff == 0)
+            return Optional.of(Direction.BOTTOM);
+        if (rowDiff == -1 && colDiff == 0)
+            return Optional.of(Direction.TOP);
+
+        return Optional.empty();
     }
 
     /**
@@ -190,19 +156,7 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
      * @param currentRoom The {@link Room} for which to retrieve neighboring rooms.
      */
      private List<Room> getRoommates(final Room currentRoom) {
-        int row = 1, col = 1;
-
-        for(int i = 1; i < rooms.size(); i++) {
-            for(int j = 1; j < rooms.get(i).size(); j++) {
-                if(rooms.get(i).get(j).equals(currentRoom)) {
-                    row = i;
-                    col = j;
-                    break;
-                }
-            }
-        }
-
-        return getInternalRoomNeighbors(currentRoom, row, col);
+        return getInternalRoomNeighbors(currentRoom, currentRoom.getGrid_i(), currentRoom.getGrid_j());
     }
 
     /**
@@ -227,9 +181,9 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
         final List<Integer> dy = List.of(0, 1, 0, -1);
 
         final int minRow = Math.max(row - 1, 1);
-        final int maxRow = Math.min(row + 1, 3);
+        final int maxRow = Math.min(row + 1, dimensions.rows());
         final int minCol = Math.max(col - 1, 1);
-        final int maxCol = Math.min(col + 1, 3);
+        final int maxCol = Math.min(col + 1, dimensions.columns());
 
         BiPredicate<Integer, Integer> inBounds = (i, j) -> i >= minRow && i <= maxRow && j >= minCol && j <= maxCol;
 
@@ -251,9 +205,9 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
      * for each {@link Room} in the {@link Level}.
      */
      private void generateRoomsGeometry() {
-        for (int i = 1; i < LevelAttribute.ROOMS_PER_SIDE.value + 1; i++) {
-            for (int j = 1; j < LevelAttribute.ROOMS_PER_SIDE.value + 1; j++) {
-                generateCorners(rooms.get(i).get(j), (i - 1) * LevelAttribute.SECTOR_HEIGHT.value, (j - 1) * LevelAttribute.SECTOR_WIDTH.value);
+        for (int i = 1; i < dimensions.rows() + 1; i++) {
+            for (int j = 1; j < dimensions.columns() + 1; j++) {
+                generateCorners(rooms.get(i).get(j), (i - 1) * dimensions.sectorHeight(), (j - 1) * dimensions.sectorWidth());
                 generateDoors(rooms.get(i).get(j));
             }
         }
@@ -270,11 +224,11 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
      * @param offsetX The horizontal offset for the room based on its sector {@link Position}.
      */
     private void generateCorners(Room room, final int offsetY, final int offsetX) {
-        room.setTopLeft(Position.of(ThreadLocalRandom.current().nextInt(LevelAttribute.CORNER_HOR_RANGE.value) + offsetX + 1,
-                ThreadLocalRandom.current().nextInt(LevelAttribute.CORNER_VERT_RANGE.value) + offsetY + 1));
+        room.setTopLeft(Position.of(random.nextInt(dimensions.cornerHorizontalRange()) + offsetX + 1,
+                random.nextInt(dimensions.cornerVerticalRange()) + offsetY + 1));
 
-        room.setBottomRight(Position.of(LevelAttribute.SECTOR_WIDTH.value - ThreadLocalRandom.current().nextInt(LevelAttribute.CORNER_HOR_RANGE.value) + offsetX - 1,
-                LevelAttribute.SECTOR_HEIGHT.value - ThreadLocalRandom.current().nextInt(LevelAttribute.CORNER_VERT_RANGE.value) + offsetY - 1));
+        room.setBottomRight(Position.of(dimensions.sectorWidth() - random.nextInt(dimensions.cornerHorizontalRange()) + offsetX - 1,
+                dimensions.sectorHeight() - random.nextInt(dimensions.cornerVerticalRange()) + offsetY - 1));
     }
 
     /**
@@ -292,20 +246,20 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
         int bRightX = bottomRight.x();
 
         if (room.getConnectionRoom(Direction.TOP).isPresent()) {
-            room.setDoorByDirection(Direction.TOP, Position.of(ThreadLocalRandom.current().nextInt(bRightX - tLeftX - 1) + tLeftX + 1, tLeftY));
+            room.setDoorByDirection(Direction.TOP, Position.of(random.nextInt(bRightX - tLeftX - 1) + tLeftX + 1, tLeftY));
         }
 
         if (room.getConnectionRoom(Direction.RIGHT).isPresent()) {
-            room.setDoorByDirection(Direction.RIGHT, Position.of(bRightX, ThreadLocalRandom.current().nextInt(bRightY - tLeftY - 1) + tLeftY + 1));
+            room.setDoorByDirection(Direction.RIGHT, Position.of(bRightX, random.nextInt(bRightY - tLeftY - 1) + tLeftY + 1));
         }
 
         if (room.getConnectionRoom(Direction.BOTTOM).isPresent()) {
             room.setDoorByDirection(Direction.BOTTOM, Position.of(
-                    ThreadLocalRandom.current().nextInt(bRightX - tLeftX - 1) + tLeftX + 1, bRightY));
+                    random.nextInt(bRightX - tLeftX - 1) + tLeftX + 1, bRightY));
         }
 
         if (room.getConnectionRoom(Direction.LEFT).isPresent()) {
-            room.setDoorByDirection(Direction.LEFT, Position.of(tLeftX, ThreadLocalRandom.current().nextInt(bRightY - tLeftY - 1) + tLeftY + 1));
+            room.setDoorByDirection(Direction.LEFT, Position.of(tLeftX, random.nextInt(bRightY - tLeftY - 1) + tLeftY + 1));
         }
     }
 
@@ -320,8 +274,8 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
      * @param levelService The service responsible for managing level data.
      */
     private void generateCorridorsGeometry(LevelService levelService) {
-        for (int i = 1; i < LevelAttribute.ROOMS_PER_SIDE.value + 1; i++) {
-            for (int j = 1; j < LevelAttribute.ROOMS_PER_SIDE.value + 1; j++) {
+        for (int i = 1; i < dimensions.rows() + 1; i++) {
+            for (int j = 1; j < dimensions.columns() + 1; j++) {
                 Room room = rooms.get(i).get(j);
 
                 Optional<Room> optionalRoom = room.getConnectionRoom(Direction.RIGHT);
@@ -381,17 +335,17 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
         int xMin = leftDoor.getPosition().x();
         int xMax = rightDoor.getPosition().x();
 
-        for (int i = 1; i < LevelAttribute.ROOMS_PER_SIDE.value + 1; i++) {
+        for (int i = 1; i < dimensions.rows() + 1; i++) {
             if (rooms.get(i).get(lRoom.getGrid_j()).getSector() != Constants.NONE.value && i != lRoom.getGrid_i())
                 xMin = Math.max(rooms.get(i).get(lRoom.getGrid_j()).getBottomRight().x(), xMin);
         }
 
-        for (int i = 1; i < LevelAttribute.ROOMS_PER_SIDE.value + 1; i++) {
+        for (int i = 1; i < dimensions.rows() + 1; i++) {
             if (rooms.get(i).get(rRoom.getGrid_j()).getSector() != Constants.NONE.value && i != rRoom.getGrid_i())
                 xMax = Math.min(rooms.get(i).get(rRoom.getGrid_j()).getTopLeft().x(), xMin);
         }
 
-        int randomCenterX = (xMax - xMin - 1) < 0 ?  xMin : ThreadLocalRandom.current().nextInt(xMax - xMin - 1) + 1 + xMin;
+        int randomCenterX = (xMax - xMin - 1) < 0 ?  xMin : random.nextInt(xMax - xMin - 1) + 1 + xMin;
 
         Position secondPoint = Position.of(randomCenterX + 1, leftDoor.getPosition().y());
         Position thirdPoint = Position.of(randomCenterX + 1, rightDoor.getPosition().y());
@@ -487,12 +441,12 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
         int yMin = bottomDoor.getPosition().y();
         int yMax = topDoor.getPosition().y();
 
-        for (int j = 1; j < LevelAttribute.ROOMS_PER_SIDE.value + 1; j++) {
+        for (int j = 1; j < dimensions.columns() + 1; j++) {
             if (rooms.get(tRoom.getGrid_i()).get(j).getSector() != Constants.NONE.value)
                 yMin = Math.max(rooms.get(tRoom.getGrid_i()).get(j).getBottomRight().y(), yMin);
         }
 
-        for (int j = 1; j < LevelAttribute.ROOMS_PER_SIDE.value + 1; j++) {
+        for (int j = 1; j < dimensions.columns() + 1; j++) {
             if (rooms.get(bRoom.getGrid_i()).get(j).getSector() != Constants.NONE.value)
                 yMax = Math.min(rooms.get(bRoom.getGrid_i()).get(j).getTopLeft().y(), yMax);
         }
@@ -502,7 +456,7 @@ public class RogueLevelGeometryGenService implements LevelGeometryGenService {
         if(yMax - yMin - 1 <= 0)
             randomCenterY = yMin;
         else
-            randomCenterY = ThreadLocalRandom.current().nextInt(yMax - yMin - 1) + 1 + yMin;
+            randomCenterY = random.nextInt(yMax - yMin - 1) + 1 + yMin;
 
         Position secondPoint = Position.of(bottomDoor.getPosition().x(), randomCenterY);
         Position thirdPoint = Position.of(topDoor.getPosition().x(), randomCenterY);
@@ -12,7 +12,6 @@ import rogue.game.domain.entities.GameEntity;
 import rogue.game.domain.entities.level.*;
 import rogue.game.domain.enums.CorridorType;
 import rogue.game.domain.enums.Direction;
-import rogue.game.domain.enums.LevelAttribute;
 import rogue.game.domain.enums.util.SymbolMapper;
 import rogue.game.domain.entities.Position;
 
@@ -44,7 +43,7 @@ public class RogueMapGenService implements MapGenService {
      * @param level The service responsible for managing the current level
      */
     private void roomsToMap(MapService map, LevelService level){
-        for(int i = 0; i < LevelAttribute.ROOMS_NUMBER.value; i++){
+        for(int i = 0; i < level.getDimensions().roomsNumber(); i++){
             Position tRoomCorner = level.getRoom(i).getTopLeft();
             Position bRoomCorner = level.getRoom(i).getBottomRight();
             rectangleToMap(map, tRoomCorner, bRoomCorner);
@@ -213,7 +212,7 @@ public class RogueMapGenService implements MapGenService {
      * @param level The service responsible for managing the current {@link Level} ({@link LevelService}).
      */
     private void doorsToMap(MapService map, LevelService level){
-        for(int i = 0; i < LevelAttribute.ROOMS_NUMBER.value; i++){
+        for(int i = 0; i < level.getDimensions().roomsNumber(); i++){
             Room room = level.getRoom(i);
 
             for(Direction d : Direction.values()) {
@@ -241,7 +240,7 @@ public class RogueMapGenService implements MapGenService {
      * @param playerPosition The current position of the player ({@link Position}).
      */
     private void entitiesToMap(MapService map, LevelService level, Position playerPosition) {
-        for(int i = 0; i < LevelAttribute.ROOMS_NUMBER.value; i++){
+        for(int i = 0; i < level.getDimensions().roomsNumber(); i++){
             Room room = level.getRoom(i);
             for(GameEntity e : room.getEntities())
                 map.setMapSymbol(e.getPosition(), SymbolMapper.map(e));
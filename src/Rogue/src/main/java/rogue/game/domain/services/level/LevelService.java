@@ -8,9 +8,13 @@ import rogue.game.domain.entities.level.Door;
 import rogue.game.domain.entities.level.Room;
 import rogue.game.domain.entities.Position;
 import rogue.game.domain.entities.level.Level;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.services.generation.GenerationCounters;
+import rogue.game.domain.services.generation.GenerationProfiler;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.ObjLongConsumer;
 
 /**
  * Interface defining the core functionality of a level service.
@@ -21,8 +25,39 @@ public interface LevelService {
     void setLevelNumber(int level);
     void increaseLevel();
     int getLevelNumber();
+
+    /**
+     * Gets the size of the grid of rooms of the {@link Level}.
+     *
+     * @return The {@link LevelDimensions}.
+     */
+    LevelDimensions getDimensions();
     List<Enemy> getEnemiesList();
     Enemy getEnemyByPosition(Position position);
+    void removeEnemy(Enemy enemy);
+
+    /**
+     * Starts a new turn of the enemies, lasting as long as one action of the player.
+     *
+     * @param playerSpeed The speed of the player.
+     */
+    void startEnemiesTurn(int playerSpeed);
+
+    /**
+     * Gets the next {@link Enemy} due to act in the current turn; faster enemies act more often than slower ones.
+     *
+     * @return The {@link Enemy}, or null once every enemy due in the turn has acted.
+     */
+    Enemy nextEnemyToAct();
+
+    /**
+     * Wakes up the enemies of a {@link Room} and of the rooms connected to it, and puts to sleep the enemies of
+     * every other room, so they are not scheduled.
+     *
+     * @param roomIndex The index of the {@link Room} the player is in.
+     * @param onWakeUp Called for every enemy woken up, with the number of actions it missed while asleep.
+     */
+    void activateRoomsAround(int roomIndex, ObjLongConsumer<Enemy> onWakeUp);
     Room getRoom(int index);
     void addRoom(Room room);
     Corridor getLastCorridor();
@@ -38,6 +73,14 @@ public interface LevelService {
      */
     Optional<Door> getDoorByPosition(final Position pos);
 
+    /**
+     * Gets a door at a specific {@link Position} without wrapping it into an {@link Optional}.
+     *
+     * @param pos The {@link Position} of the door.
+     * @return The {@link Door}, or null if no door is found.
+     */
+    Door getDoorAt(final Position pos);
+
     /**
      * Gets the index of the room containing a given {@link Position}.
      *
@@ -46,6 +89,14 @@ public interface LevelService {
      */
     Optional<Integer> getRoomIndexByPosition(Position pos);
 
+    /**
+     * Gets the index of the room containing a given {@link Position} without boxing it.
+     *
+     * @param pos The {@link Position} to check.
+     * @return The index of the {@link Room}, or {@link rogue.game.domain.enums.Constants#NONE} if the position is not within a room.
+     */
+    int getRoomIndexAt(Position pos);
+
     /**
      * Generates a new {@link Level}.
      *
@@ -55,6 +106,20 @@ public interface LevelService {
      */
     int generate(GameEntity player, StatsService stats);
 
+    /**
+     * Gets the counters of the generated levels and of the attempts their generation took.
+     *
+     * @return The {@link GenerationCounters}, shared with the levels built in the background.
+     */
+    GenerationCounters getGenerationCounters();
+
+    /**
+     * Gets the durations and attempts of the generation stages.
+     *
+     * @return The {@link GenerationProfiler}, shared with the levels built in the background and the map.
+     */
+    GenerationProfiler getGenerationProfiler();
+
     /**
      * Saves the current {@link Level} state.
      */
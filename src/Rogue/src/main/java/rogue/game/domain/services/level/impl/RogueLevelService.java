@@ -5,38 +5,98 @@ import rogue.game.domain.factories.services.LevelKeysGenServiceFactory;
 import rogue.game.domain.factories.services.LevelEntitiesBalancerFactory;
 import rogue.game.domain.factories.services.LevelGeometryGenServiceFactory;
 import rogue.game.domain.services.balance.LevelEntitiesBalancer;
+import rogue.game.domain.services.generation.GenerationCounters;
+import rogue.game.domain.services.generation.GenerationProfiler;
 import rogue.game.domain.services.level.LevelService;
+import rogue.game.domain.services.random.RandomService;
 import rogue.game.services.stats.StatsService;
+import rogue.game.domain.entities.Balancer;
 import rogue.game.domain.entities.enemies.Enemy;
 import rogue.game.domain.entities.GameEntity;
 import rogue.game.domain.entities.level.Corridor;
 import rogue.game.domain.entities.level.Door;
 import rogue.game.domain.entities.level.Level;
+import rogue.game.domain.entities.level.LevelDimensions;
 import rogue.game.domain.entities.level.Room;
-import rogue.game.domain.enums.Direction;
+import rogue.game.domain.enums.Constants;
+import rogue.game.domain.enums.GenerationStage;
 import rogue.game.domain.enums.LevelAttribute;
 import rogue.game.domain.enums.LevelState;
+import rogue.game.domain.enums.RandomStream;
 import rogue.game.domain.repository.GameRepository;
 import rogue.game.domain.entities.Position;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.ObjLongConsumer;
+import java.util.random.RandomGenerator;
 
 /**
  * Service responsible for managing the level in the game.
  *
  * <p> This class provides functionality for working with levels in the game.
+ *
+ * <p> As soon as a level starts, the next one is built on a virtual thread into a detached {@link Level}. When the
+ * player enters the portal the built level is swapped in, provided it is ready and was built for the same level
+ * number, seed and difficulty; otherwise the level is generated on the spot. Both ways give the same level, since
+ * the generators only draw from the streams of the {@link RandomService} for that level.
  */
 public class RogueLevelService implements LevelService {
-    private final Level level;
+    private Level level;
     private LevelState levelState;
     private final LevelEntitiesBalancer balancer;
     private final GameRepository gameRepository;
+    private final RandomService randomService;
+    private final GenerationCounters generationCounters;
+    private final GenerationProfiler generationProfiler;
+    private final boolean pregenerateNextLevel;
+
+    /**
+     * The level being built in the background, or null.
+     */
+    private Pregeneration pregeneration;
+
+    /**
+     * A level built in the background, with the starting position of the player in it.
+     */
+    private record PregeneratedLevel(Level level, Position playerPosition, int playerRoomIndex) {}
+
+    /**
+     * A background build of a level and what it was built for.
+     */
+    private record Pregeneration(int levelNumber, long seed, Balancer settings, FutureTask<PregeneratedLevel> task) {}
+
+    /**
+     * The random generators of the generation stages of a level.
+     */
+    private record LevelStreams(RandomGenerator geometry, RandomGenerator entities, RandomGenerator keys) {
+        static LevelStreams of(RandomService randomService, int levelNumber) {
+            return new LevelStreams(randomService.createStream(RandomStream.LEVEL_GEOMETRY, levelNumber),
+                    randomService.createStream(RandomStream.LEVEL_ENTITIES, levelNumber),
+                    randomService.createStream(RandomStream.LEVEL_KEYS, levelNumber));
+        }
+    }
+
+    public RogueLevelService(GameRepository gameRepository, RandomService randomService) {
+        this(gameRepository, randomService, LevelDimensions.DEFAULT, true);
+    }
 
-    public RogueLevelService(GameRepository gameRepository) {
+    /**
+     * Creates the service, optionally without building the next level in the background, e.g. for headless runs
+     * that generate many unrelated levels.
+     *
+     * @param gameRepository The {@link GameRepository} to load and save the level.
+     * @param randomService The {@link RandomService} the generators draw from.
+     * @param dimensions The {@link LevelDimensions} of a new game; a saved level keeps its own.
+     * @param pregenerateNextLevel Whether to build the next level in the background as soon as a level starts.
+     */
+    public RogueLevelService(GameRepository gameRepository, RandomService randomService, LevelDimensions dimensions,
+                             boolean pregenerateNextLevel) {
         Optional<Level> level = gameRepository.getLevel();
 
-        this.level = level.orElseGet(Level::new);
+        this.level = level.orElseGet(() -> new Level(dimensions));
 
         this.levelState = level.isPresent() ? LevelState.LOADED : LevelState.NEW;
 
@@ -44,9 +104,28 @@ public class RogueLevelService implements LevelService {
             this.level.setLevelNumber(1);
 
         this.gameRepository = gameRepository;
+        this.randomService = randomService;
+        this.generationCounters = new GenerationCounters();
+        this.generationProfiler = new GenerationProfiler();
+        this.pregenerateNextLevel = pregenerateNextLevel;
         this.balancer = LevelEntitiesBalancerFactory.createLevelEntitiesBalancer(gameRepository);
     }
 
+    /**
+     * Creates a service over a detached {@link Level}, used to build a level off the game thread.
+     */
+    private RogueLevelService(Level level, LevelEntitiesBalancer balancer, RandomService randomService,
+                              GenerationCounters generationCounters, GenerationProfiler generationProfiler) {
+        this.level = level;
+        this.levelState = LevelState.NEW;
+        this.balancer = balancer;
+        this.gameRepository = null;
+        this.randomService = randomService;
+        this.generationCounters = generationCounters;
+        this.generationProfiler = generationProfiler;
+        this.pregenerateNextLevel = false;
+    }
+
     @Override
     public void setLevelNumber(int level) {
         this.level.setLevelNumber(level);
@@ -62,6 +141,11 @@ public class RogueLevelService implements LevelService {
         return level.getLevelNumber();
     }
 
+    @Override
+    public LevelDimensions getDimensions() {
+        return level.getDimensions();
+    }
+
     @Override
     public List<Enemy> getEnemiesList() {
         return level.getEnemies();
@@ -69,10 +153,27 @@ public class RogueLevelService implements LevelService {
 
     @Override
     public Enemy getEnemyByPosition(Position position) {
-        return level.getEnemies().stream()
-                .filter(e -> e.getPosition().x() == position.x() && e.getPosition().y() == position.y())
-                .findFirst()
-                .orElse(null);
+        return level.getEnemyByPosition(position);
+    }
+
+    @Override
+    public void removeEnemy(Enemy enemy) {
+        level.removeEnemy(enemy);
+    }
+
+    @Override
+    public void startEnemiesTurn(int playerSpeed) {
+        level.startEnemiesTurn(playerSpeed);
+    }
+
+    @Override
+    public Enemy nextEnemyToAct() {
+        return level.nextEnemyToAct();
+    }
+
+    @Override
+    public void activateRoomsAround(int roomIndex, ObjLongConsumer<Enemy> onWakeUp) {
+        level.activateRoomsAround(roomIndex, onWakeUp);
     }
 
     @Override
@@ -107,60 +208,190 @@ public class RogueLevelService implements LevelService {
 
     @Override
     public Optional<Door> getDoorByPosition(Position pos) {
-        for(int i = 0; i < LevelAttribute.ROOMS_NUMBER.value; i++){
-            Room r = level.getRoom(i);
-
-            for (Direction d : Direction.values()) {
-                Optional<Door> door = r.getDoorByDirection(d);
-                if (door.isPresent() && door.get().getPosition().equals(pos))
-                    return door;
-            }
-        }
+        return Optional.ofNullable(level.getDoorAt(pos));
+    }
 
-        return Optional.empty();
+    @Override
+    public Door getDoorAt(Position pos) {
+        return level.getDoorAt(pos);
     }
 
     @Override
     public Optional<Integer> getRoomIndexByPosition(Position pos) {
-        for(int i = 0; i < LevelAttribute.ROOMS_NUMBER.value; i++){
-            if(level.getRoom(i).isPointInside(pos))
-                return Optional.of(i);
-        }
+        int index = level.getRoomIndexAt(pos);
 
-        return Optional.empty();
+        return index == Constants.NONE.value ? Optional.empty() : Optional.of(index);
+    }
+
+    @Override
+    public int getRoomIndexAt(Position pos) {
+        return level.getRoomIndexAt(pos);
     }
 
     @Override
     public void reset() {
         balancer.reset();
+        discardPregeneration();
     }
 
     @Override
     public int generate(GameEntity player, StatsService statsService) {
         if(levelState == LevelState.LOADED) {
             levelState = LevelState.NEW;
+            pregenerate(level.getLevelNumber() + 1);
             return getRoomIndexByPosition(player.getPosition()).orElse(0);
         }
 
         int levelNumber = level.getLevelNumber();
+        long levelStart = generationProfiler.start();
+
+        long start = generationProfiler.start();
+        balancer.updateDifficulty(statsService, levelNumber);
+        generationProfiler.stop(GenerationStage.BALANCER, levelNumber, start);
+
+        PregeneratedLevel pregenerated = takePregenerated(levelNumber);
+        int playerRoomIndex;
+
+        if (pregenerated != null) {
+            level = pregenerated.level();
+            player.setPosition(pregenerated.playerPosition());
+            playerRoomIndex = pregenerated.playerRoomIndex();
+        } else {
+            playerRoomIndex = build(player, levelNumber, LevelStreams.of(randomService, levelNumber));
+        }
 
+        generationProfiler.stop(GenerationStage.LEVEL, levelNumber, levelStart);
+
+        pregenerate(levelNumber + 1);
+
+        return playerRoomIndex;
+    }
+
+    /**
+     * Builds a level into the {@link Level} of this service.
+     *
+     * @param player The player, placed in the starting room.
+     * @param levelNumber The number of the level.
+     * @param streams The random generators of the level.
+     * @return The index of the player's starting room.
+     */
+    private int build(GameEntity player, int levelNumber, LevelStreams streams) {
         level.reset();
 
-        balancer.updateDifficulty(statsService, levelNumber);
+        GenerationCounters attempts = new GenerationCounters();
 
-        LevelGeometryGenServiceFactory.createLevelGeometryGenService().generateGeometry(this);
+        long start = generationProfiler.start();
+        LevelGeometryGenServiceFactory
+                .createLevelGeometryGenService(streams.geometry(), attempts)
+                .generateGeometry(this);
+        generationProfiler.stop(GenerationStage.GEOMETRY, levelNumber, start, attempts.getGeometryAttempts());
 
-        int playerRoomIndex = LevelEntitiesGenServiceFactory.createLevelEntitiesGenService().generateEntities(this, player, levelNumber, balancer);
+        start = generationProfiler.start();
+        int playerRoomIndex = LevelEntitiesGenServiceFactory
+                .createLevelEntitiesGenService(streams.entities())
+                .generateEntities(this, player, levelNumber, balancer);
+        generationProfiler.stop(GenerationStage.ENTITIES, levelNumber, start);
 
-        LevelKeysGenServiceFactory.createLevelKeysGenService().generateKeys(this, playerRoomIndex);
+        start = generationProfiler.start();
+        LevelKeysGenServiceFactory
+                .createLevelKeysGenService(streams.keys(), attempts)
+                .generateKeys(this, playerRoomIndex);
+        generationProfiler.stop(GenerationStage.KEYS, levelNumber, start, attempts.getKeysAttempts());
 
         level.getRoom(playerRoomIndex).removeEntity(player);
 
+        level.buildLayout();
+
         level.setLevelNumber(levelNumber);
 
+        attempts.addLevel();
+        generationCounters.add(attempts);
+
         return playerRoomIndex;
     }
 
+    @Override
+    public GenerationCounters getGenerationCounters() {
+        return generationCounters;
+    }
+
+    @Override
+    public GenerationProfiler getGenerationProfiler() {
+        return generationProfiler;
+    }
+
+    /**
+     * Starts building a level in the background, replacing any build in progress.
+     *
+     * <p> The build works on a detached {@link Level}, a copy of the balancer settings and random generators created
+     * here, on the game thread, so it shares nothing mutable with the level being played or with the random service.
+     *
+     * @param levelNumber The number of the level to build.
+     */
+    private void pregenerate(int levelNumber) {
+        discardPregeneration();
+
+        if (!pregenerateNextLevel || levelNumber >= LevelAttribute.FINAL_LEVEL.value)
+            return;
+
+        LevelEntitiesBalancer settings = LevelEntitiesBalancerFactory.createLevelEntitiesBalancer(balancer.getBalancer());
+        LevelDimensions dimensions = level.getDimensions();
+        LevelStreams streams = LevelStreams.of(randomService, levelNumber);
+
+        FutureTask<PregeneratedLevel> task = new FutureTask<>(() -> {
+            RogueLevelService detached = new RogueLevelService(new Level(dimensions), settings, randomService,
+                    generationCounters, generationProfiler);
+            GameEntity player = new GameEntity(Position.NONE) {};
+
+            int playerRoomIndex = detached.build(player, levelNumber, streams);
+
+            return new PregeneratedLevel(detached.level, player.getPosition(), playerRoomIndex);
+        });
+
+        pregeneration = new Pregeneration(levelNumber, randomService.getSeed(), settings.getBalancer(), task);
+
+        Thread.ofVirtual().name("level-pregeneration-" + levelNumber).start(task);
+    }
+
+    /**
+     * Takes the level built in the background, if it is ready and still matches the level to generate.
+     *
+     * @param levelNumber The number of the level to generate.
+     * @return The built level, or null if it has to be generated on the spot.
+     */
+    private PregeneratedLevel takePregenerated(int levelNumber) {
+        Pregeneration current = pregeneration;
+        pregeneration = null;
+
+        if (current == null)
+            return null;
+
+        if (!current.task().isDone() || current.levelNumber() != levelNumber
+                || current.seed() != randomService.getSeed() || !hasSameSettings(current.settings(), balancer.getBalancer())) {
+            current.task().cancel(true);
+            return null;
+        }
+
+        try {
+            return current.task().get();
+        } catch (ExecutionException | InterruptedException e) {
+            return null;
+        }
+    }
+
+    private void discardPregeneration() {
+        if (pregeneration != null)
+            pregeneration.task().cancel(true);
+
+        pregeneration = null;
+    }
+
+    private static boolean hasSameSettings(Balancer a, Balancer b) {
+        return a.getGameDifficulty() == b.getGameDifficulty()
+                && a.getMinNumberOfEnemies() == b.getMinNumberOfEnemies()
+                && a.getMaxNumberOfEnemies() == b.getMaxNumberOfEnemies();
+    }
+
     @Override
     public void save() {
         gameRepository.update(level);
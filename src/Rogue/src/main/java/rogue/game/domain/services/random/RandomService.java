@@ -0,0 +1,60 @@
+package rogue.game.domain.services.random;
+
+import rogue.game.domain.enums.RandomStream;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Describes the source of all the randomness of a game.
+ *
+ * <p> Every random number is derived from a single master seed, per {@link RandomStream} and per level, so the same
+ * seed yields the same dungeon and the same fights whatever thread they are computed on.
+ */
+public interface RandomService {
+    long getSeed();
+
+    /**
+     * Restarts every stream from a new master seed.
+     *
+     * @param seed The master seed.
+     */
+    void setSeed(long seed);
+
+    /**
+     * Restarts every stream from a fresh master seed, for a new game.
+     */
+    void reset();
+
+    /**
+     * Creates a new generator of a stream for a level.
+     *
+     * <p> The generator only depends on the master seed, the stream and the level number, and isn't shared, so it
+     * can be used on any thread, e.g. to generate a level in the background.
+     *
+     * @param stream The stream.
+     * @param levelNumber The number of the level.
+     * @return The new generator.
+     */
+    RandomGenerator createStream(RandomStream stream, int levelNumber);
+
+    /**
+     * Starts the gameplay streams of a level, returned by {@link #getStream(RandomStream)}.
+     *
+     * @param levelNumber The number of the level being played.
+     */
+    void startLevel(int levelNumber);
+
+    /**
+     * Gets the generator of a stream for the level being played, to be used on the game thread only.
+     *
+     * @param stream The stream.
+     * @return The generator, which keeps its state until the next {@link #startLevel(int)}. It can be split into
+     * independent generators for work planned on other threads.
+     */
+    RandomGenerator.SplittableGenerator getStream(RandomStream stream);
+
+    /**
+     * Stores the master seed in the game data.
+     */
+    void save();
+}
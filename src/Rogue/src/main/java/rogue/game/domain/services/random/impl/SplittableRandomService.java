@@ -0,0 +1,85 @@
+package rogue.game.domain.services.random.impl;
+
+import rogue.game.domain.enums.RandomStream;
+import rogue.game.domain.repository.GameRepository;
+import rogue.game.domain.services.random.RandomService;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * {@link RandomService} built on {@link SplittableRandom}.
+ *
+ * <p> The seed of a stream is the master seed, the stream and the level number scrambled together with the
+ * SplitMix64 finalizer, so nearby levels and streams get unrelated sequences.
+ */
+public class SplittableRandomService implements RandomService {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final GameRepository gameRepository;
+    private final SplittableRandom[] streams;
+    private long seed;
+    private int levelNumber;
+
+    public SplittableRandomService(GameRepository gameRepository) {
+        this.gameRepository = gameRepository;
+        this.streams = new SplittableRandom[RandomStream.values().length];
+        this.seed = gameRepository.getSeed().orElseGet(SplittableRandomService::freshSeed);
+
+        for (RandomStream stream : RandomStream.values())
+            streams[stream.ordinal()] = new SplittableRandom(streamSeed(stream, levelNumber));
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+        startLevel(levelNumber);
+    }
+
+    @Override
+    public void reset() {
+        setSeed(freshSeed());
+    }
+
+    @Override
+    public RandomGenerator createStream(RandomStream stream, int levelNumber) {
+        return new SplittableRandom(streamSeed(stream, levelNumber));
+    }
+
+    @Override
+    public void startLevel(int levelNumber) {
+        this.levelNumber = levelNumber;
+
+        for (RandomStream stream : RandomStream.values())
+            streams[stream.ordinal()] = new SplittableRandom(streamSeed(stream, levelNumber));
+    }
+
+    @Override
+    public RandomGenerator.SplittableGenerator getStream(RandomStream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    @Override
+    public void save() {
+        gameRepository.updateSeed(seed);
+    }
+
+    private long streamSeed(RandomStream stream, int levelNumber) {
+        return mix(mix(seed + GOLDEN_GAMMA * (stream.ordinal() + 1)) + GOLDEN_GAMMA * (levelNumber + 1));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long freshSeed() {
+        return new SplittableRandom().nextLong();
+    }
+}
@@ -0,0 +1,24 @@
+package rogue.game.domain.services.registry;
+
+import rogue.game.domain.services.battle.BattleService;
+import rogue.game.domain.services.enemyAI.EnemyCatchUpService;
+import rogue.game.domain.services.enemyAI.EnemyIntentPlanner;
+import rogue.game.domain.services.enemyAI.EnemyMovementService;
+import rogue.game.domain.services.random.RandomService;
+
+/**
+ * Describes the set of stateless domain services shared by a whole game.
+ *
+ * <p> The services are created once, when the game is created, instead of on every turn or combat round.
+ */
+public interface ServiceRegistry {
+    EnemyMovementService getEnemyMovementService();
+
+    EnemyIntentPlanner getEnemyIntentPlanner();
+
+    EnemyCatchUpService getEnemyCatchUpService();
+
+    BattleService getBattleService();
+
+    RandomService getRandomService();
+}
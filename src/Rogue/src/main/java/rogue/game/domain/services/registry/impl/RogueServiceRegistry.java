@@ -0,0 +1,36 @@
+package rogue.game.domain.services.registry.impl;
+
+import lombok.Getter;
+import rogue.game.domain.factories.services.BattleServiceFactory;
+import rogue.game.domain.factories.services.EnemyCatchUpServiceFactory;
+import rogue.game.domain.factories.services.EnemyIntentPlannerFactory;
+import rogue.game.domain.factories.services.EnemyMovementServiceFactory;
+import rogue.game.domain.services.battle.BattleService;
+import rogue.game.domain.services.enemyAI.EnemyCatchUpService;
+import rogue.game.domain.services.enemyAI.EnemyIntentPlanner;
+import rogue.game.domain.services.enemyAI.EnemyMovementService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.domain.services.registry.ServiceRegistry;
+import rogue.game.services.map.MapService;
+import rogue.game.services.messaging.MessageService;
+
+/**
+ * Creates the shared domain services of a game with their factories.
+ */
+@Getter
+public class RogueServiceRegistry implements ServiceRegistry {
+    private final EnemyMovementService enemyMovementService;
+    private final EnemyIntentPlanner enemyIntentPlanner;
+    private final EnemyCatchUpService enemyCatchUpService;
+    private final BattleService battleService;
+    private final RandomService randomService;
+
+    public RogueServiceRegistry(MapService mapService, MessageService messageService, RandomService randomService) {
+        this.randomService = randomService;
+
+        enemyMovementService = EnemyMovementServiceFactory.createEnemyMovementService();
+        enemyIntentPlanner = EnemyIntentPlannerFactory.createEnemyIntentPlanner(enemyMovementService);
+        enemyCatchUpService = EnemyCatchUpServiceFactory.createEnemyCatchUpService(mapService, randomService);
+        battleService = BattleServiceFactory.createBattleService(messageService, randomService);
+    }
+}
@@ -0,0 +1,92 @@
+package rogue.game.domain.services.vision;
+
+import lombok.Getter;
+import rogue.game.domain.entities.level.Door;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of field-of-view results for the current level.
+ *
+ * <p> The cells revealed from a given position and view angle only depend on which cells block the sight, which come
+ * from the level geometry (walls and doorways) rather than from the symbols drawn over them, so an entity standing in
+ * a doorway doesn't change them. Each result is kept as the bitsets of the revealed cells of the map chunks it
+ * touches, as recorded by the map, so it can be replayed with a bulk OR.
+ *
+ * <p> The cache must be cleared whenever the level changes or a {@link Door} is opened.
+ */
+public class VisibilityCache {
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private final Map<Long, long[]> entries;
+
+    @Getter
+    private long hits;
+    @Getter
+    private long misses;
+
+    public VisibilityCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public VisibilityCache(int capacity) {
+        entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Builds the cache key of a field-of-view query.
+     *
+     * @param cellIndex The index of the viewer's cell.
+     * @param angle The view angle.
+     * @return The key.
+     */
+    public static long keyOf(int cellIndex, double angle) {
+        return ((long) cellIndex << 32) | (Float.floatToIntBits((float) angle) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Looks up a cached result and updates the hit and miss counters.
+     *
+     * @param key The key built by {@link #keyOf(int, double)}.
+     * @return The recorded visible cells, or null if the result is not cached.
+     */
+    public long[] get(long key) {
+        long[] cells = entries.get(key);
+
+        if (cells == null)
+            misses++;
+        else
+            hits++;
+
+        return cells;
+    }
+
+    public void put(long key, long[] cells) {
+        entries.put(key, cells);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void invalidate() {
+        entries.clear();
+    }
+
+    /**
+     * Summarizes the counters, e.g. for the profiling dump.
+     */
+    @Override
+    public String toString() {
+        long lookups = hits + misses;
+
+        return String.format("fov      hits=%d misses=%d hit rate=%.1f%%",
+                hits, misses, lookups == 0 ? 0.0 : 100.0 * hits / lookups);
+    }
+}
@@ -1,6 +1,7 @@
 package rogue.game.domain.services.vision;
 
 import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.entities.Position;
 
 /**
@@ -26,12 +27,12 @@ public interface VisibilityService {
      * <p> This method performs a simple line-of-sight check to determine if the target position is visible from the starting position.
      * It iterates over the cells between the two positions and checks if any obstacles are present.
      *
-     * @param map The {@link MapService} providing map data.
+     * @param map The {@link ReadOnlyMapService} providing map data.
      * @param from The starting {@link Position}.
      * @param to The target {@link Position}.
      * @return `true` if the target {@link Position} is visible, `false` otherwise.
      */
-    boolean seeInCorridor(MapService map, Position from, Position to);
+    boolean seeInCorridor(ReadOnlyMapService map, Position from, Position to);
 
     /**
      * Reveals neighboring cells of a given position in a corridor-like pattern.
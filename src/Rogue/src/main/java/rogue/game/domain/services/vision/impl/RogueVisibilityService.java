@@ -2,11 +2,11 @@ package rogue.game.domain.services.vision.impl;
 
 import lombok.NoArgsConstructor;
 import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.enums.util.MapSymbolUtil;
 import rogue.game.domain.services.vision.VisibilityService;
 import rogue.game.common.enums.MapSymbol;
 import rogue.game.domain.enums.Constants;
-import rogue.game.domain.enums.MapAttribute;
 import rogue.game.domain.entities.Position;
 
 @NoArgsConstructor
@@ -52,13 +52,11 @@ public class RogueVisibilityService implements VisibilityService {
                 int x = (int)Math.round(rayX);
                 int y = (int)Math.round(rayY);
 
-                if (x < 0 || x >= MapAttribute.WIDTH.value || y < 0 || y >= MapAttribute.HEIGHT.value) {
+                if (x < 0 || x >= map.getMapInfo().getWidth() || y < 0 || y >= map.getMapInfo().getHeight()) {
                     break;
                 }
 
-                MapSymbol sym = map.getMapSymbol(Position.of(x, y));
-
-                if(sym.equals(MapSymbol.WALL) || MapSymbolUtil.isDoor(sym)) {
+                if(map.blocksSight(x, y)) {
                     bresenhamLine(map, startX, startY, x, y);
                     break;
                 }
@@ -121,7 +119,7 @@ private void bresenhamLine(MapService map, int x0, int y0, int x1, int y1) {
     }
 
     @Override
-    public boolean seeInCorridor(MapService map, Position from, Position to) {
+    public boolean seeInCorridor(ReadOnlyMapService map, Position from, Position to) {
         final int px = from.x();
         final int py = from.y();
 
@@ -0,0 +1,157 @@
+package rogue.game.domain.services.vision.impl;
+
+import lombok.NoArgsConstructor;
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Position;
+import rogue.game.services.map.MapService;
+
+/**
+ * {@link rogue.game.domain.services.vision.VisibilityService} based on recursive symmetric shadowcasting.
+ *
+ * <p> The area around the viewer is split into four quadrants, each scanned row by row away from the viewer.
+ * Walls and doors cast shadows, narrowing the range of slopes scanned in the following rows, so each cell of a
+ * quadrant is examined once. Quadrants that do not intersect the 120 degree view cone are skipped, and revealed
+ * cells are filtered by the cone and the view distance.
+ *
+ * <p> Slopes are kept as integer fractions, so the scan neither allocates nor accumulates rounding errors.
+ */
+@NoArgsConstructor
+public class ShadowcastingVisibilityService extends RogueVisibilityService {
+    private static final double HALF_FIELD_OF_VIEW = Math.toRadians(120) / 2;
+    private static final int MAX_DISTANCE = 30;
+
+    /**
+     * The direction each quadrant faces, in map coordinates (y grows downwards): north, east, south, west.
+     */
+    private static final double[] QUADRANT_ANGLES = {-Math.PI / 2, 0, Math.PI / 2, Math.PI};
+
+    private static final int NONE = 0;
+    private static final int WALL = 1;
+    private static final int FLOOR = 2;
+
+    private MapService map;
+    private int mapWidth;
+    private int mapHeight;
+    private int originX;
+    private int originY;
+    private double viewAngle;
+    private int quadrant;
+
+    @Override
+    public void update(MapService map, Position pos, double angle) {
+        this.map = map;
+        mapWidth = map.getMapInfo().getWidth();
+        mapHeight = map.getMapInfo().getHeight();
+        originX = pos.x();
+        originY = pos.y();
+        viewAngle = Math.toRadians(-angle);
+
+        // Von Neumann neighborhood
+        revealWall(originX, originY - 1);
+        revealWall(originX, originY + 1);
+        revealWall(originX - 1, originY);
+        revealWall(originX + 1, originY);
+
+        map.setVisible(originX, originY, true);
+
+        for (quadrant = 0; quadrant < QUADRANT_ANGLES.length; quadrant++) {
+            if (Math.abs(angleDifference(QUADRANT_ANGLES[quadrant], viewAngle)) <= Math.PI / 4 + HALF_FIELD_OF_VIEW)
+                scan(1, -1, 1, 1, 1);
+        }
+
+        this.map = null;
+    }
+
+    /**
+     * Scans one row of the current quadrant and recurses into the rows behind it.
+     *
+     * @param depth The distance of the row from the viewer.
+     * @param startNum The numerator of the start slope.
+     * @param startDen The denominator of the start slope.
+     * @param endNum The numerator of the end slope.
+     * @param endDen The denominator of the end slope.
+     */
+    private void scan(int depth, int startNum, int startDen, int endNum, int endDen) {
+        if (depth > MAX_DISTANCE)
+            return;
+
+        int minCol = Math.floorDiv(2 * depth * startNum + startDen, 2 * startDen);
+        int maxCol = -Math.floorDiv(endDen - 2 * depth * endNum, 2 * endDen);
+
+        int previous = NONE;
+
+        for (int col = minCol; col <= maxCol; col++) {
+            int x = toMapX(depth, col);
+            int y = toMapY(depth, col);
+
+            boolean opaque = isOpaque(x, y);
+
+            if (opaque || (col * startDen >= depth * startNum && col * endDen <= depth * endNum))
+                reveal(x, y, depth, col);
+
+            if (previous == WALL && !opaque) {
+                startNum = 2 * col - 1;
+                startDen = 2 * depth;
+            }
+
+            if (previous == FLOOR && opaque)
+                scan(depth + 1, startNum, startDen, 2 * col - 1, 2 * depth);
+
+            previous = opaque ? WALL : FLOOR;
+        }
+
+        if (previous == FLOOR)
+            scan(depth + 1, startNum, startDen, endNum, endDen);
+    }
+
+    private int toMapX(int depth, int col) {
+        return switch (quadrant) {
+            case 0, 2 -> originX + col;
+            case 1 -> originX + depth;
+            default -> originX - depth;
+        };
+    }
+
+    private int toMapY(int depth, int col) {
+        return switch (quadrant) {
+            case 0 -> originY - depth;
+            case 2 -> originY + depth;
+            default -> originY + col;
+        };
+    }
+
+    private boolean isInsideMap(int x, int y) {
+        return x >= 0 && x < mapWidth && y >= 0 && y < mapHeight;
+    }
+
+    private boolean isOpaque(int x, int y) {
+        if (!isInsideMap(x, y))
+            return true;
+
+        return map.blocksSight(x, y);
+    }
+
+    private void reveal(int x, int y, int depth, int col) {
+        if (!isInsideMap(x, y) || depth * depth + col * col > MAX_DISTANCE * MAX_DISTANCE)
+            return;
+
+        int dx = x - originX;
+        int dy = y - originY;
+        double distance = Math.sqrt(dx * dx + dy * dy);
+
+        // A cell is inside the cone if any part of it is, which keeps every cell a ray could reach
+        double tolerance = Math.asin(Math.min(1.0, Math.sqrt(0.5) / distance));
+
+        if (Math.abs(angleDifference(Math.atan2(dy, dx), viewAngle)) <= HALF_FIELD_OF_VIEW + tolerance)
+            map.setVisible(x, y, true);
+    }
+
+    private void revealWall(int x, int y) {
+        if (isInsideMap(x, y) && map.getMapSymbol(x, y).equals(MapSymbol.WALL))
+            map.setVisible(x, y, true);
+    }
+
+    private static double angleDifference(double a, double b) {
+        return Math.IEEEremainder(a - b, 2 * Math.PI);
+    }
+}
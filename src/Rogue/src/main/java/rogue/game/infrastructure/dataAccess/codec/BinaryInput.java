@@ -0,0 +1,98 @@
+package rogue.game.infrastructure.dataAccess.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reader of the primitive encodings written by {@link BinaryOutput}.
+ */
+class BinaryInput {
+    private final byte[] bytes;
+    private int position;
+
+    BinaryInput(byte[] bytes, int position) {
+        this.bytes = bytes;
+        this.position = position;
+    }
+
+    int readByte() throws IOException {
+        if (position >= bytes.length)
+            throw new EOFException("Truncated save data");
+
+        return bytes[position++] & 0xFF;
+    }
+
+    byte[] readBytes(int length) throws IOException {
+        if (length < 0 || length > bytes.length - position)
+            throw new EOFException("Truncated save data");
+
+        byte[] values = new byte[length];
+        System.arraycopy(bytes, position, values, 0, length);
+        position += length;
+
+        return values;
+    }
+
+    long readVarLong() throws IOException {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0)
+                return value;
+        }
+
+        throw new StreamCorruptedException("Malformed varint");
+    }
+
+    int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    int readSignedInt() throws IOException {
+        int value = readVarInt();
+
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    long readSignedLong() throws IOException {
+        long value = readVarLong();
+
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    float readFloat() throws IOException {
+        int bits = 0;
+
+        for (int i = 0; i < 4; i++)
+            bits = (bits << 8) | readByte();
+
+        return Float.intBitsToFloat(bits);
+    }
+
+    String readString() throws IOException {
+        int length = readVarInt();
+
+        return length == 0 ? null : new String(readBytes(length - 1), StandardCharsets.UTF_8);
+    }
+
+    <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+        int ordinal = readVarInt();
+
+        if (ordinal == 0)
+            return null;
+
+        if (ordinal > values.length)
+            throw new StreamCorruptedException("Unknown " + values[0].getDeclaringClass().getSimpleName() + " ordinal");
+
+        return values[ordinal - 1];
+    }
+}
@@ -0,0 +1,95 @@
+package rogue.game.infrastructure.dataAccess.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer with the primitive encodings of {@link BinarySaveCodec}.
+ *
+ * <p> Integers are written as LEB128 varints, 7 bits per byte, the signed ones zigzag-encoded first so small negative
+ * values stay short.
+ */
+class BinaryOutput {
+    private byte[] bytes = new byte[256];
+    private int size;
+
+    void writeByte(int value) {
+        ensure(1);
+        bytes[size++] = (byte) value;
+    }
+
+    void writeBytes(byte[] values) {
+        ensure(values.length);
+        System.arraycopy(values, 0, bytes, size, values.length);
+        size += values.length;
+    }
+
+    void writeVarLong(long value) {
+        ensure(10);
+
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        bytes[size++] = (byte) value;
+    }
+
+    void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    void writeSignedInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    void writeSignedLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    void writeFloat(float value) {
+        int bits = Float.floatToIntBits(value);
+
+        for (int shift = 24; shift >= 0; shift -= 8)
+            writeByte(bits >>> shift);
+    }
+
+    /**
+     * Writes a string as its length plus one, 0 standing for null, followed by its UTF-8 bytes.
+     */
+    void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+
+        writeVarInt(utf8.length + 1);
+        writeBytes(utf8);
+    }
+
+    /**
+     * Writes an enum constant as its ordinal plus one, 0 standing for null.
+     */
+    void writeEnum(Enum<?> value) {
+        writeVarInt(value == null ? 0 : value.ordinal() + 1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length)
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+    }
+}
@@ -0,0 +1,636 @@
+package rogue.game.infrastructure.dataAccess.codec;
+
+import rogue.game.common.enums.MapColor;
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.enums.CorridorType;
+import rogue.game.domain.enums.EntityCharacteristic;
+import rogue.game.domain.enums.GameDifficulty;
+import rogue.game.domain.enums.ItemType;
+import rogue.game.infrastructure.dataAccess.journal.JournalRecordType;
+import rogue.game.infrastructure.dataAccess.mapper.gameEntityMapper.EntityMappersContainer;
+import rogue.game.infrastructure.dataAccess.mapper.gameEntityMapper.GameEntityMapper;
+import rogue.game.infrastructure.dataAccess.model.BalancerModel;
+import rogue.game.infrastructure.dataAccess.model.GameStatsModel;
+import rogue.game.infrastructure.dataAccess.model.InventoryModel;
+import rogue.game.infrastructure.dataAccess.model.PositionModel;
+import rogue.game.infrastructure.dataAccess.model.SerializeData;
+import rogue.game.infrastructure.dataAccess.model.entities.GameEntityModel;
+import rogue.game.infrastructure.dataAccess.model.entities.PlayerModel;
+import rogue.game.infrastructure.dataAccess.model.entities.enemies.EnemyModel;
+import rogue.game.infrastructure.dataAccess.model.entities.enemies.MimicModel;
+import rogue.game.infrastructure.dataAccess.model.entities.items.KeyModel;
+import rogue.game.infrastructure.dataAccess.model.entities.items.PotionModel;
+import rogue.game.infrastructure.dataAccess.model.entities.items.ScrollModel;
+import rogue.game.infrastructure.dataAccess.model.entities.items.WeaponModel;
+import rogue.game.infrastructure.dataAccess.model.level.CorridorModel;
+import rogue.game.infrastructure.dataAccess.model.level.DoorModel;
+import rogue.game.infrastructure.dataAccess.model.level.LevelModel;
+import rogue.game.infrastructure.dataAccess.model.level.RoomModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link SaveCodec} writing the game data in a compact, versioned binary format.
+ *
+ * <p> A snapshot starts with the magic bytes {@code RGSV}; a snapshot and a journal part then both start with the
+ * format {@link #VERSION} and a flags byte, whose {@link #DEFLATED} bit tells if the rest is compressed with
+ * {@link Deflater}. Integers are varints, positions are pairs of varints and corridor points are stored as the
+ * differences from the previous point. Enum constants are stored by ordinal, and {@link GameEntityModel} by the type
+ * ordinal given by the {@link EntityMappersContainer}, followed by the fields of their class.
+ *
+ * <p> Nullable values are shifted by one so that 0 stands for null: lists and strings store their length plus one,
+ * enums their ordinal plus one, entities their type ordinal plus one and room connections their sector plus one.
+ * Doors, which are null on the sides of a room without a door, are preceded by a presence flag.
+ */
+public class BinarySaveCodec implements SaveCodec {
+    public static final int VERSION = 1;
+    public static final int DEFLATED = 1;
+
+    private static final byte[] MAGIC = {'R', 'G', 'S', 'V'};
+
+    private static final GameDifficulty[] DIFFICULTIES = GameDifficulty.values();
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+    private static final CorridorType[] CORRIDOR_TYPES = CorridorType.values();
+    private static final MapColor[] COLORS = MapColor.values();
+    private static final MapSymbol[] SYMBOLS = MapSymbol.values();
+    private static final EntityCharacteristic[] CHARACTERISTICS = EntityCharacteristic.values();
+
+    private final EntityMappersContainer entityTypes = GameEntityMapper.container;
+    private final boolean compress;
+
+    /**
+     * @param compress True to compress the encoded data with {@link Deflater}.
+     */
+    public BinarySaveCodec(boolean compress) {
+        this.compress = compress;
+    }
+
+    @Override
+    public String getExtension() {
+        return "bin";
+    }
+
+    @Override
+    public byte[] encode(SerializeData data) throws IOException {
+        BinaryOutput out = new BinaryOutput();
+
+        out.writeSignedLong(data.getJournalSequence());
+        writeSeed(out, data.getSeed());
+        writeStats(out, data.getTotalStats());
+        writeStats(out, data.getCurrentStats());
+        writeEntity(out, data.getPlayerModel());
+        writeBalancer(out, data.getBalancerModel());
+        writeInventory(out, data.getInventoryModel());
+        writeList(out, data.getWalkthroughes(), this::writeStats);
+        writeLevel(out, data.getLevelModel());
+
+        return frame(MAGIC, out);
+    }
+
+    @Override
+    public SerializeData decode(byte[] bytes) throws IOException {
+        for (int i = 0; i < MAGIC.length; i++)
+            if (i >= bytes.length || bytes[i] != MAGIC[i])
+                throw new StreamCorruptedException("Not a binary save");
+
+        BinaryInput in = unframe(bytes, MAGIC.length);
+        SerializeData data = new SerializeData();
+
+        data.setJournalSequence(in.readSignedLong());
+        data.setSeed(readSeed(in));
+        data.setTotalStats(readStats(in));
+        data.setCurrentStats(readStats(in));
+        data.setPlayerModel((PlayerModel) readEntity(in));
+        data.setBalancerModel(readBalancer(in));
+        data.setInventoryModel(readInventory(in));
+
+        List<GameStatsModel> walkthroughs = readList(in, this::readStats);
+
+        if (walkthroughs != null)
+            data.getWalkthroughes().addAll(walkthroughs);
+
+        data.setLevelModel(readLevel(in));
+
+        return data;
+    }
+
+    @Override
+    public byte[] encodePart(JournalRecordType type, Object part) throws IOException {
+        BinaryOutput out = new BinaryOutput();
+
+        switch (type) {
+            case PLAYER -> writeEntity(out, (PlayerModel) part);
+            case INVENTORY -> writeInventory(out, (InventoryModel) part);
+            case LEVEL -> writeLevel(out, (LevelModel) part);
+            case BALANCER -> writeBalancer(out, (BalancerModel) part);
+            case TOTAL_STATS, CURRENT_STATS, WALKTHROUGH -> writeStats(out, (GameStatsModel) part);
+            case SEED -> writeSeed(out, (Long) part);
+        }
+
+        return frame(new byte[0], out);
+    }
+
+    @Override
+    public Object decodePart(JournalRecordType type, byte[] bytes) throws IOException {
+        BinaryInput in = unframe(bytes, 0);
+
+        return switch (type) {
+            case PLAYER -> readEntity(in);
+            case INVENTORY -> readInventory(in);
+            case LEVEL -> readLevel(in);
+            case BALANCER -> readBalancer(in);
+            case TOTAL_STATS, CURRENT_STATS, WALKTHROUGH -> readStats(in);
+            case SEED -> readSeed(in);
+        };
+    }
+
+    /**
+     * Puts the header in front of the encoded data, compressing the data if enabled.
+     */
+    private byte[] frame(byte[] magic, BinaryOutput body) {
+        BinaryOutput out = new BinaryOutput();
+
+        out.writeBytes(magic);
+        out.writeByte(VERSION);
+        out.writeByte(compress ? DEFLATED : 0);
+        out.writeBytes(compress ? deflate(body.toByteArray()) : body.toByteArray());
+
+        return out.toByteArray();
+    }
+
+    private BinaryInput unframe(byte[] bytes, int offset) throws IOException {
+        BinaryInput header = new BinaryInput(bytes, offset);
+        int version = header.readByte();
+        int flags = header.readByte();
+
+        if (version != VERSION)
+            throw new StreamCorruptedException("Unsupported binary save version " + version);
+
+        int start = offset + 2;
+
+        if ((flags & DEFLATED) == 0)
+            return new BinaryInput(bytes, start);
+
+        return new BinaryInput(inflate(bytes, start), 0);
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 16);
+        byte[] buffer = new byte[8192];
+
+        deflater.setInput(bytes);
+        deflater.finish();
+
+        while (!deflater.finished())
+            out.write(buffer, 0, deflater.deflate(buffer));
+
+        deflater.end();
+
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset) throws IOException {
+        Inflater inflater = new Inflater();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+        byte[] buffer = new byte[8192];
+
+        inflater.setInput(bytes, offset, bytes.length - offset);
+
+        try {
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    throw new StreamCorruptedException("Truncated compressed save data");
+
+                out.write(buffer, 0, n);
+            }
+        } catch (DataFormatException e) {
+            throw new StreamCorruptedException(e.getMessage());
+        } finally {
+            inflater.end();
+        }
+
+        return out.toByteArray();
+    }
+
+    private void writeSeed(BinaryOutput out, Long seed) {
+        out.writeBoolean(seed != null);
+
+        if (seed != null)
+            out.writeSignedLong(seed);
+    }
+
+    private Long readSeed(BinaryInput in) throws IOException {
+        return in.readBoolean() ? in.readSignedLong() : null;
+    }
+
+    private void writeStats(BinaryOutput out, GameStatsModel stats) {
+        out.writeBoolean(stats != null);
+
+        if (stats == null)
+            return;
+
+        out.writeSignedInt(stats.getTreasureAmount());
+        out.writeSignedInt(stats.getLevel());
+        out.writeSignedInt(stats.getCountOfDefeatedEnemies());
+        out.writeSignedInt(stats.getCountOfEatenFood());
+        out.writeSignedInt(stats.getCountOfPotionsDrank());
+        out.writeSignedInt(stats.getCountOfReadScrolls());
+        out.writeSignedInt(stats.getCountOfPassedCells());
+        out.writeSignedInt(stats.getCountOfBlowsInflicted());
+        out.writeSignedInt(stats.getCountOfMissedShots());
+    }
+
+    private GameStatsModel readStats(BinaryInput in) throws IOException {
+        if (!in.readBoolean())
+            return null;
+
+        GameStatsModel stats = new GameStatsModel();
+
+        stats.setTreasureAmount(in.readSignedInt());
+        stats.setLevel(in.readSignedInt());
+        stats.setCountOfDefeatedEnemies(in.readSignedInt());
+        stats.setCountOfEatenFood(in.readSignedInt());
+        stats.setCountOfPotionsDrank(in.readSignedInt());
+        stats.setCountOfReadScrolls(in.readSignedInt());
+        stats.setCountOfPassedCells(in.readSignedInt());
+        stats.setCountOfBlowsInflicted(in.readSignedInt());
+        stats.setCountOfMissedShots(in.readSignedInt());
+
+        return stats;
+    }
+
+    private void writeBalancer(BinaryOutput out, BalancerModel balancer) {
+        out.writeBoolean(balancer != null);
+
+        if (balancer == null)
+            return;
+
+        out.writeEnum(balancer.getGameDifficulty());
+        out.writeSignedInt(balancer.getMaxNumberOfEnemies());
+        out.writeSignedInt(balancer.getMinNumberOfEnemies());
+    }
+
+    private BalancerModel readBalancer(BinaryInput in) throws IOException {
+        if (!in.readBoolean())
+            return null;
+
+        BalancerModel balancer = new BalancerModel();
+
+        balancer.setGameDifficulty(in.readEnum(DIFFICULTIES));
+        balancer.setMaxNumberOfEnemies(in.readSignedInt());
+        balancer.setMinNumberOfEnemies(in.readSignedInt());
+
+        return balancer;
+    }
+
+    private void writeInventory(BinaryOutput out, InventoryModel inventory) {
+        out.writeBoolean(inventory != null);
+
+        if (inventory == null)
+            return;
+
+        Map<ItemType, List<GameEntityModel>> items = inventory.getItems();
+
+        out.writeVarInt(items == null ? 0 : items.size() + 1);
+
+        if (items != null) {
+            for (Map.Entry<ItemType, List<GameEntityModel>> entry : items.entrySet()) {
+                out.writeEnum(entry.getKey());
+                writeList(out, entry.getValue(), this::writeEntity);
+            }
+        }
+
+        out.writeEnum(inventory.getCurrentInventoryItemType());
+        out.writeSignedInt(inventory.getGold());
+    }
+
+    private InventoryModel readInventory(BinaryInput in) throws IOException {
+        if (!in.readBoolean())
+            return null;
+
+        InventoryModel inventory = new InventoryModel();
+        int size = in.readVarInt();
+
+        if (size > 0) {
+            Map<ItemType, List<GameEntityModel>> items = new LinkedHashMap<>();
+
+            for (int i = 0; i < size - 1; i++)
+                items.put(in.readEnum(ITEM_TYPES), readList(in, this::readEntity));
+
+            inventory.setItems(items);
+        }
+
+        inventory.setCurrentInventoryItemType(in.readEnum(ITEM_TYPES));
+        inventory.setGold(in.readSignedInt());
+
+        return inventory;
+    }
+
+    private void writeLevel(BinaryOutput out, LevelModel level) {
+        out.writeBoolean(level != null);
+
+        if (level == null)
+            return;
+
+        out.writeSignedInt(level.getLevelNumber());
+        out.writeVarInt(level.getRows());
+        out.writeVarInt(level.getColumns());
+        out.writeVarInt(level.getSectorWidth());
+        out.writeVarInt(level.getSectorHeight());
+        writeList(out, level.getSequence(), this::writeRoom);
+        writeList(out, level.getCorridors(), this::writeCorridor);
+        writeList(out, level.getEnemies(), this::writeEntity);
+    }
+
+    private LevelModel readLevel(BinaryInput in) throws IOException {
+        if (!in.readBoolean())
+            return null;
+
+        LevelModel level = new LevelModel();
+
+        level.setLevelNumber(in.readSignedInt());
+        level.setRows(in.readVarInt());
+        level.setColumns(in.readVarInt());
+        level.setSectorWidth(in.readVarInt());
+        level.setSectorHeight(in.readVarInt());
+        level.setSequence(readList(in, this::readRoom));
+        level.setCorridors(readList(in, this::readCorridor));
+        level.setEnemies(readList(in, i -> (EnemyModel) readEntity(i)));
+
+        return level;
+    }
+
+    private void writeRoom(BinaryOutput out, RoomModel room) {
+        out.writeSignedInt(room.getSector());
+        out.writeSignedInt(room.getGrid_i());
+        out.writeSignedInt(room.getGrid_j());
+        writePosition(out, room.getTopLeft());
+        writePosition(out, room.getBottomRight());
+        writeList(out, room.getDoors(), this::writeDoor);
+        writeList(out, room.getConnections(), (o, c) -> o.writeVarInt(c == null ? 0 : zigzag(c) + 1));
+        writeList(out, room.getEntities(), this::writeEntity);
+    }
+
+    private RoomModel readRoom(BinaryInput in) throws IOException {
+        RoomModel room = new RoomModel();
+
+        room.setSector(in.readSignedInt());
+        room.setGrid_i(in.readSignedInt());
+        room.setGrid_j(in.readSignedInt());
+        room.setTopLeft(readPosition(in));
+        room.setBottomRight(readPosition(in));
+        room.setDoors(readList(in, this::readDoor));
+        room.setConnections(readList(in, i -> {
+            int c = i.readVarInt();
+
+            return c == 0 ? null : unzigzag(c - 1);
+        }));
+        room.setEntities(readList(in, this::readEntity));
+
+        return room;
+    }
+
+    private void writeDoor(BinaryOutput out, DoorModel door) {
+        out.writeBoolean(door != null);
+
+        if (door == null)
+            return;
+
+        writePosition(out, door.getPosition());
+        out.writeEnum(door.getColor());
+        out.writeBoolean(door.isOpen());
+    }
+
+    private DoorModel readDoor(BinaryInput in) throws IOException {
+        if (!in.readBoolean())
+            return null;
+
+        DoorModel door = new DoorModel();
+
+        door.setPosition(readPosition(in));
+        door.setColor(in.readEnum(COLORS));
+        door.setOpen(in.readBoolean());
+
+        return door;
+    }
+
+    /**
+     * Writes the points of a corridor as differences from the previous point, which are a single byte each.
+     */
+    private void writeCorridor(BinaryOutput out, CorridorModel corridor) {
+        out.writeEnum(corridor.getType());
+
+        List<PositionModel> points = corridor.getPoints();
+
+        out.writeVarInt(points == null ? 0 : points.size() + 1);
+
+        if (points == null)
+            return;
+
+        int x = 0;
+        int y = 0;
+
+        for (PositionModel point : points) {
+            out.writeSignedInt(point.x() - x);
+            out.writeSignedInt(point.y() - y);
+            x = point.x();
+            y = point.y();
+        }
+    }
+
+    private CorridorModel readCorridor(BinaryInput in) throws IOException {
+        CorridorModel corridor = new CorridorModel();
+
+        corridor.setType(in.readEnum(CORRIDOR_TYPES));
+
+        int size = in.readVarInt();
+
+        if (size == 0)
+            return corridor;
+
+        List<PositionModel> points = new ArrayList<>(size - 1);
+        int x = 0;
+        int y = 0;
+
+        for (int i = 0; i < size - 1; i++) {
+            x += in.readSignedInt();
+            y += in.readSignedInt();
+            points.add(new PositionModel(x, y));
+        }
+
+        corridor.setPoints(points);
+
+        return corridor;
+    }
+
+    /**
+     * Writes a position as two varints, the first one being 0 for a null position.
+     */
+    private static void writePosition(BinaryOutput out, PositionModel position) {
+        if (position == null) {
+            out.writeVarInt(0);
+            return;
+        }
+
+        out.writeVarLong((zigzag(position.x()) & 0xFFFFFFFFL) + 1);
+        out.writeVarInt(zigzag(position.y()));
+    }
+
+    private static PositionModel readPosition(BinaryInput in) throws IOException {
+        long x = in.readVarLong();
+
+        if (x == 0)
+            return null;
+
+        return new PositionModel(unzigzag((int) (x - 1)), in.readSignedInt());
+    }
+
+    private void writeEntity(BinaryOutput out, GameEntityModel entity) {
+        if (entity == null) {
+            out.writeVarInt(0);
+            return;
+        }
+
+        int ordinal = entityTypes.getTypeOrdinal(entity);
+
+        if (ordinal < 0)
+            throw new IllegalArgumentException("Unregistered entity model " + entity.getClass().getSimpleName());
+
+        out.writeVarInt(ordinal + 1);
+        writePosition(out, entity.getPosition());
+
+        switch (entity) {
+            case PlayerModel player -> {
+                out.writeSignedInt(player.getMaxHealth());
+                out.writeSignedInt(player.getHealth());
+                out.writeSignedInt(player.getAgility());
+                out.writeSignedInt(player.getStrength());
+                out.writeFloat(player.getViewAngle());
+                out.writeSignedInt(player.getCurrentRoomIndex());
+                writeEntity(out, player.getPotionModel());
+                writeEntity(out, player.getWeaponModel());
+            }
+            case EnemyModel enemy -> {
+                out.writeEnum(enemy.getDamageType());
+                out.writeSignedInt(enemy.getHealth());
+                out.writeSignedInt(enemy.getAgility());
+                out.writeSignedInt(enemy.getStrength());
+                out.writeSignedInt(enemy.getHostility());
+
+                if (enemy instanceof MimicModel mimic)
+                    out.writeEnum(mimic.getAppearance());
+            }
+            case KeyModel key -> out.writeEnum(key.getColor());
+            case PotionModel potion -> {
+                out.writeEnum(potion.getAttribute());
+                out.writeSignedInt(potion.getImprovement());
+                out.writeSignedInt(potion.getTime());
+            }
+            case ScrollModel scroll -> out.writeEnum(scroll.getAttribute());
+            case WeaponModel weapon -> {
+                out.writeSignedInt(weapon.getDamage());
+                out.writeString(weapon.getName());
+            }
+            default -> {}
+        }
+    }
+
+    private GameEntityModel readEntity(BinaryInput in) throws IOException {
+        int ordinal = in.readVarInt();
+
+        if (ordinal == 0)
+            return null;
+
+        GameEntityModel entity = entityTypes.createModel(ordinal - 1);
+        entity.setPosition(readPosition(in));
+
+        switch (entity) {
+            case PlayerModel player -> {
+                player.setMaxHealth(in.readSignedInt());
+                player.setHealth(in.readSignedInt());
+                player.setAgility(in.readSignedInt());
+                player.setStrength(in.readSignedInt());
+                player.setViewAngle(in.readFloat());
+                player.setCurrentRoomIndex(in.readSignedInt());
+                player.setPotionModel((PotionModel) readEntity(in));
+                player.setWeaponModel((WeaponModel) readEntity(in));
+            }
+            case EnemyModel enemy -> {
+                enemy.setDamageType(in.readEnum(CHARACTERISTICS));
+                enemy.setHealth(in.readSignedInt());
+                enemy.setAgility(in.readSignedInt());
+                enemy.setStrength(in.readSignedInt());
+                enemy.setHostility(in.readSignedInt());
+
+                if (enemy instanceof MimicModel mimic)
+                    mimic.setAppearance(in.readEnum(SYMBOLS));
+            }
+            case KeyModel key -> key.setColor(in.readEnum(COLORS));
+            case PotionModel potion -> {
+                potion.setAttribute(in.readEnum(CHARACTERISTICS));
+                potion.setImprovement(in.readSignedInt());
+                potion.setTime(in.readSignedInt());
+            }
+            case ScrollModel scroll -> scroll.setAttribute(in.readEnum(CHARACTERISTICS));
+            case WeaponModel weapon -> {
+                weapon.setDamage(in.readSignedInt());
+                weapon.setName(in.readString());
+            }
+            default -> {}
+        }
+
+        return entity;
+    }
+
+    private static <T> void writeList(BinaryOutput out, List<? extends T> list, ElementWriter<T> writer) {
+        out.writeVarInt(list == null ? 0 : list.size() + 1);
+
+        if (list != null)
+            for (T element : list)
+                writer.write(out, element);
+    }
+
+    private static <T> List<T> readList(BinaryInput in, ElementReader<T> reader) throws IOException {
+        int size = in.readVarInt();
+
+        if (size == 0)
+            return null;
+
+        List<T> list = new ArrayList<>(size - 1);
+
+        for (int i = 0; i < size - 1; i++)
+            list.add(reader.read(in));
+
+        return list;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @FunctionalInterface
+    private interface ElementWriter<T> {
+        void write(BinaryOutput out, T element);
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read(BinaryInput in) throws IOException;
+    }
+}
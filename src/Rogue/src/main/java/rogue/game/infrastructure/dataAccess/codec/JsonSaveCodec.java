@@ -0,0 +1,115 @@
+package rogue.game.infrastructure.dataAccess.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import rogue.game.infrastructure.dataAccess.journal.JournalRecordType;
+import rogue.game.infrastructure.dataAccess.model.BalancerModel;
+import rogue.game.infrastructure.dataAccess.model.GameStatsModel;
+import rogue.game.infrastructure.dataAccess.model.InventoryModel;
+import rogue.game.infrastructure.dataAccess.model.SerializeData;
+import rogue.game.infrastructure.dataAccess.model.entities.PlayerModel;
+import rogue.game.infrastructure.dataAccess.model.level.LevelModel;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * {@link SaveCodec} writing the snapshot as tab-indented JSON, and the journal parts as compact JSON.
+ *
+ * <p> A snapshot file is read with a streaming {@link JsonParser}: the parts of the current game are bound to models
+ * as they come, and the walkthroughs, written last, are left in the file as {@link JsonWalkthroughPages}.
+ */
+public class JsonSaveCodec implements SaveCodec {
+    private final ObjectMapper mapper;
+    private final ObjectWriter partWriter;
+
+    public JsonSaveCodec() {
+        mapper = new ObjectMapper();
+        mapper.configure(SerializationFeature.INDENT_OUTPUT, true);
+        mapper.setDefaultPrettyPrinter(new DefaultPrettyPrinter().withArrayIndenter(new DefaultIndenter("\t", "\n")));
+
+        partWriter = new ObjectMapper().writer();
+    }
+
+    @Override
+    public String getExtension() {
+        return "json";
+    }
+
+    @Override
+    public byte[] encode(SerializeData data) throws IOException {
+        return mapper.writeValueAsBytes(data);
+    }
+
+    @Override
+    public SerializeData decode(byte[] bytes) throws IOException {
+        return mapper.readValue(bytes, SerializeData.class);
+    }
+
+    @Override
+    public LoadedSnapshot read(Path path) throws IOException {
+        SerializeData data = new SerializeData();
+        WalkthroughPages walkthroughs = null;
+        int walkthroughCount = -1;
+
+        try (JsonParser parser = mapper.createParser(path.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                throw new JsonParseException(parser, "The save is not a JSON object");
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+
+                switch (field) {
+                    case "total_stats" -> data.setTotalStats(mapper.readValue(parser, GameStatsModel.class));
+                    case "current_stats" -> data.setCurrentStats(mapper.readValue(parser, GameStatsModel.class));
+                    case "player" -> data.setPlayerModel(mapper.readValue(parser, PlayerModel.class));
+                    case "balancer" -> data.setBalancerModel(mapper.readValue(parser, BalancerModel.class));
+                    case "inventory" -> data.setInventoryModel(mapper.readValue(parser, InventoryModel.class));
+                    case "level" -> data.setLevelModel(mapper.readValue(parser, LevelModel.class));
+                    case "seed" -> data.setSeed(mapper.readValue(parser, Long.class));
+                    case "journal_sequence" -> data.setJournalSequence(parser.getLongValue());
+                    case "walkthrough_count" -> walkthroughCount = parser.getIntValue();
+                    case "walkthroughes" -> {
+                        if (walkthroughCount >= 0) {
+                            long start = parser.currentTokenLocation().getByteOffset();
+
+                            return new LoadedSnapshot(data, new JsonWalkthroughPages(path, mapper, start,
+                                    walkthroughCount));
+                        }
+
+                        walkthroughs = JsonWalkthroughPages.index(path, mapper, parser);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        return new LoadedSnapshot(data, walkthroughs);
+    }
+
+    @Override
+    public byte[] encodePart(JournalRecordType type, Object part) throws IOException {
+        return partWriter.writeValueAsBytes(part);
+    }
+
+    @Override
+    public Object decodePart(JournalRecordType type, byte[] bytes) throws IOException {
+        Class<?> partClass = switch (type) {
+            case PLAYER -> PlayerModel.class;
+            case INVENTORY -> InventoryModel.class;
+            case LEVEL -> LevelModel.class;
+            case BALANCER -> BalancerModel.class;
+            case TOTAL_STATS, CURRENT_STATS, WALKTHROUGH -> GameStatsModel.class;
+            case SEED -> Long.class;
+        };
+
+        return mapper.readValue(bytes, partClass);
+    }
+}
@@ -0,0 +1,152 @@
+package rogue.game.infrastructure.dataAccess.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import rogue.game.infrastructure.dataAccess.model.GameStatsModel;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link WalkthroughPages} of the {@code walkthroughes} array of a JSON snapshot.
+ *
+ * <p> The byte offset of every walkthrough is indexed the first time the array is read that far, so a page is decoded
+ * by parsing from the offset of its first walkthrough, with an opening bracket put in front to make the rest of the
+ * array valid JSON, and only its own walkthroughs are bound to models.
+ */
+class JsonWalkthroughPages implements WalkthroughPages {
+    private static final byte[] ARRAY_START = {'['};
+
+    private final Path path;
+    private final ObjectMapper mapper;
+    private final long arrayStart;
+    private final int size;
+
+    private long[] offsets;
+    private int indexed;
+
+    /**
+     * @param path The snapshot file.
+     * @param mapper The mapper of the snapshot.
+     * @param arrayStart The byte offset of the opening bracket of the array.
+     * @param size The number of walkthroughs in the array.
+     */
+    JsonWalkthroughPages(Path path, ObjectMapper mapper, long arrayStart, int size) {
+        this.path = path;
+        this.mapper = mapper;
+        this.arrayStart = arrayStart;
+        this.size = size;
+        this.offsets = new long[size];
+    }
+
+    /**
+     * Indexes the whole array while skipping it, for snapshots which do not write the walkthrough count first.
+     *
+     * @param path The snapshot file.
+     * @param mapper The mapper of the snapshot.
+     * @param parser The parser of the snapshot, on the opening bracket of the array; left on its closing bracket.
+     * @return The pages of the array.
+     */
+    static JsonWalkthroughPages index(Path path, ObjectMapper mapper, JsonParser parser) throws IOException {
+        long start = parser.currentTokenLocation().getByteOffset();
+        long[] offsets = new long[64];
+        int count = 0;
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (count == offsets.length)
+                offsets = Arrays.copyOf(offsets, count * 2);
+
+            offsets[count++] = parser.currentTokenLocation().getByteOffset();
+            parser.skipChildren();
+        }
+
+        JsonWalkthroughPages pages = new JsonWalkthroughPages(path, mapper, start, count);
+        pages.offsets = Arrays.copyOf(offsets, count);
+        pages.indexed = count;
+
+        return pages;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized List<GameStatsModel> read(int from, int count) throws IOException {
+        int end = (int) Math.min(size, (long) from + Math.max(count, 0));
+
+        if (from < 0 || from >= end)
+            return List.of();
+
+        indexUpTo(from + 1);
+
+        List<GameStatsModel> page = new ArrayList<>(end - from);
+        long offset = offsets[from];
+
+        try (JsonParser parser = open(offset, true)) {
+            parser.nextToken();
+
+            for (int i = from; i < end; i++) {
+                if (parser.nextToken() != JsonToken.START_OBJECT)
+                    throw new StreamCorruptedException("Fewer walkthroughs than counted");
+
+                if (i == indexed)
+                    offsets[indexed++] = offset - 1 + parser.currentTokenLocation().getByteOffset();
+
+                page.add(mapper.readValue(parser, GameStatsModel.class));
+            }
+        }
+
+        return page;
+    }
+
+    /**
+     * Indexes the offsets of the walkthroughs up to a count, going on from the last indexed one.
+     */
+    private void indexUpTo(int count) throws IOException {
+        if (indexed >= count)
+            return;
+
+        boolean resume = indexed > 0;
+        long offset = resume ? offsets[indexed - 1] : arrayStart;
+        long shift = resume ? offset - 1 : offset;
+
+        try (JsonParser parser = open(offset, resume)) {
+            parser.nextToken();
+
+            if (resume) {
+                parser.nextToken();
+                parser.skipChildren();
+            }
+
+            while (indexed < count && parser.nextToken() == JsonToken.START_OBJECT) {
+                offsets[indexed++] = shift + parser.currentTokenLocation().getByteOffset();
+                parser.skipChildren();
+            }
+        }
+
+        if (indexed < count)
+            throw new StreamCorruptedException("Fewer walkthroughs than counted");
+    }
+
+    private JsonParser open(long offset, boolean insideArray) throws IOException {
+        FileChannel channel = FileChannel.open(path).position(offset);
+        InputStream in = Channels.newInputStream(channel);
+
+        if (insideArray)
+            in = new SequenceInputStream(new ByteArrayInputStream(ARRAY_START), in);
+
+        return mapper.createParser(in);
+    }
+}
@@ -0,0 +1,11 @@
+package rogue.game.infrastructure.dataAccess.codec;
+
+import rogue.game.infrastructure.dataAccess.model.SerializeData;
+
+/**
+ * A save snapshot read from a file.
+ *
+ * @param data The game data.
+ * @param walkthroughs The walkthroughs left in the file, or null if they are all in {@code data}.
+ */
+public record LoadedSnapshot(SerializeData data, WalkthroughPages walkthroughs) {}
@@ -0,0 +1,46 @@
+package rogue.game.infrastructure.dataAccess.codec;
+
+import rogue.game.infrastructure.dataAccess.journal.JournalRecordType;
+import rogue.game.infrastructure.dataAccess.model.SerializeData;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Encoding of the game data in a save file.
+ *
+ * <p> A codec encodes both the whole {@link SerializeData}, as the snapshot of a save, and the single parts of it
+ * written to the save journal, as listed by {@link JournalRecordType}.
+ */
+public interface SaveCodec {
+    /**
+     * @return The extension of the save files using this encoding, without the dot.
+     */
+    String getExtension();
+
+    byte[] encode(SerializeData data) throws IOException;
+
+    SerializeData decode(byte[] bytes) throws IOException;
+
+    /**
+     * Reads a snapshot file; a codec may leave the walkthroughs in the file, to be decoded on demand.
+     *
+     * @param path The snapshot file.
+     * @return The snapshot, by default fully decoded.
+     */
+    default LoadedSnapshot read(Path path) throws IOException {
+        return new LoadedSnapshot(decode(Files.readAllBytes(path)), null);
+    }
+
+    /**
+     * Encodes a part of the game data.
+     *
+     * @param type The part.
+     * @param part The model of the part, such as a {@code LevelModel} for {@link JournalRecordType#LEVEL}.
+     * @return The encoded part.
+     */
+    byte[] encodePart(JournalRecordType type, Object part) throws IOException;
+
+    Object decodePart(JournalRecordType type, byte[] bytes) throws IOException;
+}
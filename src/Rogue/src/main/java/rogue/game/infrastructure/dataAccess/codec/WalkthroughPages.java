@@ -0,0 +1,22 @@
+package rogue.game.infrastructure.dataAccess.codec;
+
+import rogue.game.infrastructure.dataAccess.model.GameStatsModel;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The walkthroughs of a save snapshot, left in the file and decoded on demand.
+ */
+public interface WalkthroughPages {
+    int size();
+
+    /**
+     * Decodes consecutive walkthroughs, in the order of the snapshot.
+     *
+     * @param from The index of the first walkthrough.
+     * @param count The maximum number of walkthroughs.
+     * @return The walkthroughs, fewer than {@code count} at the end of the snapshot.
+     */
+    List<GameStatsModel> read(int from, int count) throws IOException;
+}
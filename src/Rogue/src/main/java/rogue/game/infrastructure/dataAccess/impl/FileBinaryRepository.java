@@ -0,0 +1,15 @@
+package rogue.game.infrastructure.dataAccess.impl;
+
+import rogue.game.infrastructure.dataAccess.codec.BinarySaveCodec;
+
+/**
+ * File-based repository storing the game data in the compact binary format of {@link BinarySaveCodec}.
+ */
+public class FileBinaryRepository extends JournaledFileRepository {
+    /**
+     * @param compress True to compress the snapshot and the journal records with {@code Deflater}.
+     */
+    public FileBinaryRepository(String filePath, String fileName, boolean compress) {
+        super(filePath, fileName, new BinarySaveCodec(compress));
+    }
+}
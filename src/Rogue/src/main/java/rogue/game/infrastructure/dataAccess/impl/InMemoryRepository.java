@@ -0,0 +1,123 @@
+package rogue.game.infrastructure.dataAccess.impl;
+
+import rogue.game.common.enums.StatsOrder;
+import rogue.game.domain.entities.Balancer;
+import rogue.game.domain.entities.GameStats;
+import rogue.game.domain.entities.Inventory;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.level.Level;
+import rogue.game.domain.repository.GameRepository;
+import rogue.game.infrastructure.dataAccess.stats.Leaderboard;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link GameRepository} keeping the game data in memory only, for headless runs and tools.
+ *
+ * <p> The entities are kept by reference, without copying them, and {@link #save()} does nothing.
+ */
+public class InMemoryRepository implements GameRepository {
+    private final Leaderboard<GameStats> walkthroughs = new Leaderboard<>(order -> switch (order) {
+        case LEVEL -> GameStats::getLevel;
+        case TREASURE -> GameStats::getTreasureAmount;
+        case DEFEATED_ENEMIES -> GameStats::getCountOfDefeatedEnemies;
+    });
+
+    private Player player;
+    private Inventory inventory;
+    private Level level;
+    private Balancer balancer;
+    private GameStats totalStats;
+    private GameStats currentStats;
+    private Long seed;
+
+    @Override
+    public void insert(GameStats gameStats) {
+        walkthroughs.add(gameStats);
+    }
+
+    @Override
+    public void update(Player player) {
+        this.player = player;
+    }
+
+    @Override
+    public void update(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    @Override
+    public void update(Level level) {
+        this.level = level;
+    }
+
+    @Override
+    public void update(Balancer balancer) {
+        this.balancer = balancer;
+    }
+
+    @Override
+    public void update(GameStats totalGameStats, GameStats currentGameStats) {
+        this.totalStats = totalGameStats;
+        this.currentStats = currentGameStats;
+    }
+
+    @Override
+    public void updateSeed(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public void save() {}
+
+    @Override
+    public Optional<Player> getPlayer() {
+        return Optional.ofNullable(player);
+    }
+
+    @Override
+    public Optional<Inventory> getInventory() {
+        return Optional.ofNullable(inventory);
+    }
+
+    @Override
+    public Optional<Level> getLevel() {
+        return Optional.ofNullable(level);
+    }
+
+    @Override
+    public Optional<Balancer> getBalancer() {
+        return Optional.ofNullable(balancer);
+    }
+
+    @Override
+    public Optional<GameStats> getTotalGameStats() {
+        return Optional.ofNullable(totalStats);
+    }
+
+    @Override
+    public Optional<GameStats> getCurrentGameStats() {
+        return Optional.ofNullable(currentStats);
+    }
+
+    @Override
+    public Optional<Long> getSeed() {
+        return Optional.ofNullable(seed);
+    }
+
+    @Override
+    public List<GameStats> getListOfStats() {
+        return walkthroughs.page(StatsOrder.LEVEL, 0, walkthroughs.size());
+    }
+
+    @Override
+    public int getStatsCount() {
+        return walkthroughs.size();
+    }
+
+    @Override
+    public List<GameStats> getStats(StatsOrder order, int offset, int limit) {
+        return walkthroughs.page(order, offset, limit);
+    }
+}
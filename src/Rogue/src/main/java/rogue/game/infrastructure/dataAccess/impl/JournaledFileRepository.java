@@ -0,0 +1,534 @@
+package rogue.game.infrastructure.dataAccess.impl;
+
+import rogue.game.common.enums.StatsOrder;
+import rogue.game.domain.entities.*;
+import rogue.game.domain.entities.level.Level;
+import rogue.game.infrastructure.dataAccess.codec.LoadedSnapshot;
+import rogue.game.infrastructure.dataAccess.codec.SaveCodec;
+import rogue.game.infrastructure.dataAccess.codec.WalkthroughPages;
+import rogue.game.infrastructure.dataAccess.journal.JournalRecord;
+import rogue.game.infrastructure.dataAccess.journal.JournalRecordType;
+import rogue.game.infrastructure.dataAccess.journal.SaveJournal;
+import rogue.game.infrastructure.dataAccess.mapper.MapperRegistry;
+import rogue.game.infrastructure.dataAccess.mapper.balancerMapper.BalancerMapper;
+import rogue.game.infrastructure.dataAccess.mapper.gameEntityMapper.GameEntityMapper;
+import rogue.game.infrastructure.dataAccess.mapper.gameStatsMapper.GameStatsMapper;
+import rogue.game.infrastructure.dataAccess.mapper.inventoryMapper.InventoryMapper;
+import rogue.game.infrastructure.dataAccess.mapper.levelMapper.LevelMapper;
+import rogue.game.infrastructure.dataAccess.model.BalancerModel;
+import rogue.game.infrastructure.dataAccess.model.GameStatsModel;
+import rogue.game.infrastructure.dataAccess.model.InventoryModel;
+import rogue.game.infrastructure.dataAccess.model.entities.PlayerModel;
+import rogue.game.infrastructure.dataAccess.model.SerializeData;
+import rogue.game.infrastructure.dataAccess.model.level.LevelModel;
+import rogue.game.infrastructure.dataAccess.stats.Leaderboard;
+import rogue.game.domain.repository.GameRepository;
+import rogue.game.infrastructure.dataAccess.model.entities.GameEntityModel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * File-based repository for storing and loading game data, in the encoding of a {@link SaveCodec}.
+ *
+ * <p> The file holds a snapshot of the game data, and the changes made since are appended to a {@link SaveJournal}
+ * next to it: {@link #save()} writes a small record for each part updated since the last save, and for each new
+ * walkthrough, instead of rewriting the whole history. Once the journal reaches a fixed size, it is compacted into a
+ * new snapshot. Loading reads the snapshot and replays the records of the journal it does not include yet: every
+ * walkthrough, but only the last record of each other part, as the earlier ones are superseded.
+ *
+ * <p> The walkthroughs of the snapshot are only decoded when the statistics are asked for, page by page, if the codec
+ * can leave them in the file; they are all decoded at the latest when a new snapshot is written. Once decoded, they are
+ * ranked in a {@link Leaderboard}, and the snapshot stores them in the order of {@link StatsOrder#LEVEL}.
+ */
+public class JournaledFileRepository implements GameRepository {
+    /**
+     * The journal is compacted once it grows past this size, whatever the size of the snapshot, so the time to replay
+     * it on load does not grow with the walkthrough history.
+     */
+    private static final long MAX_JOURNAL_BYTES = 1024 * 1024;
+
+    private final Path filePath;
+    private final SaveCodec codec;
+    private final SaveJournal journal;
+
+    /**
+     * The parts updated since the last save, the walkthroughs inserted since, and the last payload written per part.
+     */
+    private final Set<JournalRecordType> dirty = EnumSet.noneOf(JournalRecordType.class);
+    private final List<GameStatsModel> newWalkthroughs = new ArrayList<>();
+    private final Map<JournalRecordType, byte[]> lastWritten = new EnumMap<>(JournalRecordType.class);
+
+    /**
+     * Held while saving, so the updates only wait for the parts to save to be picked, not for them to be written.
+     */
+    private final Object writeLock = new Object();
+
+    private long sequence;
+
+    /**
+     * The game data to be serialized and deserialized.
+     */
+    private final SerializeData serializeData;
+
+    /**
+     * The walkthroughs left in the snapshot file, or null once they are all in {@link #serializeData}. While they are
+     * in the file, {@link #serializeData} and {@link #leaderboard} only hold the walkthroughs inserted since the snapshot
+     * was written.
+     */
+    private WalkthroughPages snapshotWalkthroughs;
+
+    /**
+     * The walkthroughs of {@link #serializeData}, ranked.
+     */
+    private final Leaderboard<GameStatsModel> leaderboard = new Leaderboard<>(order -> switch (order) {
+        case LEVEL -> GameStatsModel::getLevel;
+        case TREASURE -> GameStatsModel::getTreasureAmount;
+        case DEFEATED_ENEMIES -> GameStatsModel::getCountOfDefeatedEnemies;
+    });
+
+    public JournaledFileRepository(String filePath, String fileName, SaveCodec codec) {
+        this.filePath = Paths.get(filePath, fileName);
+        this.codec = codec;
+
+        if (Files.notExists(this.filePath)) {
+            try {
+                Files.createFile(this.filePath);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        journal = new SaveJournal(Paths.get(filePath, fileName + ".journal"));
+
+        LoadedSnapshot snapshot = readSnapshot();
+
+        this.serializeData = snapshot.data();
+        this.snapshotWalkthroughs = snapshot.walkthroughs();
+        this.sequence = serializeData.getJournalSequence();
+
+        serializeData.getWalkthroughes().forEach(leaderboard::add);
+        replayJournal();
+
+        MapperRegistry.init();
+    }
+
+    /**
+     * Reads the snapshot from the file, leaving the walkthroughs in it if the codec supports it.
+     * @return the snapshot, empty if the file is
+     */
+    private LoadedSnapshot readSnapshot() {
+        try {
+            if(Files.size(filePath) > 0) {
+                return codec.read(filePath);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new LoadedSnapshot(new SerializeData(), null);
+    }
+
+    /**
+     * Applies the records of the journal the snapshot does not include yet: the walkthroughs in order, as they are
+     * read, and then the last record of each other part, so the superseded ones are never decoded.
+     */
+    private void replayJournal() {
+        long snapshotSequence = sequence;
+        Map<JournalRecordType, JournalRecord> latest = new EnumMap<>(JournalRecordType.class);
+
+        journal.replay(record -> {
+            if (record.sequence() <= snapshotSequence)
+                return;
+
+            if (record.type() == JournalRecordType.WALKTHROUGH)
+                apply(record);
+            else
+                latest.put(record.type(), record);
+
+            sequence = Math.max(sequence, record.sequence());
+        });
+
+        for (JournalRecord record : latest.values()) {
+            apply(record);
+            lastWritten.put(record.type(), record.payload());
+        }
+    }
+
+    /**
+     * Decodes a record replayed from the journal into the game data.
+     * @param record the replayed record
+     */
+    private void apply(JournalRecord record) {
+        try {
+            Object part = codec.decodePart(record.type(), record.payload());
+
+            switch (record.type()) {
+                case PLAYER -> serializeData.setPlayerModel((PlayerModel) part);
+                case INVENTORY -> serializeData.setInventoryModel((InventoryModel) part);
+                case LEVEL -> serializeData.setLevelModel((LevelModel) part);
+                case BALANCER -> serializeData.setBalancerModel((BalancerModel) part);
+                case TOTAL_STATS -> serializeData.setTotalStats((GameStatsModel) part);
+                case CURRENT_STATS -> serializeData.setCurrentStats((GameStatsModel) part);
+                case SEED -> serializeData.setSeed((Long) part);
+                case WALKTHROUGH -> addWalkthrough((GameStatsModel) part);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public synchronized void insert(GameStats gameStats) {
+        GameStatsModel model = MapperRegistry.getMapper(GameStatsMapper.class).toModel(gameStats);
+
+        addWalkthrough(model);
+        newWalkthroughs.add(model);
+    }
+
+    private void addWalkthrough(GameStatsModel walkthrough) {
+        serializeData.addWalkthrough(walkthrough);
+        leaderboard.add(walkthrough);
+    }
+
+    /**
+     * Appends the parts updated since the last save to the journal, and compacts it once it reaches its maximum size.
+     */
+    @Override
+    public void save() {
+        synchronized (writeLock) {
+            Map<JournalRecordType, Object> parts = new EnumMap<>(JournalRecordType.class);
+            List<GameStatsModel> walkthroughs;
+
+            synchronized (this) {
+                for (JournalRecordType type : dirty)
+                    parts.put(type, partOf(type));
+
+                walkthroughs = List.copyOf(newWalkthroughs);
+                dirty.clear();
+                newWalkthroughs.clear();
+            }
+
+            List<JournalRecord> records = new ArrayList<>();
+
+            try {
+                for (Map.Entry<JournalRecordType, Object> part : parts.entrySet()) {
+                    byte[] payload = codec.encodePart(part.getKey(), part.getValue());
+
+                    if (!Arrays.equals(payload, lastWritten.get(part.getKey()))) {
+                        records.add(new JournalRecord(++sequence, part.getKey(), payload));
+                        lastWritten.put(part.getKey(), payload);
+                    }
+                }
+
+                for (GameStatsModel walkthrough : walkthroughs)
+                    records.add(new JournalRecord(++sequence, JournalRecordType.WALKTHROUGH,
+                            codec.encodePart(JournalRecordType.WALKTHROUGH, walkthrough)));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+
+            journal.append(records);
+
+            if (journal.size() > MAX_JOURNAL_BYTES)
+                compact();
+        }
+    }
+
+    /**
+     * Writes the whole game data to a new snapshot, replacing the old one atomically, and empties the journal.
+     * <p> A crash between the two steps is harmless: the records left in the journal are skipped on load, as the
+     * snapshot records the sequence number of the last one it includes.
+     * <p> The game data is serialized while holding the lock of the repository, so the walkthroughs inserted but not
+     * yet journaled are part of the snapshot and are not journaled again. The parts may have changed since they were
+     * last journaled, so the payloads written before no longer tell what a reload restores, and are forgotten.
+     */
+    private void compact() {
+        Path temp = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            byte[] snapshot;
+
+            synchronized (this) {
+                loadSnapshotWalkthroughs();
+                rankWalkthroughs();
+                serializeData.setJournalSequence(sequence);
+                snapshot = codec.encode(serializeData);
+                newWalkthroughs.clear();
+                lastWritten.clear();
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+
+            channel.force(true);
+            Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        journal.clear();
+    }
+
+    /**
+     * Replaces the game data of this repository with the data of another one, and writes it as a new snapshot.
+     * <p> Used to convert a save from one encoding to another.
+     * @param source the repository to copy
+     */
+    public void copyFrom(JournaledFileRepository source) {
+        synchronized (writeLock) {
+            synchronized (this) {
+                synchronized (source) {
+                    source.loadSnapshotWalkthroughs();
+
+                    SerializeData data = source.serializeData;
+
+                    serializeData.setTotalStats(data.getTotalStats());
+                    serializeData.setCurrentStats(data.getCurrentStats());
+                    serializeData.setPlayerModel(data.getPlayerModel());
+                    serializeData.setBalancerModel(data.getBalancerModel());
+                    serializeData.setInventoryModel(data.getInventoryModel());
+                    serializeData.setLevelModel(data.getLevelModel());
+                    serializeData.setSeed(data.getSeed());
+                    serializeData.getWalkthroughes().clear();
+                    leaderboard.clear();
+                    source.leaderboard.page(StatsOrder.LEVEL, 0, source.leaderboard.size()).forEach(this::addWalkthrough);
+                }
+
+                dirty.clear();
+                newWalkthroughs.clear();
+                lastWritten.clear();
+                snapshotWalkthroughs = null;
+            }
+
+            compact();
+        }
+    }
+
+    private Object partOf(JournalRecordType type) {
+        return switch (type) {
+            case PLAYER -> serializeData.getPlayerModel();
+            case INVENTORY -> serializeData.getInventoryModel();
+            case LEVEL -> serializeData.getLevelModel();
+            case BALANCER -> serializeData.getBalancerModel();
+            case TOTAL_STATS -> serializeData.getTotalStats();
+            case CURRENT_STATS -> serializeData.getCurrentStats();
+            case SEED -> serializeData.getSeed();
+            case WALKTHROUGH -> throw new IllegalArgumentException("Walkthroughs are only ever appended");
+        };
+    }
+
+    @Override
+    public synchronized void update(Player player) {
+        GameEntityModel model = MapperRegistry.getMapper(GameEntityMapper.class).toModel(player);
+
+        if(model instanceof PlayerModel playerModel) {
+            serializeData.setPlayerModel(playerModel);
+            dirty.add(JournalRecordType.PLAYER);
+        }
+    }
+
+    @Override
+    public synchronized void update(Inventory inventory) {
+        serializeData.setInventoryModel(MapperRegistry.getMapper(InventoryMapper.class).toModel(inventory));
+        dirty.add(JournalRecordType.INVENTORY);
+    }
+
+    @Override
+    public synchronized void update(Level level) {
+        serializeData.setLevelModel(MapperRegistry.getMapper(LevelMapper.class).toModel(level));
+        dirty.add(JournalRecordType.LEVEL);
+    }
+
+    @Override
+    public synchronized void update(Balancer balancer) {
+        serializeData.setBalancerModel(MapperRegistry.getMapper(BalancerMapper.class).toModel(balancer));
+        dirty.add(JournalRecordType.BALANCER);
+    }
+
+    @Override
+    public synchronized void update(GameStats totalGameStats, GameStats currentGameStats) {
+        serializeData.setTotalStats(MapperRegistry.getMapper(GameStatsMapper.class).toModel(totalGameStats));
+        serializeData.setCurrentStats(MapperRegistry.getMapper(GameStatsMapper.class).toModel(currentGameStats));
+        dirty.add(JournalRecordType.TOTAL_STATS);
+        dirty.add(JournalRecordType.CURRENT_STATS);
+    }
+
+    @Override
+    public synchronized void updateSeed(long seed) {
+        serializeData.setSeed(seed);
+        dirty.add(JournalRecordType.SEED);
+    }
+
+    @Override
+    public Optional<Player> getPlayer() {
+        GameEntity player = MapperRegistry.getMapper(GameEntityMapper.class).toEntity(serializeData.getPlayerModel());
+
+        if(player instanceof Player player1){
+            return Optional.of(player1);
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Inventory> getInventory() {
+        return Optional.ofNullable(MapperRegistry.getMapper(InventoryMapper.class).toEntity(serializeData.getInventoryModel()));
+    }
+
+    @Override
+    public Optional<Level> getLevel() {
+        return Optional.ofNullable(MapperRegistry.getMapper(LevelMapper.class).toEntity(serializeData.getLevelModel()));
+    }
+
+    @Override
+    public Optional<Balancer> getBalancer() {
+        return Optional.ofNullable(MapperRegistry.getMapper(BalancerMapper.class).toEntity(serializeData.getBalancerModel()));
+    }
+
+    @Override
+    public Optional<GameStats> getTotalGameStats() {
+        return Optional.ofNullable(MapperRegistry.getMapper(GameStatsMapper.class).toEntity(serializeData.getTotalStats()));
+    }
+
+    @Override
+    public Optional<GameStats> getCurrentGameStats() {
+        return Optional.ofNullable(MapperRegistry.getMapper(GameStatsMapper.class).toEntity(serializeData.getCurrentStats()));
+    }
+
+    @Override
+    public Optional<Long> getSeed() {
+        return Optional.ofNullable(serializeData.getSeed());
+    }
+
+    @Override
+    public synchronized List<GameStats> getListOfStats() {
+        return getStats(StatsOrder.LEVEL, 0, getStatsCount());
+    }
+
+    @Override
+    public synchronized int getStatsCount() {
+        int count = leaderboard.size();
+
+        return snapshotWalkthroughs == null ? count : count + snapshotWalkthroughs.size();
+    }
+
+    /**
+     * Gets a page of the walkthroughs; while they are in the snapshot file, a page by level is decoded on its own and
+     * merged with the walkthroughs inserted since, otherwise they are all decoded and ranked first.
+     */
+    @Override
+    public synchronized List<GameStats> getStats(StatsOrder order, int offset, int limit) {
+        List<GameStatsModel> page;
+
+        if (snapshotWalkthroughs != null && order != StatsOrder.LEVEL)
+            loadSnapshotWalkthroughs();
+
+        try {
+            page = snapshotWalkthroughs == null
+                    ? leaderboard.page(order, offset, limit)
+                    : mergeLevelPage(Math.max(offset, 0), limit);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        GameStatsMapper gameMapper = MapperRegistry.getMapper(GameStatsMapper.class);
+
+        return page.stream()
+                .map(gameMapper::toEntity)
+                .toList();
+    }
+
+    /**
+     * Gets a page by level of the walkthroughs left in the snapshot file and the ones inserted since, decoding only
+     * the walkthroughs of the page and a few more of the snapshot.
+     * <p> A walkthrough inserted since the snapshot ranks after the walkthroughs of the snapshot with the same level, as
+     * it was added after them. The number of inserted walkthroughs ranking before the page is searched by bisection,
+     * each step reading the walkthrough of the snapshot it would have to rank after.
+     */
+    private List<GameStatsModel> mergeLevelPage(int offset, int limit) throws IOException {
+        if (offset >= getStatsCount() || limit <= 0)
+            return List.of();
+
+        int low = 0;
+        int high = Math.min(leaderboard.size(), offset);
+
+        // The first inserted walkthrough at or after the page, all the ones before it rank before the page
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int level = leaderboard.page(StatsOrder.LEVEL, middle, 1).getFirst().getLevel();
+            int before = offset - middle;
+
+            if (before <= snapshotWalkthroughs.size()
+                    && snapshotWalkthroughs.read(before - 1, 1).getFirst().getLevel() >= level)
+                high = middle;
+            else
+                low = middle + 1;
+        }
+
+        List<GameStatsModel> stored = snapshotWalkthroughs.read(offset - low, limit);
+        List<GameStatsModel> inserted = leaderboard.page(StatsOrder.LEVEL, low, limit);
+        List<GameStatsModel> page = new ArrayList<>(limit);
+        int s = 0;
+        int i = 0;
+
+        while (page.size() < limit && (s < stored.size() || i < inserted.size())) {
+            if (s == stored.size() || (i < inserted.size() && inserted.get(i).getLevel() > stored.get(s).getLevel()))
+                page.add(inserted.get(i++));
+            else
+                page.add(stored.get(s++));
+        }
+
+        return page;
+    }
+
+    /**
+     * Decodes the walkthroughs left in the snapshot file and ranks them together with the ones inserted since.
+     */
+    private void loadSnapshotWalkthroughs() {
+        if (snapshotWalkthroughs == null)
+            return;
+
+        List<GameStatsModel> inserted = List.copyOf(serializeData.getWalkthroughes());
+
+        serializeData.getWalkthroughes().clear();
+        leaderboard.clear();
+
+        try {
+            snapshotWalkthroughs.read(0, snapshotWalkthroughs.size()).forEach(this::addWalkthrough);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        inserted.forEach(this::addWalkthrough);
+        snapshotWalkthroughs = null;
+    }
+
+    /**
+     * Puts the walkthroughs of {@link #serializeData} in the order of {@link StatsOrder#LEVEL}, as the snapshot stores
+     * them so a page of it can be read on its own.
+     */
+    private void rankWalkthroughs() {
+        List<GameStatsModel> walkthroughs = serializeData.getWalkthroughes();
+
+        walkthroughs.clear();
+        walkthroughs.addAll(leaderboard.page(StatsOrder.LEVEL, 0, leaderboard.size()));
+    }
+}
@@ -0,0 +1,10 @@
+package rogue.game.infrastructure.dataAccess.journal;
+
+/**
+ * A record read back from a {@link SaveJournal}.
+ *
+ * @param sequence The sequence number of the record, increasing across the whole life of the save.
+ * @param type The part of the game data the record holds.
+ * @param payload The serialized part.
+ */
+public record JournalRecord(long sequence, JournalRecordType type, byte[] payload) {}
@@ -0,0 +1,47 @@
+package rogue.game.infrastructure.dataAccess.journal;
+
+import rogue.game.infrastructure.dataAccess.model.SerializeData;
+
+/**
+ * The parts of the {@link SerializeData} a {@link SaveJournal} record can hold.
+ *
+ * <p> The codes are written to the journal file and must never change.
+ */
+public enum JournalRecordType {
+    PLAYER(1),
+    INVENTORY(2),
+    LEVEL(3),
+    BALANCER(4),
+    TOTAL_STATS(5),
+    CURRENT_STATS(6),
+    SEED(7),
+    /**
+     * A finished game appended to the history of walkthroughs.
+     */
+    WALKTHROUGH(8);
+
+    private static final JournalRecordType[] BY_CODE = new JournalRecordType[16];
+
+    static {
+        for (JournalRecordType type : values())
+            BY_CODE[type.code] = type;
+    }
+
+    private final int code;
+
+    JournalRecordType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @param code The code read from the journal.
+     * @return The type with this code, or null if the code is unknown.
+     */
+    public static JournalRecordType fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
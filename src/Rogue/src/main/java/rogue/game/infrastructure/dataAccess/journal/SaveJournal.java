@@ -0,0 +1,147 @@
+package rogue.game.infrastructure.dataAccess.journal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of length-prefixed {@link JournalRecord}.
+ *
+ * <p> Each record is written as its payload length, a CRC32 of the rest of the record, its sequence number, its
+ * {@link JournalRecordType} code and its payload. A batch of records is appended with a single write, so a crash
+ * leaves at most a torn record at the end of the file; such a tail is detected by its length or checksum and cut off
+ * when the journal is replayed. Appends are forced to the storage device before returning.
+ */
+public class SaveJournal {
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES + Byte.BYTES;
+
+    private final Path path;
+    private long size;
+
+    public SaveJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Reads all the complete records of the journal, in order, and cuts off a torn or corrupted tail.
+     *
+     * @param consumer The consumer of the records.
+     */
+    public void replay(Consumer<JournalRecord> consumer) {
+        if (Files.notExists(path)) {
+            size = 0;
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0);
+
+            buffer.flip();
+
+            long valid = 0;
+
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int length = buffer.getInt();
+                int crc = buffer.getInt();
+
+                if (length < 0 || buffer.remaining() < Long.BYTES + Byte.BYTES + length)
+                    break;
+
+                int start = buffer.position();
+                long sequence = buffer.getLong();
+                JournalRecordType type = JournalRecordType.fromCode(buffer.get());
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+
+                CRC32 checksum = new CRC32();
+                checksum.update(buffer.array(), start, buffer.position() - start);
+
+                if ((int) checksum.getValue() != crc || type == null)
+                    break;
+
+                consumer.accept(new JournalRecord(sequence, type, payload));
+                valid = buffer.position();
+            }
+
+            if (valid < channel.size())
+                channel.truncate(valid);
+
+            size = valid;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Appends records to the end of the journal with a single write.
+     *
+     * @param records The records to append.
+     */
+    public void append(List<JournalRecord> records) {
+        if (records.isEmpty())
+            return;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (JournalRecord record : records)
+                write(out, record);
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+                while (buffer.hasRemaining())
+                    channel.write(buffer);
+
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        size += bytes.size();
+    }
+
+    /**
+     * Empties the journal, once its records are part of a snapshot.
+     */
+    public void clear() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        size = 0;
+    }
+
+    /**
+     * @return The number of bytes of the valid records in the journal.
+     */
+    public long size() {
+        return size;
+    }
+
+    private static void write(DataOutputStream out, JournalRecord record) throws IOException {
+        ByteBuffer body = ByteBuffer.allocate(Long.BYTES + Byte.BYTES + record.payload().length);
+        body.putLong(record.sequence()).put((byte) record.type().getCode()).put(record.payload());
+
+        CRC32 checksum = new CRC32();
+        checksum.update(body.array());
+
+        out.writeInt(record.payload().length);
+        out.writeInt((int) checksum.getValue());
+        out.write(body.array());
+    }
+}
@@ -16,8 +16,11 @@ import rogue.game.infrastructure.dataAccess.mapper.modelEntityMapper.impl.Player
 import rogue.game.infrastructure.dataAccess.mapper.modelEntityMapper.impl.PortalMapper;
 import rogue.game.infrastructure.dataAccess.model.entities.GameEntityModel;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * A container class for managing mappers between {@link GameEntity} and their corresponding {@link GameEntityModel} representations.
@@ -39,62 +42,60 @@ public class EntityMappersContainer {
      */
     private final Map<Class<? extends GameEntityModel>, ModelEntityMapper> modelMappers = new HashMap<>();
 
-    public EntityMappersContainer() {
-        PortalMapper portalMapper = new PortalMapper();
-        entityMappers.put(Portal.class, portalMapper);
-        modelMappers.put(PortalModel.class, portalMapper);
-
-        PlayerMapper playerMapper = new PlayerMapper();
-        entityMappers.put(Player.class, playerMapper);
-        modelMappers.put(PlayerModel.class, playerMapper);
-
-        KeyMapper keyMapper = new KeyMapper();
-        entityMappers.put(Key.class, keyMapper);
-        modelMappers.put(KeyModel.class, keyMapper);
-
-        ScrollMapper scrollMapper = new ScrollMapper();
-        entityMappers.put(Scroll.class, scrollMapper);
-        modelMappers.put(ScrollModel.class, scrollMapper);
-
-        WeaponMapper weaponMapper = new WeaponMapper();
-        entityMappers.put(Weapon.class, weaponMapper);
-        modelMappers.put(WeaponModel.class, weaponMapper);
-
-        PotionMapper potionMapper = new PotionMapper();
-        entityMappers.put(Potion.class, potionMapper);
-        modelMappers.put(PotionModel.class, potionMapper);
-
-        FoodMapper foodMapper = new FoodMapper();
-        entityMappers.put(Food.class, foodMapper);
-        modelMappers.put(FoodModel.class, foodMapper);
-
-        TreasureMapper treasureMapper = new TreasureMapper();
-        entityMappers.put(Treasure.class, treasureMapper);
-        modelMappers.put(TreasureModel.class, treasureMapper);
-
-        ZombieMapper zombieMapper = new ZombieMapper();
-        entityMappers.put(Zombie.class, zombieMapper);
-        modelMappers.put(ZombieModel.class, zombieMapper);
+    /**
+     * The model classes in the order they were registered, and how to create an empty model of each.
+     * <p> The index of a class is its type ordinal in binary saves: new types must be registered last.
+     */
+    private final List<Class<? extends GameEntityModel>> modelTypes = new ArrayList<>();
+    private final List<Supplier<? extends GameEntityModel>> modelFactories = new ArrayList<>();
 
-        SnakeMagicianMapper snakeMagicianMapper = new SnakeMagicianMapper();
-        entityMappers.put(SnakeMagician.class, snakeMagicianMapper);
-        modelMappers.put(SnakeMagicianModel.class, snakeMagicianMapper);
+    public EntityMappersContainer() {
+        register(Portal.class, PortalModel.class, PortalModel::new, new PortalMapper());
+        register(Player.class, PlayerModel.class, PlayerModel::new, new PlayerMapper());
+        register(Key.class, KeyModel.class, KeyModel::new, new KeyMapper());
+        register(Scroll.class, ScrollModel.class, ScrollModel::new, new ScrollMapper());
+        register(Weapon.class, WeaponModel.class, WeaponModel::new, new WeaponMapper());
+        register(Potion.class, PotionModel.class, PotionModel::new, new PotionMapper());
+        register(Food.class, FoodModel.class, FoodModel::new, new FoodMapper());
+        register(Treasure.class, TreasureModel.class, TreasureModel::new, new TreasureMapper());
+        register(Zombie.class, ZombieModel.class, ZombieModel::new, new ZombieMapper());
+        register(SnakeMagician.class, SnakeMagicianModel.class, SnakeMagicianModel::new, new SnakeMagicianMapper());
+        register(Vampire.class, VampireModel.class, VampireModel::new, new VampireMapper());
+        register(Ogre.class, OgreModel.class, OgreModel::new, new OgreMapper());
+        register(Ghost.class, GhostModel.class, GhostModel::new, new GhostMapper());
+        register(Mimic.class, MimicModel.class, MimicModel::new, new MimicMapper());
+    }
 
-        VampireMapper vampireMapper = new VampireMapper();
-        entityMappers.put(Vampire.class, vampireMapper);
-        modelMappers.put(VampireModel.class, vampireMapper);
+    private <M extends GameEntityModel> void register(Class<? extends GameEntity> entityClass, Class<M> modelClass,
+                                                      Supplier<M> modelFactory, ModelEntityMapper mapper) {
+        entityMappers.put(entityClass, mapper);
+        modelMappers.put(modelClass, mapper);
+        modelTypes.add(modelClass);
+        modelFactories.add(modelFactory);
+    }
 
-        OgreMapper ogreMapper = new OgreMapper();
-        entityMappers.put(Ogre.class, ogreMapper);
-        modelMappers.put(OgreModel.class, ogreMapper);
+    /**
+     * Gets the type ordinal of a {@link GameEntityModel}, stable across versions of the game.
+     *
+     * @param model The model.
+     * @return The ordinal of its class, or -1 if the class is not registered.
+     */
+    public int getTypeOrdinal(GameEntityModel model) {
+        return modelTypes.indexOf(model.getClass());
+    }
 
-        GhostMapper ghostMapper = new GhostMapper();
-        entityMappers.put(Ghost.class, ghostMapper);
-        modelMappers.put(GhostModel.class, ghostMapper);
+    /**
+     * Creates an empty {@link GameEntityModel} of the class with a type ordinal.
+     *
+     * @param ordinal The type ordinal.
+     * @return The new model.
+     * @throws IllegalArgumentException If no class has this ordinal.
+     */
+    public GameEntityModel createModel(int ordinal) {
+        if (ordinal < 0 || ordinal >= modelFactories.size())
+            throw new IllegalArgumentException("Unknown entity type ordinal: " + ordinal);
 
-        MimicMapper mimicMapper = new MimicMapper();
-        entityMappers.put(Mimic.class, mimicMapper);
-        modelMappers.put(MimicModel.class, mimicMapper);
+        return modelFactories.get(ordinal).get();
     }
 
     /**
@@ -6,7 +6,6 @@ import rogue.game.domain.entities.level.Level;
 import rogue.game.infrastructure.dataAccess.model.level.LevelModel;
 import rogue.game.domain.entities.level.*;
 import rogue.game.domain.entities.enemies.Enemy;
-import rogue.game.domain.enums.LevelAttribute;
 import rogue.game.infrastructure.dataAccess.mapper.MapperRegistry;
 import rogue.game.infrastructure.dataAccess.mapper.corridorMapper.CorridorMapper;
 import rogue.game.infrastructure.dataAccess.mapper.gameEntityMapper.GameEntityMapper;
@@ -26,6 +25,10 @@ public interface LevelMapper {
     @Mapping(target = "sequence", source = "sequence", qualifiedByName = "toRoomModelsList")
     @Mapping(target = "corridors", source = "corridors", qualifiedByName = "toCorridorModelsList")
     @Mapping(target = "enemies", source = "enemies", qualifiedByName = "toEnemyModelsList")
+    @Mapping(target = "rows", source = "dimensions.rows")
+    @Mapping(target = "columns", source = "dimensions.columns")
+    @Mapping(target = "sectorWidth", source = "dimensions.sectorWidth")
+    @Mapping(target = "sectorHeight", source = "dimensions.sectorHeight")
     LevelModel toModel(Level level);
 
     /**
@@ -45,7 +48,10 @@ public interface LevelMapper {
         GameEntityMapper gameEntityMapper = MapperRegistry.getMapper(GameEntityMapper.class);
         CorridorMapper corridorMapper = MapperRegistry.getMapper(CorridorMapper.class);
 
-        Level level = new Level();
+        Level level = new Level(levelModel.getRows() == 0
+                ? LevelDimensions.DEFAULT
+                : new LevelDimensions(levelModel.getRows(), levelModel.getColumns(),
+                                      levelModel.getSectorWidth(), levelModel.getSectorHeight()));
 
         level.setLevelNumber(levelModel.getLevelNumber());
 
@@ -58,7 +64,7 @@ public interface LevelMapper {
 
         List<Room> sequence = level.getSequence();
 
-        for(int i = 0; i < LevelAttribute.ROOMS_NUMBER.value; i++){
+        for(int i = 0; i < rooms.size(); i++){
             List<Integer> connectionsModel = rooms.get(i).getConnections();
 
             Room r = level.getRoom(i);
@@ -71,6 +77,8 @@ public interface LevelMapper {
             }
         }
 
+        level.buildLayout();
+
         return level;
     }
 }
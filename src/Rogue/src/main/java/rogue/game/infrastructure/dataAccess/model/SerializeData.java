@@ -1,6 +1,7 @@
 package rogue.game.infrastructure.dataAccess.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -12,7 +13,10 @@ import java.util.*;
 /**
  * This class represents the serialized data of the game state.
  * <p> It contains various models representing different aspects of the game, such as player information, inventory, level, and statistics.
+ * <p> The walkthroughs are written last, after their count, so the current game can be read without going through them.
  */
+@JsonPropertyOrder({"total_stats", "current_stats", "player", "balancer", "inventory", "level", "seed", "journal_sequence",
+        "walkthrough_count", "walkthroughes"})
 @NoArgsConstructor
 @Getter
 @Setter
@@ -31,9 +35,23 @@ public class SerializeData {
     private final List<GameStatsModel> walkthroughes = new ArrayList<>();
     @JsonProperty("level")
     private LevelModel levelModel = null;
+    @JsonProperty("seed")
+    private Long seed = null;
+    /**
+     * The sequence number of the last save journal record included in this data.
+     */
+    @JsonProperty("journal_sequence")
+    private long journalSequence = 0;
 
+    @JsonProperty(value = "walkthrough_count", access = JsonProperty.Access.READ_ONLY)
+    public int getWalkthroughCount() {
+        return walkthroughes.size();
+    }
+
+    /**
+     * Appends a walkthrough; the repository keeps the walkthroughs ranked and orders them by level before writing them.
+     */
     public void addWalkthrough(GameStatsModel gameStats) {
         walkthroughes.add(gameStats);
-        walkthroughes.sort(Comparator.comparingInt(GameStatsModel::getLevel).reversed());
     }
 }
@@ -16,6 +16,14 @@ import java.util.List;
 @NoArgsConstructor
 public class LevelModel {
     private int levelNumber;
+
+    /**
+     * The size of the room grid; 0 in saves made before it was configurable, which use the default 3x3 grid.
+     */
+    private int rows;
+    private int columns;
+    private int sectorWidth;
+    private int sectorHeight;
     private List<RoomModel> sequence;
     private List<CorridorModel> corridors;
     private List<EnemyModel> enemies;
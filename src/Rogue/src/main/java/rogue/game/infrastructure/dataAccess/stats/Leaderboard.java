@@ -0,0 +1,72 @@
+package rogue.game.infrastructure.dataAccess.stats;
+
+import rogue.game.common.enums.StatsOrder;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Store of walkthrough statistics, kept ranked in every {@link StatsOrder} as they are added.
+ *
+ * <p> Adding a walkthrough and reading a page of any ranking take a logarithmic time in the number of walkthroughs,
+ * plus the length of the page, so the history never has to be sorted again.
+ *
+ * @param <T> The type of the walkthrough statistics.
+ */
+public class Leaderboard<T> {
+    private final Map<StatsOrder, RankedTree<T>> rankings = new EnumMap<>(StatsOrder.class);
+
+    private long sequence;
+
+    /**
+     * @param keys The key of the walkthroughs for each order, ranked from the highest down.
+     */
+    public Leaderboard(Function<StatsOrder, ToIntFunction<T>> keys) {
+        for (StatsOrder order : StatsOrder.values())
+            rankings.put(order, new RankedTree<>(keys.apply(order)));
+    }
+
+    /**
+     * Adds a walkthrough, ranked after the walkthroughs added before with the same key.
+     */
+    public void add(T walkthrough) {
+        long added = sequence++;
+
+        for (RankedTree<T> ranking : rankings.values())
+            ranking.insert(walkthrough, added);
+    }
+
+    public int size() {
+        return rankings.get(StatsOrder.LEVEL).size();
+    }
+
+    /**
+     * Gets a page of a ranking.
+     *
+     * @param order The ranking.
+     * @param offset The rank of the first walkthrough of the page, counted from 0.
+     * @param limit The maximum number of walkthroughs in the page.
+     * @return The walkthroughs of the page, fewer than {@code limit} at the end of the ranking.
+     */
+    public List<T> page(StatsOrder order, int offset, int limit) {
+        if (offset < 0 || offset >= size() || limit <= 0)
+            return List.of();
+
+        return rankings.get(order).page(offset, limit);
+    }
+
+    /**
+     * @return The best {@code count} walkthroughs of a ranking.
+     */
+    public List<T> top(StatsOrder order, int count) {
+        return page(order, 0, count);
+    }
+
+    public void clear() {
+        rankings.values().forEach(RankedTree::clear);
+        sequence = 0;
+    }
+}
@@ -0,0 +1,160 @@
+package rogue.game.infrastructure.dataAccess.stats;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Treap of values ranked by decreasing key, then by increasing sequence number, where every node knows the size of
+ * its subtree.
+ *
+ * <p> The sizes make inserting and finding the value at a rank both take a logarithmic time, so a page of the ranking
+ * costs the logarithm of the size plus the length of the page.
+ *
+ * @param <T> The type of the values.
+ */
+class RankedTree<T> {
+    private final ToIntFunction<T> key;
+
+    private Node<T> root;
+
+    RankedTree(ToIntFunction<T> key) {
+        this.key = key;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(T value, long sequence) {
+        root = insert(root, new Node<>(value, key.applyAsInt(value), sequence));
+    }
+
+    /**
+     * @param from The rank of the first value, counted from 0.
+     * @param count The maximum number of values.
+     * @return The values, in the order of the ranking.
+     */
+    List<T> page(int from, int count) {
+        List<T> page = new ArrayList<>(Math.clamp(count, 0, Math.max(size() - from, 0)));
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        Node<T> node = root;
+        int skip = from;
+
+        while (node != null) {
+            int leftSize = size(node.left);
+
+            if (skip <= leftSize) {
+                pending.push(node);
+
+                if (skip == leftSize)
+                    break;
+
+                node = node.left;
+            } else {
+                skip -= leftSize + 1;
+                node = node.right;
+            }
+        }
+
+        while (page.size() < count && !pending.isEmpty()) {
+            node = pending.pop();
+            page.add(node.value);
+
+            for (Node<T> next = node.right; next != null; next = next.left)
+                pending.push(next);
+        }
+
+        return page;
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> added) {
+        if (node == null)
+            return added;
+
+        if (added.precedes(node)) {
+            node.left = insert(node.left, added);
+
+            if (node.left.priority > node.priority)
+                return rotateRight(node);
+        } else {
+            node.right = insert(node.right, added);
+
+            if (node.right.priority > node.priority)
+                return rotateLeft(node);
+        }
+
+        node.resize();
+
+        return node;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+
+        node.left = left.right;
+        left.right = node;
+        node.resize();
+        left.resize();
+
+        return left;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+
+        node.right = right.left;
+        right.left = node;
+        node.resize();
+        right.resize();
+
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final int key;
+        private final long sequence;
+        /**
+         * Mixed from the sequence number, so the shape of the tree does not depend on the order of the keys.
+         */
+        private final int priority;
+
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value, int key, long sequence) {
+            this.value = value;
+            this.key = key;
+            this.sequence = sequence;
+            this.priority = mix(sequence);
+        }
+
+        private boolean precedes(Node<T> other) {
+            return key != other.key ? key > other.key : sequence < other.sequence;
+        }
+
+        private void resize() {
+            size = size(left) + size(right) + 1;
+        }
+
+        private static int mix(long sequence) {
+            long z = sequence + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+            return (int) (z ^ (z >>> 31));
+        }
+    }
+}
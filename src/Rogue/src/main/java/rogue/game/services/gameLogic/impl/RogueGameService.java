@@ -1,8 +1,7 @@
 package rogue.game.services.gameLogic.impl;
 
-import rogue.game.domain.factories.services.*;
-import rogue.game.domain.repository.GameRepository;
-import rogue.game.domain.services.battle.BattleService;
+import rogue.game.domain.services.enemyAI.EnemyIntent;
+import rogue.game.domain.services.registry.ServiceRegistry;
 import rogue.game.common.enums.MapColor;
 import rogue.game.common.enums.MapSymbol;
 import rogue.game.common.enums.UserAction;
@@ -10,16 +9,19 @@ import rogue.game.services.gameLogic.GameService;
 import rogue.game.domain.services.level.LevelService;
 import rogue.game.services.map.MapService;
 import rogue.game.services.messaging.MessageService;
+import rogue.game.services.persistence.PersistenceService;
 import rogue.game.domain.services.pubsub.PubSubService;
 import rogue.game.services.player.PlayerService;
 import rogue.game.services.stats.StatsService;
 import rogue.game.domain.enums.util.MapSymbolUtil;
 import rogue.game.common.enums.util.UserActionUtil;
 import rogue.game.domain.entities.enemies.Enemy;
+import rogue.game.domain.entities.enemies.Mimic;
 import rogue.game.domain.enums.Angles;
 import rogue.game.domain.enums.Constants;
 import rogue.game.domain.enums.GameState;
 import rogue.game.domain.enums.LevelAttribute;
+import rogue.game.domain.enums.RandomStream;
 import rogue.game.common.observer.EventType;
 import rogue.game.domain.entities.level.*;
 
@@ -42,23 +44,25 @@ import java.util.function.Function;
  *
  * <p> Dependencies:
  * <ul>
- * <li>{@link GameRepository}: to interact with the game data storage</li>
+ * <li>{@link PersistenceService}: to save the game data</li>
  * <li>{@link PubSubService}: to notify view about changes in the game</li>
  * <li>{@link StatsService}: to collect game statistics</li>
  * <li>{@link MessageService}: to handle event messages for the player</li>
  * <li>{@link MapService}: to handle map rendering</li>
  * <li>{@link LevelService}: to handle level generation and management</li>
  * <li>{@link PlayerService}: to handle player movement and inventory</li>
+ * <li>{@link ServiceRegistry}: to reach the enemy AI and battle services</li>
  * </ul>
  */
 public class RogueGameService implements GameService{
-    private final GameRepository gameRepository;
+    private final PersistenceService persistenceService;
     private final LevelService levelService;
     private final PlayerService playerService;
     private final MapService mapService;
     private final PubSubService pubSubService;
     private final MessageService messageService;
     private final StatsService statsService;
+    private final ServiceRegistry serviceRegistry;
 
     private GameState state;
 
@@ -78,21 +82,23 @@ public class RogueGameService implements GameService{
     private Map<UserAction, Consumer<UserAction>> userActionHandlers;
 
     public RogueGameService(
-            GameRepository gameRepository,
+            PersistenceService persistenceService,
             PubSubService pubSubService,
             StatsService statsService,
             MapService mapService,
             LevelService levelService,
             MessageService messageService,
-            PlayerService playerService
+            PlayerService playerService,
+            ServiceRegistry serviceRegistry
     ) {
-        this.gameRepository = gameRepository;
+        this.persistenceService = persistenceService;
         this.levelService = levelService;
         this.messageService = messageService;
         this.mapService = mapService;
         this.playerService = playerService;
         this.statsService = statsService;
         this.pubSubService = pubSubService;
+        this.serviceRegistry = serviceRegistry;
 
         createUserActionHandlers();
         createEntityHandlers();
@@ -247,6 +253,7 @@ public class RogueGameService implements GameService{
             mapService.updateVisibleArea(pos, playerService.getViewAngle());
             mapService.setMapSymbol(oldPlayerPos, MapSymbol.CORRIDOR);
             playerService.setCurrentRoomIndex(levelService.getRoomIndexByPosition(playerService.getPosition()).orElse(Constants.NONE.value));
+            updateActiveEnemies();
         }
     }
 
@@ -283,77 +290,136 @@ public class RogueGameService implements GameService{
         return entityHandlers.getOrDefault(sym, (a) -> false).apply(pos);
     }
 
+    /**
+     * Wakes up the enemies around the player's room and puts the others to sleep.
+     *
+     * <p> Woken up enemies are fast-forwarded by the actions they missed while asleep.
+     */
+    private void updateActiveEnemies() {
+        final int roomIndex = playerService.getCurrentRoomIndex();
+
+        if (roomIndex == Constants.NONE.value)
+            return;
+
+        levelService.activateRoomsAround(roomIndex, (enemy, missedActions) -> {
+            int enemyRoomIndex = levelService.getRoomIndexAt(enemy.getPosition());
+
+            Position newPos = serviceRegistry.getEnemyCatchUpService().catchUp(enemy, levelService.getRoom(enemyRoomIndex), missedActions);
+
+            // A mimic may also have taken its disguise back
+            if (!newPos.equals(enemy.getPosition()) || enemy instanceof Mimic) {
+                removeEnemyFromMap(enemy);
+                enemy.setPosition(newPos);
+                putEnemyToMap(enemy, enemyRoomIndex);
+            }
+        });
+    }
+
     /**
      * Handles enemy movement logic.
+     *
+     * <p> The turn is played in rounds in which every due enemy acts once. The moves of a round are first planned
+     * against the map, possibly in parallel on a snapshot of it, then committed one by one in the order the enemies
+     * are due, see {@link #commitIntent(EnemyIntent)}.
      */
     private void enemiesMove() {
         if(state == GameState.LEVEL_GENERATION){
             return;
         }
 
-        Iterator<Enemy> it = levelService.getEnemiesList().iterator();
+        levelService.startEnemiesTurn(playerService.getBattleEntity().getSpeed());
 
-        while(it.hasNext() && playerService.isAlive()) {
-            enemyMove(it.next());
+        List<EnemyIntent> intents = new ArrayList<>();
+        Set<Enemy> inRound = Collections.newSetFromMap(new IdentityHashMap<>());
+        Enemy enemy = levelService.nextEnemyToAct();
 
-            if(!playerService.isAlive()) {
-                restart(StatusMessage.YOU_WERE_DEFEATED);
-                return;
+        while(enemy != null) {
+            // A round ends when an enemy is due for the second time, that action opens the next round
+            while(enemy != null && inRound.add(enemy)) {
+                intents.add(createIntent(enemy));
+                enemy = levelService.nextEnemyToAct();
+            }
+
+            Position playerPosition = playerService.getPosition();
+            serviceRegistry.getEnemyIntentPlanner().plan(intents, mapService, playerPosition);
+
+            for(EnemyIntent intent : intents) {
+                commitIntent(intent);
+
+                if(!playerService.isAlive()) {
+                    restart(StatusMessage.YOU_WERE_DEFEATED);
+                    return;
+                }
             }
+
+            intents.clear();
+            inRound.clear();
         }
 
-        if(playerService.isAlive())
-            messageService.update();
+        messageService.update();
 
         setPlayerToMap(playerService.getPosition());
     }
 
     /**
-     * Moves a single enemy based on its behavior and current situation.
+     * Gathers what is needed to plan the move of an enemy.
      *
-     * <p> It checks for collisions with the player and initiates combat if necessary. Updates the enemy's position on the map.
-     *
-     * @param enemy The enemy to be moved.
+     * @param enemy The enemy about to act.
+     * @return The intent of the enemy, not planned yet.
      */
-    private void enemyMove(final Enemy enemy) {
-        Optional<Integer> roomIndex = levelService.getRoomIndexByPosition(enemy.getPosition());
+    private EnemyIntent createIntent(final Enemy enemy) {
+        int roomIndex = levelService.getRoomIndexAt(enemy.getPosition());
 
         Position topLeft = Position.NONE;
         Position bottomRight = Position.NONE;
 
-        if(roomIndex.isPresent()) {
-            topLeft = levelService.getRoom(roomIndex.get()).getTopLeft();
-            bottomRight = levelService.getRoom(roomIndex.get()).getBottomRight();
+        if(roomIndex != Constants.NONE.value) {
+            topLeft = levelService.getRoom(roomIndex).getTopLeft();
+            bottomRight = levelService.getRoom(roomIndex).getBottomRight();
         }
 
-        Position oldPos = enemy.getPosition();
+        return new EnemyIntent(enemy, roomIndex, topLeft, bottomRight, serviceRegistry.getRandomService().getStream(RandomStream.ENEMIES).split());
+    }
+
+    /**
+     * Applies the planned move of a single enemy.
+     *
+     * <p> An enemy targeting the player attacks. An enemy targeting a closed door, or a cell an enemy moved to
+     * earlier in the round, stays in place. Updates the enemy's position on the map.
+     *
+     * @param intent The planned intent of the enemy.
+     */
+    private void commitIntent(final EnemyIntent intent) {
+        Enemy enemy = intent.getEnemy();
+        int roomIndex = intent.getRoomIndex();
 
-        Position newPos = EnemyMovementServiceFactory
-                            .createEnemyMovementService(mapService)
-                            .move(
-                                enemy,
-                                topLeft,
-                                bottomRight,
-                                playerService.getPosition()
-                            );
+        Position oldPos = enemy.getPosition();
+        Position newPos = intent.getTarget();
 
         if (newPos.equals(playerService.getPosition())) {
             putEnemyToMap(enemy, roomIndex);
             processCombatRound(enemy, false);
         } else {
             if(MapSymbolUtil.isDoor(mapService.getMapSymbol(newPos))) {
-                Optional<Door> d = levelService.getDoorByPosition(newPos);
+                Door d = levelService.getDoorAt(newPos);
 
-                if (d.isPresent() && !d.get().isOpen())
+                if (d != null && !d.isOpen())
                     return;
             }
 
+            if(!newPos.equals(oldPos)) {
+                Enemy occupant = levelService.getEnemyByPosition(newPos);
+
+                if (occupant != null && occupant != enemy)
+                    newPos = oldPos;
+            }
+
             if(!newPos.equals(oldPos)) {
                 removeEnemyFromMap(enemy);
                 enemy.setPosition(newPos);
             }
 
-            if (!enemy.becomeInvisible())
+            if (!enemy.becomeInvisible(serviceRegistry.getRandomService().getStream(RandomStream.ENEMIES)))
                 putEnemyToMap(enemy, roomIndex);
         }
     }
@@ -366,14 +432,16 @@ public class RogueGameService implements GameService{
     private void removeEnemyFromMap(final Enemy e) {
         Position pos = e.getPosition();
 
-        Optional<Integer> roomIndex = levelService.getRoomIndexByPosition(e.getPosition());
+        int roomIndex = levelService.getRoomIndexAt(pos);
 
-        if (roomIndex.isPresent()) {
+        if (roomIndex != Constants.NONE.value) {
             mapService.setMapSymbol(pos, MapSymbol.FLOOR);
-            placeEntityOfRoom(roomIndex.get(), e.getPosition());
+            placeEntityOfRoom(roomIndex, pos);
 
-            Optional<Door> d = levelService.getDoorByPosition(e.getPosition());
-            d.ifPresent(door -> mapService.setMapSymbol(pos, MapSymbolUtil.getDoorSymbolByColor(door.getColor())));
+            Door d = levelService.getDoorAt(pos);
+
+            if (d != null)
+                mapService.setMapSymbol(pos, MapSymbolUtil.getDoorSymbolByColor(d.getColor()));
         } else {
             mapService.setMapSymbol(pos, MapSymbol.CORRIDOR);
         }
@@ -384,14 +452,14 @@ public class RogueGameService implements GameService{
      * @param e the enemy
      * @param roomIndex the room index
      */
-    private void putEnemyToMap(Enemy e, Optional<Integer> roomIndex) {
+    private void putEnemyToMap(Enemy e, int roomIndex) {
         Position pos = e.getPosition();
 
-        if (roomIndex.isEmpty()) {
+        if (roomIndex == Constants.NONE.value) {
             if (playerService.playerSeePosition(e.getPosition()))
                 mapService.setMapSymbol(pos, SymbolMapper.map(e));
 
-        } else if (roomIndex.get() == playerService.getCurrentRoomIndex() || playerService.playerSeePosition(e.getPosition())) {
+        } else if (roomIndex == playerService.getCurrentRoomIndex() || playerService.playerSeePosition(e.getPosition())) {
             mapService.setMapSymbol(pos, SymbolMapper.map(e));
         }
     }
@@ -432,10 +500,8 @@ public class RogueGameService implements GameService{
      * @param playerAttacks true if the player attacks, false if the enemy attacks
      */
     private void processCombatRound(final Enemy enemy, final boolean playerAttacks) {
-        BattleService battleService = BattleServiceFactory.createBattleService(messageService);
-
         if (playerAttacks) {
-            boolean result = battleService.tryToAttack(playerService.getBattleEntity(), enemy);
+            boolean result = serviceRegistry.getBattleService().tryToAttack(playerService.getBattleEntity(), enemy);
 
             if(result)
                 statsService.addBlowInflicted();
@@ -447,7 +513,7 @@ public class RogueGameService implements GameService{
             int playerHealth = playerService.getHealth();
             int maxHealth = playerService.getMaxHealth();
 
-            boolean result = battleService.tryToAttack(enemy, playerService.getBattleEntity());
+            boolean result = serviceRegistry.getBattleService().tryToAttack(enemy, playerService.getBattleEntity());
 
             if(result)
                 statsService.addMissedShot();
@@ -470,7 +536,7 @@ public class RogueGameService implements GameService{
         pubSubService.notifyObserver(EventType.GOLD_UPDATE);
 
         removeEnemyFromMap(enemy);
-        levelService.getEnemiesList().remove(enemy);
+        levelService.removeEnemy(enemy);
 
         statsService.addTreasureAmount(treasure);
         statsService.addDefeatedEnemy();
@@ -479,6 +545,7 @@ public class RogueGameService implements GameService{
     }
 
     private void restart(StatusMessage msg) {
+        serviceRegistry.getRandomService().reset();
         statsService.reset();
 
         levelService.reset();
@@ -535,6 +602,8 @@ public class RogueGameService implements GameService{
         } else {
             state = GameState.LEVEL_GENERATION;
 
+            serviceRegistry.getRandomService().startLevel(levelService.getLevelNumber());
+
             playerService.setCurrentRoomIndex( levelService.generate(playerService.getEntity(), statsService) );
 
             statsService.prepareData();
@@ -543,18 +612,23 @@ public class RogueGameService implements GameService{
 
             mapService.showRoom(levelService.getRoom(playerService.getCurrentRoomIndex()));
 
+            updateActiveEnemies();
+
             saveState();
 
             pubSubService.notifyObserver(EventType.LEVEL_UPDATE);
         }
     }
 
+    /**
+     * Hands copies of the game state to the repository, on the game thread, and lets the persistence service write them.
+     */
     private void saveState(){
-        new Thread(() -> {
-            playerService.save();
-            levelService.save();
-            statsService.save();
-            gameRepository.save();
-        }).start();
+        playerService.save();
+        levelService.save();
+        serviceRegistry.getRandomService().save();
+        statsService.save();
+
+        persistenceService.requestSave();
     }
 }
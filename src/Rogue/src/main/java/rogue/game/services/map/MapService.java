@@ -1,29 +1,15 @@
 package rogue.game.services.map;
 
 import rogue.game.domain.services.level.LevelService;
-import rogue.game.common.MapInfo;
 import rogue.game.common.enums.MapSymbol;
 import rogue.game.domain.entities.level.Room;
 import rogue.game.domain.entities.Position;
 
-import java.util.List;
-import java.util.Set;
-
-public interface MapService {
+public interface MapService extends ReadOnlyMapService {
     void update();
 
-    /**
-     * Retrieves information about the current state of the map.
-     *
-     * @return The current map information.
-     */
-    MapInfo getMapInfo();
-
-    MapSymbol getMapSymbol(int x, int y);
-    MapSymbol getMapSymbol(Position pos);
     void setMapSymbol(int x, int y, MapSymbol symbol);
     void setMapSymbol(Position pos, MapSymbol symbol);
-    boolean isVisible(Position pos);
     void setVisible(int x, int y, boolean visible);
     void hideRoom(Room r);
     void showRoom(Room r);
@@ -52,33 +38,14 @@ public interface MapService {
     void updateVisibleArea(Position pos, double angle);
 
     /**
-     * Checks if the position is visible if the start position is in the corridor
-     *
-     * @param from Start position.
-     * @param to Target position.
-     * @return True if the target position is visible from the start position, false otherwise.
-     */
-    boolean seeInCorridor(Position from, Position to);
-
-    /**
-     * Finds a suitable position to place an element on the map for adjacent cells.
+     * Brings the read-only copy of the map up to date, so it can be queried from several threads at once.
      *
-     * @param pos The starting position to search for.
-     * @return The found position to place the element, or null if no suitable position was found.
-     */
-    Position placeForItem(Position pos);
-
-    /**
-     * Finds the shortest path between two positions on the map using the breadth-first search (BFS) algorithm.
-     *
-     * <p> The algorithm sequentially visits all neighboring cells, marking them as visited and adding them to a queue.
-     * <p> The process continues until the target cell is found or the queue is empty.
-     * <p> Guarantees to find the shortest path if one exists.
+     * <p> The same copy is kept from call to call, and only the parts of the map changed since the previous call
+     * are copied again. The distance field towards the player is computed by the first enemy chasing the player.
+     * The copy doesn't follow the later changes of the map until the next call.
      *
-     * @param from The starting position of the search.
-     * @param to The target position of the search.
-     * @param blockingSymbols A set of symbols representing obstacles on the map.
-     * @return A list of positions representing the found path, or an empty list if no path was found.
+     * @param playerPosition The position of the player.
+     * @return The read-only copy of the map.
      */
-    List<Position> findPathByBFS(Position from, Position to, Set<MapSymbol> blockingSymbols);
+    ReadOnlyMapService refreshSnapshot(Position playerPosition);
 }
@@ -0,0 +1,82 @@
+package rogue.game.services.map;
+
+import rogue.game.common.MapInfo;
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Position;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Describes the queries of the game map that don't change it.
+ *
+ * <p> Enemy moves are planned against this interface, either on the live {@link MapService} or on the read-only
+ * snapshot returned by {@link MapService#refreshSnapshot(Position)}.
+ */
+public interface ReadOnlyMapService {
+    /**
+     * Retrieves information about the current state of the map.
+     *
+     * @return The current map information.
+     */
+    MapInfo getMapInfo();
+
+    MapSymbol getMapSymbol(int x, int y);
+    MapSymbol getMapSymbol(Position pos);
+    boolean isVisible(Position pos);
+
+    /**
+     * Checks if a cell blocks the line of sight, from the level geometry: walls and doorways block it, whatever
+     * stands on them.
+     *
+     * @param x The x coordinate of the cell.
+     * @param y The y coordinate of the cell.
+     * @return True if nothing can be seen through the cell.
+     */
+    boolean blocksSight(int x, int y);
+
+    /**
+     * Checks if the position is visible if the start position is in the corridor
+     *
+     * @param from Start position.
+     * @param to Target position.
+     * @return True if the target position is visible from the start position, false otherwise.
+     */
+    boolean seeInCorridor(Position from, Position to);
+
+    /**
+     * Finds a suitable position to place an element on the map for adjacent cells.
+     *
+     * @param pos The starting position to search for.
+     * @return The found position to place the element, or null if no suitable position was found.
+     */
+    Position placeForItem(Position pos);
+
+    /**
+     * Finds the shortest path between two positions on the map using the breadth-first search (BFS) algorithm.
+     *
+     * <p> The algorithm sequentially visits all neighboring cells, marking them as visited and adding them to a queue.
+     * <p> The process continues until the target cell is found or the queue is empty.
+     * <p> Guarantees to find the shortest path if one exists.
+     *
+     * @param from The starting position of the search.
+     * @param to The target position of the search.
+     * @param blockingSymbols A set of symbols representing obstacles on the map.
+     * @return A list of positions representing the found path, or an empty list if no path was found.
+     */
+    List<Position> findPathByBFS(Position from, Position to, Set<MapSymbol> blockingSymbols);
+
+    /**
+     * Finds the next step from a position towards the player.
+     *
+     * <p> The step follows a distance field rooted at the player, computed once and shared by all chasing enemies
+     * until the player moves or a door opens. If every shortest step is blocked, a path around the obstacles is
+     * searched with {@link #findPathByBFS(Position, Position, Set)}.
+     *
+     * @param from The position to step from.
+     * @param playerPosition The position of the player.
+     * @param blockingSymbols A set of symbols representing obstacles on the map.
+     * @return The next position, or {@code from} if the player can't be reached.
+     */
+    Position nextStepTowardsPlayer(Position from, Position playerPosition, Set<MapSymbol> blockingSymbols);
+}
@@ -0,0 +1,208 @@
+package rogue.game.services.map.impl;
+
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.gameMap.ChunkedIntGrid;
+import rogue.game.domain.entities.gameMap.GameMap;
+import rogue.game.domain.enums.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Breadth-first search over the cells of a {@link GameMap} working on reused buffers.
+ *
+ * <p> Cells are addressed by their packed index ({@code y * width + x}). The visited marks are generation stamps,
+ * so a new search only bumps the stamp instead of clearing the buffers, and the queue is a plain {@code int[]}.
+ * The marks are kept in chunks like the map itself, and the queue and the path grow with the reachable area, so
+ * the buffers follow the carved area of the level rather than the size of the map; once they have grown, a search
+ * allocates nothing. The queue holds the coordinates of the cells, {@code y << 16 | x}, so expanding a cell reads
+ * its neighbours by coordinates without any division.
+ *
+ * <p> Neighbours are expanded in the order of {@link Constants#DX} and {@link Constants#DY}, which keeps the
+ * returned paths the same as the ones of a queue of {@code Position} objects.
+ */
+public class GridPathFinder {
+    private static final MapSymbol[] SYMBOLS = MapSymbol.values();
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final GameMap map;
+    private final int width;
+    private final int height;
+    private final int[] offsetX;
+    private final int[] offsetY;
+
+    private final ChunkedIntGrid visited;
+    private final ChunkedIntGrid parents;
+    private int[] queue;
+    private int[] path;
+    private int stamp;
+    private int pathLength;
+
+    private final boolean[] blocked;
+    private Set<MapSymbol> blockingSymbols;
+
+    public GridPathFinder(GameMap map) {
+        this.map = map;
+        width = map.getWidth();
+        height = map.getHeight();
+
+        if (width > 0xFFFF || height > 0xFFFF)
+            throw new IllegalArgumentException("The map is too large for 16-bit coordinates");
+
+        offsetX = new int[4];
+        offsetY = new int[4];
+
+        for (int i = 0; i < 4; i++) {
+            offsetX[i] = Constants.DX.directionsValues.get(i);
+            offsetY[i] = Constants.DY.directionsValues.get(i);
+        }
+
+        visited = new ChunkedIntGrid(width, height, 0);
+        parents = new ChunkedIntGrid(width, height, -1);
+        queue = new int[INITIAL_CAPACITY];
+        path = new int[INITIAL_CAPACITY];
+
+        blocked = new boolean[SYMBOLS.length];
+    }
+
+    /**
+     * Searches the shortest path between two cells.
+     *
+     * <p> Walls and emptiness always block, in addition to the given symbols. The starting cell itself is never
+     * checked against the blocking symbols.
+     *
+     * @param from The packed index of the starting cell.
+     * @param to The packed index of the target cell.
+     * @param blockingSymbols The symbols the path can't go through.
+     * @return The number of cells in the path (including both ends), or 0 if the target is unreachable.
+     */
+    public int search(int from, int to, Set<MapSymbol> blockingSymbols) {
+        updateBlockedSymbols(blockingSymbols);
+
+        int currentStamp = nextStamp();
+        int head = 0;
+        int tail = 0;
+
+        int fromX = from % width;
+        int fromY = from / width;
+
+        queue[tail++] = fromY << 16 | fromX;
+        visited.set(fromX, fromY, currentStamp);
+        parents.set(fromX, fromY, -1);
+
+        while (head < tail) {
+            int x = queue[head] & 0xFFFF;
+            int y = queue[head++] >>> 16;
+            int current = y * width + x;
+
+            if (current == to)
+                return buildPath(to);
+
+            for (int i = 0; i < 4; i++) {
+                int nx = x + offsetX[i];
+                int ny = y + offsetY[i];
+
+                if (nx < 0 || ny < 0 || ny >= height || nx >= width)
+                    continue;
+
+                if (visited.get(nx, ny) == currentStamp || blocked[map.getMapSymbol(nx, ny).ordinal()])
+                    continue;
+
+                if (tail == queue.length)
+                    queue = Arrays.copyOf(queue, queue.length * 2);
+
+                visited.set(nx, ny, currentStamp);
+                parents.set(nx, ny, current);
+                queue[tail++] = ny << 16 | nx;
+            }
+        }
+
+        pathLength = 0;
+
+        return 0;
+    }
+
+    /**
+     * Searches the shortest path between two positions and returns it as a list.
+     *
+     * @param from The starting position.
+     * @param to The target position.
+     * @param blockingSymbols The symbols the path can't go through.
+     * @return The positions of the path, including both ends, or an empty list if the target is unreachable.
+     * @see #search(int, int, Set)
+     */
+    public List<Position> findPath(Position from, Position to, Set<MapSymbol> blockingSymbols) {
+        int length = search(map.indexOf(from.x(), from.y()), map.indexOf(to.x(), to.y()), blockingSymbols);
+
+        if (length == 0)
+            return Collections.emptyList();
+
+        List<Position> result = new ArrayList<>(length);
+
+        for (int i = 0; i < length; i++) {
+            int cell = getPathCell(i);
+            result.add(Position.of(cell % width, cell / width));
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a cell of the last found path.
+     *
+     * @param step The position in the path, from 0 (the starting cell) to the path length - 1 (the target cell).
+     * @return The packed index of the cell.
+     */
+    public int getPathCell(int step) {
+        return path[pathLength - 1 - step];
+    }
+
+    public int getPathLength() {
+        return pathLength;
+    }
+
+    /**
+     * Stores the path to the target, from the target back to the start.
+     */
+    private int buildPath(int to) {
+        pathLength = 0;
+
+        for (int current = to; current != -1; current = parents.get(current % width, current / width)) {
+            if (pathLength == path.length)
+                path = Arrays.copyOf(path, path.length * 2);
+
+            path[pathLength++] = current;
+        }
+
+        return pathLength;
+    }
+
+    private int nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            visited.reset();
+            stamp = 1;
+        }
+
+        return stamp;
+    }
+
+    /**
+     * Rebuilds the per-symbol blocking table, unless the same set was used by the previous search.
+     */
+    private void updateBlockedSymbols(Set<MapSymbol> symbols) {
+        if (symbols == blockingSymbols)
+            return;
+
+        for (MapSymbol symbol : SYMBOLS)
+            blocked[symbol.ordinal()] = symbols.contains(symbol);
+
+        blocked[MapSymbol.WALL.ordinal()] = true;
+        blocked[MapSymbol.EMPTINESS.ordinal()] = true;
+
+        blockingSymbols = symbols;
+    }
+}
@@ -0,0 +1,135 @@
+package rogue.game.services.map.impl;
+
+import rogue.game.common.MapInfo;
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.RogueMapInfo;
+import rogue.game.domain.entities.gameMap.GameMap;
+import rogue.game.domain.factories.services.VisibilityServiceFactory;
+import rogue.game.domain.services.vision.VisibilityService;
+import rogue.game.services.map.ReadOnlyMapService;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Read-only copy of the game map, safe to query from several threads at once.
+ *
+ * <p> The snapshot is kept by the {@link RogueMapService} and refreshed before each use, copying only the chunks
+ * changed since the previous refresh into the storage it already owns. Path searches work on per-thread buffers,
+ * kept along with the snapshot.
+ *
+ * <p> The distance field towards the player is computed by the first enemy chasing the player after a refresh,
+ * and only read afterwards.
+ */
+public class MapSnapshot implements ReadOnlyMapService {
+    private final GameMap map;
+    private final MapInfo mapInfo;
+    private final VisibilityService visibilityService;
+    private final PlayerDistanceField playerDistanceField;
+    private final ThreadLocal<GridPathFinder> pathFinders;
+
+    private int player;
+    private volatile boolean distanceFieldReady;
+
+    /**
+     * Creates an empty snapshot of a map of a given size.
+     *
+     * @param width The width of the map, in cells.
+     * @param height The height of the map, in cells.
+     */
+    public MapSnapshot(int width, int height) {
+        map = new GameMap(width, height);
+        mapInfo = new RogueMapInfo(map);
+        visibilityService = VisibilityServiceFactory.createVisibilityService();
+        playerDistanceField = new PlayerDistanceField(map);
+        pathFinders = ThreadLocal.withInitial(() -> new GridPathFinder(map));
+    }
+
+    /**
+     * Brings the snapshot up to date. Must not be called while the snapshot is being queried.
+     *
+     * @param source The map to copy.
+     * @param playerPosition The position of the player.
+     */
+    public void refresh(GameMap source, Position playerPosition) {
+        map.copyFrom(source);
+        player = map.indexOf(playerPosition.x(), playerPosition.y());
+        playerDistanceField.invalidate();
+        distanceFieldReady = false;
+    }
+
+    @Override
+    public MapInfo getMapInfo() { return mapInfo; }
+
+    @Override
+    public MapSymbol getMapSymbol(int x, int y) { return map.getMapSymbol(x, y); }
+
+    @Override
+    public MapSymbol getMapSymbol(Position pos) { return map.getMapSymbol(pos); }
+
+    @Override
+    public boolean isVisible(Position pos) { return map.isVisible(pos); }
+
+    @Override
+    public boolean blocksSight(int x, int y) { return map.isOpaque(x, y); }
+
+    @Override
+    public boolean seeInCorridor(Position from, Position to) {
+        return visibilityService.seeInCorridor(this, from, to);
+    }
+
+    @Override
+    public Position placeForItem(Position pos) {
+        int px = pos.x();
+        int py = pos.y();
+
+        // Moore neighborhood
+        for (int i = -1; i < 2; i++) {
+            for (int j = -1; j < 2; j++) {
+                if (getMapSymbol(px + j, py + i).equals(MapSymbol.FLOOR))
+                    return Position.of(px + j, py + i);
+            }
+        }
+
+        return Position.NONE;
+    }
+
+    @Override
+    public List<Position> findPathByBFS(Position from, Position to, Set<MapSymbol> blockingSymbols) {
+        return pathFinders.get().findPath(from, to, blockingSymbols);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> Only the distance field of the player position given to the last refresh is shared; the steps towards
+     * any other position are found by a path search.
+     */
+    @Override
+    public Position nextStepTowardsPlayer(Position from, Position playerPosition, Set<MapSymbol> blockingSymbols) {
+        GridPathFinder pathFinder = pathFinders.get();
+
+        if (map.indexOf(playerPosition.x(), playerPosition.y()) != player) {
+            List<Position> path = pathFinder.findPath(from, playerPosition, blockingSymbols);
+
+            return path.size() > 1 ? path.get(1) : from;
+        }
+
+        computeDistanceField();
+
+        return playerDistanceField.nextStep(from, playerPosition, blockingSymbols, pathFinder);
+    }
+
+    private void computeDistanceField() {
+        if (distanceFieldReady)
+            return;
+
+        synchronized (playerDistanceField) {
+            if (!distanceFieldReady) {
+                playerDistanceField.getDistance(player, player);
+                distanceFieldReady = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package rogue.game.services.map.impl;
+
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.gameMap.ChunkedIntGrid;
+import rogue.game.domain.entities.gameMap.GameMap;
+import rogue.game.domain.enums.Constants;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Breadth-first distance field rooted at the player, shared by all enemies chasing the player.
+ *
+ * <p> The field only treats the level terrain as blocking (walls, emptiness and the portal), which never changes
+ * while the level is played, so it stays valid until the player moves, a door opens or the level changes.
+ * Enemies and other moving entities are checked by the caller against the live map when taking a step.
+ *
+ * <p> The field is computed lazily, on the first request after it was invalidated. Its queue holds the coordinates
+ * of the cells, {@code y << 16 | x}, so the search reads the map by coordinates without any division.
+ *
+ * <p> The distances are kept in chunks like the map itself, and the queue grows with the reachable area, so the
+ * field follows the carved area of the level rather than the size of the map.
+ */
+public class PlayerDistanceField {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * The distance of the cells the player can't be reached from.
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final GameMap map;
+    private final int width;
+    private final int height;
+    private final int[] offsetX;
+    private final int[] offsetY;
+
+    private final ChunkedIntGrid distances;
+    private int[] queue;
+    private int root;
+
+    public PlayerDistanceField(GameMap map) {
+        this.map = map;
+        width = map.getWidth();
+        height = map.getHeight();
+
+        if (width > 0xFFFF || height > 0xFFFF)
+            throw new IllegalArgumentException("The map is too large for 16-bit coordinates");
+
+        offsetX = new int[4];
+        offsetY = new int[4];
+
+        for (int i = 0; i < 4; i++) {
+            offsetX[i] = Constants.DX.directionsValues.get(i);
+            offsetY[i] = Constants.DY.directionsValues.get(i);
+        }
+
+        distances = new ChunkedIntGrid(width, height, UNREACHABLE);
+        queue = new int[INITIAL_CAPACITY];
+        root = Constants.NONE.value;
+    }
+
+    public void invalidate() {
+        root = Constants.NONE.value;
+    }
+
+    /**
+     * Gets the distance from a cell to the player, computing the field first if needed.
+     *
+     * @param player The packed index of the player's cell.
+     * @param cell The packed index of the cell.
+     * @return The number of steps to the player, or {@link #UNREACHABLE}.
+     */
+    public int getDistance(int player, int cell) {
+        if (player != root)
+            compute(player);
+
+        return distances.get(cell % width, cell / width);
+    }
+
+    /**
+     * Finds the neighbour of a cell one step closer to the player.
+     *
+     * <p> Neighbours are tried in the order of {@link Constants#DX} and {@link Constants#DY}; the first one that
+     * is closer to the player and not blocked wins.
+     *
+     * @param player The packed index of the player's cell.
+     * @param from The packed index of the cell to step from.
+     * @param blockingSymbols The symbols the step can't go to (the player's cell is always accepted).
+     * @return The packed index of the next cell, or -1 if no neighbour is both closer to the player and free.
+     */
+    public int nextStep(int player, int from, Set<MapSymbol> blockingSymbols) {
+        int distance = getDistance(player, from);
+
+        if (distance == UNREACHABLE || distance == 0)
+            return -1;
+
+        int x = from % width;
+        int y = from / width;
+
+        for (int i = 0; i < 4; i++) {
+            int nx = x + offsetX[i];
+            int ny = y + offsetY[i];
+
+            if (nx < 0 || ny < 0 || ny >= height || nx >= width)
+                continue;
+
+            int next = ny * width + nx;
+
+            if (distances.get(nx, ny) == distance - 1 && (next == player || !blockingSymbols.contains(map.getMapSymbol(nx, ny))))
+                return next;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the next step from a position towards the player, going around the blocked cells if needed.
+     *
+     * <p> If every shortest step is blocked, a path around the obstacles is searched with the given path finder.
+     *
+     * @param from The position to step from.
+     * @param playerPosition The position of the player.
+     * @param blockingSymbols The symbols the step can't go to.
+     * @param pathFinder The path finder working on the same map, used when every shortest step is blocked.
+     * @return The next position, or {@code from} if the player can't be reached.
+     */
+    public Position nextStep(Position from, Position playerPosition, Set<MapSymbol> blockingSymbols,
+                             GridPathFinder pathFinder) {
+        int player = map.indexOf(playerPosition.x(), playerPosition.y());
+        int start = map.indexOf(from.x(), from.y());
+
+        int distance = getDistance(player, start);
+
+        if (distance == 0 || distance == UNREACHABLE)
+            return from;
+
+        int next = nextStep(player, start, blockingSymbols);
+
+        if (next == -1) {
+            // Every shortest step is taken by someone else: look for a way around them
+            List<Position> path = pathFinder.findPath(from, playerPosition, blockingSymbols);
+
+            return path.size() > 1 ? path.get(1) : from;
+        }
+
+        return Position.of(next % width, next / width);
+    }
+
+    private void compute(int player) {
+        distances.reset();
+
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = (player / width) << 16 | player % width;
+        distances.set(player % width, player / width, 0);
+
+        while (head < tail) {
+            int x = queue[head] & 0xFFFF;
+            int y = queue[head++] >>> 16;
+            int distance = distances.get(x, y);
+
+            for (int i = 0; i < 4; i++) {
+                int nx = x + offsetX[i];
+                int ny = y + offsetY[i];
+
+                if (nx < 0 || ny < 0 || ny >= height || nx >= width)
+                    continue;
+
+                if (distances.get(nx, ny) != UNREACHABLE || isTerrainBlocking(map.getMapSymbol(nx, ny)))
+                    continue;
+
+                if (tail == queue.length)
+                    queue = Arrays.copyOf(queue, queue.length * 2);
+
+                distances.set(nx, ny, distance + 1);
+                queue[tail++] = ny << 16 | nx;
+            }
+        }
+
+        root = player;
+    }
+
+    private static boolean isTerrainBlocking(MapSymbol symbol) {
+        return symbol == MapSymbol.WALL || symbol == MapSymbol.EMPTINESS || symbol == MapSymbol.PORTAL;
+    }
+}
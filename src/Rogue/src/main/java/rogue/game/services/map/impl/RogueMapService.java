@@ -1,11 +1,15 @@
 package rogue.game.services.map.impl;
 
 import rogue.game.domain.enums.Constants;
+import rogue.game.domain.enums.GenerationStage;
 import rogue.game.domain.factories.services.MapGenServiceFactory;
 import rogue.game.domain.factories.services.VisibilityServiceFactory;
+import rogue.game.domain.services.generation.GenerationProfiler;
 import rogue.game.domain.services.level.LevelService;
 import rogue.game.services.map.MapService;
+import rogue.game.services.map.ReadOnlyMapService;
 import rogue.game.domain.services.pubsub.PubSubService;
+import rogue.game.domain.services.vision.VisibilityCache;
 import rogue.game.domain.services.vision.VisibilityService;
 import rogue.game.common.MapInfo;
 import rogue.game.common.enums.MapSymbol;
@@ -13,6 +17,8 @@ import rogue.game.common.observer.EventType;
 import rogue.game.domain.entities.gameMap.GameMap;
 import rogue.game.domain.enums.MapAttribute;
 import rogue.game.domain.entities.RogueMapInfo;
+import rogue.game.domain.entities.level.Door;
+import rogue.game.domain.entities.level.LevelDimensions;
 import rogue.game.domain.entities.level.Room;
 import rogue.game.domain.entities.Position;
 
@@ -27,12 +33,29 @@ public class RogueMapService implements MapService {
     private final GameMap map;
     private final MapInfo mapInfo;
     private final VisibilityService visibilityService;
+    private final VisibilityCache visibilityCache;
+    private final GridPathFinder pathFinder;
+    private final PlayerDistanceField playerDistanceField;
     private final PubSubService pubSubService;
+    private MapSnapshot snapshot;
 
     public RogueMapService(PubSubService pubSubService) {
-        map = new GameMap();
+        this(pubSubService, LevelDimensions.DEFAULT);
+    }
+
+    /**
+     * Creates the service with a map sized for a given grid of rooms.
+     *
+     * @param pubSubService The {@link PubSubService} notified of the map updates.
+     * @param dimensions The {@link LevelDimensions} of the levels drawn on the map.
+     */
+    public RogueMapService(PubSubService pubSubService, LevelDimensions dimensions) {
+        map = new GameMap(dimensions.mapWidth(), dimensions.mapHeight());
         mapInfo = new RogueMapInfo(map);
         this.visibilityService = VisibilityServiceFactory.createVisibilityService();
+        this.visibilityCache = new VisibilityCache();
+        this.pathFinder = new GridPathFinder(map);
+        this.playerDistanceField = new PlayerDistanceField(map);
         this.pubSubService = pubSubService;
     }
 
@@ -51,14 +74,17 @@ public class RogueMapService implements MapService {
     public MapSymbol getMapSymbol(Position pos) { return map.getMapSymbol(pos); }
 
     @Override
-    public void setMapSymbol(int x, int y, MapSymbol symbol) { map.setMapSymbol(x, y, symbol);}
+    public void setMapSymbol(int x, int y, MapSymbol symbol) { map.setMapSymbol(x, y, symbol); }
 
     @Override
-    public void setMapSymbol(Position pos, MapSymbol symbol) { map.setMapSymbol(pos, symbol); }
+    public void setMapSymbol(Position pos, MapSymbol symbol) { setMapSymbol(pos.x(), pos.y(), symbol); }
 
     @Override
     public boolean isVisible(Position pos) { return map.isVisible(pos); }
 
+    @Override
+    public boolean blocksSight(int x, int y) { return map.isOpaque(x, y); }
+
     @Override
     public void setVisible(int x, int y, boolean visible) { map.setVisible(x, y, visible); }
 
@@ -93,7 +119,17 @@ public class RogueMapService implements MapService {
 
     @Override
     public void updateVisibleArea(Position pos, double angle) {
+        long key = VisibilityCache.keyOf(map.indexOf(pos.x(), pos.y()), angle);
+        long[] cells = visibilityCache.get(key);
+
+        if (cells != null) {
+            map.revealAll(cells);
+            return;
+        }
+
+        map.startVisibilityRecording();
         visibilityService.update(this, pos, angle);
+        visibilityCache.put(key, map.stopVisibilityRecording());
     }
 
     @Override
@@ -119,96 +155,71 @@ public class RogueMapService implements MapService {
 
     @Override
     public void generate(LevelService levelService, Position playerPosition) {
+        GenerationProfiler profiler = levelService.getGenerationProfiler();
+        long start = profiler.start();
+
         reset();
         MapGenServiceFactory.createMapGenService().generate(
                 this,
                 levelService,
                 playerPosition
         );
-    }
-
-    private void reset() {
-        for(int i = 0; i < MapAttribute.HEIGHT.value; i++){
-            for(int j = 0; j < MapAttribute.WIDTH.value; j++){
-                map.setMapSymbol(j, i, MapSymbol.EMPTINESS);
-                map.setVisible(j, i, false);
-            }
-        }
-    }
-
-    @Override
-    public List<Position> findPathByBFS(Position from, Position to, Set<MapSymbol> blockingSymbols) {
-        Queue<Position> queue = new ArrayDeque<>();
-        Set<Position> visited = new HashSet<>();
-        Map<Position, Position> parentMap = new HashMap<>();
-
-        queue.add(from);
-        visited.add(from);
-
-        while (!queue.isEmpty()) {
-            Position current = queue.poll();
 
-            if (current.equals(to))
-                return reconstructPath(parentMap, to);
+        map.forEachAllocatedCell((x, y) -> {
+            if (map.getMapSymbol(x, y) == MapSymbol.WALL)
+                map.setOpaque(x, y, true);
+        });
 
-            for(Position next : getNeighbours(current, blockingSymbols)) {
-                MapSymbol sym = map.getMapSymbol(next.x(), next.y());
-
-                if (!visited.contains(next) && sym != MapSymbol.WALL && sym != MapSymbol.EMPTINESS) {
-                    parentMap.put(next, current);
-                    queue.add(next);
-                    visited.add(next);
+        for (int i = 0; i < levelService.getDimensions().roomsNumber(); i++) {
+            for (Door door : levelService.getRoom(i).getDoors()) {
+                if (door != null) {
+                    map.setOpaque(door.getPosition().x(), door.getPosition().y(), true);
+                    door.onOpen(this::onDoorOpened);
                 }
             }
         }
 
-        return Collections.emptyList();
+        profiler.stop(GenerationStage.MAP, levelService.getLevelNumber(), start);
+    }
+
+    private void reset() {
+        map.fill(MapSymbol.EMPTINESS, false);
+        visibilityCache.invalidate();
+        playerDistanceField.invalidate();
     }
 
     /**
-     * Gets the neighboring positions of a given position on the map, excluding blocked positions.
-     *
-     * @param position The current position.
-     * @param blockingSymbols A set of symbols representing blocking elements on the map.
-     * @return A list of neighboring positions that are not blocked.
+     * Drops everything computed from the current door states.
      */
-    private List<Position> getNeighbours(Position position, Set<MapSymbol> blockingSymbols) {
-        List<Position> positions = new ArrayList<>();
-
-        for(int i = 0; i < 4; i++){
-            int x = position.x() + Constants.DX.directionsValues.get(i);
-            int y = position.y() + Constants.DY.directionsValues.get(i);
-
-            if(x < 0 || y < 0 || y >= MapAttribute.HEIGHT.value || x >= MapAttribute.WIDTH.value)
-                continue;
-
-            MapSymbol sym = map.getMapSymbol(x, y);
-
-            if(blockingSymbols.contains(sym))
-                continue;
-
-            positions.add(Position.of(x, y));
-        }
-
-        return positions;
+    private void onDoorOpened() {
+        visibilityCache.invalidate();
+        playerDistanceField.invalidate();
     }
 
     /**
-     * Reconstructs the path from the target position to the starting position using the parent map.
+     * Gets the cache of field-of-view results of the current level, e.g. to read its hit and miss counters.
      *
-     * @param parentMap A map containing parent-child relationships between positions.
-     * @param goal The target position.
-     * @return A list of positions representing the path from the start to the goal.
+     * @return The {@link VisibilityCache}.
      */
-    private List<Position> reconstructPath(Map<Position, Position> parentMap, Position goal) {
-        List<Position> path = new ArrayList<>();
-        Position current = goal;
+    public VisibilityCache getVisibilityCache() { return visibilityCache; }
 
-        while (current != null) {
-            path.addFirst(current);
-            current = parentMap.get(current);
-        }
+    @Override
+    public List<Position> findPathByBFS(Position from, Position to, Set<MapSymbol> blockingSymbols) {
+        return pathFinder.findPath(from, to, blockingSymbols);
+    }
+
+    @Override
+    public Position nextStepTowardsPlayer(Position from, Position playerPosition, Set<MapSymbol> blockingSymbols) {
+        return playerDistanceField.nextStep(from, playerPosition, blockingSymbols, pathFinder);
+    }
+
+    @Override
+    public ReadOnlyMapService refreshSnapshot(Position playerPosition) {
+        if (snapshot == null)
+            snapshot = new MapSnapshot(map.getWidth(), map.getHeight());
+
+        snapshot.refresh(map, playerPosition);
 
-        return path;
+        return snapshot;
     }
 }
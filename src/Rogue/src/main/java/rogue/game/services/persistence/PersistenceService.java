@@ -0,0 +1,43 @@
+package rogue.game.services.persistence;
+
+import rogue.game.common.metrics.Histogram;
+import rogue.game.domain.repository.GameRepository;
+
+/**
+ * Writes the game data held by the {@link GameRepository} to storage, away from the game thread.
+ *
+ * <p> The game state must be handed to the repository, through its {@code update} methods, before a save is
+ * requested: the repository then holds copies of it, so the game can go on changing its entities while they are
+ * being written.
+ */
+public interface PersistenceService {
+    /**
+     * Requests a save of the data handed to the repository so far; requests made while a save is waiting to start are
+     * merged into it.
+     */
+    void requestSave();
+
+    /**
+     * Waits until every save requested so far is written.
+     */
+    void flush();
+
+    /**
+     * Flushes the pending saves and stops the writer; later requests are ignored.
+     */
+    void close();
+
+    /**
+     * @return The number of save requests waiting for a write to start.
+     */
+    int getQueueDepth();
+
+    long getRequests();
+
+    long getWrites();
+
+    /**
+     * @return The durations of the writes, in nanoseconds.
+     */
+    Histogram getWriteLatency();
+}
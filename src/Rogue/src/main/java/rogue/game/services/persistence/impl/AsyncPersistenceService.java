@@ -0,0 +1,125 @@
+package rogue.game.services.persistence.impl;
+
+import rogue.game.common.metrics.Histogram;
+import rogue.game.domain.repository.GameRepository;
+import rogue.game.services.persistence.PersistenceService;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link PersistenceService} saving the {@link GameRepository} on a single virtual thread.
+ *
+ * <p> The writer is the only thread calling {@link GameRepository#save()}, so writes never overlap. At most one write
+ * is queued at a time: a request made while a write is waiting to start only adds to the queue depth, and is covered
+ * by that write.
+ */
+public class AsyncPersistenceService implements PersistenceService {
+    private final GameRepository gameRepository;
+    private final ExecutorService writer;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final Histogram writeLatency = new Histogram();
+
+    public AsyncPersistenceService(GameRepository gameRepository) {
+        this.gameRepository = gameRepository;
+        this.writer = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("rogue-persistence").factory());
+    }
+
+    @Override
+    public void requestSave() {
+        requests.increment();
+        pending.incrementAndGet();
+
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                writer.execute(this::write);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the repository; the requests made from here on schedule another write, as they may not be covered.
+     */
+    private void write() {
+        scheduled.set(false);
+        pending.set(0);
+
+        long start = System.nanoTime();
+
+        try {
+            gameRepository.save();
+        } finally {
+            writeLatency.record(System.nanoTime() - start);
+            writes.increment();
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (RejectedExecutionException e) {
+            awaitTermination();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        writer.shutdown();
+        awaitTermination();
+    }
+
+    private void awaitTermination() {
+        try {
+            while (!writer.awaitTermination(1, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return pending.get();
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    @Override
+    public Histogram getWriteLatency() {
+        return writeLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "requests=" + getRequests()
+                + " writes=" + getWrites()
+                + " queueDepth=" + getQueueDepth()
+                + " writeLatencyUs(p50/p99/max)=" + writeLatency.getPercentile(50) / 1000
+                + "/" + writeLatency.getPercentile(99) / 1000
+                + "/" + writeLatency.getMax() / 1000;
+    }
+}
@@ -1,6 +1,7 @@
 package rogue.game.services.player.impl;
 
 import rogue.game.domain.services.level.LevelService;
+import rogue.game.domain.services.random.RandomService;
 import rogue.game.services.map.MapService;
 import rogue.game.services.messaging.MessageService;
 import rogue.game.domain.services.pubsub.PubSubService;
@@ -39,14 +40,17 @@ public class RoguePlayerService implements PlayerService {
     private final StatsService statsService;
     private final PubSubService pubSubService;
     private final GameRepository gameRepository ;
+    private final RandomService randomService;
     private final Map<ItemType, Consumer<Item>> itemUsageHandlers;
 
     public RoguePlayerService(GameRepository gameRepository, MessageService messageService,
                               MapService mapService, LevelService levelService,
-                              StatsService statsService, PubSubService pubSubService) {
+                              StatsService statsService, PubSubService pubSubService,
+                              RandomService randomService) {
 
 
         this.gameRepository = gameRepository;
+        this.randomService = randomService;
         this.player = gameRepository.getPlayer().orElseGet(Player::new);
         this.inventory = gameRepository.getInventory().orElseGet(Inventory::new);
 
@@ -230,7 +234,7 @@ public class RoguePlayerService implements PlayerService {
 
         if (e instanceof Treasure treasure) {
             r.removeEntity(e);
-            int gold = treasure.getTreasure();
+            int gold = treasure.getTreasure(randomService.getStream(RandomStream.ITEMS));
 
             messageService.updateStatusMessage(StatusMessage.FOUND_STR.message + gold + StatusMessage.FOUND_GOLD_STR.message);
 
@@ -274,7 +278,7 @@ public class RoguePlayerService implements PlayerService {
     private void handleScrollUsage(Item item) {
         Scroll scroll = (Scroll) item;
 
-        int improvement = scroll.getImprovement();
+        int improvement = scroll.getImprovement(randomService.getStream(RandomStream.ITEMS));
 
         statsService.addReadScroll();
 
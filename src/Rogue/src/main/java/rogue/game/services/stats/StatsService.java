@@ -1,12 +1,22 @@
 package rogue.game.services.stats;
 
+import rogue.game.common.enums.StatsOrder;
+
 import java.util.List;
 
 public interface StatsService {
     /**
-     * @return the list of stats
+     * @return the number of walkthroughs
+     */
+    int getStatsCount();
+
+    /**
+     * @param order the ordering of the walkthroughs
+     * @param offset the index of the first walkthrough
+     * @param limit the maximum number of walkthroughs
+     * @return the stats of a page of walkthroughs
      */
-    List<String> getListOfStats();
+    List<String> getStats(StatsOrder order, int offset, int limit);
 
     int getLevel();
     int getCountOfEatenFood();
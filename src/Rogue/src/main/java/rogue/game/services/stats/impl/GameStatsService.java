@@ -1,5 +1,6 @@
 package rogue.game.services.stats.impl;
 
+import rogue.game.common.enums.StatsOrder;
 import rogue.game.services.stats.StatsService;
 import rogue.game.domain.entities.GameStats;
 import rogue.game.domain.repository.GameRepository;
@@ -21,8 +22,13 @@ public class GameStatsService implements StatsService {
     }
 
     @Override
-    public List<String> getListOfStats() {
-        return gameRepository.getListOfStats().stream()
+    public int getStatsCount() {
+        return gameRepository.getStatsCount();
+    }
+
+    @Override
+    public List<String> getStats(StatsOrder order, int offset, int limit) {
+        return gameRepository.getStats(order, offset, limit).stream()
                 .map(GameStats::toString)
                 .toList();
     }
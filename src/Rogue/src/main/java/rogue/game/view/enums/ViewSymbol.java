@@ -34,6 +34,16 @@ public enum ViewSymbol {
      */
     STATISTICS_OF_ALL_WALKTHROUGHES(" --- STATISTICS OF ALL WALKTHROUGHES --- "),
 
+    /**
+     * A label for the ordering of the statistics, followed by the name of the ordering.
+     */
+    STATISTICS_ORDERED_BY(" ORDERED BY "),
+
+    /**
+     * A hint on how to change the ordering of the statistics.
+     */
+    STATISTICS_ORDER_HINT(" (A / D TO CHANGE) "),
+
     /**
      * A message indicating that no walkthroughes were found.
      */
@@ -5,6 +5,7 @@ import jcurses.system.Toolkit;
 import rogue.game.common.enums.MapColor;
 import rogue.game.common.MapInfo;
 import rogue.game.common.enums.MapSymbol;
+import rogue.game.common.enums.StatsOrder;
 import rogue.game.common.enums.UserAction;
 import rogue.game.common.observer.EventType;
 import rogue.game.common.observer.Observer;
@@ -42,6 +43,12 @@ public class RogueView implements View, Observer {
      */
     private Map<MapColor, CharColor> colorMap;
 
+    /**
+     * Set when something other than the map was painted over the map area (or the screen was cleared),
+     * so the next map update has to repaint every cell instead of only the changed ones.
+     */
+    private boolean mapAreaDamaged;
+
     public RogueView(Controller controller){
         this.controller = controller;;
         createEventHandlers();
@@ -142,18 +149,18 @@ public class RogueView implements View, Observer {
         Toolkit.printString(ViewSymbol.STATISTICS_OF_ALL_WALKTHROUGHES.value, 40, 2, ViewColor.RED.color);
 
         int firstRow = 0;
+        StatsOrder order = StatsOrder.LEVEL;
 
-        List<String> stats = controller.getListOfStats();
-
-        final int size = controller.getListOfStats().size();
+        final int size = controller.getStatsCount();
 
         if(size == 0)
             Toolkit.printString(ViewSymbol.NO_WALKTHROUGHES_FOUND.value, 49, 4, ViewColor.RED.color);
 
         while(userAction != UserAction.QUIT){
             if(size > 0) {
-                clearArea(4, 30);
-                printStatsWalkthroughes(stats, firstRow);
+                clearArea(3, 31);
+                printStatsOrder(order);
+                printStatsWalkthroughes(controller.getStats(order, firstRow, ViewAttribute.MAX_NUMBER_OF_WALKTHROUGHES.value));
             }
 
             userAction = UserActionUtil.fromValue(Toolkit.readCharacter().getCode());
@@ -165,33 +172,39 @@ public class RogueView implements View, Observer {
                 } else if (userAction == UserAction.DOWN) {
                     if (firstRow < size - ViewAttribute.MAX_NUMBER_OF_WALKTHROUGHES.value)
                         firstRow++;
+                } else if (userAction == UserAction.LEFT || userAction == UserAction.RIGHT) {
+                    StatsOrder[] orders = StatsOrder.values();
+                    int step = userAction == UserAction.RIGHT ? 1 : orders.length - 1;
+
+                    order = orders[(order.ordinal() + step) % orders.length];
+                    firstRow = 0;
                 }
             }
         }
     }
 
     /**
-     * Displays the statistics of all walkthroughes
-     * @param stats list of stats to print
-     * @param firstRow index of the first row
+     * Displays the ordering of the statistics
+     * @param order the ordering
      */
-    private void printStatsWalkthroughes(final List<String> stats, final int firstRow){
-        int y = 4;
+    private void printStatsOrder(final StatsOrder order){
+        String label = ViewSymbol.STATISTICS_ORDERED_BY.value + order.label.toUpperCase()
+                + ViewSymbol.STATISTICS_ORDER_HINT.value;
 
-        int size = stats.size();
-
-        final int sizeToPrint = Math.min(size, ViewAttribute.MAX_NUMBER_OF_WALKTHROUGHES.value);
-        final int firstRowToPrint;
+        Toolkit.printString(label, 40, 3, ViewColor.WHITE.color);
+    }
 
-        if(size <= ViewAttribute.MAX_NUMBER_OF_WALKTHROUGHES.value)
-            firstRowToPrint = 0;
-        else
-            firstRowToPrint = Math.max(0, firstRow % sizeToPrint);
+    /**
+     * Displays the statistics of the walkthroughes on screen
+     * @param stats the stats to print, one page fetched from the controller
+     */
+    private void printStatsWalkthroughes(final List<String> stats){
+        int y = 4;
 
-        for(int i = firstRowToPrint; i < sizeToPrint + firstRowToPrint; i++){
+        for(int i = 0; i < stats.size(); i++){
             Toolkit.printString(stats.get(i), 5, y++, ViewColor.WHITE.color);
 
-            if(sizeToPrint + firstRowToPrint - 1 != i)
+            if(stats.size() - 1 != i)
                 Toolkit.printString(ViewSymbol.STATISTICS_SEPARATOR.value, 2, y++, ViewColor.RED.color);
         }
     }
@@ -205,6 +218,7 @@ public class RogueView implements View, Observer {
         UserAction userAction = UserAction.NONE;
 
         printPlayerCharacteristicsLabels();
+        mapAreaDamaged = true;
         updateMap();
 
         while(userAction != UserAction.QUIT){
@@ -257,20 +271,46 @@ public class RogueView implements View, Observer {
             Toolkit.printString(ViewSymbol.EMPTY_WIDE_STR.value, 0, i + ViewAttribute.STATUS_BAR_HEIGHT.value, ViewColor.BOLD_YELLOW.color);
             Toolkit.printString(inventory.get(i), 30, i + ViewAttribute.STATUS_BAR_HEIGHT.value, ViewColor.BOLD_YELLOW.color);
         }
+
+        if(!inventory.isEmpty())
+            mapAreaDamaged = true;
     }
 
+    /**
+     * Displays the map.
+     *
+     * <p> Only the cells changed since the previous frame are repainted, unless a new level was generated
+     * or the map area was overwritten, in which case the whole map is repainted.
+     */
     private void updateMap(){
-        clearArea(ViewAttribute.STATUS_BAR_HEIGHT.value, controller.getMap().getHeight());
         MapInfo mapInfo = controller.getMap();
 
-        for(int i = 0; i < mapInfo.getHeight(); i++){
-            for(int j = 0; j < mapInfo.getWidth(); j++){
-                MapSymbol v = mapInfo.getSymbol(i, j);
+        if(mapAreaDamaged || mapInfo.isRedrawRequired())
+            redrawMap(mapInfo);
+        else
+            repaintChangedCells(mapInfo);
 
-                if(v != MapSymbol.EMPTINESS)
-                    Toolkit.printString(v.symbol, j, i + ViewAttribute.STATUS_BAR_HEIGHT.value, colorMap.get(mapInfo.getSymbolColor(i, j)));
-            }
-        }
+        mapInfo.clearChanges();
+        mapAreaDamaged = false;
+    }
+
+    private void redrawMap(MapInfo mapInfo){
+        clearArea(ViewAttribute.STATUS_BAR_HEIGHT.value, mapInfo.getHeight());
+
+        mapInfo.forEachCell((j, i) -> {
+            MapSymbol v = mapInfo.getSymbol(i, j);
+
+            if(v != MapSymbol.EMPTINESS)
+                Toolkit.printString(v.symbol, j, i + ViewAttribute.STATUS_BAR_HEIGHT.value, colorMap.get(mapInfo.getSymbolColor(i, j)));
+        });
+    }
+
+    private void repaintChangedCells(MapInfo mapInfo){
+        mapInfo.forEachChangedCell((j, i) -> {
+            MapSymbol v = mapInfo.getSymbol(i, j);
+
+            Toolkit.printString(v.symbol, j, i + ViewAttribute.STATUS_BAR_HEIGHT.value, colorMap.get(mapInfo.getSymbolColor(i, j)));
+        });
     }
 
     private void updateLevel(){
@@ -0,0 +1,111 @@
+package rogue.game.application.tools;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import rogue.game.domain.entities.GameEntity;
+import rogue.game.domain.entities.GameStats;
+import rogue.game.domain.entities.Inventory;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.items.Item;
+import rogue.game.domain.entities.level.Level;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.level.impl.RogueLevelService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.FileBinaryRepository;
+import rogue.game.infrastructure.dataAccess.impl.FileJsonRepository;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SaveConverterTest {
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void convertsJsonToBinaryAndBackByteForByte(boolean compress) throws Exception {
+        writeSave("source.json");
+
+        Path source = directory.resolve("source.json");
+        Path binary = directory.resolve("save.bin");
+        Path json = directory.resolve("back.json");
+        Path expected = directory.resolve("expected.json");
+
+        // The source holds a journal; the target of a conversion is a snapshot alone, written in a canonical way
+        new FileJsonRepository(directory.toString(), "expected.json")
+                .copyFrom(new FileJsonRepository(directory.toString(), "source.json"));
+
+        if (compress)
+            SaveConverter.main(new String[] {source.toString(), binary.toString(), "--compress"});
+        else
+            SaveConverter.main(new String[] {source.toString(), binary.toString()});
+
+        SaveConverter.main(new String[] {binary.toString(), json.toString()});
+
+        assertTrue(Files.size(binary) < Files.size(expected));
+        assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(json));
+
+        FileBinaryRepository converted = new FileBinaryRepository(directory.toString(), "save.bin", compress);
+
+        assertEquals(-987654321987L, converted.getSeed().orElseThrow());
+        assertEquals(50, converted.getStatsCount());
+    }
+
+    /**
+     * Writes a save with a generated level, a player, an inventory, statistics, a seed and a walkthrough history.
+     */
+    private void writeSave(String fileName) {
+        InMemoryRepository memory = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(memory);
+        RogueLevelService levelService = new RogueLevelService(memory, randomService, LevelDimensions.DEFAULT, false);
+
+        randomService.setSeed(42);
+        levelService.setLevelNumber(7);
+        levelService.reset();
+
+        Player player = new Player();
+        levelService.generate(player, new GameStatsService(memory));
+        levelService.save();
+
+        Level level = memory.getLevel().orElseThrow();
+        Inventory inventory = new Inventory();
+
+        for (int room = 0; room < level.getDimensions().roomsNumber(); room++) {
+            for (GameEntity entity : level.getRoom(room).getEntities()) {
+                if (entity instanceof Item)
+                    inventory.tryAddItem(entity);
+            }
+        }
+
+        FileJsonRepository repository = new FileJsonRepository(directory.toString(), fileName);
+
+        repository.update(level);
+        repository.update(player);
+        repository.update(inventory);
+        repository.update(memory.getBalancer().orElseThrow());
+
+        GameStats total = new GameStats();
+        total.setLevel(7);
+        total.setTreasureAmount(1234);
+        repository.update(total, new GameStats());
+        repository.updateSeed(-987654321987L);
+
+        for (int i = 0; i < 50; i++) {
+            GameStats walkthrough = new GameStats();
+            walkthrough.setLevel(i % 21);
+            walkthrough.setTreasureAmount(i * 37);
+            walkthrough.setCountOfPassedCells(i * 101);
+            repository.insert(walkthrough);
+        }
+
+        repository.save();
+    }
+}
@@ -0,0 +1,143 @@
+package rogue.game.domain.entities.level;
+
+import org.junit.jupiter.api.Test;
+import rogue.game.domain.entities.GameEntity;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.items.Treasure;
+import rogue.game.domain.enums.Direction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomTest {
+    private static final Position TOP_LEFT = Position.of(2, 3);
+    private static final Position BOTTOM_RIGHT = Position.of(10, 9);
+    private static final int DRAWS = 70_000;
+
+    private final SplittableRandom random = new SplittableRandom(11);
+
+    @Test
+    void drawsFreeCellsLikeRejectionSampler() {
+        Room room = room();
+
+        for (int i = 0; i < 8; i++)
+            room.addEntity(new Treasure(rejectionSample(room)));
+
+        Map<Position, Integer> drawn = histogram(room, false);
+        Map<Position, Integer> sampled = histogram(room, true);
+
+        assertEquals(sampled.keySet(), drawn.keySet());
+
+        // Both uniform over the same cells: each count is binomial, with a standard deviation below sqrt(count)
+        for (Position cell : sampled.keySet()) {
+            int a = drawn.get(cell);
+            int b = sampled.get(cell);
+
+            assertTrue(Math.abs(a - b) < 5 * Math.sqrt(a + b), cell + ": " + a + " drawn, " + b + " sampled");
+        }
+    }
+
+    @Test
+    void keepsFreeCellsUpToDateAsEntitiesComeAndGo() {
+        Room room = room();
+        List<GameEntity> entities = new ArrayList<>();
+
+        for (int step = 0; step < 400; step++) {
+            if (entities.isEmpty() || random.nextInt(3) > 0) {
+                // Entities stack on taken cells and cells next to doors too, as keys and corpses may
+                Position pos = Position.of(random.nextInt(TOP_LEFT.x() + 1, BOTTOM_RIGHT.x()),
+                        random.nextInt(TOP_LEFT.y() + 1, BOTTOM_RIGHT.y()));
+                GameEntity entity = new Treasure(pos);
+
+                room.addEntity(entity);
+                entities.add(entity);
+            } else {
+                room.removeEntity(entities.remove(random.nextInt(entities.size())));
+            }
+
+            if (step % 20 == 0 && entities.size() < 20)
+                assertEquals(histogram(room, true).keySet(), histogram(room, false).keySet(), "step " + step);
+        }
+    }
+
+    @Test
+    void removedEntityFreesItsCellUnlessAnotherStandsOnIt() {
+        Room room = room();
+        Position pos = Position.of(6, 6);
+        GameEntity first = new Treasure(pos);
+        GameEntity second = new Treasure(pos);
+
+        room.addEntity(first);
+        room.addEntity(second);
+        room.getRandomFreeCell(random);
+
+        room.removeEntity(first);
+        assertFalse(histogram(room, false).containsKey(pos));
+
+        room.removeEntity(second);
+        assertTrue(histogram(room, false).containsKey(pos));
+
+        Position nextToDoor = Position.of(5, 4);
+        GameEntity third = new Treasure(nextToDoor);
+
+        room.addEntity(third);
+        room.removeEntity(third);
+        assertFalse(histogram(room, false).containsKey(nextToDoor));
+    }
+
+    private static Room room() {
+        Room room = new Room();
+
+        room.setTopLeft(TOP_LEFT);
+        room.setBottomRight(BOTTOM_RIGHT);
+        room.setDoorByDirection(Direction.TOP, Position.of(5, 3));
+        room.setDoorByDirection(Direction.LEFT, Position.of(2, 6));
+
+        return room;
+    }
+
+    private Map<Position, Integer> histogram(Room room, boolean rejection) {
+        Map<Position, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < DRAWS; i++)
+            counts.merge(rejection ? rejectionSample(room) : room.getRandomFreeCell(random), 1, Integer::sum);
+
+        return counts;
+    }
+
+    /**
+     * Draws a cell the way entities were placed before the rooms kept their free cells: any interior cell, drawn
+     * again while it is taken or next to a door.
+     */
+    private Position rejectionSample(Room room) {
+        int tLeftX = room.getTopLeft().x();
+        int tLeftY = room.getTopLeft().y();
+        int bRightX = room.getBottomRight().x();
+        int bRightY = room.getBottomRight().y();
+
+        Position pos;
+
+        do {
+            pos = Position.of(random.nextInt(bRightX - tLeftX - 1) + 1 + tLeftX,
+                    random.nextInt(bRightY - tLeftY - 1) + 1 + tLeftY);
+        } while (room.checkIfCellIsOccupied(pos) || nextToDoor(room, pos));
+
+        return pos;
+    }
+
+    private static boolean nextToDoor(Room room, Position pos) {
+        for (Door door : room.getDoors()) {
+            if (door != null && Math.abs(door.getPosition().x() - pos.x()) + Math.abs(door.getPosition().y() - pos.y()) == 1)
+                return true;
+        }
+
+        return false;
+    }
+}
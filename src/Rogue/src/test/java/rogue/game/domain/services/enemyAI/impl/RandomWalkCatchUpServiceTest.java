@@ -0,0 +1,159 @@
+package rogue.game.domain.services.enemyAI.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.enemies.*;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.entities.level.Room;
+import rogue.game.domain.enums.EnemyType;
+import rogue.game.domain.enums.MimicAttribute;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.enemyAI.EnemyMovementService;
+import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.map.impl.RogueMapService;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomWalkCatchUpServiceTest {
+    private static final Position TOP_LEFT = Position.of(1, 1);
+    private static final Position BOTTOM_RIGHT = Position.of(33, 33);
+    private static final Position CENTER = Position.of(17, 17);
+    private static final Position DOOR = Position.of(17, 1);
+    private static final Position PLAYER = Position.of(100, 100);
+
+    private static final int ACTIONS = 16;
+    private static final int TRIALS = 4_000;
+
+    private final RogueMapService map = new RogueMapService(new RoguePubSubService(), new LevelDimensions(3, 3, 40, 40));
+    private final Room room = new Room();
+    private final RandomService randomService = RandomServiceFactory.createRandomService(new InMemoryRepository());
+    private final RandomWalkCatchUpService catchUpService = new RandomWalkCatchUpService(map, randomService);
+    private final EnemyMovementService movementService = new RogueEnemyMovementService();
+    private final SplittableRandom random = new SplittableRandom(3);
+
+    RandomWalkCatchUpServiceTest() {
+        for (int y = TOP_LEFT.y(); y <= BOTTOM_RIGHT.y(); y++) {
+            for (int x = TOP_LEFT.x(); x <= BOTTOM_RIGHT.x(); x++) {
+                boolean wall = x == TOP_LEFT.x() || y == TOP_LEFT.y() || x == BOTTOM_RIGHT.x() || y == BOTTOM_RIGHT.y();
+                map.setMapSymbol(x, y, wall ? MapSymbol.WALL : MapSymbol.FLOOR);
+            }
+        }
+
+        map.setMapSymbol(DOOR, MapSymbol.DOOR);
+        room.setTopLeft(TOP_LEFT);
+        room.setBottomRight(BOTTOM_RIGHT);
+        randomService.setSeed(5);
+    }
+
+    /**
+     * Compares how far the enemies wander off in the catch-up with how far they get replaying their strategy action
+     * by action, with the player out of reach.
+     */
+    @ParameterizedTest
+    @EnumSource(value = EnemyType.class, names = "MIMIC", mode = EnumSource.Mode.EXCLUDE)
+    void catchUpSpreadsLikeStrategy(EnemyType type) {
+        double replayed = 0;
+        double caughtUp = 0;
+
+        for (int trial = 0; trial < TRIALS; trial++) {
+            Enemy enemy = create(type, CENTER);
+
+            for (int action = 0; action < ACTIONS; action++)
+                enemy.setPosition(movementService.move(map, enemy, TOP_LEFT, BOTTOM_RIGHT, PLAYER, random));
+
+            replayed += squaredDistance(CENTER, enemy.getPosition());
+
+            Position pos = catchUpService.catchUp(create(type, CENTER), room, ACTIONS);
+
+            assertEquals(MapSymbol.FLOOR, map.getMapSymbol(pos));
+            caughtUp += squaredDistance(CENTER, pos);
+        }
+
+        double ratio = caughtUp / replayed;
+
+        assertTrue(ratio > 0.85 && ratio < 1.15, type + " spreads " + ratio + " times as far as its strategy");
+    }
+
+    @Test
+    void disguisedMimicInsideRoomStaysAsItIs() {
+        Mimic mimic = create(EnemyType.MIMIC, CENTER);
+        mimic.setAppearance(MapSymbol.FOOD);
+
+        assertEquals(CENTER, catchUpService.catchUp(mimic, room, 1_000));
+        assertEquals(MapSymbol.FOOD, mimic.getAppearance());
+        assertEquals(0, mimic.getCountTimesPlayerNotVisible());
+    }
+
+    @Test
+    void revealedMimicDisguisesItselfLikeItsStrategy() {
+        for (int actions = 1; actions <= MimicAttribute.MAX_DETECTION_OF_PLAYER.value + 1; actions++) {
+            Mimic replayed = revealedMimic();
+            Mimic caughtUp = revealedMimic();
+
+            for (int action = 0; action < actions; action++)
+                replayed.setPosition(movementService.move(map, replayed, TOP_LEFT, BOTTOM_RIGHT, PLAYER, random));
+
+            assertEquals(CENTER, catchUpService.catchUp(caughtUp, room, actions));
+            assertEquals(replayed.getPosition(), caughtUp.getPosition());
+            assertEquals(replayed.getAppearance() == MapSymbol.MIMIC, caughtUp.getAppearance() == MapSymbol.MIMIC,
+                    "after " + actions + " actions");
+            assertEquals(replayed.getCountTimesPlayerNotVisible(), caughtUp.getCountTimesPlayerNotVisible());
+            assertEquals(replayed.getHostility(), caughtUp.getHostility());
+        }
+    }
+
+    @Test
+    void mimicNextToDoorWandersIntoRoomAndStops() {
+        Position nextToDoor = Position.of(DOOR.x(), DOOR.y() + 1);
+
+        for (int trial = 0; trial < 100; trial++) {
+            Mimic mimic = create(EnemyType.MIMIC, nextToDoor);
+            Position pos = catchUpService.catchUp(mimic, room, 1_000);
+
+            assertNotEquals(nextToDoor, pos);
+            assertEquals(MapSymbol.FLOOR, map.getMapSymbol(pos));
+            assertFalse(Math.abs(pos.x() - DOOR.x()) <= 1 && Math.abs(pos.y() - DOOR.y()) <= 1);
+            // It stops as soon as it leaves the door behind, far from the Gaussian walk of 1000 steps
+            assertTrue(squaredDistance(nextToDoor, pos) < 100, pos.toString());
+        }
+    }
+
+    private Mimic revealedMimic() {
+        Mimic mimic = create(EnemyType.MIMIC, CENTER);
+        mimic.setAppearance(MapSymbol.MIMIC);
+        mimic.setCountTimesPlayerNotVisible(1);
+
+        return mimic;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Enemy> T create(EnemyType type, Position pos) {
+        Enemy enemy = switch (type) {
+            case ZOMBIE -> new Zombie(pos, 1);
+            case VAMPIRE -> new Vampire(pos, 1, random);
+            case GHOST -> new Ghost(pos, 1);
+            case OGRE -> new Ogre(pos, 1);
+            case SNAKE_MAGICIAN -> new SnakeMagician(pos, 1);
+            case MIMIC -> new Mimic(pos, 1, random);
+        };
+
+        return (T) enemy;
+    }
+
+    private static int squaredDistance(Position from, Position to) {
+        int dx = to.x() - from.x();
+        int dy = to.y() - from.y();
+
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,74 @@
+package rogue.game.domain.services.enemyAI.impl;
+
+import org.junit.jupiter.api.Test;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.enemies.*;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.enums.EnemyType;
+import rogue.game.domain.services.enemyAI.EnemyMovementService;
+import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.services.map.impl.RogueMapService;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RogueEnemyMovementServiceTest {
+    private static final int WARM_UP_MOVES = 600;
+    private static final int MOVES = 3_000;
+
+    /**
+     * Moves enemies walled in on an empty map, with the player out of reach: every strategy gives up its random walk
+     * and returns the current position, so whatever a move allocates comes from looking up its strategy.
+     */
+    @Test
+    void findingStrategyAllocatesNothing() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+
+        RogueMapService map = new RogueMapService(new RoguePubSubService(), LevelDimensions.DEFAULT);
+        EnemyMovementService movementService = new RogueEnemyMovementService();
+        SplittableRandom random = new SplittableRandom(1);
+        Position position = Position.of(10, 10);
+        Position player = Position.of(60, 20);
+
+        List<Enemy> enemies = List.of(
+                new Zombie(position, 1),
+                new Vampire(position, 1, random),
+                new SnakeMagician(position, 1),
+                new Ogre(position, 1),
+                new Ghost(position, 1),
+                new Mimic(position, 1, random)
+        );
+
+        assertEquals(EnemyType.values().length, enemies.size());
+
+        // Loads and links the classes of the move path, but stops short of the optimizing compiler, whose escape
+        // analysis could hide the allocations of a lookup
+        move(movementService, map, enemies, player, random, WARM_UP_MOVES);
+
+        long overhead = threads.getThreadAllocatedBytes(thread);
+        overhead = threads.getThreadAllocatedBytes(thread) - overhead;
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        move(movementService, map, enemies, player, random, MOVES);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before - overhead;
+
+        // A single object per move would come to at least 16 bytes per move
+        assertTrue(allocated < MOVES, allocated + " bytes allocated by " + MOVES + " moves");
+    }
+
+    private static void move(EnemyMovementService movementService, RogueMapService map, List<Enemy> enemies,
+                             Position player, SplittableRandom random, int moves) {
+        for (int i = 0; i < moves; i++) {
+            Enemy enemy = enemies.get(i % enemies.size());
+
+            assertSame(enemy.getPosition(),
+                    movementService.move(map, enemy, Position.NONE, Position.NONE, player, random));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package rogue.game.domain.services.level.impl;
+
+import org.junit.jupiter.api.Test;
+import rogue.game.common.MapInfo;
+import rogue.game.domain.entities.GameEntity;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.enemies.Enemy;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.map.impl.RogueMapService;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class RogueLevelServiceTest {
+    private static final int LAST_LEVEL = 21;
+
+    @Test
+    void sameSeedGivesSameDungeon() {
+        assertEquals(generateDungeon(42, false), generateDungeon(42, false));
+    }
+
+    @Test
+    void sameSeedGivesSameDungeonOnAnotherThread() throws ExecutionException, InterruptedException {
+        List<String> expected = generateDungeon(42, false);
+
+        assertEquals(expected, CompletableFuture.supplyAsync(() -> generateDungeon(42, false)).get());
+    }
+
+    @Test
+    void pregeneratingLevelsInBackgroundGivesSameDungeon() {
+        assertEquals(generateDungeon(42, false), generateDungeon(42, true));
+    }
+
+    @Test
+    void differentSeedGivesDifferentDungeon() {
+        List<String> dungeon = generateDungeon(42, false);
+        List<String> other = generateDungeon(43, false);
+
+        for (int i = 0; i < LAST_LEVEL; i++)
+            assertNotEquals(dungeon.get(i), other.get(i), "Level " + (i + 1));
+    }
+
+    /**
+     * Generates the levels 1 to 21 from a seed, as a player going down would.
+     *
+     * @return A description of each level: its map, the room entities and the enemies.
+     */
+    private static List<String> generateDungeon(long seed, boolean pregenerate) {
+        InMemoryRepository memory = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(memory);
+        RogueLevelService levelService = new RogueLevelService(memory, randomService, LevelDimensions.DEFAULT,
+                pregenerate);
+        GameStatsService statsService = new GameStatsService(memory);
+        Player player = new Player();
+        List<String> levels = new ArrayList<>();
+
+        randomService.setSeed(seed);
+        levelService.setLevelNumber(1);
+        levelService.reset();
+
+        for (int level = 1; level <= LAST_LEVEL; level++) {
+            levelService.generate(player, statsService);
+            levels.add(describe(levelService, player));
+            levelService.increaseLevel();
+        }
+
+        return levels;
+    }
+
+    private static String describe(RogueLevelService levelService, Player player) {
+        RogueMapService mapService = new RogueMapService(new RoguePubSubService(), levelService.getDimensions());
+        mapService.generate(levelService, player.getPosition());
+
+        MapInfo map = mapService.getMapInfo();
+        StringBuilder description = new StringBuilder();
+
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++)
+                description.append(map.getSymbol(y, x).ordinal()).append(map.getSymbolColor(y, x).ordinal()).append(',');
+
+            description.append('\n');
+        }
+
+        description.append("player ").append(player.getPosition()).append('\n');
+
+        for (int i = 0; i < levelService.getDimensions().roomsNumber(); i++) {
+            for (GameEntity entity : levelService.getRoom(i).getEntities())
+                description.append(entity.getClass().getSimpleName()).append(' ').append(entity.getPosition()).append('\n');
+        }
+
+        for (Enemy enemy : levelService.getEnemiesList()) {
+            description.append(enemy.getType()).append(' ').append(enemy.getPosition()).append(' ')
+                    .append(enemy.getHealth()).append(' ').append(enemy.getStrength()).append('\n');
+        }
+
+        return description.toString();
+    }
+}
@@ -0,0 +1,175 @@
+package rogue.game.infrastructure.dataAccess.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import rogue.game.common.enums.StatsOrder;
+import rogue.game.domain.entities.GameStats;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournaledFileRepositoryTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysLastRecordOfEachPartAndEveryWalkthrough() {
+        JournaledFileRepository repository = open("save.json");
+
+        repository.updateSeed(1);
+        repository.save();
+        repository.insert(walkthrough(2));
+        repository.updateSeed(2);
+        repository.save();
+        repository.insert(walkthrough(5));
+        repository.updateSeed(3);
+        repository.save();
+
+        JournaledFileRepository reloaded = open("save.json");
+
+        assertEquals(Optional.of(3L), reloaded.getSeed());
+        assertEquals(2, reloaded.getStatsCount());
+        assertEquals(5, reloaded.getListOfStats().getFirst().getLevel());
+    }
+
+    @Test
+    void losesOnlyTornSave() throws IOException {
+        JournaledFileRepository repository = open("save.json");
+
+        repository.updateSeed(1);
+        repository.save();
+        repository.updateSeed(2);
+        repository.save();
+
+        Path journal = directory.resolve("save.json.journal");
+
+        try (RandomAccessFile file = new RandomAccessFile(journal.toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        assertEquals(Optional.of(1L), open("save.json").getSeed());
+    }
+
+    @Test
+    void skipsJournalLeftByCrashDuringCompaction() throws IOException {
+        JournaledFileRepository repository = open("save.json");
+
+        repository.insert(walkthrough(3));
+        repository.updateSeed(7);
+        repository.save();
+
+        Path journal = directory.resolve("save.json.journal");
+        byte[] records = Files.readAllBytes(journal);
+
+        JournaledFileRepository source = open("source.json");
+
+        source.insert(walkthrough(3));
+        source.updateSeed(9);
+
+        // Writes a new snapshot including the journaled records, then empties the journal
+        repository.copyFrom(source);
+
+        // The crash: the snapshot was replaced, but the journal was not emptied yet
+        Files.write(journal, records);
+
+        JournaledFileRepository reloaded = open("save.json");
+
+        assertEquals(Optional.of(9L), reloaded.getSeed());
+        assertEquals(1, reloaded.getStatsCount());
+
+        reloaded.updateSeed(11);
+        reloaded.insert(walkthrough(4));
+        reloaded.save();
+
+        JournaledFileRepository again = open("save.json");
+
+        assertEquals(Optional.of(11L), again.getSeed());
+        assertEquals(2, again.getStatsCount());
+    }
+
+    @Test
+    void ignoresSnapshotLeftHalfWrittenByCrashDuringCompaction() throws IOException {
+        JournaledFileRepository repository = open("save.json");
+
+        repository.insert(walkthrough(3));
+        repository.updateSeed(7);
+        repository.save();
+
+        // The crash: the new snapshot was being written next to the old one
+        Files.write(directory.resolve("save.json.tmp"), new byte[] {'{', '"'});
+
+        JournaledFileRepository reloaded = open("save.json");
+
+        assertEquals(Optional.of(7L), reloaded.getSeed());
+        assertEquals(1, reloaded.getStatsCount());
+    }
+
+    @Test
+    void mergesInsertedWalkthroughsIntoPagesOfSnapshot() {
+        Random random = new Random(7);
+        JournaledFileRepository source = open("source.json");
+        List<GameStats> expected = new ArrayList<>();
+
+        for (int i = 0; i < 300; i++) {
+            GameStats stats = walkthrough(random.nextInt(21), i);
+            source.insert(stats);
+            expected.add(stats);
+        }
+
+        open("save.json").copyFrom(source);
+
+        // The walkthroughs of the snapshot are left in the file, and ranked after the ones inserted since
+        JournaledFileRepository repository = open("save.json");
+
+        for (int i = 0; i < 40; i++) {
+            GameStats stats = walkthrough(random.nextInt(22), 300 + i);
+            repository.insert(stats);
+            expected.add(stats);
+        }
+
+        expected.sort(Comparator.comparingInt(GameStats::getLevel).reversed());
+
+        for (int page = 0; page < 100; page++) {
+            int offset = random.nextInt(expected.size() + 5);
+            int limit = random.nextInt(50);
+
+            assertEquals(treasures(expected.subList(Math.min(offset, expected.size()),
+                            Math.min(offset + limit, expected.size()))),
+                    treasures(repository.getStats(StatsOrder.LEVEL, offset, limit)));
+        }
+
+        assertEquals(treasures(expected), treasures(repository.getListOfStats()));
+    }
+
+    private JournaledFileRepository open(String fileName) {
+        return new FileJsonRepository(directory.toString(), fileName);
+    }
+
+    private static GameStats walkthrough(int level) {
+        return walkthrough(level, 0);
+    }
+
+    private static GameStats walkthrough(int level, int treasure) {
+        GameStats stats = new GameStats();
+        stats.setLevel(level);
+        stats.setTreasureAmount(treasure);
+
+        return stats;
+    }
+
+    /**
+     * Tells the walkthroughs apart by their treasure.
+     */
+    private static List<Integer> treasures(List<GameStats> walkthroughs) {
+        return walkthroughs.stream().map(GameStats::getTreasureAmount).toList();
+    }
+}
@@ -0,0 +1,148 @@
+package rogue.game.infrastructure.dataAccess.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SaveJournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysAppendedRecordsInOrder() {
+        SaveJournal journal = new SaveJournal(directory.resolve("save.journal"));
+
+        journal.append(List.of(record(1, JournalRecordType.PLAYER, "player"), record(2, JournalRecordType.SEED, "seed")));
+        journal.append(List.of(record(3, JournalRecordType.WALKTHROUGH, "walkthrough")));
+
+        List<JournalRecord> replayed = replay(new SaveJournal(directory.resolve("save.journal")));
+
+        assertEquals(3, replayed.size());
+        assertRecord(replayed.get(0), 1, JournalRecordType.PLAYER, "player");
+        assertRecord(replayed.get(1), 2, JournalRecordType.SEED, "seed");
+        assertRecord(replayed.get(2), 3, JournalRecordType.WALKTHROUGH, "walkthrough");
+    }
+
+    @Test
+    void replaysNothingWithoutFile() {
+        SaveJournal journal = new SaveJournal(directory.resolve("missing.journal"));
+
+        assertEquals(0, replay(journal).size());
+        assertEquals(0, journal.size());
+    }
+
+    @Test
+    void cutsOffTornTail() throws IOException {
+        Path path = directory.resolve("save.journal");
+        SaveJournal journal = new SaveJournal(path);
+
+        journal.append(List.of(record(1, JournalRecordType.PLAYER, "player")));
+        journal.append(List.of(record(2, JournalRecordType.LEVEL, "level")));
+        long complete = Files.size(path);
+        journal.append(List.of(record(3, JournalRecordType.LEVEL, "a level written halfway")));
+
+        truncate(path, Files.size(path) - 3);
+
+        SaveJournal reopened = new SaveJournal(path);
+        List<JournalRecord> replayed = replay(reopened);
+
+        assertEquals(2, replayed.size());
+        assertRecord(replayed.get(1), 2, JournalRecordType.LEVEL, "level");
+        assertEquals(complete, Files.size(path));
+        assertEquals(complete, reopened.size());
+
+        reopened.append(List.of(record(3, JournalRecordType.SEED, "seed")));
+        replayed = replay(new SaveJournal(path));
+
+        assertEquals(3, replayed.size());
+        assertRecord(replayed.get(2), 3, JournalRecordType.SEED, "seed");
+    }
+
+    @Test
+    void cutsOffTornHeader() throws IOException {
+        Path path = directory.resolve("save.journal");
+        SaveJournal journal = new SaveJournal(path);
+
+        journal.append(List.of(record(1, JournalRecordType.PLAYER, "player")));
+        long complete = Files.size(path);
+        journal.append(List.of(record(2, JournalRecordType.LEVEL, "level")));
+
+        truncate(path, complete + 5);
+
+        assertEquals(1, replay(new SaveJournal(path)).size());
+        assertEquals(complete, Files.size(path));
+    }
+
+    @Test
+    void cutsOffRecordWithCorruptChecksum() throws IOException {
+        Path path = directory.resolve("save.journal");
+        SaveJournal journal = new SaveJournal(path);
+
+        journal.append(List.of(record(1, JournalRecordType.PLAYER, "player")));
+        long first = Files.size(path);
+        journal.append(List.of(record(2, JournalRecordType.LEVEL, "level")));
+        journal.append(List.of(record(3, JournalRecordType.SEED, "seed")));
+
+        // Flip a byte of the payload of the second record, past its length, checksum, sequence and type
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            long position = first + Integer.BYTES + Integer.BYTES + Long.BYTES + Byte.BYTES;
+
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0x40);
+        }
+
+        List<JournalRecord> replayed = replay(new SaveJournal(path));
+
+        assertEquals(1, replayed.size());
+        assertRecord(replayed.get(0), 1, JournalRecordType.PLAYER, "player");
+        assertEquals(first, Files.size(path));
+    }
+
+    @Test
+    void clearEmptiesJournal() {
+        Path path = directory.resolve("save.journal");
+        SaveJournal journal = new SaveJournal(path);
+
+        journal.append(List.of(record(1, JournalRecordType.PLAYER, "player")));
+        journal.clear();
+
+        assertEquals(0, journal.size());
+        assertEquals(0, replay(new SaveJournal(path)).size());
+    }
+
+    private static JournalRecord record(long sequence, JournalRecordType type, String payload) {
+        return new JournalRecord(sequence, type, payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<JournalRecord> replay(SaveJournal journal) {
+        List<JournalRecord> records = new ArrayList<>();
+
+        journal.replay(records::add);
+
+        return records;
+    }
+
+    private static void assertRecord(JournalRecord record, long sequence, JournalRecordType type, String payload) {
+        assertEquals(sequence, record.sequence());
+        assertEquals(type, record.type());
+        assertArrayEquals(payload.getBytes(StandardCharsets.UTF_8), record.payload());
+    }
+
+    private static void truncate(Path path, long size) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(size);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package rogue.game.infrastructure.dataAccess.stats;
+
+import org.junit.jupiter.api.Test;
+import rogue.game.common.enums.StatsOrder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LeaderboardTest {
+    private record Walkthrough(int id, int level, int treasure, int enemies) {}
+
+    private static ToIntFunction<Walkthrough> keyOf(StatsOrder order) {
+        return switch (order) {
+            case LEVEL -> Walkthrough::level;
+            case TREASURE -> Walkthrough::treasure;
+            case DEFEATED_ENEMIES -> Walkthrough::enemies;
+        };
+    }
+
+    @Test
+    void pagesMatchStableSortAtRandomOffsets() {
+        Random random = new Random(20240611);
+
+        for (int run = 0; run < 20; run++) {
+            Leaderboard<Walkthrough> leaderboard = new Leaderboard<>(LeaderboardTest::keyOf);
+            List<Walkthrough> added = new ArrayList<>();
+            // Few distinct keys, so most walkthroughs tie with others
+            int keys = 1 + random.nextInt(30);
+
+            for (int batch = 0; batch < 10; batch++) {
+                int count = random.nextInt(200);
+
+                for (int i = 0; i < count; i++) {
+                    Walkthrough walkthrough = new Walkthrough(added.size(), random.nextInt(keys),
+                            random.nextInt(keys * 50), random.nextInt(keys));
+
+                    leaderboard.add(walkthrough);
+                    added.add(walkthrough);
+                }
+
+                assertEquals(added.size(), leaderboard.size());
+
+                for (StatsOrder order : StatsOrder.values()) {
+                    List<Walkthrough> expected = sorted(added, order);
+
+                    assertEquals(expected, leaderboard.page(order, 0, expected.size()));
+
+                    for (int page = 0; page < 20; page++) {
+                        int offset = random.nextInt(expected.size() + 10);
+                        int limit = random.nextInt(60);
+
+                        assertEquals(expected.subList(Math.min(offset, expected.size()),
+                                        Math.min(offset + limit, expected.size())),
+                                leaderboard.page(order, offset, limit),
+                                order + " page at " + offset + " of " + limit);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void topIsFirstPage() {
+        Leaderboard<Walkthrough> leaderboard = new Leaderboard<>(LeaderboardTest::keyOf);
+
+        leaderboard.add(new Walkthrough(0, 3, 10, 1));
+        leaderboard.add(new Walkthrough(1, 5, 10, 2));
+        leaderboard.add(new Walkthrough(2, 5, 30, 0));
+
+        assertEquals(List.of(new Walkthrough(1, 5, 10, 2), new Walkthrough(2, 5, 30, 0)),
+                leaderboard.top(StatsOrder.LEVEL, 2));
+        assertEquals(List.of(new Walkthrough(2, 5, 30, 0)), leaderboard.top(StatsOrder.TREASURE, 1));
+    }
+
+    @Test
+    void outOfRangePagesAreEmpty() {
+        Leaderboard<Walkthrough> leaderboard = new Leaderboard<>(LeaderboardTest::keyOf);
+
+        assertEquals(List.of(), leaderboard.page(StatsOrder.LEVEL, 0, 10));
+
+        leaderboard.add(new Walkthrough(0, 1, 1, 1));
+
+        assertEquals(List.of(), leaderboard.page(StatsOrder.LEVEL, -1, 10));
+        assertEquals(List.of(), leaderboard.page(StatsOrder.LEVEL, 1, 10));
+        assertEquals(List.of(), leaderboard.page(StatsOrder.LEVEL, 0, 0));
+    }
+
+    @Test
+    void clearForgetsWalkthroughsAndTheirOrder() {
+        Leaderboard<Walkthrough> leaderboard = new Leaderboard<>(LeaderboardTest::keyOf);
+
+        leaderboard.add(new Walkthrough(0, 2, 0, 0));
+        leaderboard.clear();
+
+        assertEquals(0, leaderboard.size());
+
+        leaderboard.add(new Walkthrough(1, 1, 0, 0));
+        leaderboard.add(new Walkthrough(2, 1, 0, 0));
+
+        assertEquals(List.of(new Walkthrough(1, 1, 0, 0), new Walkthrough(2, 1, 0, 0)),
+                leaderboard.page(StatsOrder.LEVEL, 0, 10));
+    }
+
+    /**
+     * Sorts the walkthroughs from the highest key down, keeping the order they were added in among equal keys.
+     */
+    private static List<Walkthrough> sorted(List<Walkthrough> walkthroughs, StatsOrder order) {
+        List<Walkthrough> sorted = new ArrayList<>(walkthroughs);
+
+        sorted.sort(Comparator.comparingInt(keyOf(order)).reversed());
+
+        return sorted;
+    }
+}
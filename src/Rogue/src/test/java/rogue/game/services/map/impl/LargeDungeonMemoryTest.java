@@ -0,0 +1,84 @@
+package rogue.game.services.map.impl;
+
+import org.junit.jupiter.api.Test;
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.level.impl.RogueLevelService;
+import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LargeDungeonMemoryTest {
+    /**
+     * An 8x8 grid of rooms in 512x512 sectors: a 4096x4096 map.
+     */
+    private static final LevelDimensions DIMENSIONS = new LevelDimensions(8, 8, 512, 512);
+
+    /**
+     * The bytes a dense table of a cell per map cell would take, for each byte per cell.
+     */
+    private static final long DENSE_BYTES_PER_CELL_BYTE = 4096L * 4096L;
+
+    /**
+     * Generates a 4096x4096 dungeon with its map, path finder and distance field, and checks that everything allocated
+     * on the way follows the carved area rather than the size of the map.
+     *
+     * <p> The dense tables used before took 22 bytes per map cell for the level (room indices, doors and the
+     * occupancy index) and 24 more for the path-finding and distance-field buffers, about 770 MB at this size.
+     */
+    @Test
+    void allocatesInProportionToCarvedArea() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+        long start = threads.getThreadAllocatedBytes(thread);
+
+        InMemoryRepository memory = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(memory);
+        RogueLevelService levelService = new RogueLevelService(memory, randomService, DIMENSIONS, false);
+
+        randomService.setSeed(5);
+        levelService.setLevelNumber(1);
+        levelService.reset();
+
+        Player player = new Player();
+        levelService.generate(player, new GameStatsService(memory));
+        long level = threads.getThreadAllocatedBytes(thread);
+
+        RogueMapService mapService = new RogueMapService(new RoguePubSubService(), levelService.getDimensions());
+        mapService.generate(levelService, player.getPosition());
+        long map = threads.getThreadAllocatedBytes(thread);
+
+        // Computes the distance field towards the player, over the whole reachable area
+        Position from = player.getPosition();
+        assertEquals(from, mapService.nextStepTowardsPlayer(from, player.getPosition(), Set.of()));
+        long buffers = threads.getThreadAllocatedBytes(thread);
+
+        int[] carved = new int[1];
+
+        mapService.getMapInfo().forEachCell((x, y) -> {
+            if (mapService.getMapSymbol(x, y) != MapSymbol.EMPTINESS)
+                carved[0]++;
+        });
+
+        long total = buffers - start;
+
+        System.out.printf("4096x4096 dungeon, %d carved cells: level %.1f MB, map %.1f MB, distance field %.1f MB, "
+                        + "%.1f bytes per carved cell%n",
+                carved[0], (level - start) / 1e6, (map - level) / 1e6, (buffers - map) / 1e6,
+                (double) total / carved[0]);
+
+        assertTrue(carved[0] < DENSE_BYTES_PER_CELL_BYTE / 2, "The dungeon is mostly emptiness");
+        assertTrue(total < 48L * carved[0], total + " bytes allocated for " + carved[0] + " carved cells");
+        assertTrue(total < 8 * DENSE_BYTES_PER_CELL_BYTE, total + " bytes allocated");
+    }
+}
@@ -0,0 +1,129 @@
+package rogue.game.services.map.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rogue.game.common.enums.MapSymbol;
+import rogue.game.domain.entities.Player;
+import rogue.game.domain.entities.Position;
+import rogue.game.domain.entities.level.Door;
+import rogue.game.domain.entities.level.LevelDimensions;
+import rogue.game.domain.enums.Angles;
+import rogue.game.domain.factories.services.RandomServiceFactory;
+import rogue.game.domain.services.level.impl.RogueLevelService;
+import rogue.game.domain.services.pubsub.impl.RoguePubSubService;
+import rogue.game.domain.services.random.RandomService;
+import rogue.game.infrastructure.dataAccess.impl.InMemoryRepository;
+import rogue.game.services.stats.impl.GameStatsService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RogueMapServiceTest {
+    private RogueLevelService levelService;
+    private Player player;
+
+    @BeforeEach
+    void generateLevel() {
+        InMemoryRepository memory = new InMemoryRepository();
+        RandomService randomService = RandomServiceFactory.createRandomService(memory);
+
+        levelService = new RogueLevelService(memory, randomService, LevelDimensions.DEFAULT, false);
+        randomService.setSeed(42);
+        levelService.setLevelNumber(3);
+        levelService.reset();
+
+        player = new Player();
+        levelService.generate(player, new GameStatsService(memory));
+    }
+
+    @Test
+    void fieldOfViewFromDoorwayHitsCacheWhileSomeoneStandsInIt() {
+        RogueMapService mapService = generateMap();
+        Position door = firstDoor().getPosition();
+
+        mapService.setMapSymbol(door, MapSymbol.PLAYER);
+        mapService.updateVisibleArea(door, Angles.RIGHT.angle);
+        mapService.setMapSymbol(door, MapSymbol.DOOR);
+        mapService.setMapSymbol(door, MapSymbol.PLAYER);
+        mapService.updateVisibleArea(door, Angles.RIGHT.angle);
+
+        assertTrue(mapService.blocksSight(door.x(), door.y()));
+        assertEquals(1, mapService.getVisibilityCache().getMisses());
+        assertEquals(1, mapService.getVisibilityCache().getHits());
+    }
+
+    @Test
+    void entitiesInDoorwaysDontChangeFieldOfView() {
+        for (Door door : doors()) {
+            Position pos = door.getPosition();
+
+            for (Angles angle : List.of(Angles.RIGHT, Angles.UP, Angles.DOWN)) {
+                RogueMapService expected = generateMap();
+                RogueMapService occupied = generateMap();
+
+                for (Door other : doors())
+                    occupied.setMapSymbol(other.getPosition(), MapSymbol.ZOMBIE);
+
+                expected.updateVisibleArea(pos, angle.angle);
+                occupied.updateVisibleArea(pos, angle.angle);
+
+                assertEquals(visibleCells(expected), visibleCells(occupied), "from " + pos + " at " + angle);
+            }
+        }
+    }
+
+    @Test
+    void openingDoorClearsCache() {
+        RogueMapService mapService = generateMap();
+        Door door = firstDoor();
+
+        door.close();
+        mapService.updateVisibleArea(door.getPosition(), Angles.RIGHT.angle);
+        door.open();
+        mapService.updateVisibleArea(door.getPosition(), Angles.RIGHT.angle);
+
+        assertEquals(2, mapService.getVisibilityCache().getMisses());
+        assertEquals(0, mapService.getVisibilityCache().getHits());
+    }
+
+    private RogueMapService generateMap() {
+        RogueMapService mapService = new RogueMapService(new RoguePubSubService(), levelService.getDimensions());
+
+        mapService.generate(levelService, player.getPosition());
+
+        return mapService;
+    }
+
+    private List<Door> doors() {
+        List<Door> doors = new ArrayList<>();
+
+        for (int i = 0; i < levelService.getDimensions().roomsNumber(); i++) {
+            for (Door door : levelService.getRoom(i).getDoors()) {
+                if (door != null)
+                    doors.add(door);
+            }
+        }
+
+        return doors;
+    }
+
+    private Door firstDoor() {
+        return doors().getFirst();
+    }
+
+    private static List<Position> visibleCells(RogueMapService mapService) {
+        List<Position> cells = new ArrayList<>();
+
+        for (int y = 0; y < mapService.getMapInfo().getHeight(); y++) {
+            for (int x = 0; x < mapService.getMapInfo().getWidth(); x++) {
+                if (mapService.isVisible(Position.of(x, y)))
+                    cells.add(Position.of(x, y));
+            }
+        }
+
+        return cells;
+    }
+}